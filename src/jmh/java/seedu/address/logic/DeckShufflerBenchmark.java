@@ -0,0 +1,53 @@
+package seedu.address.logic;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.deck.Card;
+import seedu.address.model.deck.Deck;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Benchmarks drawing cards with a {@code DeckShuffler}, and starting a study session with a new one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DeckShufflerBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int cardCount;
+
+    private Deck deck;
+    private DeckShuffler deckShuffler;
+
+    /**
+     * Creates the deck and a shuffler of it.
+     */
+    @Setup
+    public void setUp() {
+        deck = BenchmarkDataUtil.createDeck("Sample Deck", cardCount);
+        deckShuffler = new DeckShuffler(deck);
+    }
+
+    @Benchmark
+    public Card generateCard() {
+        return deckShuffler.generateCard();
+    }
+
+    /**
+     * Creates a shuffler and draws its first card, as starting a study session does.
+     */
+    @Benchmark
+    public Card generateFirstCard() {
+        return new DeckShuffler(deck).generateCard();
+    }
+}
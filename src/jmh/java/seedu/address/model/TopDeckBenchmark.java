@@ -0,0 +1,68 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.deck.Card;
+import seedu.address.model.deck.Deck;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Benchmarks adding and editing the cards of a deck in a {@code TopDeck}.
+ * Each benchmark undoes its own change, so that every invocation starts from a TopDeck of the same size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TopDeckBenchmark {
+
+    @Param({"10", "100"})
+    private int deckCount;
+
+    @Param({"100", "1000", "10000"})
+    private int cardsPerDeck;
+
+    private TopDeck topDeck;
+    private Deck activeDeck;
+    private Card targetCard;
+    private Card newCard;
+
+    /**
+     * Creates the TopDeck, and a card that is not in it yet.
+     */
+    @Setup
+    public void setUp() {
+        topDeck = BenchmarkDataUtil.createTopDeck(deckCount, cardsPerDeck);
+        activeDeck = topDeck.getDeckList().get(deckCount / 2);
+        targetCard = activeDeck.getCards().internalList.get(cardsPerDeck / 2);
+        newCard = BenchmarkDataUtil.createCards(cardsPerDeck + 1).get(cardsPerDeck);
+    }
+
+    /**
+     * Adds a card to a deck, then deletes it again.
+     */
+    @Benchmark
+    public Deck addCard() {
+        activeDeck = topDeck.addCard(newCard, activeDeck);
+        activeDeck = topDeck.deleteCard(newCard, activeDeck);
+        return activeDeck;
+    }
+
+    /**
+     * Replaces a card of a deck, then puts it back.
+     */
+    @Benchmark
+    public Deck setCard() {
+        activeDeck = topDeck.setCard(targetCard, newCard, activeDeck);
+        activeDeck = topDeck.setCard(newCard, targetCard, activeDeck);
+        return activeDeck;
+    }
+}
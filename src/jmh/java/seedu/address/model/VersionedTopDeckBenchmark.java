@@ -0,0 +1,55 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.deck.Card;
+import seedu.address.model.deck.Deck;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Benchmarks committing a change to a {@code VersionedTopDeck} and undoing it, as every undoable command does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VersionedTopDeckBenchmark {
+
+    @Param({"10", "100"})
+    private int deckCount;
+
+    @Param({"100", "1000", "10000"})
+    private int cardsPerDeck;
+
+    private VersionedTopDeck versionedTopDeck;
+    private Card newCard;
+
+    /**
+     * Creates the versioned TopDeck, and a card that is not in it yet.
+     */
+    @Setup
+    public void setUp() {
+        versionedTopDeck = new VersionedTopDeck(BenchmarkDataUtil.createTopDeck(deckCount, cardsPerDeck));
+        newCard = BenchmarkDataUtil.createCards(cardsPerDeck + 1).get(cardsPerDeck);
+    }
+
+    /**
+     * Adds a card to a deck and commits, then undoes the change.
+     */
+    @Benchmark
+    public VersionedTopDeck commitAndUndo() {
+        Deck activeDeck = versionedTopDeck.getDeckList().get(deckCount / 2);
+        versionedTopDeck.addCard(newCard, activeDeck);
+        versionedTopDeck.commit();
+        versionedTopDeck.undo();
+        return versionedTopDeck;
+    }
+}
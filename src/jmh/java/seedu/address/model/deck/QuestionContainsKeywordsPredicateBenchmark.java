@@ -0,0 +1,79 @@
+package seedu.address.model.deck;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Benchmarks finding the cards of a deck with {@code QuestionContainsKeywordsPredicate}, by testing each card as
+ * well as through the search index of the deck.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QuestionContainsKeywordsPredicateBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int cardCount;
+
+    /** A word of the questions, a tag, and a misspelt word matched fuzzily. */
+    @Param({"HTTP", "Geometry", "~triangel"})
+    private String keyword;
+
+    private List<Card> cards;
+    private UniqueCardList cardList;
+    private QuestionContainsKeywordsPredicate predicate;
+
+    /**
+     * Creates the cards and the predicate, and builds the search index of the cards.
+     */
+    @Setup
+    public void setUp() {
+        cards = BenchmarkDataUtil.createCards(cardCount);
+        cardList = new UniqueCardList();
+        cardList.setCards(cards);
+        predicate = new QuestionContainsKeywordsPredicate(Collections.singletonList(keyword));
+        predicate.forCardsIn(cardList);
+    }
+
+    /**
+     * Tests every card with the predicate.
+     */
+    @Benchmark
+    public int test() {
+        int matches = 0;
+        for (Card card : cards) {
+            if (predicate.test(card)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Finds the matching cards through the search index, then tests every card against them.
+     */
+    @Benchmark
+    public int testWithSearchIndex() {
+        int matches = 0;
+        Predicate<Card> indexedPredicate = predicate.forCardsIn(cardList);
+        for (Card card : cards) {
+            if (indexedPredicate.test(card)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
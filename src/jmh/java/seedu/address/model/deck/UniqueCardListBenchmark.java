@@ -0,0 +1,86 @@
+package seedu.address.model.deck;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Benchmarks adding, finding and copying the cards of a {@code UniqueCardList}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class UniqueCardListBenchmark {
+
+    @Param({"100", "1000", "10000"})
+    private int cardCount;
+
+    private List<Card> cards;
+    private UniqueCardList cardList;
+    private Card presentCard;
+    private Card absentCard;
+
+    /**
+     * Creates the cards, and a list that holds all of them.
+     */
+    @Setup
+    public void setUp() {
+        cards = BenchmarkDataUtil.createCards(cardCount);
+        cardList = new UniqueCardList();
+        cardList.setCards(cards);
+        presentCard = cards.get(cardCount / 2);
+        absentCard = BenchmarkDataUtil.createCards(cardCount + 1).get(cardCount);
+    }
+
+    /**
+     * Adds every card to an empty list, one at a time.
+     */
+    @Benchmark
+    public UniqueCardList add() {
+        UniqueCardList list = new UniqueCardList();
+        for (Card card : cards) {
+            list.add(card);
+        }
+        return list;
+    }
+
+    @Benchmark
+    public boolean containsPresentCard() {
+        return cardList.contains(presentCard);
+    }
+
+    @Benchmark
+    public boolean containsAbsentCard() {
+        return cardList.contains(absentCard);
+    }
+
+    /**
+     * Copies the list, as copying a deck does.
+     */
+    @Benchmark
+    public UniqueCardList setCardsFromList() {
+        UniqueCardList copy = new UniqueCardList();
+        copy.setCards(cardList);
+        return copy;
+    }
+
+    /**
+     * Fills a list with the cards, as loading a deck does.
+     */
+    @Benchmark
+    public UniqueCardList setCardsFromCards() {
+        UniqueCardList list = new UniqueCardList();
+        list.setCards(cards);
+        return list;
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.model.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.model.TopDeck;
+import seedu.address.model.deck.Card;
+import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.Difficulty;
+import seedu.address.model.deck.Name;
+
+/**
+ * Contains utility methods for generating decks of any size for benchmarks, shaped like the sample data.
+ */
+public class BenchmarkDataUtil {
+
+    /**
+     * Returns {@code count} distinct cards, each shaped like one of the sample cards in turn: the same question
+     * with a number appended, the same answer and tags, and a difficulty that varies from card to card.
+     */
+    public static List<Card> createCards(int count) {
+        Card[] sampleCards = SampleDataUtil.getSampleCards();
+        List<Card> cards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Card sampleCard = sampleCards[i % sampleCards.length];
+            int numberOfAttempts = i % 7;
+            Difficulty difficulty = new Difficulty(numberOfAttempts, numberOfAttempts * (1 + i % 5));
+            cards.add(new Card(sampleCard.getQuestion() + " #" + i, sampleCard.getAnswer(), difficulty,
+                    sampleCard.getTags()));
+        }
+        return cards;
+    }
+
+    /**
+     * Returns a deck named {@code name} with {@code cardCount} cards from {@link #createCards(int)}.
+     */
+    public static Deck createDeck(String name, int cardCount) {
+        return new Deck(new Name(name), createCards(cardCount));
+    }
+
+    /**
+     * Returns a TopDeck with {@code deckCount} decks of {@code cardsPerDeck} cards each.
+     */
+    public static TopDeck createTopDeck(int deckCount, int cardsPerDeck) {
+        TopDeck topDeck = new TopDeck();
+        for (int i = 0; i < deckCount; i++) {
+            topDeck.addDeck(createDeck("Sample Deck " + i, cardsPerDeck));
+        }
+        return topDeck;
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTopDeck;
+import seedu.address.model.TopDeck;
+import seedu.address.model.util.BenchmarkDataUtil;
+
+/**
+ * Benchmarks reading and writing a whole data file with {@code JsonTopDeckStorage}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JsonTopDeckStorageBenchmark {
+
+    @Param({"10", "100"})
+    private int deckCount;
+
+    @Param({"100", "1000"})
+    private int cardsPerDeck;
+
+    private Path folder;
+    private TopDeck topDeck;
+    private JsonTopDeckStorage readStorage;
+    private JsonTopDeckStorage writeStorage;
+
+    /**
+     * Creates the TopDeck, and a data file holding it to be read.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("JsonTopDeckStorageBenchmark");
+        topDeck = BenchmarkDataUtil.createTopDeck(deckCount, cardsPerDeck);
+        readStorage = new JsonTopDeckStorage(folder.resolve("read.json"));
+        readStorage.saveTopDeck(topDeck);
+        writeStorage = new JsonTopDeckStorage(folder.resolve("write.json"));
+    }
+
+    /**
+     * Deletes the data files.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(readStorage.getTopDeckFilePath());
+        Files.deleteIfExists(writeStorage.getTopDeckFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public Optional<ReadOnlyTopDeck> readTopDeck() throws DataConversionException {
+        return readStorage.readTopDeck();
+    }
+
+    @Benchmark
+    public void saveTopDeck() throws IOException {
+        writeStorage.saveTopDeck(topDeck);
+    }
+}
@@ -9,6 +9,7 @@ import javafx.application.Application;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.TopDeckFileFormat;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.ConfigUtil;
@@ -22,10 +23,12 @@ import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.TopDeck;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
-import seedu.address.storage.JsonTopDeckStorage;
+import seedu.address.storage.AsyncTopDeckStorage;
+import seedu.address.storage.JournalledTopDeckStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
+import seedu.address.storage.TopDeckFileConverter;
 import seedu.address.storage.TopDeckStorage;
 import seedu.address.storage.UserPrefsStorage;
 import seedu.address.ui.Ui;
@@ -60,7 +63,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        TopDeckStorage topDeckStorage = new JsonTopDeckStorage(userPrefs.getTopDeckFilePath());
+        TopDeckStorage topDeckStorage = new AsyncTopDeckStorage(initTopDeckFileStorage(userPrefs));
         storage = new StorageManager(topDeckStorage, userPrefsStorage);
 
         initLogging(config);
@@ -98,6 +101,28 @@ public class MainApp extends Application {
         return new ModelManager(initialData, userPrefs);
     }
 
+    /**
+     * Returns a storage for the data file in the format chosen in {@code userPrefs}, converting the data file
+     * first if it was saved in another format. Saves are journalled unless the format is sharded.
+     */
+    private TopDeckStorage initTopDeckFileStorage(ReadOnlyUserPrefs userPrefs) {
+        Path filePath = userPrefs.getTopDeckFilePath();
+        try {
+            TopDeckFileConverter.convertIfNeeded(filePath, userPrefs.getTopDeckFileFormat(),
+                    userPrefs.isTopDeckFilePrettyPrinted());
+        } catch (DataConversionException | IOException e) {
+            logger.warning("Failed to convert data file to " + userPrefs.getTopDeckFileFormat() + " format: "
+                    + StringUtil.getDetails(e));
+        }
+        TopDeckStorage fileStorage = TopDeckFileConverter.createStorage(filePath,
+                userPrefs.getTopDeckFileFormat(), userPrefs.isTopDeckFilePrettyPrinted());
+        if (userPrefs.getTopDeckFileFormat() == TopDeckFileFormat.SHARDED) {
+            // sharded saves already only write the decks that changed
+            return fileStorage;
+        }
+        return new JournalledTopDeckStorage(fileStorage);
+    }
+
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
@@ -184,5 +209,15 @@ public class MainApp extends Application {
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
+        try {
+            storage.compactTopDeck(model.getTopDeck());
+        } catch (IOException e) {
+            logger.severe("Failed to save data file " + StringUtil.getDetails(e));
+        }
+        try {
+            storage.flushReviews();
+        } catch (IOException e) {
+            logger.severe("Failed to save review log " + StringUtil.getDetails(e));
+        }
     }
 }
@@ -0,0 +1,13 @@
+package seedu.address.commons.core;
+
+/**
+ * The formats the TopDeck data file can be stored in.
+ */
+public enum TopDeckFileFormat {
+    /** Human-readable JSON, the default. */
+    JSON,
+    /** A compact binary layout that is smaller and faster to load. */
+    BINARY,
+    /** A JSON manifest and one JSON file per deck, so that a save only rewrites the decks that changed. */
+    SHARDED
+}
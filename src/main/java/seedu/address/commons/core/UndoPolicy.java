@@ -0,0 +1,74 @@
+package seedu.address.commons.core;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * A Serializable class that contains the limits placed on the undo history.
+ * Guarantees: immutable.
+ */
+public class UndoPolicy implements Serializable {
+
+    public static final String MESSAGE_CONSTRAINTS =
+            "The undo history must keep at least 1 state and cannot retain a negative number of bytes";
+
+    private static final int DEFAULT_MAX_STATES = 100;
+    private static final long DEFAULT_MAX_RETAINED_BYTES = 64L * 1024 * 1024;
+
+    private final int maxStates;
+    private final long maxRetainedBytes;
+
+    public UndoPolicy() {
+        maxStates = DEFAULT_MAX_STATES;
+        maxRetainedBytes = DEFAULT_MAX_RETAINED_BYTES;
+    }
+
+    /**
+     * Constructs an {@code UndoPolicy}.
+     *
+     * @param maxStates The maximum number of states kept, including the current state. Must be positive.
+     * @param maxRetainedBytes The estimated number of bytes the history may hold on to. Cannot be negative.
+     */
+    public UndoPolicy(int maxStates, long maxRetainedBytes) {
+        checkArgument(maxStates > 0 && maxRetainedBytes >= 0, MESSAGE_CONSTRAINTS);
+        this.maxStates = maxStates;
+        this.maxRetainedBytes = maxRetainedBytes;
+    }
+
+    public int getMaxStates() {
+        return maxStates;
+    }
+
+    public long getMaxRetainedBytes() {
+        return maxRetainedBytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (!(other instanceof UndoPolicy)) { //this handles null as well.
+            return false;
+        }
+
+        UndoPolicy o = (UndoPolicy) other;
+
+        return maxStates == o.maxStates && maxRetainedBytes == o.maxRetainedBytes;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(maxStates, maxRetainedBytes);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Max states : " + maxStates + "\n");
+        sb.append("Max retained bytes : " + maxRetainedBytes);
+        return sb.toString();
+    }
+}
@@ -7,6 +7,8 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Helper functions for handling strings.
@@ -69,6 +71,123 @@ public class StringUtil {
         return Arrays.stream(wordsInPreppedSentence).anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if every word of the {@code keyword} is within {@link #getMaxTypos(String)} edits of some word
+     * of the {@code sentence}. Ignores case, and unlike
+     * {@link #containsKeywordsInQuestionIgnoreCase(String, String)} the words of the keyword may appear in any order.
+     * <br>examples:<pre>
+     *       containsFuzzyKeywordsInQuestionIgnoreCase("Which layer is HTTP at?", "lyer") == true
+     *       containsFuzzyKeywordsInQuestionIgnoreCase("Which layer is HTTP at?", "http layr") == true
+     *       containsFuzzyKeywordsInQuestionIgnoreCase("Which layer is HTTP at?", "player") == true
+     *       containsFuzzyKeywordsInQuestionIgnoreCase("Which layer is HTTP at?", "protocol") == false
+     *       </pre>
+     *
+     * @param sentence cannot be null
+     * @param keyword  cannot be null, cannot be empty
+     */
+    public static boolean containsFuzzyKeywordsInQuestionIgnoreCase(String sentence, String keyword) {
+        requireAllNonNull(sentence, keyword);
+
+        String preppedWord = keyword.toLowerCase().trim();
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+
+        String[] sentenceWords = sentence.toLowerCase().split("\\s+");
+        return Arrays.stream(preppedWord.split("\\s+")).allMatch(
+            key -> Arrays.stream(sentenceWords).anyMatch(sentenceWord -> isSimilarWord(key, sentenceWord)));
+    }
+
+    /**
+     * Returns true if {@code word} can be turned into {@code other} with at most {@link #getMaxTypos(String)} of
+     * {@code word} single character insertions, deletions or substitutions. Case sensitive.
+     */
+    public static boolean isSimilarWord(String word, String other) {
+        requireAllNonNull(word, other);
+        int maxTypos = getMaxTypos(word);
+        return Math.abs(word.length() - other.length()) <= maxTypos && getEditDistance(word, other) <= maxTypos;
+    }
+
+    /**
+     * Returns the number of typos tolerated when looking for words similar to {@code word}: none for words of up
+     * to 2 characters, which would otherwise match most short words, 1 for words of up to 5 characters, else 2.
+     */
+    public static int getMaxTypos(String word) {
+        return word.length() <= 2 ? 0 : word.length() <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second}, that is the least number of single
+     * character insertions, deletions or substitutions that turn one into the other. Case sensitive.
+     * <p>
+     * Strings of up to 64 characters are compared with Myers' bit-vector algorithm, which computes a whole column
+     * of the distance matrix with a few operations on a {@code long}, so the running time is linear in the length
+     * of the other string.
+     */
+    public static int getEditDistance(String first, String second) {
+        requireAllNonNull(first, second);
+        String pattern = first.length() <= second.length() ? first : second;
+        String text = pattern == first ? second : first;
+        if (pattern.isEmpty()) {
+            return text.length();
+        }
+        if (pattern.length() > Long.SIZE) {
+            return getEditDistanceByDynamicProgramming(pattern, text);
+        }
+
+        // bit i of the mask of a character is set iff the character is at position i of the pattern
+        Map<Character, Long> matchMasks = new HashMap<>();
+        for (int i = 0; i < pattern.length(); i++) {
+            matchMasks.merge(pattern.charAt(i), 1L << i, (mask, bit) -> mask | bit);
+        }
+
+        // bit i of the positive/negative vertical deltas is set iff the distance goes up/down by one from row i
+        long positiveVertical = -1L;
+        long negativeVertical = 0L;
+        long lastRow = 1L << (pattern.length() - 1);
+        int distance = pattern.length();
+        for (int j = 0; j < text.length(); j++) {
+            long matches = matchMasks.getOrDefault(text.charAt(j), 0L);
+            long verticalChanges = matches | negativeVertical;
+            long horizontalChanges = (((matches & positiveVertical) + positiveVertical) ^ positiveVertical) | matches;
+            long positiveHorizontal = negativeVertical | ~(horizontalChanges | positiveVertical);
+            long negativeHorizontal = positiveVertical & horizontalChanges;
+
+            if ((positiveHorizontal & lastRow) != 0) {
+                distance++;
+            } else if ((negativeHorizontal & lastRow) != 0) {
+                distance--;
+            }
+
+            // the distance in the first row always goes up by one, as the prefix of the text gets longer
+            positiveHorizontal = (positiveHorizontal << 1) | 1L;
+            negativeHorizontal = negativeHorizontal << 1;
+            positiveVertical = negativeHorizontal | ~(verticalChanges | positiveHorizontal);
+            negativeVertical = positiveHorizontal & verticalChanges;
+        }
+        return distance;
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code pattern} and {@code text} with the textbook dynamic
+     * programming algorithm, keeping one column of the distance matrix at a time.
+     */
+    private static int getEditDistanceByDynamicProgramming(String pattern, String text) {
+        int[] column = new int[pattern.length() + 1];
+        for (int i = 0; i <= pattern.length(); i++) {
+            column[i] = i;
+        }
+        for (int j = 1; j <= text.length(); j++) {
+            int diagonal = column[0];
+            column[0] = j;
+            for (int i = 1; i <= pattern.length(); i++) {
+                int above = column[i];
+                int substitution = diagonal + (pattern.charAt(i - 1) == text.charAt(j - 1) ? 0 : 1);
+                column[i] = Math.min(substitution, Math.min(column[i - 1], above) + 1);
+                diagonal = above;
+            }
+        }
+        return column[pattern.length()];
+    }
+
 
     /**
      * Returns a detailed message of the t, including the stack trace.
@@ -33,4 +33,25 @@ public class TagUtil {
 
         return tags.stream().map(tag -> tag.tagName.toLowerCase()).anyMatch(preppedWord::equalsIgnoreCase);
     }
+
+    /**
+     * Returns true if the {@code word} is similar to the name of any of the {@code tags}, as in
+     * {@link StringUtil#isSimilarWord(String, String)}. Ignores case. If the word is longer than a single word it
+     * will not be considered.
+     *
+     * @param tags None of the tags should be null
+     * @param word cannot be null, cannot be empty, must be a single word
+     */
+    public static boolean containsSimilarWordInTags(Set<Tag> tags, String word) {
+        requireNonNull(word);
+
+        String preppedWord = word.trim().toLowerCase();
+        if (preppedWord.split("\\s+").length > 1) {
+            return false;
+        }
+
+        checkArgument(!preppedWord.isEmpty(), "Word parameter cannot be empty");
+
+        return tags.stream().anyMatch(tag -> StringUtil.isSimilarWord(preppedWord, tag.tagName.toLowerCase()));
+    }
 }
@@ -1,72 +1,110 @@
 package seedu.address.logic;
 
 import java.util.Collections;
-import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Random;
 
-import javafx.collections.ObservableList;
 import seedu.address.model.deck.Card;
+import seedu.address.model.deck.CombinedCardList;
 import seedu.address.model.deck.Deck;
 
 /**
- * Shuffles the deck for study session.
+ * Shuffles the deck, or several decks together, for study session.
+ * <p>
+ * The cards are drawn straight from the cards of the decks, through a permutation of their positions that is
+ * shuffled one draw at a time with the Fisher-Yates algorithm. Each draw picks one of the positions not drawn yet in
+ * this round and swaps it behind them, so starting a session costs nothing but the permutation itself, and once
+ * every card was drawn the next round reshuffles the same permutation. A position that was never swapped is kept as
+ * 0 in the permutation, so the permutation needs no setting up, and it is only copied when a copy of the shuffler
+ * draws a card.
  */
-public class DeckShuffler {
+public class DeckShuffler implements StudyOrder {
 
-    private Deck deck;
-    private Iterator<Card> it;
-    private ObservableList<Card> cards;
+    private final List<Deck> decks;
+    private final List<Card> cards;
+    private final Random random;
+    /** The positions of the cards, plus one, in the order they are drawn in reverse; 0 for an unmoved position. */
+    private int[] order;
+    /** Whether {@code order} may be shared with a copy of this shuffler, and must be copied before it is changed. */
+    private boolean isOrderShared;
+    /** The number of cards not drawn yet in this round, which come first in {@code order}. */
+    private int remaining;
     private int itCounter;
 
     public DeckShuffler(Deck deck) {
-        this.deck = deck;
-        Deck shuffledDeck = new Deck(deck);
-        cards = shuffledDeck.getCards().internalList;
-        shuffleCards();
-        itCounter = 0;
+        this(Collections.singletonList(deck));
+    }
+
+    public DeckShuffler(List<Deck> decks) {
+        this.decks = Collections.unmodifiableList(decks);
+        this.cards = new CombinedCardList(decks);
+        this.random = new Random();
+        this.order = new int[cards.size()];
+        this.remaining = order.length;
+        this.itCounter = 0;
     }
 
     public DeckShuffler(DeckShuffler deckShuffler) {
-        this.deck = deckShuffler.getDeck();
-        Deck shuffledDeck = new Deck(deck);
-        this.cards = shuffledDeck.getCards().internalList;
-        this.shuffleCards();
+        this.decks = deckShuffler.getDecks();
+        this.cards = deckShuffler.cards;
+        this.random = new Random();
+        this.order = deckShuffler.order;
+        this.remaining = deckShuffler.remaining;
         this.itCounter = deckShuffler.itCounter;
+        this.isOrderShared = true;
+        deckShuffler.isOrderShared = true;
     }
 
     /**
-     * Gets the activeDeck in deckShuffler
+     * Gets the decks shuffled by deckShuffler
      */
-    public Deck getDeck() {
-        return deck;
+    public List<Deck> getDecks() {
+        return decks;
     }
 
     /**
-     * Gets the iterator in deckShuffler
+     * Returns a card from the shuffled deck.
      */
-    public Iterator<Card> getIt() {
-        return it;
+    @Override
+    public Card generateCard() {
+        if (order.length != cards.size()) {
+            // the deck changed since the permutation was made, so a new round is started over its cards
+            order = new int[cards.size()];
+            isOrderShared = false;
+            remaining = 0;
+        } else if (isOrderShared) {
+            order = order.clone();
+            isOrderShared = false;
+        }
+        if (remaining == 0) {
+            remaining = order.length;
+        }
+
+        itCounter++;
+        int drawn = random.nextInt(remaining);
+        remaining--;
+        int position = positionAt(drawn);
+        order[drawn] = positionAt(remaining) + 1;
+        order[remaining] = position + 1;
+        return cards.get(position);
     }
 
-    /**
-     * Reshuffles cards once again when end of deck is reached.
-     */
-    private void shuffleCards() {
-        Collections.shuffle(cards);
-        it = cards.iterator();
+    @Override
+    public void cardRated(Card card) {
+        // ratings do not change the order of a shuffled deck
+    }
+
+    @Override
+    public DeckShuffler copy() {
+        return new DeckShuffler(this);
     }
 
     /**
-     * Returns a card from the shuffled deck.
+     * Returns the position of the card at {@code index} of the permutation.
      */
-    public Card generateCard() {
-        itCounter++;
-        if (it.hasNext()) {
-            return it.next();
-        } else {
-            shuffleCards();
-            return it.next();
-        }
+    private int positionAt(int index) {
+        return order[index] == 0 ? index : order[index] - 1;
     }
 
     @Override
@@ -82,11 +120,11 @@ public class DeckShuffler {
         }
         // state check
         DeckShuffler other = (DeckShuffler) obj;
-        return Objects.equals(deck, other.deck) && itCounter == other.itCounter;
+        return Objects.equals(decks, other.decks) && itCounter == other.itCounter;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(deck, itCounter);
+        return Objects.hash(decks, itCounter);
     }
 }
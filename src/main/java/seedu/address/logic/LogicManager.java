@@ -7,9 +7,12 @@ import java.util.logging.Logger;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.ExitCommandResult;
 import seedu.address.logic.commands.GenerateQuestionCommand;
+import seedu.address.logic.commands.ShowAnswerCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.TopDeckParser;
 import seedu.address.logic.parser.ViewStateParser;
@@ -17,6 +20,10 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.ListViewState;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTopDeck;
+import seedu.address.model.StudyView;
+import seedu.address.model.deck.Review;
+import seedu.address.model.deck.Review.ReviewType;
+import seedu.address.model.deck.exceptions.DeckLoadException;
 import seedu.address.storage.Storage;
 import seedu.address.ui.MainPanel;
 
@@ -52,10 +59,18 @@ public class LogicManager implements Logic {
         try {
             ViewStateParser viewStateParser = model.getViewState().getViewStateParser();
             Command command = topDeckParser.parseCommand(commandText, viewStateParser);
+            Review review = createReview(command);
             commandResult = command.execute(model, history);
             if (command instanceof GenerateQuestionCommand) {
                 topDeckModified = true;
             }
+            if (review != null) {
+                appendReview(review);
+            }
+        } catch (DeckLoadException dle) {
+            // A deck whose part of the data file is corrupted fails the command that opens it, not the app.
+            logger.warning(StringUtil.getDetails(dle));
+            throw new CommandException(dle.getMessage(), dle);
         } finally {
             history.add(commandText);
         }
@@ -68,9 +83,48 @@ public class LogicManager implements Logic {
                 throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
             }
         }
+
+        if (commandResult instanceof ExitCommandResult) {
+            logger.info("Exiting, waiting for TopDeck to be saved.");
+            try {
+                storage.flushTopDeck();
+                storage.flushReviews();
+            } catch (IOException ioe) {
+                throw new CommandException(FILE_OPS_ERROR_MESSAGE + ioe, ioe);
+            }
+        }
         return commandResult;
     }
 
+    /**
+     * Returns the review of the current card made by {@code command}, timed from when the card was shown, or null
+     * if {@code command} does not review a card.
+     */
+    private Review createReview(Command command) {
+        if (!(model.getViewState() instanceof StudyView)) {
+            return null;
+        }
+        StudyView studyView = (StudyView) model.getViewState();
+        if (command instanceof ShowAnswerCommand) {
+            return studyView.createReview(ReviewType.ANSWER_SHOWN, Review.NO_RATING);
+        } else if (command instanceof GenerateQuestionCommand) {
+            return studyView.createReview(ReviewType.RATED, ((GenerateQuestionCommand) command).getRating());
+        }
+        return null;
+    }
+
+    /**
+     * Appends {@code review} to the review log. A review that cannot be saved is only logged, as it does not
+     * change the decks.
+     */
+    private void appendReview(Review review) {
+        try {
+            storage.appendReview(review);
+        } catch (IOException ioe) {
+            logger.warning("Could not save review to review log: " + ioe);
+        }
+    }
+
     @Override
     public ReadOnlyTopDeck getTopDeck() {
         return model.getTopDeck();
@@ -0,0 +1,172 @@
+package seedu.address.logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import seedu.address.model.deck.Card;
+import seedu.address.model.deck.CombinedCardList;
+import seedu.address.model.deck.Deck;
+
+/**
+ * Schedules the cards of a deck, or of several decks together, for a study session by when they are due for review.
+ * <p>
+ * The cards are kept in a binary heap ordered by due time, with ties broken by their position in the decks, so the
+ * card that is due first is always at the top. Each card knows its place in the heap, so after a card is rated only
+ * that card is moved, which takes logarithmic time however many cards are studied.
+ */
+public class SpacedRepetitionScheduler implements StudyOrder {
+
+    private final List<Deck> decks;
+    /** The cards of the decks, by position in the decks. */
+    private final List<Card> cards;
+    /** The position in the decks of each card. */
+    private final Map<Card, Integer> positions;
+    /** The positions in the decks of the cards, as a binary heap. */
+    private final int[] heap;
+    /** The place in {@code heap} of the card at each position in the decks. */
+    private final int[] heapIndices;
+
+    public SpacedRepetitionScheduler(Deck deck) {
+        this(Collections.singletonList(deck));
+    }
+
+    public SpacedRepetitionScheduler(List<Deck> decks) {
+        this.decks = Collections.unmodifiableList(decks);
+        this.cards = Collections.unmodifiableList(new ArrayList<>(new CombinedCardList(decks)));
+        int cardCount = cards.size();
+        Map<Card, Integer> cardPositions = new IdentityHashMap<>(cardCount);
+        heap = new int[cardCount];
+        heapIndices = new int[cardCount];
+        for (int i = 0; i < cardCount; i++) {
+            cardPositions.put(cards.get(i), i);
+            heap[i] = i;
+            heapIndices[i] = i;
+        }
+        this.positions = Collections.unmodifiableMap(cardPositions);
+        for (int i = cardCount / 2 - 1; i >= 0; i--) {
+            siftDown(i);
+        }
+    }
+
+    public SpacedRepetitionScheduler(SpacedRepetitionScheduler scheduler) {
+        this.decks = scheduler.decks;
+        this.cards = scheduler.cards;
+        this.positions = scheduler.positions;
+        this.heap = scheduler.heap.clone();
+        this.heapIndices = scheduler.heapIndices.clone();
+    }
+
+    public List<Deck> getDecks() {
+        return decks;
+    }
+
+    /**
+     * Returns the card that is due first, which is shown again until it is rated.
+     */
+    @Override
+    public Card generateCard() {
+        return cards.get(heap[0]);
+    }
+
+    /**
+     * Moves {@code card} to its new place in the schedule, now that it has a new due time.
+     * Cards that are not in the decks being studied are ignored.
+     */
+    @Override
+    public void cardRated(Card card) {
+        Integer position = positions.get(card);
+        if (position == null) {
+            return;
+        }
+        siftUp(heapIndices[position]);
+        siftDown(heapIndices[position]);
+    }
+
+    @Override
+    public SpacedRepetitionScheduler copy() {
+        return new SpacedRepetitionScheduler(this);
+    }
+
+    /**
+     * Moves the card at {@code index} of the heap up until it is not due before its parent.
+     */
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) / 2;
+            if (!isDueBefore(heap[index], heap[parent])) {
+                return;
+            }
+            swap(index, parent);
+            index = parent;
+        }
+    }
+
+    /**
+     * Moves the card at {@code index} of the heap down until neither of its children is due before it.
+     */
+    private void siftDown(int index) {
+        while (true) {
+            int first = index;
+            int left = 2 * index + 1;
+            int right = left + 1;
+            if (left < heap.length && isDueBefore(heap[left], heap[first])) {
+                first = left;
+            }
+            if (right < heap.length && isDueBefore(heap[right], heap[first])) {
+                first = right;
+            }
+            if (first == index) {
+                return;
+            }
+            swap(index, first);
+            index = first;
+        }
+    }
+
+    /**
+     * Returns true if the card at position {@code position} of the decks is due before the card at position
+     * {@code otherPosition}.
+     */
+    private boolean isDueBefore(int position, int otherPosition) {
+        long dueTime = cards.get(position).getDifficultyObj().getDueTime();
+        long otherDueTime = cards.get(otherPosition).getDifficultyObj().getDueTime();
+        return dueTime < otherDueTime || (dueTime == otherDueTime && position < otherPosition);
+    }
+
+    /**
+     * Swaps the cards at {@code index} and {@code otherIndex} of the heap.
+     */
+    private void swap(int index, int otherIndex) {
+        int position = heap[index];
+        heap[index] = heap[otherIndex];
+        heap[otherIndex] = position;
+        heapIndices[heap[index]] = index;
+        heapIndices[heap[otherIndex]] = otherIndex;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        // short circuit if same object
+        if (obj == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(obj instanceof SpacedRepetitionScheduler)) {
+            return false;
+        }
+        // state check
+        SpacedRepetitionScheduler other = (SpacedRepetitionScheduler) obj;
+        return Objects.equals(decks, other.decks) && Arrays.equals(heap, other.heap);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(decks, Arrays.hashCode(heap));
+    }
+}
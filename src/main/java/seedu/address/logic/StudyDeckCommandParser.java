@@ -8,6 +8,7 @@ import seedu.address.logic.parser.Parser;
 import seedu.address.logic.parser.ParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.DecksView;
+import seedu.address.model.StudyView.StudyMode;
 
 /**
  * Parser creates a StudyDeckCommand Object.
@@ -27,12 +28,33 @@ public class StudyDeckCommandParser implements Parser<StudyDeckCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public StudyDeckCommand parse(String args) throws ParseException {
+        String[] words = args.trim().split("\\s+", 2);
         try {
-            Index index = ParserUtil.parseIndex(args);
-            return new StudyDeckCommand(decksView, index);
+            Index index = ParserUtil.parseIndex(words[0]);
+            StudyMode studyMode = parseStudyMode(words.length > 1 ? words[1] : "");
+            return new StudyDeckCommand(decksView, index, studyMode);
         } catch (ParseException pe) {
             throw new ParseException(
                     String.format(MESSAGE_INVALID_COMMAND_FORMAT, StudyDeckCommand.MESSAGE_USAGE), pe);
         }
     }
+
+    /**
+     * Parses the optional study mode keyword at the end of a {@code study} command.
+     *
+     * @throws ParseException if {@code args} is neither empty nor the keyword of a study mode.
+     */
+    public static StudyMode parseStudyMode(String args) throws ParseException {
+        String keyword = args.trim();
+        if (keyword.isEmpty()) {
+            return StudyMode.SHUFFLED;
+        }
+        if (keyword.equalsIgnoreCase(StudyDeckCommand.SPACED_KEYWORD)) {
+            return StudyMode.SPACED;
+        }
+        if (keyword.equalsIgnoreCase(StudyDeckCommand.WEIGHTED_KEYWORD)) {
+            return StudyMode.WEIGHTED;
+        }
+        throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, StudyDeckCommand.MESSAGE_USAGE));
+    }
 }
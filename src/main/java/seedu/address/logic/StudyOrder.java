@@ -0,0 +1,24 @@
+package seedu.address.logic;
+
+import seedu.address.model.deck.Card;
+
+/**
+ * Decides the order in which the cards of a deck are shown during a study session.
+ */
+public interface StudyOrder {
+
+    /**
+     * Returns the next card to be studied.
+     */
+    Card generateCard();
+
+    /**
+     * Tells this order that {@code card}, one of the cards it generates, was just rated.
+     */
+    void cardRated(Card card);
+
+    /**
+     * Returns a copy of this order, which can be used without affecting this order.
+     */
+    StudyOrder copy();
+}
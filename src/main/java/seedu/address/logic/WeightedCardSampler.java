@@ -0,0 +1,165 @@
+package seedu.address.logic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+
+import seedu.address.model.deck.Card;
+import seedu.address.model.deck.CombinedCardList;
+import seedu.address.model.deck.Deck;
+
+/**
+ * Draws the cards of a deck, or of several decks together, for a study session at random, with harder cards drawn
+ * more often.
+ * <p>
+ * Each card is weighed by its average difficulty, and cards that were never rated are weighed as moderately hard.
+ * The weights are kept in a Fenwick tree, so both drawing a card and changing the weight of a card after it is
+ * rated take logarithmic time however many cards are studied. The weights are kept in hundredths as whole numbers, so
+ * that updating them many times does not accumulate rounding errors.
+ */
+public class WeightedCardSampler implements StudyOrder {
+
+    /** The weight of a card that was never rated, as if it were rated 3 out of 5. */
+    static final long UNRATED_WEIGHT = 300;
+
+    private final List<Deck> decks;
+    private final Random random;
+    /** The cards of the decks, by position in the decks. */
+    private final List<Card> cards;
+    /** The position in the decks of each card. */
+    private final Map<Card, Integer> positions;
+    /** The weight of the card at each position in the decks. */
+    private final long[] weights;
+    /** The Fenwick tree of {@code weights}, indexed from 1. */
+    private final long[] tree;
+
+    public WeightedCardSampler(Deck deck) {
+        this(Collections.singletonList(deck), new Random());
+    }
+
+    public WeightedCardSampler(List<Deck> decks) {
+        this(decks, new Random());
+    }
+
+    public WeightedCardSampler(List<Deck> decks, Random random) {
+        this.decks = Collections.unmodifiableList(decks);
+        this.random = random;
+        this.cards = Collections.unmodifiableList(new ArrayList<>(new CombinedCardList(decks)));
+        int cardCount = cards.size();
+        Map<Card, Integer> cardPositions = new IdentityHashMap<>(cardCount);
+        weights = new long[cardCount];
+        tree = new long[cardCount + 1];
+        for (int i = 0; i < cardCount; i++) {
+            cardPositions.put(cards.get(i), i);
+            weights[i] = weightOf(cards.get(i));
+            tree[i + 1] += weights[i];
+            int parent = i + 1 + Integer.lowestOneBit(i + 1);
+            if (parent <= cardCount) {
+                tree[parent] += tree[i + 1];
+            }
+        }
+        this.positions = Collections.unmodifiableMap(cardPositions);
+    }
+
+    public WeightedCardSampler(WeightedCardSampler sampler) {
+        this.decks = sampler.decks;
+        this.random = new Random();
+        this.cards = sampler.cards;
+        this.positions = sampler.positions;
+        this.weights = sampler.weights.clone();
+        this.tree = sampler.tree.clone();
+    }
+
+    public List<Deck> getDecks() {
+        return decks;
+    }
+
+    /**
+     * Returns a card drawn at random, with a chance proportional to its weight.
+     */
+    @Override
+    public Card generateCard() {
+        long target = (long) (random.nextDouble() * prefixWeight(cards.size()));
+
+        // Walks down the tree, skipping every block of cards whose weights add up to no more than the target.
+        int position = 0;
+        for (int step = Integer.highestOneBit(cards.size()); step > 0; step >>= 1) {
+            int next = position + step;
+            if (next <= cards.size() && tree[next] <= target) {
+                position = next;
+                target -= tree[next];
+            }
+        }
+        return cards.get(Math.min(position, cards.size() - 1));
+    }
+
+    /**
+     * Updates the weight of {@code card} to its new difficulty.
+     * Cards that are not in the decks being studied are ignored.
+     */
+    @Override
+    public void cardRated(Card card) {
+        Integer position = positions.get(card);
+        if (position == null) {
+            return;
+        }
+        long newWeight = weightOf(card);
+        long change = newWeight - weights[position];
+        weights[position] = newWeight;
+        for (int i = position + 1; i < tree.length; i += Integer.lowestOneBit(i)) {
+            tree[i] += change;
+        }
+    }
+
+    @Override
+    public WeightedCardSampler copy() {
+        return new WeightedCardSampler(this);
+    }
+
+    /**
+     * Returns the total weight of the first {@code count} cards of the decks.
+     */
+    long prefixWeight(int count) {
+        long sum = 0;
+        for (int i = count; i > 0; i -= Integer.lowestOneBit(i)) {
+            sum += tree[i];
+        }
+        return sum;
+    }
+
+    /**
+     * Returns the weight of {@code card}, in hundredths of its average difficulty.
+     */
+    private static long weightOf(Card card) {
+        if (card.getDifficultyObj().getNumberOfAttempts() == 0) {
+            return UNRATED_WEIGHT;
+        }
+        return Math.max(1, Math.round(card.getDifficulty() * 100));
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        // short circuit if same object
+        if (obj == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(obj instanceof WeightedCardSampler)) {
+            return false;
+        }
+        // state check
+        WeightedCardSampler other = (WeightedCardSampler) obj;
+        return Objects.equals(decks, other.decks) && Arrays.equals(weights, other.weights);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(decks, Arrays.hashCode(weights));
+    }
+}
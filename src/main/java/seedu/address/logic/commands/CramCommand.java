@@ -0,0 +1,125 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.DecksView;
+import seedu.address.model.Model;
+import seedu.address.model.StudyView.StudyMode;
+import seedu.address.model.deck.Deck;
+
+/**
+ * Studies several decks together, chosen by their displayed indexes or by a tag of their cards.
+ */
+public class CramCommand extends Command {
+
+    public static final String COMMAND_WORD = "cram";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Enters the session using several decks together: "
+            + "the decks at the given index numbers, or every deck with cards tagged TAG. "
+            + "The cards are shuffled, or ordered as with the " + StudyDeckCommand.COMMAND_WORD + " command when "
+            + StudyDeckCommand.SPACED_KEYWORD + " or " + StudyDeckCommand.WEIGHTED_KEYWORD + " is given.\n"
+            + "Parameters: INDEX [MORE_INDEXES]... | t/TAG "
+            + "[" + StudyDeckCommand.SPACED_KEYWORD + "|" + StudyDeckCommand.WEIGHTED_KEYWORD + "]\n"
+            + "Example: " + COMMAND_WORD + " 1 3 4 " + StudyDeckCommand.SPACED_KEYWORD + "\n"
+            + "Example: " + COMMAND_WORD + " t/CS2105";
+
+    public static final String MESSAGE_CRAM_SUCCESS = "Cramming %1$d decks: %2$s";
+    public static final String MESSAGE_NO_DECKS_TAGGED = "No deck has cards tagged %1$s";
+
+    private final DecksView decksView;
+    private final List<Index> targetIndexes;
+    private final String tagName;
+    private final StudyMode studyMode;
+
+    /**
+     * Creates a CramCommand that studies the decks at {@code targetIndexes} of {@code decksView} together.
+     */
+    public CramCommand(DecksView decksView, List<Index> targetIndexes, StudyMode studyMode) {
+        requireNonNull(targetIndexes);
+        requireNonNull(studyMode);
+        this.decksView = decksView;
+        this.targetIndexes = new ArrayList<>(targetIndexes);
+        this.tagName = null;
+        this.studyMode = studyMode;
+    }
+
+    /**
+     * Creates a CramCommand that studies every deck with cards tagged {@code tagName} together.
+     */
+    public CramCommand(String tagName, StudyMode studyMode) {
+        requireNonNull(tagName);
+        requireNonNull(studyMode);
+        this.decksView = null;
+        this.targetIndexes = new ArrayList<>();
+        this.tagName = tagName;
+        this.studyMode = studyMode;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        Set<Deck> targetDecks = tagName == null ? getDecksAtIndexes() : getDecksTagged(model);
+        List<Deck> decksToStudy = targetDecks.stream()
+                .filter(deck -> !deck.isEmpty())
+                .collect(Collectors.toList());
+        if (decksToStudy.isEmpty()) {
+            throw new CommandException(Messages.MESSAGE_EMPTY_DECK);
+        }
+
+        model.studyDecks(decksToStudy, studyMode);
+
+        String deckNames = decksToStudy.stream()
+                .map(deck -> deck.getName().toString())
+                .collect(Collectors.joining(", "));
+        return new UpdatePanelCommandResult(String.format(MESSAGE_CRAM_SUCCESS, decksToStudy.size(), deckNames));
+    }
+
+    /**
+     * Returns the decks at the target indexes of the decks view, in the order they were given.
+     */
+    private Set<Deck> getDecksAtIndexes() throws CommandException {
+        List<Deck> filteredDeckList = decksView.filteredDecks;
+        Set<Deck> decks = new LinkedHashSet<>();
+        for (Index targetIndex : targetIndexes) {
+            if (targetIndex.getZeroBased() >= filteredDeckList.size()) {
+                throw new CommandException(Messages.MESSAGE_INVALID_DISPLAYED_INDEX);
+            }
+            decks.add(filteredDeckList.get(targetIndex.getZeroBased()));
+        }
+        return decks;
+    }
+
+    /**
+     * Returns the decks of {@code model} with cards tagged with the target tag, in the order of the decks.
+     */
+    private Set<Deck> getDecksTagged(Model model) throws CommandException {
+        Set<Deck> decks = model.getTopDeck().getDeckList().stream()
+                .filter(deck -> deck.getCards().hasCardWithTag(tagName))
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (decks.isEmpty()) {
+            throw new CommandException(String.format(MESSAGE_NO_DECKS_TAGGED, tagName));
+        }
+        return decks;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof CramCommand // instanceof handles nulls
+                && targetIndexes.equals(((CramCommand) other).targetIndexes)
+                && Objects.equals(tagName, ((CramCommand) other).tagName)
+                && studyMode == ((CramCommand) other).studyMode); // state check
+    }
+}
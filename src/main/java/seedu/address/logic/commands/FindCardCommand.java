@@ -6,11 +6,13 @@ import seedu.address.commons.core.Messages;
 import seedu.address.logic.CommandHistory;
 import seedu.address.model.CardsView;
 import seedu.address.model.Model;
-import seedu.address.model.deck.QuestionContainsKeywordsPredicate;
+import seedu.address.model.deck.CardQuery;
+import seedu.address.model.deck.UniqueCardList;
 
 /**
- * Finds and lists all cards in address book whose name contains any of the argument keywords.
- * Keyword matching is case insensitive.
+ * Finds and lists all cards in address book whose name contains any of the argument keywords, or that match
+ * the argument query. Keyword matching is case insensitive. The cards are listed from the most to the least
+ * relevant.
  */
 public class FindCardCommand extends Command {
 
@@ -19,18 +21,24 @@ public class FindCardCommand extends Command {
     public static final String MESSAGE_USAGE =
             COMMAND_WORD + ": Finds all cards whose questions contain any of "
                     + "the specified keywords (case-insensitive) and displays them as a list with index "
-                    + "numbers.\n" + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+                    + "numbers, the most relevant first.\n" + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
                     + "KEYWORD can come in the form of a single word or in the form of \"KEYWORD\" "
                     + "where KEYWORD is a phrase that will be matched word for word with the question.\n"
                     + "When using FIND in the form of \"KEYWORD\", there can only be \" at the start and at the "
                     + "end of the search input.\n"
+                    + "KEYWORD can be preceded by ~ to also match words with a few typos.\n"
+                    + "KEYWORD can also be q:KEYWORD, a:KEYWORD or tag:KEYWORD to only search the question, "
+                    + "answer or tags, or difficulty>2.5 or attempts<3 (with any of < <= = >= >) to compare "
+                    + "study statistics. Keywords can be combined with NOT, AND, OR and parentheses.\n"
                     + "Example: " + COMMAND_WORD
-                    + " alice \"bob charlie\"";
+                    + " alice \"bob charlie\" ~dave\n"
+                    + "Example: " + COMMAND_WORD
+                    + " tag:cs2105 AND NOT (difficulty<2.5 OR attempts=0)";
 
     private final CardsView cardsView;
-    private final QuestionContainsKeywordsPredicate predicate;
+    private final CardQuery predicate;
 
-    public FindCardCommand(CardsView cardsView, QuestionContainsKeywordsPredicate predicate) {
+    public FindCardCommand(CardsView cardsView, CardQuery predicate) {
         this.cardsView = cardsView;
         this.predicate = predicate;
     }
@@ -38,7 +46,8 @@ public class FindCardCommand extends Command {
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
         requireNonNull(model);
-        cardsView.updateFilteredList(predicate);
+        UniqueCardList cards = cardsView.getActiveDeck().getCards();
+        cardsView.updateFilteredList(predicate.forCardsIn(cards), predicate.byRelevanceIn(cards));
         return new CommandResult(
                 String.format(Messages.MESSAGE_CARDS_LISTED_OVERVIEW, cardsView.getFilteredList().size()));
     }
@@ -17,9 +17,13 @@ public class GenerateQuestionCommand extends Command {
         this.studyView = studyView;
     }
 
+    public int getRating() {
+        return rating;
+    }
+
     @Override
     public CommandResult execute(Model model, CommandHistory history) {
-        studyView.getCurrentCard().addDifficulty(rating);
+        studyView.rateCurrentCard(rating);
         studyView.generateCard();
         studyView.setCurrentStudyState(StudyView.StudyState.QUESTION);
         return new CommandResult("");
@@ -0,0 +1,51 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.CardsView;
+import seedu.address.model.Model;
+
+/**
+ * Lists the tags of the cards in the active deck, with the number of cards that have each tag.
+ */
+public class ListTagsCommand extends Command {
+
+    public static final String COMMAND_WORD = "tags";
+
+    public static final String MESSAGE_TAGS_LISTED_OVERVIEW = "%1$d tags listed!";
+    public static final String MESSAGE_TAG_COUNT = "%1$s: %2$d cards";
+
+    private final CardsView cardsView;
+
+    public ListTagsCommand(CardsView cardsView) {
+        this.cardsView = cardsView;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        List<Map.Entry<String, Integer>> tagCounts =
+                new ArrayList<>(cardsView.getActiveDeck().getCards().countCardsByTag().entrySet());
+        tagCounts.sort(Map.Entry.<String, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey(Comparator.comparing(String::toLowerCase))));
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_TAGS_LISTED_OVERVIEW, tagCounts.size()));
+        for (Map.Entry<String, Integer> tagCount : tagCounts) {
+            message.append('\n').append(String.format(MESSAGE_TAG_COUNT, tagCount.getKey(), tagCount.getValue()));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof ListTagsCommand // instanceof handles nulls
+                && cardsView.equals(((ListTagsCommand) other).cardsView)); // state check
+    }
+}
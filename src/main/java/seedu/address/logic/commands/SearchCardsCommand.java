@@ -0,0 +1,72 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.DecksView;
+import seedu.address.model.Model;
+import seedu.address.model.deck.CardSearchResult;
+import seedu.address.model.deck.Deck;
+
+/**
+ * Finds the cards of all decks whose questions or tags contain any of the argument keywords, lists them with the
+ * decks they belong to, and shows only those decks in the list.
+ * Keyword matching is case insensitive.
+ */
+public class SearchCardsCommand extends Command {
+
+    public static final String COMMAND_WORD = "search";
+
+    public static final String MESSAGE_USAGE =
+            COMMAND_WORD + ": Finds the cards of all decks whose questions contain any of "
+                    + "the specified keywords (case-insensitive), lists them with their decks, "
+                    + "and displays the decks with such cards as a list with index numbers.\n"
+                    + "Cards that match more of the keywords are listed first.\n"
+                    + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
+                    + "KEYWORD can come in the form of a single word or in the form of \"KEYWORD\" "
+                    + "where KEYWORD is a phrase that will be matched word for word with the question.\n"
+                    + "KEYWORD can be preceded by ~ to also match words with a few typos.\n"
+                    + "Example: " + COMMAND_WORD
+                    + " alice \"bob charlie\" ~dave";
+
+    public static final String MESSAGE_CARDS_FOUND_OVERVIEW = "%1$d cards found in %2$d decks!";
+    public static final String MESSAGE_MORE_CARDS_FOUND = "... and %1$d more";
+    public static final int MAX_CARDS_SHOWN = 20;
+
+    private final DecksView decksView;
+    private final List<String> keywords;
+
+    public SearchCardsCommand(DecksView decksView, List<String> keywords) {
+        this.decksView = decksView;
+        this.keywords = keywords;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        requireNonNull(model);
+        List<CardSearchResult> results = model.findCards(keywords);
+        Set<Deck> decks = results.stream().map(CardSearchResult::getDeck).collect(Collectors.toSet());
+        decksView.updateFilteredList(decks::contains);
+
+        StringBuilder message = new StringBuilder(
+                String.format(MESSAGE_CARDS_FOUND_OVERVIEW, results.size(), decks.size()));
+        for (int i = 0; i < results.size() && i < MAX_CARDS_SHOWN; i++) {
+            message.append('\n').append(i + 1).append(". ").append(results.get(i));
+        }
+        if (results.size() > MAX_CARDS_SHOWN) {
+            message.append('\n').append(String.format(MESSAGE_MORE_CARDS_FOUND, results.size() - MAX_CARDS_SHOWN));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof SearchCardsCommand // instanceof handles nulls
+                && keywords.equals(((SearchCardsCommand) other).keywords)); // state check
+    }
+}
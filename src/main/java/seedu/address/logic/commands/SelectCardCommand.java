@@ -32,7 +32,7 @@ public class SelectCardCommand extends SelectCommand {
     public CommandResult execute(Model model, CommandHistory history) throws CommandException {
         requireNonNull(model);
 
-        List<Card> filteredCardList = cardsView.filteredCards;
+        List<Card> filteredCardList = cardsView.getFilteredList();
 
         if (targetIndex.getZeroBased() >= filteredCardList.size()) {
             throw new CommandException(Messages.MESSAGE_INVALID_DISPLAYED_INDEX);
@@ -0,0 +1,120 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.DecksView;
+import seedu.address.model.Model;
+import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.DeckStatistics;
+
+/**
+ * Shows the statistics of the cards of a deck, or of all decks together.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Shows the statistics of the deck identified by the index number used in the displayed deck list, "
+            + "or of all decks when no index is given.\n"
+            + "Parameters: [INDEX] (must be a positive integer)\n"
+            + "Example: " + COMMAND_WORD + " 1";
+
+    public static final String MESSAGE_COLLECTION_STATS = "Statistics of all %1$d decks:";
+    public static final String MESSAGE_DECK_STATS = "Statistics of deck %1$s:";
+    public static final String MESSAGE_STATISTICS = "%1$d cards, %2$d never attempted\n"
+            + "%3$d attempts in total\n"
+            + "Mean difficulty: %4$.2f\n"
+            + "Cards by difficulty (1 easy to 5 hard): %5$s";
+    public static final String MESSAGE_DIFFICULTY_COUNT = "%1$d: %2$d";
+
+    private final DecksView decksView;
+    private final Index targetIndex;
+    private final Deck targetDeck;
+
+    /**
+     * Creates a StatsCommand that shows the statistics of all decks together.
+     */
+    public StatsCommand() {
+        this.decksView = null;
+        this.targetIndex = null;
+        this.targetDeck = null;
+    }
+
+    /**
+     * Creates a StatsCommand that shows the statistics of the deck at {@code targetIndex} of {@code decksView}.
+     */
+    public StatsCommand(DecksView decksView, Index targetIndex) {
+        requireNonNull(targetIndex);
+        this.decksView = decksView;
+        this.targetIndex = targetIndex;
+        this.targetDeck = null;
+    }
+
+    /**
+     * Creates a StatsCommand that shows the statistics of {@code targetDeck}.
+     */
+    public StatsCommand(Deck targetDeck) {
+        requireNonNull(targetDeck);
+        this.decksView = null;
+        this.targetIndex = null;
+        this.targetDeck = targetDeck;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) throws CommandException {
+        requireNonNull(model);
+
+        if (targetIndex == null && targetDeck == null) {
+            String title = String.format(MESSAGE_COLLECTION_STATS, model.getTopDeck().getDeckList().size());
+            return new CommandResult(title + "\n" + formatStatistics(model.getStatistics()));
+        }
+
+        Deck deck = targetDeck == null ? getDeckAtIndex() : targetDeck;
+        String title = String.format(MESSAGE_DECK_STATS, deck.getName());
+        return new CommandResult(title + "\n" + formatStatistics(deck.getCards().getStatistics()));
+    }
+
+    /**
+     * Returns the deck at the target index of the decks view.
+     */
+    private Deck getDeckAtIndex() throws CommandException {
+        List<Deck> filteredDeckList = decksView.filteredDecks;
+        if (targetIndex.getZeroBased() >= filteredDeckList.size()) {
+            throw new CommandException(Messages.MESSAGE_INVALID_DISPLAYED_INDEX);
+        }
+        return filteredDeckList.get(targetIndex.getZeroBased());
+    }
+
+    /**
+     * Returns {@code statistics} formatted for the user.
+     */
+    private static String formatStatistics(DeckStatistics statistics) {
+        StringBuilder distribution = new StringBuilder();
+        for (int rating = 1; rating <= DeckStatistics.MAX_RATING; rating++) {
+            if (rating > 1) {
+                distribution.append(", ");
+            }
+            distribution.append(String.format(MESSAGE_DIFFICULTY_COUNT, rating,
+                    statistics.getCardCountWithDifficulty(rating)));
+        }
+        return String.format(MESSAGE_STATISTICS, statistics.getCardCount(),
+                statistics.getNeverAttemptedCardCount(), statistics.getTotalAttempts(),
+                statistics.getMeanDifficulty(), distribution);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && Objects.equals(targetIndex, ((StatsCommand) other).targetIndex)
+                && Objects.equals(targetDeck, ((StatsCommand) other).targetDeck)); // state check
+    }
+}
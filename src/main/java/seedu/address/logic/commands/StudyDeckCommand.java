@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import java.util.List;
+import java.util.Objects;
 
 import seedu.address.commons.core.Messages;
 import seedu.address.commons.core.index.Index;
@@ -10,6 +11,7 @@ import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.DecksView;
 import seedu.address.model.Model;
+import seedu.address.model.StudyView.StudyMode;
 import seedu.address.model.deck.Deck;
 
 /**
@@ -19,22 +21,40 @@ public class StudyDeckCommand extends Command {
 
     public static final String COMMAND_WORD = "study";
 
-    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Enters the session using a deck.\n"
-            + "Parameters: INDEX (must be a positive integer)\n" + "Example: " + COMMAND_WORD + " 1";
+    public static final String SPACED_KEYWORD = "spaced";
+    public static final String WEIGHTED_KEYWORD = "weighted";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Enters the session using a deck. "
+            + "With " + SPACED_KEYWORD + ", the card that is due for review first is shown each time, as scheduled "
+            + "by the ratings given to the cards. With " + WEIGHTED_KEYWORD + ", cards are drawn at random, with "
+            + "harder cards drawn more often. Otherwise the cards are shuffled.\n"
+            + "Parameters: INDEX (must be a positive integer) [" + SPACED_KEYWORD + "|" + WEIGHTED_KEYWORD + "]\n"
+            + "Example: " + COMMAND_WORD + " 1 " + SPACED_KEYWORD;
 
     public static final String MESSAGE_STUDY_DECK_SUCCESS = "Studying: %s";
 
     private Index targetIndex;
     private DecksView decksView;
     private Deck targetDeck;
+    private StudyMode studyMode;
 
     public StudyDeckCommand(DecksView decksView, Index targetIndex) {
+        this(decksView, targetIndex, StudyMode.SHUFFLED);
+    }
+
+    public StudyDeckCommand(DecksView decksView, Index targetIndex, StudyMode studyMode) {
         this.targetIndex = targetIndex;
         this.decksView = decksView;
+        this.studyMode = studyMode;
     }
 
     public StudyDeckCommand(Deck targetDeck) {
+        this(targetDeck, StudyMode.SHUFFLED);
+    }
+
+    public StudyDeckCommand(Deck targetDeck, StudyMode studyMode) {
         this.targetDeck = targetDeck;
+        this.studyMode = studyMode;
     }
 
     @Override
@@ -54,7 +74,7 @@ public class StudyDeckCommand extends Command {
             throw new CommandException(Messages.MESSAGE_EMPTY_DECK);
         }
 
-        model.studyDeck(targetDeck);
+        model.studyDeck(targetDeck, studyMode);
 
         return new UpdatePanelCommandResult(String.format(MESSAGE_STUDY_DECK_SUCCESS, targetDeck.getName()));
     }
@@ -63,6 +83,7 @@ public class StudyDeckCommand extends Command {
     public boolean equals(Object other) {
         return other == this // short circuit if same object
                 || (other instanceof StudyDeckCommand // instanceof handles nulls
-                && targetIndex.equals(((StudyDeckCommand) other).targetIndex)); // state check
+                && Objects.equals(targetIndex, ((StudyDeckCommand) other).targetIndex)
+                && studyMode == ((StudyDeckCommand) other).studyMode); // state check
     }
 }
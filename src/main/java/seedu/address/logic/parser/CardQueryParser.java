@@ -0,0 +1,348 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.model.deck.QuestionContainsKeywordsPredicate.FUZZY_KEYWORD_PREFIX;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.deck.AndCardQuery;
+import seedu.address.model.deck.CardQuery;
+import seedu.address.model.deck.FieldCardQuery;
+import seedu.address.model.deck.NotCardQuery;
+import seedu.address.model.deck.OrCardQuery;
+import seedu.address.model.deck.QuestionContainsKeywordsPredicate;
+import seedu.address.model.deck.StatisticCardQuery;
+import seedu.address.model.deck.StatisticCardQuery.Comparison;
+import seedu.address.model.deck.StatisticCardQuery.Statistic;
+
+/**
+ * Parses a search for cards written in the query syntax into a {@code CardQuery}.
+ * <p>
+ * A query is made of terms: a keyword or {@code "phrase"}, which is searched for in the question and tags as in
+ * {@code QuestionContainsKeywordsPredicate}; {@code q:KEYWORD}, {@code a:KEYWORD} or {@code tag:KEYWORD}, which
+ * are only searched for in the question, answer or tags; and {@code difficulty>2.5} or {@code attempts<3}, which
+ * compare the study statistics of the card with any of {@code < <= = >= >}. Terms are combined with
+ * {@code NOT}, then {@code AND}, then {@code OR}, and can be grouped with parentheses. Terms that are not joined
+ * by an operator are joined by {@code OR}, as in a list of keywords.
+ * <p>
+ * Operators and parentheses are only syntax where they stand on their own: {@code AND} and {@code OR} between two
+ * terms, {@code NOT} before a term, and parentheses at the start or end of a word. Anywhere else they are part of
+ * a keyword, so that {@code f(x)} or a lone {@code AND} are searched for as they are.
+ */
+public class CardQueryParser {
+
+    private static final String OPERATOR_AND = "AND";
+    private static final String OPERATOR_OR = "OR";
+    private static final String OPERATOR_NOT = "NOT";
+    private static final String OPEN_PARENTHESIS = "(";
+    private static final String CLOSE_PARENTHESIS = ")";
+    private static final String QUOTE = "\"";
+
+    private static final Pattern FIELD_TERM_FORMAT = Pattern.compile("(?<field>q|a|tag):(?<keyword>.*)",
+            Pattern.CASE_INSENSITIVE);
+    private static final Pattern STATISTIC_TERM_FORMAT = Pattern.compile(
+            "(?<statistic>difficulty|attempts)(?<comparison><=|>=|<|>|=)(?<value>.*)", Pattern.CASE_INSENSITIVE);
+
+    private final String messageUsage;
+    private List<String> tokens;
+    private int position;
+
+    /**
+     * Creates a parser that reports invalid queries with {@code messageUsage}.
+     */
+    public CardQueryParser(String messageUsage) {
+        this.messageUsage = messageUsage;
+    }
+
+    /**
+     * Returns true if {@code args} uses the query syntax, rather than being a plain list of keywords.
+     */
+    public static boolean isQuery(String args) {
+        List<String> tokens = tokenize(args);
+        for (int i = 0; i < tokens.size(); i++) {
+            String token = tokens.get(i);
+            boolean isBetweenTerms = i > 0 && isTermAt(tokens, i + 1);
+            if (((token.equals(OPERATOR_AND) || token.equals(OPERATOR_OR)) && isBetweenTerms)
+                    || (token.equals(OPERATOR_NOT) && isTermAt(tokens, i + 1))
+                    || token.equals(OPEN_PARENTHESIS) || token.equals(CLOSE_PARENTHESIS)
+                    || isNonEmptyMatch(FIELD_TERM_FORMAT.matcher(token), "keyword")
+                    || isNonEmptyMatch(STATISTIC_TERM_FORMAT.matcher(token), "value")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns true if {@code matcher} matches its whole input with a non-empty {@code group}.
+     */
+    private static boolean isNonEmptyMatch(Matcher matcher, String group) {
+        return matcher.matches() && !matcher.group(group).isEmpty();
+    }
+
+    /**
+     * Returns true if a term or an opening parenthesis can start at {@code index} of {@code tokens}.
+     */
+    private static boolean isTermAt(List<String> tokens, int index) {
+        return index < tokens.size() && !tokens.get(index).equals(CLOSE_PARENTHESIS);
+    }
+
+    /**
+     * Parses {@code args} into a {@code CardQuery}.
+     *
+     * @throws ParseException if {@code args} is not a valid query
+     */
+    public CardQuery parse(String args) throws ParseException {
+        tokens = tokenize(args);
+        position = 0;
+        if (tokens.isEmpty()) {
+            throw invalidQuery();
+        }
+
+        CardQuery query = parseDisjunction();
+        if (position < tokens.size()) {
+            throw invalidQuery();
+        }
+        return query;
+    }
+
+    /**
+     * Parses terms joined by {@code OR}, or by nothing, up to the end of the query or a closing parenthesis.
+     */
+    private CardQuery parseDisjunction() throws ParseException {
+        List<CardQuery> queries = new ArrayList<>();
+        queries.add(parseConjunction());
+        while (position < tokens.size() && !peek().equals(CLOSE_PARENTHESIS)) {
+            if (peek().equals(OPERATOR_OR) && isTermAt(tokens, position + 1)) {
+                position++;
+            }
+            queries.add(parseConjunction());
+        }
+        return queries.size() == 1 ? queries.get(0) : new OrCardQuery(queries);
+    }
+
+    /**
+     * Parses terms joined by {@code AND}.
+     */
+    private CardQuery parseConjunction() throws ParseException {
+        List<CardQuery> queries = new ArrayList<>();
+        queries.add(parseNegation());
+        while (position < tokens.size() && peek().equals(OPERATOR_AND) && isTermAt(tokens, position + 1)) {
+            position++;
+            queries.add(parseNegation());
+        }
+        return queries.size() == 1 ? queries.get(0) : new AndCardQuery(queries);
+    }
+
+    /**
+     * Parses a term or parenthesised query, negated by any number of {@code NOT}.
+     * An {@code AND} or {@code OR} found here, or a {@code NOT} with no term after it, is a keyword.
+     */
+    private CardQuery parseNegation() throws ParseException {
+        String token = next();
+        switch (token) {
+            case OPEN_PARENTHESIS:
+                CardQuery query = parseDisjunction();
+                if (!next().equals(CLOSE_PARENTHESIS)) {
+                    throw invalidQuery();
+                }
+                return query;
+            case CLOSE_PARENTHESIS:
+                throw invalidQuery();
+            default:
+                if (token.equals(OPERATOR_NOT) && isTermAt(tokens, position)) {
+                    return new NotCardQuery(parseNegation());
+                }
+                return parseTerm(token);
+        }
+    }
+
+    /**
+     * Parses a single search term.
+     */
+    private CardQuery parseTerm(String token) throws ParseException {
+        Matcher fieldTerm = FIELD_TERM_FORMAT.matcher(token);
+        if (fieldTerm.matches()) {
+            FieldCardQuery.Field field = parseField(fieldTerm.group("field"));
+            return new FieldCardQuery(field, parseKeyword(fieldTerm.group("keyword")));
+        }
+
+        Matcher statisticTerm = STATISTIC_TERM_FORMAT.matcher(token);
+        if (statisticTerm.matches()) {
+            Statistic statistic = Statistic.valueOf(statisticTerm.group("statistic").toUpperCase(Locale.ROOT));
+            Comparison comparison = parseComparison(statisticTerm.group("comparison"));
+            return new StatisticCardQuery(statistic, comparison, parseValue(statisticTerm.group("value")));
+        }
+
+        return new QuestionContainsKeywordsPredicate(Collections.singletonList(parseKeyword(token)));
+    }
+
+    /**
+     * Returns the field named by the prefix of a field term.
+     */
+    private static FieldCardQuery.Field parseField(String name) {
+        switch (name.toLowerCase(Locale.ROOT)) {
+            case "q":
+                return FieldCardQuery.Field.QUESTION;
+            case "a":
+                return FieldCardQuery.Field.ANSWER;
+            default:
+                return FieldCardQuery.Field.TAG;
+        }
+    }
+
+    /**
+     * Returns the comparison denoted by {@code symbol}.
+     */
+    private static Comparison parseComparison(String symbol) {
+        for (Comparison comparison : Comparison.values()) {
+            if (comparison.symbol.equals(symbol)) {
+                return comparison;
+            }
+        }
+        throw new AssertionError("Unknown comparison " + symbol);
+    }
+
+    /**
+     * Parses the number that a statistic is compared to.
+     */
+    private double parseValue(String value) throws ParseException {
+        try {
+            double parsedValue = Double.parseDouble(value);
+            if (Double.isNaN(parsedValue) || Double.isInfinite(parsedValue)) {
+                throw invalidQuery();
+            }
+            return parsedValue;
+        } catch (NumberFormatException nfe) {
+            throw invalidQuery();
+        }
+    }
+
+    /**
+     * Parses a keyword or a phrase in quotes, optionally preceded by {@code FUZZY_KEYWORD_PREFIX}.
+     */
+    private String parseKeyword(String token) throws ParseException {
+        String prefix = token.startsWith(FUZZY_KEYWORD_PREFIX) ? FUZZY_KEYWORD_PREFIX : "";
+        String keyword = token.substring(prefix.length());
+        if (keyword.startsWith(QUOTE) && keyword.endsWith(QUOTE) && keyword.length() >= 2) {
+            keyword = keyword.substring(1, keyword.length() - 1);
+        }
+        if (keyword.trim().isEmpty() || keyword.contains(QUOTE)) {
+            throw invalidQuery();
+        }
+        return prefix + keyword;
+    }
+
+    /**
+     * Returns the next token without consuming it.
+     */
+    private String peek() {
+        return tokens.get(position);
+    }
+
+    /**
+     * Consumes and returns the next token.
+     *
+     * @throws ParseException if there are no more tokens
+     */
+    private String next() throws ParseException {
+        if (position >= tokens.size()) {
+            throw invalidQuery();
+        }
+        return tokens.get(position++);
+    }
+
+    /**
+     * Returns the exception for a query that is not valid.
+     */
+    private ParseException invalidQuery() {
+        return new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
+    }
+
+    /**
+     * Splits {@code args} into terms separated by whitespace, keeping phrases in quotes whole.
+     * Opening parentheses at the start of a term, and closing parentheses at its end that are not matched within
+     * the term, are split off as tokens of their own. An unclosed quote extends to the end of {@code args}.
+     */
+    private static List<String> tokenize(String args) {
+        List<String> tokens = new ArrayList<>();
+        for (String word : splitWords(args)) {
+            int start = 0;
+            while (start < word.length() && word.charAt(start) == '(') {
+                tokens.add(OPEN_PARENTHESIS);
+                start++;
+            }
+
+            int end = word.length();
+            int unmatchedCloseCount = countUnmatchedCloseParentheses(word.substring(start));
+            while (unmatchedCloseCount > 0 && end > start && word.charAt(end - 1) == ')') {
+                unmatchedCloseCount--;
+                end--;
+            }
+
+            if (end > start) {
+                tokens.add(word.substring(start, end));
+            }
+            for (int i = end; i < word.length(); i++) {
+                tokens.add(CLOSE_PARENTHESIS);
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Splits {@code args} into words separated by whitespace outside quotes.
+     */
+    private static List<String> splitWords(String args) {
+        List<String> words = new ArrayList<>();
+        StringBuilder word = new StringBuilder();
+        boolean isInQuotes = false;
+        for (char c : args.toCharArray()) {
+            if (c == '"') {
+                isInQuotes = !isInQuotes;
+                word.append(c);
+            } else if (!isInQuotes && Character.isWhitespace(c)) {
+                if (word.length() > 0) {
+                    words.add(word.toString());
+                    word.setLength(0);
+                }
+            } else {
+                word.append(c);
+            }
+        }
+        if (word.length() > 0) {
+            words.add(word.toString());
+        }
+        return words;
+    }
+
+    /**
+     * Returns the number of closing parentheses outside quotes in {@code word} that no opening parenthesis before
+     * them matches.
+     */
+    private static int countUnmatchedCloseParentheses(String word) {
+        int openCount = 0;
+        int unmatchedCloseCount = 0;
+        boolean isInQuotes = false;
+        for (char c : word.toCharArray()) {
+            if (c == '"') {
+                isInQuotes = !isInQuotes;
+            } else if (!isInQuotes && c == '(') {
+                openCount++;
+            } else if (!isInQuotes && c == ')') {
+                if (openCount > 0) {
+                    openCount--;
+                } else {
+                    unmatchedCloseCount++;
+                }
+            }
+        }
+        return unmatchedCloseCount;
+    }
+}
@@ -2,6 +2,7 @@ package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import seedu.address.logic.StudyDeckCommandParser;
 import seedu.address.logic.commands.AddCardCommand;
 import seedu.address.logic.commands.BackCommand;
 import seedu.address.logic.commands.ClearCardCommand;
@@ -10,8 +11,10 @@ import seedu.address.logic.commands.DeleteCardCommand;
 import seedu.address.logic.commands.EditCardCommand;
 import seedu.address.logic.commands.FindCardCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.ListTagsCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.SelectCardCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.StudyDeckCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -46,13 +49,18 @@ public class CardsViewParser implements ViewStateParser {
             case BackCommand.COMMAND_WORD:
                 return new BackCommand();
             case StudyDeckCommand.COMMAND_WORD:
-                return new StudyDeckCommand(cardsView.getActiveDeck());
+                return new StudyDeckCommand(cardsView.getActiveDeck(),
+                        StudyDeckCommandParser.parseStudyMode(arguments));
             case UndoCommand.COMMAND_WORD:
                 return new UndoCommand(cardsView);
             case RedoCommand.COMMAND_WORD:
                 return new RedoCommand(cardsView);
             case ListCommand.COMMAND_WORD:
                 return new ListCommand(cardsView);
+            case ListTagsCommand.COMMAND_WORD:
+                return new ListTagsCommand(cardsView);
+            case StatsCommand.COMMAND_WORD:
+                return new StatsCommand(cardsView.getActiveDeck());
             default:
                 throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
@@ -0,0 +1,75 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.StudyDeckCommandParser;
+import seedu.address.logic.commands.CramCommand;
+import seedu.address.logic.commands.StudyDeckCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DecksView;
+import seedu.address.model.StudyView.StudyMode;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses input arguments and creates a new CramCommand object
+ */
+public class CramCommandParser implements Parser<CramCommand> {
+
+    private DecksView decksView;
+
+    public CramCommandParser(DecksView decksView) {
+        this.decksView = decksView;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the CramCommand
+     * and returns an CramCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public CramCommand parse(String args) throws ParseException {
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CramCommand.MESSAGE_USAGE));
+        }
+
+        List<String> words = new ArrayList<>(Arrays.asList(trimmedArgs.split("\\s+")));
+        String lastWord = words.get(words.size() - 1);
+        StudyMode studyMode = StudyMode.SHUFFLED;
+        if (lastWord.equalsIgnoreCase(StudyDeckCommand.SPACED_KEYWORD)
+                || lastWord.equalsIgnoreCase(StudyDeckCommand.WEIGHTED_KEYWORD)) {
+            studyMode = StudyDeckCommandParser.parseStudyMode(lastWord);
+            words.remove(words.size() - 1);
+        }
+        if (words.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CramCommand.MESSAGE_USAGE));
+        }
+
+        if (words.get(0).startsWith(PREFIX_TAG.getPrefix())) {
+            if (words.size() > 1) {
+                throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CramCommand.MESSAGE_USAGE));
+            }
+            String tagName = words.get(0).substring(PREFIX_TAG.getPrefix().length());
+            if (!Tag.isValidTagName(tagName)) {
+                throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            return new CramCommand(tagName, studyMode);
+        }
+
+        List<Index> indexes = new ArrayList<>();
+        try {
+            for (String word : words) {
+                indexes.add(ParserUtil.parseIndex(word));
+            }
+        } catch (ParseException pe) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, CramCommand.MESSAGE_USAGE), pe);
+        }
+        return new CramCommand(decksView, indexes, studyMode);
+    }
+}
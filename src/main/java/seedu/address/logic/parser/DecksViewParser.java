@@ -7,6 +7,7 @@ import seedu.address.logic.StudyDeckCommandParser;
 import seedu.address.logic.commands.AddDeckCommand;
 import seedu.address.logic.commands.ClearDeckCommand;
 import seedu.address.logic.commands.Command;
+import seedu.address.logic.commands.CramCommand;
 import seedu.address.logic.commands.DeleteDeckCommand;
 import seedu.address.logic.commands.EditDeckCommand;
 import seedu.address.logic.commands.ExportDeckCommand;
@@ -15,7 +16,9 @@ import seedu.address.logic.commands.ImportDeckCommand;
 import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.OpenDeckCommand;
 import seedu.address.logic.commands.RedoCommand;
+import seedu.address.logic.commands.SearchCardsCommand;
 import seedu.address.logic.commands.SelectDeckCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.StudyDeckCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -45,12 +48,16 @@ public class DecksViewParser implements ViewStateParser {
                 return new OpenDeckCommandParser(decksView).parse(arguments);
             case StudyDeckCommand.COMMAND_WORD:
                 return new StudyDeckCommandParser(decksView).parse(arguments);
+            case CramCommand.COMMAND_WORD:
+                return new CramCommandParser(decksView).parse(arguments);
             case DeleteDeckCommand.COMMAND_WORD:
                 return new DeleteDeckCommandParser(decksView).parse(arguments);
             case EditDeckCommand.COMMAND_WORD:
                 return new EditDeckCommandParser(decksView).parse(arguments);
             case FindDeckCommand.COMMAND_WORD:
                 return new FindDeckCommandParser(decksView).parse(arguments);
+            case SearchCardsCommand.COMMAND_WORD:
+                return new SearchCardsCommandParser(decksView).parse(arguments);
             case ExportDeckCommand.COMMAND_WORD:
                 return new ExportDeckCommandParser().parse(arguments);
             case ImportDeckCommand.COMMAND_WORD:
@@ -61,6 +68,8 @@ public class DecksViewParser implements ViewStateParser {
                 return new RedoCommand(decksView);
             case ListCommand.COMMAND_WORD:
                 return new ListCommand(decksView);
+            case StatsCommand.COMMAND_WORD:
+                return new StatsCommandParser(decksView).parse(arguments);
             default:
                 throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
         }
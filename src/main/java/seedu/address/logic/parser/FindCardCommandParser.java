@@ -1,8 +1,10 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.model.deck.QuestionContainsKeywordsPredicate.FUZZY_KEYWORD_PREFIX;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -16,7 +18,7 @@ import seedu.address.model.deck.QuestionContainsKeywordsPredicate;
  */
 public class FindCardCommandParser implements Parser<FindCardCommand> {
 
-    private static final String IN_BETWEEN_QUOTES_REGEX = "\"([^\"]*)\"";
+    private static final String IN_BETWEEN_QUOTES_REGEX = "(" + FUZZY_KEYWORD_PREFIX + "?)\"([^\"]*)\"";
 
     private CardsView cardsView;
 
@@ -31,28 +33,45 @@ public class FindCardCommandParser implements Parser<FindCardCommand> {
      * @throws ParseException if the user input does not conform the expected format
      */
     public FindCardCommand parse(String args) throws ParseException {
+        if (CardQueryParser.isQuery(args)) {
+            return new FindCardCommand(cardsView, new CardQueryParser(FindCardCommand.MESSAGE_USAGE).parse(args));
+        }
+
+        List<String> questionKeywords = parseKeywords(args, FindCardCommand.MESSAGE_USAGE);
+        return new FindCardCommand(cardsView, new QuestionContainsKeywordsPredicate(questionKeywords));
+    }
+
+    /**
+     * Parses the given {@code String} of arguments into the keywords to search for, where each keyword is either
+     * a single word or a phrase in quotes, optionally preceded by {@code FUZZY_KEYWORD_PREFIX}.
+     *
+     * @throws ParseException with {@code messageUsage} if the user input does not conform the expected format
+     */
+    static List<String> parseKeywords(String args, String messageUsage) throws ParseException {
         String trimmedArgs = args.trim();
         if (trimmedArgs.isEmpty() || trimmedArgs.replaceAll("\"", "").isEmpty()) {
             throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCardCommand.MESSAGE_USAGE));
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
         }
 
-        ArrayList<String> questionKeywords = new ArrayList<>();
+        List<String> questionKeywords = new ArrayList<>();
 
         Pattern p = Pattern.compile(IN_BETWEEN_QUOTES_REGEX);
         Matcher m = p.matcher(trimmedArgs);
         while (m.find()) {
-            String keyWord = m.group(1);
-            questionKeywords.add(keyWord);
+            String keyWord = m.group(2);
+            if (!keyWord.trim().isEmpty()) {
+                questionKeywords.add(m.group(1) + keyWord);
+            }
         }
 
         trimmedArgs = trimmedArgs.replaceAll(IN_BETWEEN_QUOTES_REGEX, "");
         String[] keyArgs = trimmedArgs.split("\\s+");
 
         for (String key : keyArgs) {
-            if (key.contains("\"")) {
+            if (key.contains("\"") || key.equals(FUZZY_KEYWORD_PREFIX)) {
                 throw new ParseException(
-                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCardCommand.MESSAGE_USAGE));
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, messageUsage));
             }
 
             if (!key.isEmpty()) {
@@ -60,6 +79,6 @@ public class FindCardCommandParser implements Parser<FindCardCommand> {
             }
         }
 
-        return new FindCardCommand(cardsView, new QuestionContainsKeywordsPredicate(questionKeywords));
+        return questionKeywords;
     }
 }
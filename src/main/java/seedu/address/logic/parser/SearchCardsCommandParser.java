@@ -0,0 +1,28 @@
+package seedu.address.logic.parser;
+
+import seedu.address.logic.commands.SearchCardsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.DecksView;
+
+/**
+ * Parses input arguments and creates a new SearchCardsCommand object
+ */
+public class SearchCardsCommandParser implements Parser<SearchCardsCommand> {
+
+    private DecksView decksView;
+
+    public SearchCardsCommandParser(DecksView decksView) {
+        this.decksView = decksView;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the SearchCardsCommand
+     * and returns an SearchCardsCommand object for execution.
+     *
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public SearchCardsCommand parse(String args) throws ParseException {
+        return new SearchCardsCommand(decksView,
+                FindCardCommandParser.parseKeywords(args, SearchCardsCommand.MESSAGE_USAGE));
+    }
+}
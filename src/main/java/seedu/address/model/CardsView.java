@@ -1,13 +1,16 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Comparator;
 import java.util.Objects;
 import java.util.function.Predicate;
 
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.logic.parser.CardsViewParser;
 import seedu.address.logic.parser.ViewStateParser;
 import seedu.address.model.deck.Card;
@@ -21,12 +24,14 @@ import seedu.address.ui.MainPanel;
 public class CardsView implements ListViewState<Card> {
 
     public final FilteredList<Card> filteredCards;
+    private final SortedList<Card> sortedCards;
     private final SimpleObjectProperty<Card> selectedCard = new SimpleObjectProperty<>();
     private final Deck activeDeck;
 
     public CardsView(Deck deck) {
         this.activeDeck = deck;
         filteredCards = new FilteredList<>(deck.getCards().asUnmodifiableObservableList());
+        sortedCards = new SortedList<>(filteredCards);
     }
 
     public CardsView(CardsView cardsView) {
@@ -41,11 +46,22 @@ public class CardsView implements ListViewState<Card> {
     public void updateFilteredList(Predicate<Card> predicate) {
         requireNonNull(predicate);
         filteredCards.setPredicate(predicate);
+        sortedCards.setComparator(null);
+    }
+
+    /**
+     * Updates the filter of the list to {@code predicate}, and lists the cards in the order of {@code comparator}
+     * instead of the order of the deck.
+     */
+    public void updateFilteredList(Predicate<Card> predicate, Comparator<Card> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredCards.setPredicate(predicate);
+        sortedCards.setComparator(comparator);
     }
 
     @Override
     public ObservableList<Card> getFilteredList() {
-        return filteredCards;
+        return sortedCards;
     }
 
     @Override
@@ -82,12 +98,12 @@ public class CardsView implements ListViewState<Card> {
 
         // state check
         CardsView other = (CardsView) obj;
-        return filteredCards.equals(other.filteredCards)
+        return sortedCards.equals(other.sortedCards)
                 && Objects.equals(selectedCard.getValue(), other.selectedCard.getValue());
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(filteredCards, selectedCard.getValue());
+        return Objects.hash(sortedCards, selectedCard.getValue());
     }
 }
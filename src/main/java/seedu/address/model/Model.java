@@ -1,13 +1,16 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.function.Predicate;
 
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.deck.Card;
+import seedu.address.model.deck.CardSearchResult;
 import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.DeckStatistics;
 import seedu.address.model.deck.exceptions.DeckImportException;
 import seedu.address.model.deck.exceptions.DuplicateDeckException;
 import seedu.address.model.deck.exceptions.EmptyDeckException;
@@ -67,6 +70,17 @@ public interface Model {
      */
     void setTopDeck(ReadOnlyTopDeck topDeck);
 
+    /**
+     * Returns the cards of all decks that match any of {@code keywords}, with the cards that match more of the
+     * keywords first.
+     */
+    List<CardSearchResult> findCards(List<String> keywords);
+
+    /**
+     * Returns the statistics of the cards of all decks together.
+     */
+    DeckStatistics getStatistics();
+
     /**
      * Returns true if a card with the same identity as {@code card} exists in the deck.
      */
@@ -155,6 +169,17 @@ public interface Model {
      */
     void studyDeck(Deck deck) throws EmptyDeckException;
 
+    /**
+     * Changes view state to show a single card at a time, in the order given by {@code studyMode}.
+     */
+    void studyDeck(Deck deck, StudyView.StudyMode studyMode) throws EmptyDeckException;
+
+    /**
+     * Changes view state to show a single card at a time from all of {@code decks} together, in the order given by
+     * {@code studyMode}.
+     */
+    void studyDecks(List<Deck> decks, StudyView.StudyMode studyMode) throws EmptyDeckException;
+
     void goToDecksView();
 
     boolean isAtDecksView();
@@ -4,6 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Objects;
 import java.util.logging.Logger;
 
@@ -13,7 +14,9 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.deck.Card;
+import seedu.address.model.deck.CardSearchResult;
 import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.DeckStatistics;
 import seedu.address.model.deck.exceptions.EmptyDeckException;
 
 
@@ -36,8 +39,8 @@ public class ModelManager implements Model {
 
         logger.fine("Initializing with address book: " + topDeck + " and user prefs " + userPrefs);
 
-        versionedTopDeck = new VersionedTopDeck(topDeck);
         this.userPrefs = new UserPrefs(userPrefs);
+        versionedTopDeck = new VersionedTopDeck(topDeck, this.userPrefs.getUndoPolicy());
         viewState = new DecksView(new FilteredList<>(versionedTopDeck.getDeckList()));
     }
 
@@ -46,8 +49,8 @@ public class ModelManager implements Model {
     }
 
     public ModelManager(Model model) {
-        versionedTopDeck = new VersionedTopDeck(model.getTopDeck());
         userPrefs = new UserPrefs(model.getUserPrefs());
+        versionedTopDeck = new VersionedTopDeck(model.getTopDeck(), userPrefs.getUndoPolicy());
         ViewState viewState = model.getViewState();
         if (viewState instanceof DecksView) {
             this.viewState = new DecksView((DecksView) viewState);
@@ -73,10 +76,22 @@ public class ModelManager implements Model {
      * Changes view state to show a single card at a time
      */
     public void studyDeck(Deck deck) throws EmptyDeckException {
+        studyDeck(deck, StudyView.StudyMode.SHUFFLED);
+    }
+
+    /**
+     * Changes view state to show a single card at a time, in the order given by {@code studyMode}.
+     */
+    public void studyDeck(Deck deck, StudyView.StudyMode studyMode) throws EmptyDeckException {
         if (deck.isEmpty()) {
             throw new EmptyDeckException("Empty deck cannot be studied");
         }
-        viewState = new StudyView(deck);
+        viewState = new StudyView(deck, studyMode);
+    }
+
+    @Override
+    public void studyDecks(List<Deck> decks, StudyView.StudyMode studyMode) throws EmptyDeckException {
+        viewState = new StudyView(decks, studyMode);
     }
 
     @Override
@@ -152,6 +167,16 @@ public class ModelManager implements Model {
         versionedTopDeck.resetData(topDeck);
     }
 
+    @Override
+    public List<CardSearchResult> findCards(List<String> keywords) {
+        return versionedTopDeck.findCards(keywords);
+    }
+
+    @Override
+    public DeckStatistics getStatistics() {
+        return versionedTopDeck.getStatistics();
+    }
+
     @Override
     public boolean hasCard(Card card, Deck deck) {
         requireAllNonNull(card, deck);
@@ -261,6 +286,8 @@ public class ModelManager implements Model {
     @Override
     public void commitTopDeck() {
         versionedTopDeck.commit();
+        logger.fine("Undo history: " + versionedTopDeck.getNumberOfStates() + " states, about "
+                + versionedTopDeck.getRetainedBytes() + " bytes retained");
     }
 
     @Override
@@ -3,6 +3,8 @@ package seedu.address.model;
 import java.nio.file.Path;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.TopDeckFileFormat;
+import seedu.address.commons.core.UndoPolicy;
 
 /**
  * Unmodifiable view of user prefs.
@@ -13,4 +15,10 @@ public interface ReadOnlyUserPrefs {
 
     Path getTopDeckFilePath();
 
+    UndoPolicy getUndoPolicy();
+
+    boolean isTopDeckFilePrettyPrinted();
+
+    TopDeckFileFormat getTopDeckFileFormat();
+
 }
@@ -2,54 +2,95 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
+import java.util.function.Function;
 
 import javafx.beans.property.ReadOnlyProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import seedu.address.logic.DeckShuffler;
+import seedu.address.logic.SpacedRepetitionScheduler;
+import seedu.address.logic.StudyOrder;
+import seedu.address.logic.WeightedCardSampler;
 import seedu.address.logic.parser.StudyViewParser;
 import seedu.address.logic.parser.ViewStateParser;
 import seedu.address.model.deck.Card;
+import seedu.address.model.deck.CombinedCardList;
 import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.Review;
+import seedu.address.model.deck.Review.ReviewType;
 import seedu.address.model.deck.exceptions.EmptyDeckException;
 import seedu.address.ui.MainPanel;
 import seedu.address.ui.StudyPanel;
 
 /**
- * ViewState of TopDeck during a study session.
+ * ViewState of TopDeck during a study session of a deck, or of several decks together.
  */
 public class StudyView implements ViewState {
-    private final Deck activeDeck;
+    private final CombinedCardList activeCards;
     private final SimpleObjectProperty<StudyState> currentStudyState = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<String> textShown = new SimpleObjectProperty<>();
     private final SimpleObjectProperty<String> userAnswer = new SimpleObjectProperty<>();
+    private final StudyMode studyMode;
+    private final StudyOrder studyOrder;
     private Card currentCard;
-    private DeckShuffler deckShuffler;
+    /** The value of {@link System#nanoTime()} when the current study state began. */
+    private long stateStartTime;
 
     public StudyView(Deck deck) throws EmptyDeckException {
-        if (deck.isEmpty()) {
+        this(deck, StudyMode.SHUFFLED);
+    }
+
+    public StudyView(Deck deck, StudyMode studyMode) throws EmptyDeckException {
+        this(Collections.singletonList(deck), studyMode);
+    }
+
+    /**
+     * Creates a study view that studies the cards of {@code decks} together, straight from the decks.
+     */
+    public StudyView(List<Deck> decks, StudyMode studyMode) throws EmptyDeckException {
+        requireNonNull(studyMode);
+        this.activeCards = new CombinedCardList(decks);
+        if (activeCards.isEmpty()) {
             throw new EmptyDeckException("Unable to create study view with empty deck");
         }
-        this.activeDeck = deck;
-        this.deckShuffler = new DeckShuffler(activeDeck);
+        this.studyMode = studyMode;
+        this.studyOrder = studyMode.createStudyOrder(activeCards.getDecks());
         generateCard();
         setCurrentStudyState(StudyState.QUESTION);
     }
 
     public StudyView(StudyView studyView) {
-        this.activeDeck = studyView.getActiveDeck();
-        this.deckShuffler = new DeckShuffler(studyView.getDeckShuffler());
+        this.activeCards = studyView.activeCards;
+        this.studyMode = studyView.getStudyMode();
+        this.studyOrder = studyView.getStudyOrder().copy();
         this.setCurrentCard(studyView.getCurrentCard());
         this.setCurrentStudyState(studyView.getCurrentStudyState());
     }
 
-    public DeckShuffler getDeckShuffler() {
-        return deckShuffler;
+    public StudyMode getStudyMode() {
+        return studyMode;
+    }
+
+    public StudyOrder getStudyOrder() {
+        return studyOrder;
     }
 
+    public List<Deck> getActiveDecks() {
+        return activeCards.getDecks();
+    }
 
+    /**
+     * Returns the deck being studied, or the deck of the current card when several decks are studied together.
+     */
     public Deck getActiveDeck() {
-        return activeDeck;
+        List<Deck> activeDecks = activeCards.getDecks();
+        if (activeDecks.size() == 1) {
+            return activeDecks.get(0);
+        }
+        Deck currentDeck = activeCards.getDeckOf(currentCard);
+        return currentDeck == null ? activeDecks.get(0) : currentDeck;
     }
 
     public Card getCurrentCard() {
@@ -69,10 +110,19 @@ public class StudyView implements ViewState {
      * Generates the next card to be studied.
      */
     public void generateCard() {
-        Card card = deckShuffler.generateCard();
+        Card card = studyOrder.generateCard();
         setCurrentCard(card);
     }
 
+    /**
+     * Adds {@code rating} to the difficulty of the current card, which changes when the card is shown again
+     * unless the cards are shuffled.
+     */
+    public void rateCurrentCard(int rating) {
+        currentCard.addDifficulty(rating);
+        studyOrder.cardRated(currentCard);
+    }
+
     public StudyState getCurrentStudyState() {
         return currentStudyState.getValue();
     }
@@ -84,9 +134,21 @@ public class StudyView implements ViewState {
     public void setCurrentStudyState(StudyState state) {
         requireNonNull(state);
         currentStudyState.setValue(state);
+        stateStartTime = System.nanoTime();
         updateTextShown();
     }
 
+    /**
+     * Returns a review of the current card of the given {@code type} made now, with the time taken since the
+     * current study state began as its latency.
+     */
+    public Review createReview(ReviewType type, int rating) {
+        requireNonNull(type);
+        long latency = (System.nanoTime() - stateStartTime) / 1_000_000;
+        return new Review(type, getActiveDeck().getName().fullName, currentCard.getQuestion(), rating,
+                System.currentTimeMillis(), latency);
+    }
+
     /**
      * Updates the text shown in the UI.
      */
@@ -137,12 +199,12 @@ public class StudyView implements ViewState {
         // state check
         StudyView other = (StudyView) obj;
         return Objects.equals(currentStudyState.getValue(), other.currentStudyState.getValue()) && Objects
-                .equals(deckShuffler, other.deckShuffler);
+                .equals(studyOrder, other.studyOrder);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(currentStudyState.getValue(), deckShuffler);
+        return Objects.hash(currentStudyState.getValue(), studyOrder);
     }
 
     /**
@@ -150,5 +212,30 @@ public class StudyView implements ViewState {
      */
     public enum StudyState { QUESTION, ANSWER }
 
+    /**
+     * The ways the cards of a deck can be ordered during a study session.
+     */
+    public enum StudyMode {
+        /** Every card in turn, in an order that is shuffled each time the deck runs out. */
+        SHUFFLED(DeckShuffler::new),
+        /** The card that is due for review first, as scheduled by the ratings given to the cards. */
+        SPACED(SpacedRepetitionScheduler::new),
+        /** Cards drawn at random, with cards of a higher average difficulty drawn more often. */
+        WEIGHTED(WeightedCardSampler::new);
+
+        private final Function<List<Deck>, StudyOrder> studyOrderFactory;
+
+        StudyMode(Function<List<Deck>, StudyOrder> studyOrderFactory) {
+            this.studyOrderFactory = studyOrderFactory;
+        }
+
+        /**
+         * Returns the order in which the cards of {@code decks} are studied together in this mode.
+         */
+        public StudyOrder createStudyOrder(List<Deck> decks) {
+            return studyOrderFactory.apply(decks);
+        }
+    }
+
 
 }
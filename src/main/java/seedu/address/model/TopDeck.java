@@ -3,14 +3,23 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.beans.InvalidationListener;
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.InvalidationListenerManager;
 import seedu.address.model.deck.Card;
+import seedu.address.model.deck.CardSearchResult;
 import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.DeckStatistics;
 import seedu.address.model.deck.UniqueDeckList;
 import seedu.address.model.deck.exceptions.CardNotFoundException;
 import seedu.address.model.deck.exceptions.DeckImportException;
@@ -60,7 +69,12 @@ public class TopDeck implements ReadOnlyTopDeck {
      * {@code decks} must not contain duplicate decks.
      */
     public void setDecks(List<Deck> decks) {
+        List<Deck> replacedDecks = new ArrayList<>(this.decks.internalList);
         this.decks.setDecks(decks);
+        decks.forEach(Deck::makeCurrent);
+        if (!replacedDecks.isEmpty() || !decks.isEmpty()) {
+            recordChange(new TopDeckChange(0, replacedDecks, decks));
+        }
         indicateModified();
     }
 
@@ -90,6 +104,21 @@ public class TopDeck implements ReadOnlyTopDeck {
         invalidationListenerManager.callListeners(this);
     }
 
+    /**
+     * Called after every change to the decks in this {@code TopDeck}.
+     * Does nothing by default; subclasses can record {@code change} to replay it later.
+     */
+    void recordChange(TopDeckChange change) {
+    }
+
+    /**
+     * Makes {@code change} to the decks without recording it, and notifies listeners.
+     */
+    void replay(TopDeckChange change) {
+        change.applyTo(decks);
+        indicateModified();
+    }
+
     //// card operations
 
     /**
@@ -107,9 +136,9 @@ public class TopDeck implements ReadOnlyTopDeck {
             throw new DuplicateCardException();
         }
 
-        Deck editedDeck = new Deck(activeDeck);
+        Deck editedDeck = Deck.moveFrom(activeDeck);
         editedDeck.addCard(card);
-        decks.setDeck(activeDeck, editedDeck);
+        replaceDeck(activeDeck, editedDeck);
 
         indicateModified();
 
@@ -129,9 +158,9 @@ public class TopDeck implements ReadOnlyTopDeck {
             throw new CardNotFoundException();
         }
 
-        Deck editedDeck = new Deck(activeDeck);
+        Deck editedDeck = Deck.moveFrom(activeDeck);
         editedDeck.removeCard(target);
-        decks.setDeck(activeDeck, editedDeck);
+        replaceDeck(activeDeck, editedDeck);
 
         indicateModified();
 
@@ -152,10 +181,10 @@ public class TopDeck implements ReadOnlyTopDeck {
             throw new CardNotFoundException();
         }
 
-        Deck editedDeck = new Deck(activeDeck);
+        Deck editedDeck = Deck.moveFrom(activeDeck);
         editedDeck.setCard(target, newCard);
 
-        decks.setDeck(activeDeck, editedDeck);
+        replaceDeck(activeDeck, editedDeck);
 
         indicateModified();
 
@@ -178,6 +207,9 @@ public class TopDeck implements ReadOnlyTopDeck {
      */
     public void addDeck(Deck deck) throws DuplicateDeckException {
         decks.add(deck);
+        deck.makeCurrent();
+        recordChange(new TopDeckChange(decks.size() - 1, Collections.emptyList(),
+                Collections.singletonList(deck)));
         indicateModified();
     }
 
@@ -198,7 +230,10 @@ public class TopDeck implements ReadOnlyTopDeck {
             throw new DeckNotFoundException();
         }
 
+        int index = decks.indexOf(target);
+        Deck removedDeck = decks.getDeck(target);
         decks.remove(target);
+        recordChange(new TopDeckChange(index, Collections.singletonList(removedDeck), Collections.emptyList()));
     }
 
     /**
@@ -208,7 +243,60 @@ public class TopDeck implements ReadOnlyTopDeck {
      */
     public void updateDeck(Deck target, Deck editedDeck) {
         requireNonNull(editedDeck);
+        replaceDeck(target, editedDeck);
+    }
+
+    /**
+     * Replaces the deck {@code target} with {@code editedDeck} and records the change.
+     */
+    private void replaceDeck(Deck target, Deck editedDeck) {
+        int index = decks.indexOf(target);
+        Deck replacedDeck = decks.getDeck(target);
         decks.setDeck(target, editedDeck);
+        editedDeck.makeCurrent();
+        recordChange(new TopDeckChange(index, Collections.singletonList(replacedDeck),
+                Collections.singletonList(editedDeck)));
+    }
+
+    /**
+     * Returns the statistics of the cards of all decks together.
+     * Each deck keeps running statistics of its cards, so this takes time proportional to the number of decks,
+     * not the number of cards. Decks whose cards are not loaded yet are loaded.
+     */
+    public DeckStatistics getStatistics() {
+        return DeckStatistics.sumOf(getDeckList());
+    }
+
+    /**
+     * Returns the cards of all decks that match any of {@code keywords}, in the same way as
+     * {@link seedu.address.model.deck.QuestionContainsKeywordsPredicate}. Cards that match more of the keywords
+     * come first, then cards are ordered by their deck and then by their question.
+     * <p>
+     * The cards of each deck are looked up in the search index of its card list. Decks are replaced rather than
+     * changed by TopDeck, and a replacing deck carries over the index of the deck it replaces, so the indexes
+     * are only built once and then kept up to date as cards are added, edited and deleted.
+     */
+    public List<CardSearchResult> findCards(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> distinctKeywords = new LinkedHashSet<>();
+        keywords.forEach(keyword -> distinctKeywords.add(keyword.toLowerCase().trim()));
+
+        List<CardSearchResult> results = new ArrayList<>();
+        for (Deck deck : getDeckList()) {
+            Map<Card, Integer> matchedKeywords = new HashMap<>();
+            for (String keyword : distinctKeywords) {
+                deck.getCards().findCards(keyword).forEach(card -> matchedKeywords.merge(card, 1, Integer::sum));
+            }
+
+            List<CardSearchResult> deckResults = new ArrayList<>();
+            matchedKeywords.forEach((card, count) -> deckResults.add(new CardSearchResult(card, deck, count)));
+            deckResults.sort(Comparator.comparing(result -> result.getCard().getQuestion().toLowerCase()));
+            results.addAll(deckResults);
+        }
+
+        // the sort is stable, so results with as many matches stay in deck order
+        results.sort(Comparator.comparingInt(CardSearchResult::getMatchedKeywords).reversed());
+        return results;
     }
 
     /**
@@ -247,6 +335,10 @@ public class TopDeck implements ReadOnlyTopDeck {
         while (iterator.hasNext()) {
             Deck cur = iterator.next();
             stringBuilder.append(cur.toString() + "\n");
+            if (!cur.isLoaded()) {
+                // Listing the cards is not worth loading them.
+                continue;
+            }
             Iterator<Card> cardIterator = cur.getCards().iterator();
             while (cardIterator.hasNext()) {
                 stringBuilder.append("\t" + cardIterator.next().toString() + "\n");
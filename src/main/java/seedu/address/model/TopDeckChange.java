@@ -0,0 +1,103 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.UniqueDeckList;
+
+/**
+ * A single reversible change made to the decks of a {@code TopDeck}.
+ * <p>
+ * Starting at position {@code start}, the decks in {@code removed} were replaced by the decks in
+ * {@code added}. Adding, deleting and editing a deck, as well as replacing every deck, can all be
+ * described this way. Only the decks involved are kept, and they are shared with the {@code TopDeck}:
+ * {@code TopDeck} replaces a deck instead of editing it in place, so a recorded deck never changes.
+ */
+class TopDeckChange {
+
+    /*
+     * The rough cost of a copy of a deck apart from its cards: the deck, its card list, statistics and views.
+     * The estimates only need to be good enough to compare against UndoPolicy#getMaxRetainedBytes().
+     */
+    private static final long DECK_OVERHEAD_BYTES = 256;
+
+    private final int start;
+    private final List<Deck> removed;
+    private final List<Deck> added;
+
+    TopDeckChange(int start, List<Deck> removed, List<Deck> added) {
+        requireAllNonNull(removed, added);
+        this.start = start;
+        this.removed = Collections.unmodifiableList(new ArrayList<>(removed));
+        this.added = Collections.unmodifiableList(new ArrayList<>(added));
+    }
+
+    /**
+     * Returns the change that undoes this change.
+     */
+    TopDeckChange inverse() {
+        return new TopDeckChange(start, added, removed);
+    }
+
+    /**
+     * Makes this change to {@code decks}, which must be in the state this change was recorded from, and makes the
+     * added decks current, as in {@link Deck#makeCurrent()}.
+     */
+    void applyTo(UniqueDeckList decks) {
+        assert decks.internalList.subList(start, start + removed.size()).equals(removed);
+
+        decks.replace(start, removed.size(), added);
+        added.forEach(Deck::makeCurrent);
+    }
+
+    /**
+     * Returns the decks involved in this change, removed ones first.
+     */
+    List<Deck> getDecks() {
+        List<Deck> decks = new ArrayList<>(removed);
+        decks.addAll(added);
+        return decks;
+    }
+
+    /**
+     * Returns an estimate of the number of bytes used by {@code decks} and their cards.
+     */
+    static long estimateBytes(List<Deck> decks) {
+        return decks.stream().mapToLong(TopDeckChange::estimateBytes).sum();
+    }
+
+    /**
+     * Returns an estimate of the number of bytes used by {@code deck} and its cards.
+     * A deck edited by {@code TopDeck} shares its cards with the deck it replaced, so only its edits are counted,
+     * as in {@link seedu.address.model.deck.UniqueCardList#getEstimatedOwnBytes()}. The cards of a deck that is
+     * not loaded yet take no memory.
+     */
+    static long estimateBytes(Deck deck) {
+        return DECK_OVERHEAD_BYTES + (deck.isLoaded() ? deck.getCards().getEstimatedOwnBytes() : 0);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof TopDeckChange)) {
+            return false;
+        }
+
+        TopDeckChange otherChange = (TopDeckChange) other;
+        return start == otherChange.start && removed.equals(otherChange.removed)
+                && added.equals(otherChange.added);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(start, removed, added);
+    }
+}
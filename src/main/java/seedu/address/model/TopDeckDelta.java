@@ -0,0 +1,80 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.deck.Deck;
+
+/**
+ * The reversible changes made to a {@code TopDeck} between two consecutive committed states.
+ * The cost of a delta depends on the size of the changes rather than on the size of the collection.
+ * A deck that takes part in several of the changes, such as a deck edited twice, is only counted once
+ * towards its estimated size.
+ */
+class TopDeckDelta {
+
+    private final List<TopDeckChange> changes;
+    /** The estimated size of each deck involved in the changes, keyed by identity. */
+    private final Map<Deck, Long> deckBytes;
+    private final long estimatedBytes;
+
+    TopDeckDelta(List<TopDeckChange> changes) {
+        requireNonNull(changes);
+        this.changes = Collections.unmodifiableList(new ArrayList<>(changes));
+        Map<Deck, Long> deckBytes = new IdentityHashMap<>();
+        for (TopDeckChange change : changes) {
+            for (Deck deck : change.getDecks()) {
+                deckBytes.computeIfAbsent(deck, TopDeckChange::estimateBytes);
+            }
+        }
+        this.deckBytes = Collections.unmodifiableMap(deckBytes);
+        this.estimatedBytes = deckBytes.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    /**
+     * Makes the changes in this delta to {@code topDeck}, which must be in the older of the two states.
+     */
+    void apply(TopDeck topDeck) {
+        changes.forEach(topDeck::replay);
+    }
+
+    /**
+     * Undoes the changes in this delta from {@code topDeck}, which must be in the newer of the two states.
+     */
+    void revert(TopDeck topDeck) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            topDeck.replay(changes.get(i).inverse());
+        }
+    }
+
+    /**
+     * Returns an estimate of the number of bytes kept alive by this delta.
+     */
+    long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * Returns the estimated size of each deck kept alive by this delta, keyed by identity.
+     */
+    Map<Deck, Long> getDeckBytes() {
+        return deckBytes;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof TopDeckDelta // instanceof handles nulls
+                && changes.equals(((TopDeckDelta) other).changes));
+    }
+
+    @Override
+    public int hashCode() {
+        return changes.hashCode();
+    }
+}
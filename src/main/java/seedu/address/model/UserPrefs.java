@@ -7,6 +7,8 @@ import java.nio.file.Paths;
 import java.util.Objects;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.commons.core.TopDeckFileFormat;
+import seedu.address.commons.core.UndoPolicy;
 
 /**
  * Represents User's preferences.
@@ -15,6 +17,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
     private GuiSettings guiSettings = new GuiSettings();
     private Path topDeckFilePath = Paths.get("data", "topdeck.json");
+    private UndoPolicy undoPolicy = new UndoPolicy();
+    private boolean topDeckFilePrettyPrinted = true;
+    private TopDeckFileFormat topDeckFileFormat = TopDeckFileFormat.JSON;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -37,6 +42,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setTopDeckFilePath(newUserPrefs.getTopDeckFilePath());
+        setUndoPolicy(newUserPrefs.getUndoPolicy());
+        setTopDeckFilePrettyPrinted(newUserPrefs.isTopDeckFilePrettyPrinted());
+        setTopDeckFileFormat(newUserPrefs.getTopDeckFileFormat());
     }
 
     public GuiSettings getGuiSettings() {
@@ -57,6 +65,32 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.topDeckFilePath = topDeckFilePath;
     }
 
+    public UndoPolicy getUndoPolicy() {
+        return undoPolicy;
+    }
+
+    public void setUndoPolicy(UndoPolicy undoPolicy) {
+        requireNonNull(undoPolicy);
+        this.undoPolicy = undoPolicy;
+    }
+
+    public boolean isTopDeckFilePrettyPrinted() {
+        return topDeckFilePrettyPrinted;
+    }
+
+    public void setTopDeckFilePrettyPrinted(boolean topDeckFilePrettyPrinted) {
+        this.topDeckFilePrettyPrinted = topDeckFilePrettyPrinted;
+    }
+
+    public TopDeckFileFormat getTopDeckFileFormat() {
+        return topDeckFileFormat;
+    }
+
+    public void setTopDeckFileFormat(TopDeckFileFormat topDeckFileFormat) {
+        requireNonNull(topDeckFileFormat);
+        this.topDeckFileFormat = topDeckFileFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -68,12 +102,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs o = (UserPrefs) other;
 
-        return guiSettings.equals(o.guiSettings) && topDeckFilePath.equals(o.topDeckFilePath);
+        return guiSettings.equals(o.guiSettings) && topDeckFilePath.equals(o.topDeckFilePath)
+                && undoPolicy.equals(o.undoPolicy) && topDeckFilePrettyPrinted == o.topDeckFilePrettyPrinted
+                && topDeckFileFormat == o.topDeckFileFormat;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, topDeckFilePath);
+        return Objects.hash(guiSettings, topDeckFilePath, undoPolicy, topDeckFilePrettyPrinted, topDeckFileFormat);
     }
 
     @Override
@@ -81,6 +117,9 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + topDeckFilePath);
+        sb.append("\nUndo policy : " + undoPolicy);
+        sb.append("\nPretty print data file : " + topDeckFilePrettyPrinted);
+        sb.append("\nData file format : " + topDeckFileFormat);
         return sb.toString();
     }
 
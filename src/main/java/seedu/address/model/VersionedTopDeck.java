@@ -1,36 +1,129 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.core.UndoPolicy;
+import seedu.address.model.deck.Deck;
 
 /**
  * {@code TopDeck} that keeps track of its own history.
+ * <p>
+ * The history is an operation log: every change made to the decks is recorded as a reversible
+ * {@link TopDeckChange}, and {@link #commit()} groups the changes made since the previous commit into a
+ * {@link TopDeckDelta}. Undo and redo replay those changes, so they cost as much as the change being
+ * undone or redone rather than as much as the whole collection. The number of states and the estimated
+ * memory they retain are bounded by an {@link UndoPolicy}; the oldest states are dropped first. A deck shared
+ * by several states, such as a deck edited by one command and edited again by the next, only counts once
+ * towards that memory.
  */
 public class VersionedTopDeck extends TopDeck {
-    private final List<ReadOnlyTopDeck> topDeckStateList;
+    private final UndoPolicy undoPolicy;
+    /** {@code topDeckDeltaList.get(i)} turns state {@code i} into state {@code i + 1}. */
+    private final List<TopDeckDelta> topDeckDeltaList;
+    private final List<TopDeckChange> uncommittedChanges;
+    /** The decks kept alive by {@code topDeckDeltaList}, keyed by identity. */
+    private final Map<Deck, RetainedDeck> retainedDecks;
     private int currentStatePointer;
+    private long retainedBytes;
 
     public VersionedTopDeck(ReadOnlyTopDeck initialState) {
+        this(initialState, new UndoPolicy());
+    }
+
+    public VersionedTopDeck(ReadOnlyTopDeck initialState, UndoPolicy undoPolicy) {
         super(initialState);
+        requireNonNull(undoPolicy);
 
-        topDeckStateList = new ArrayList<>();
-        topDeckStateList.add(new TopDeck(initialState));
+        this.undoPolicy = undoPolicy;
+        topDeckDeltaList = new ArrayList<>();
+        uncommittedChanges = new ArrayList<>();
+        retainedDecks = new IdentityHashMap<>();
         currentStatePointer = 0;
+        retainedBytes = 0;
+    }
+
+    @Override
+    void recordChange(TopDeckChange change) {
+        // Changes made while the superclass constructor runs are part of the initial state.
+        if (uncommittedChanges != null) {
+            uncommittedChanges.add(change);
+        }
     }
 
     /**
-     * Saves a copy of the current {@code TopDeck} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the changes made since the last commit as a new state at the end of the state list.
+     * Undone states are removed from the state list, and the oldest states are removed if the state list
+     * no longer fits in the {@code UndoPolicy}.
      */
     public void commit() {
         removeStatesAfterCurrentPointer();
-        topDeckStateList.add(new TopDeck(this));
+        TopDeckDelta delta = new TopDeckDelta(uncommittedChanges);
+        uncommittedChanges.clear();
+        topDeckDeltaList.add(delta);
+        retainDecksOf(delta);
         currentStatePointer++;
+        removeStatesExceedingPolicy();
         indicateModified();
     }
 
+    /**
+     * Removes the undone states, which can no longer be redone once a new state is committed.
+     */
     private void removeStatesAfterCurrentPointer() {
-        topDeckStateList.subList(currentStatePointer + 1, topDeckStateList.size()).clear();
+        List<TopDeckDelta> undoneDeltas = topDeckDeltaList.subList(currentStatePointer, topDeckDeltaList.size());
+        undoneDeltas.forEach(this::releaseDecksOf);
+        undoneDeltas.clear();
+    }
+
+    /**
+     * Removes the oldest states until the state list fits in the {@code UndoPolicy}.
+     */
+    private void removeStatesExceedingPolicy() {
+        while (!topDeckDeltaList.isEmpty() && (topDeckDeltaList.size() >= undoPolicy.getMaxStates()
+                || retainedBytes > undoPolicy.getMaxRetainedBytes())) {
+            releaseDecksOf(topDeckDeltaList.remove(0));
+            currentStatePointer--;
+        }
+    }
+
+    /**
+     * Counts the decks of {@code delta} towards the retained bytes, except those already kept alive by another
+     * delta.
+     */
+    private void retainDecksOf(TopDeckDelta delta) {
+        delta.getDeckBytes().forEach((deck, bytes) -> {
+            RetainedDeck retainedDeck = retainedDecks.computeIfAbsent(deck, unused -> new RetainedDeck(bytes));
+            if (retainedDeck.deltaCount++ == 0) {
+                retainedBytes += retainedDeck.bytes;
+            }
+        });
+    }
+
+    /**
+     * Stops counting the decks of {@code delta} towards the retained bytes, except those still kept alive by
+     * another delta.
+     */
+    private void releaseDecksOf(TopDeckDelta delta) {
+        for (Deck deck : delta.getDeckBytes().keySet()) {
+            RetainedDeck retainedDeck = retainedDecks.get(deck);
+            if (--retainedDeck.deltaCount == 0) {
+                retainedDecks.remove(deck);
+                retainedBytes -= retainedDeck.bytes;
+            }
+        }
+    }
+
+    /**
+     * Reverts the changes made since the last commit.
+     */
+    private void discardUncommittedChanges() {
+        new TopDeckDelta(uncommittedChanges).revert(this);
+        uncommittedChanges.clear();
     }
 
     /**
@@ -40,8 +133,9 @@ public class VersionedTopDeck extends TopDeck {
         if (!canUndo()) {
             throw new VersionedTopDeck.NoUndoableStateException();
         }
+        discardUncommittedChanges();
         currentStatePointer--;
-        resetData(topDeckStateList.get(currentStatePointer));
+        topDeckDeltaList.get(currentStatePointer).revert(this);
     }
 
     /**
@@ -51,8 +145,9 @@ public class VersionedTopDeck extends TopDeck {
         if (!canRedo()) {
             throw new VersionedTopDeck.NoRedoableStateException();
         }
+        discardUncommittedChanges();
+        topDeckDeltaList.get(currentStatePointer).apply(this);
         currentStatePointer++;
-        resetData(topDeckStateList.get(currentStatePointer));
     }
 
     /**
@@ -66,7 +161,21 @@ public class VersionedTopDeck extends TopDeck {
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < topDeckStateList.size() - 1;
+        return currentStatePointer < topDeckDeltaList.size();
+    }
+
+    /**
+     * Returns the number of states in the history, including the current state.
+     */
+    public int getNumberOfStates() {
+        return topDeckDeltaList.size() + 1;
+    }
+
+    /**
+     * Returns an estimate of the number of bytes held on to by the states other than the current state.
+     */
+    public long getRetainedBytes() {
+        return retainedBytes;
     }
 
     @Override
@@ -84,11 +193,43 @@ public class VersionedTopDeck extends TopDeck {
         VersionedTopDeck otherVersionedTopDeck = (VersionedTopDeck) other;
 
         // state check
-        return super.equals(otherVersionedTopDeck) && topDeckStateList
-                .equals(otherVersionedTopDeck.topDeckStateList)
+        return super.equals(otherVersionedTopDeck) && getStates().equals(otherVersionedTopDeck.getStates())
                 && currentStatePointer == otherVersionedTopDeck.currentStatePointer;
     }
 
+    /**
+     * Rebuilds the deck lists of every committed state, oldest first.
+     * This replays the whole history and is only meant for comparing histories.
+     */
+    private List<List<Deck>> getStates() {
+        TopDeck state = new TopDeck(this);
+        new TopDeckDelta(uncommittedChanges).revert(state);
+        for (int i = currentStatePointer - 1; i >= 0; i--) {
+            topDeckDeltaList.get(i).revert(state);
+        }
+
+        List<List<Deck>> states = new ArrayList<>();
+        states.add(new ArrayList<>(state.getDeckList()));
+        for (TopDeckDelta delta : topDeckDeltaList) {
+            delta.apply(state);
+            states.add(new ArrayList<>(state.getDeckList()));
+        }
+        return states;
+    }
+
+    /**
+     * A deck kept alive by the history, with the number of deltas holding on to it.
+     * Its size is estimated once, so that it is released with the same size even if its cards are loaded later.
+     */
+    private static class RetainedDeck {
+        private final long bytes;
+        private int deltaCount;
+
+        private RetainedDeck(long bytes) {
+            this.bytes = bytes;
+        }
+    }
+
     /**
      * Thrown when trying to {@code undo()} but can't.
      */
@@ -0,0 +1,69 @@
+package seedu.address.model.deck;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Tests that a {@code Card} matches all of the given queries.
+ */
+public class AndCardQuery implements CardQuery {
+
+    private final List<CardQuery> queries;
+
+    public AndCardQuery(List<CardQuery> queries) {
+        requireNonNull(queries);
+        this.queries = queries;
+    }
+
+    @Override
+    public boolean test(Card card) {
+        return queries.stream().allMatch(query -> query.test(card));
+    }
+
+    /**
+     * Returns the cards found by all of the queries that can look them up, intersecting the smallest sets first.
+     * The other queries only have to test these cards.
+     */
+    @Override
+    public Optional<Set<Card>> findCandidatesIn(UniqueCardList cards) {
+        List<Set<Card>> candidateSets = new ArrayList<>();
+        for (CardQuery query : queries) {
+            query.findCandidatesIn(cards).ifPresent(candidateSets::add);
+        }
+        if (candidateSets.isEmpty()) {
+            return Optional.empty();
+        }
+
+        candidateSets.sort(Comparator.comparingInt(Set::size));
+        Set<Card> candidates = new HashSet<>(candidateSets.get(0));
+        for (int i = 1; i < candidateSets.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(candidateSets.get(i));
+        }
+        return Optional.of(candidates);
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        List<String> keywords = new ArrayList<>();
+        queries.forEach(query -> keywords.addAll(query.getKeywords()));
+        return keywords;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof AndCardQuery // instanceof handles nulls
+                && queries.equals(((AndCardQuery) other).queries)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+}
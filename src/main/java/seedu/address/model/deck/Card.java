@@ -22,7 +22,13 @@ public class Card implements ListItem {
 
     private final Set<Tag> tags = new HashSet<Tag>();
 
-    private final Difficulty difficulty;
+    /** Replaced whenever the card is rated, so that it can be read on other threads. */
+    private volatile Difficulty difficulty;
+
+    /** The owner of the card lists that hold this card, told when it is rated, or null if none holds it. */
+    private volatile CardOwner owner;
+    /** The rating count of the owner when this card was last rated, or 0 if it has not been rated. */
+    private volatile int ratingNumber;
 
     /**
      * For when we load a card
@@ -103,18 +109,59 @@ public class Card implements ListItem {
         builder.append("Question: ").append(getQuestion()).append(" Answer: ").append(getAnswer())
                .append(" Tags: ");
         getTags().forEach(builder::append);
-        builder.append(" No Of Attempts: ").append(difficulty.getNumberOfAttempts());
-        builder.append(" Average Difficulty: ").append(difficulty.getDifficulty());
+        Difficulty currentDifficulty = difficulty;
+        builder.append(" No Of Attempts: ").append(currentDifficulty.getNumberOfAttempts());
+        builder.append(" Average Difficulty: ").append(currentDifficulty.getDifficulty());
         return builder.toString();
     }
 
+    /**
+     * Adds {@code rating} to the difficulty of this card, and tells the card lists that hold it.
+     */
     public void addDifficulty(int rating) {
-        difficulty.addDifficulty(rating);
+        addDifficulty(rating, System.currentTimeMillis());
+    }
+
+    /**
+     * Adds {@code rating} to the difficulty of this card, with its next review scheduled from {@code reviewTime},
+     * and tells the card lists that hold it.
+     */
+    public void addDifficulty(int rating, long reviewTime) {
+        setDifficulty(difficulty.withRating(rating, reviewTime));
     }
 
+    /**
+     * Resets the difficulty of this card, and tells the card lists that hold it.
+     */
     public void resetDifficulty() {
-        difficulty.resetDifficulty();
+        setDifficulty(new Difficulty());
+    }
+
+    /**
+     * Replaces the difficulty of this card with {@code newDifficulty}, and tells the card lists that hold it.
+     */
+    private void setDifficulty(Difficulty newDifficulty) {
+        Difficulty oldDifficulty = difficulty;
+        difficulty = newDifficulty;
+        CardOwner currentOwner = owner;
+        if (currentOwner != null) {
+            currentOwner.cardRated(this, oldDifficulty, newDifficulty);
+        }
+    }
+
+    CardOwner getOwner() {
+        return owner;
     }
 
+    void setOwner(CardOwner owner) {
+        this.owner = owner;
+    }
 
+    int getRatingNumber() {
+        return ratingNumber;
+    }
+
+    void setRatingNumber(int ratingNumber) {
+        this.ratingNumber = ratingNumber;
+    }
 }
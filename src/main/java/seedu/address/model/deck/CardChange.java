@@ -0,0 +1,65 @@
+package seedu.address.model.deck;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.Objects;
+
+/**
+ * A change to a card between two versions of a card list: a card added, a card removed, or a card replaced by its
+ * edited version.
+ * Guarantees: immutable; at least one of the cards is present.
+ */
+public class CardChange {
+
+    private final Card oldCard;
+    private final Card newCard;
+
+    /**
+     * Both cards may be null, but not both of them.
+     */
+    public CardChange(Card oldCard, Card newCard) {
+        checkArgument(oldCard != null || newCard != null, "A card change needs a card.");
+        this.oldCard = oldCard;
+        this.newCard = newCard;
+    }
+
+    /**
+     * Returns the card in the older version, or null if the card was added.
+     */
+    public Card getOldCard() {
+        return oldCard;
+    }
+
+    /**
+     * Returns the card in the newer version, or null if the card was removed.
+     */
+    public Card getNewCard() {
+        return newCard;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof CardChange)) {
+            return false;
+        }
+
+        CardChange otherChange = (CardChange) other;
+        return Objects.equals(oldCard, otherChange.oldCard)
+                && Objects.equals(newCard, otherChange.newCard);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(oldCard, newCard);
+    }
+
+    @Override
+    public String toString() {
+        return (oldCard == null ? "(none)" : oldCard.getQuestion()) + " -> "
+                + (newCard == null ? "(none)" : newCard.getQuestion());
+    }
+}
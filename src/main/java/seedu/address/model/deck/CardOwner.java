@@ -0,0 +1,74 @@
+package seedu.address.model.deck;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The owner of the cards of a card list and of its copies, such as the versions of a deck kept for undo.
+ * <p>
+ * Each card refers to the owner of the lists that hold it, which is told when the card is rated. The owner counts
+ * the rating, gives the card the new count as its rating number, and updates the statistics of its current list,
+ * the copy last edited or read. The statistics of its other lists are counted again if they become current after
+ * their cards were rated.
+ * <p>
+ * A card only has one owner. A list that is given cards owned by another list, such as a renamed copy of a deck,
+ * takes them over; the owner of the other list takes them back when that list is made current again.
+ */
+class CardOwner {
+
+    /** The number of times a card was taken over from another owner, so that lists can tell when to check. */
+    private static final AtomicLong takeoverCount = new AtomicLong();
+
+    /** The number of times the cards of this owner have been rated, guarded by {@code this}. */
+    private int ratingCount;
+    /** The list whose statistics are updated when a card is rated, or null if there is none. */
+    private volatile UniqueCardList currentList;
+
+    /**
+     * Returns the number of times a card was taken over from another owner so far.
+     */
+    static long getTakeoverCount() {
+        return takeoverCount.get();
+    }
+
+    /**
+     * Makes this the owner of {@code card}, taking it over from its previous owner if it has one.
+     */
+    void take(Card card) {
+        CardOwner previousOwner = card.getOwner();
+        if (previousOwner != this) {
+            card.setOwner(this);
+            if (previousOwner != null) {
+                takeoverCount.incrementAndGet();
+            }
+        }
+    }
+
+    UniqueCardList getCurrentList() {
+        return currentList;
+    }
+
+    void setCurrentList(UniqueCardList list) {
+        currentList = list;
+    }
+
+    /**
+     * Counts the rating of {@code card}, whose difficulty changed from {@code oldDifficulty} to
+     * {@code newDifficulty}, and updates the statistics of the current list.
+     */
+    void cardRated(Card card, Difficulty oldDifficulty, Difficulty newDifficulty) {
+        synchronized (this) {
+            card.setRatingNumber(++ratingCount);
+        }
+        UniqueCardList list = currentList;
+        if (list != null) {
+            list.cardRated(card, oldDifficulty, newDifficulty);
+        }
+    }
+
+    /**
+     * Returns the number of times the cards of this owner have been rated.
+     */
+    synchronized int getRatingCount() {
+        return ratingCount;
+    }
+}
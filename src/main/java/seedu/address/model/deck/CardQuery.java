@@ -0,0 +1,51 @@
+package seedu.address.model.deck;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Tests that a {@code Card} matches a search. A search is a tree of queries that is executed against a
+ * {@code UniqueCardList} by first looking up the cards that may match in the search index of the list, where the
+ * queries allow it, and then only testing those cards.
+ */
+public interface CardQuery extends Predicate<Card> {
+
+    /**
+     * Returns the cards of {@code cards} that may match this query, looked up in the search index of
+     * {@code cards}. Every matching card is included, but some of the cards may not match. Returns an empty
+     * {@code Optional} if the matching cards cannot be looked up, and every card has to be tested.
+     */
+    Optional<Set<Card>> findCandidatesIn(UniqueCardList cards);
+
+    /**
+     * Returns the keywords that the matching cards contain, to rank them by.
+     */
+    List<String> getKeywords();
+
+    /**
+     * Returns a predicate that matches the same cards of {@code cards} as this query, but only tests the cards
+     * found by {@link #findCandidatesIn(UniqueCardList)}. The returned predicate only matches cards that are in
+     * {@code cards} now.
+     */
+    default Predicate<Card> forCardsIn(UniqueCardList cards) {
+        return findCandidatesIn(cards).<Predicate<Card>>map(candidates -> card -> candidates.contains(card)
+                && test(card)).orElse(this);
+    }
+
+    /**
+     * Returns a comparator that orders the cards of {@code cards} from the most to the least relevant to the
+     * keywords. The relevance of each card is only computed once, the first time it is compared.
+     */
+    default Comparator<Card> byRelevanceIn(UniqueCardList cards) {
+        ToDoubleFunction<Card> relevance = cards.relevanceTo(getKeywords());
+        Map<Card, Double> relevances = new HashMap<>();
+        return Comparator.comparingDouble((Card card) -> relevances.computeIfAbsent(card, relevance::applyAsDouble))
+                .reversed();
+    }
+}
@@ -0,0 +1,448 @@
+package seedu.address.model.deck;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+import static seedu.address.model.deck.QuestionContainsKeywordsPredicate.FUZZY_KEYWORD_PREFIX;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.TagUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index of a list of cards, from each lower-cased word of their questions and each lower-cased tag
+ * name to the cards that have it. Finding the cards that match a keyword only looks at the cards listed under
+ * the words of the keyword, instead of testing every card.
+ * <p>
+ * The indexed words are themselves indexed by their trigrams, the substrings of 3 characters of the word padded
+ * with 2 spaces on each side. A word within {@code k} edits of another of length {@code n} must share all but
+ * {@code 3k} of its {@code n + 2} trigrams, so finding the words similar to a fuzzy keyword only checks the edit
+ * distance of the few words that share enough trigrams with it.
+ * <p>
+ * The cards with each tag are kept as a bitmap over slots, small numbers given to the cards as they are added and
+ * reused after they are removed, so that the bitmaps stay dense. Counting the cards with a tag, or combining tags,
+ * works on a few machine words per 64 cards instead of on sets of cards.
+ * <p>
+ * The index also keeps the term statistics to rank cards by their Okapi BM25 relevance to a search: the number of
+ * cards with each word in their question, answer or tags, and the total number of such words. They are updated as
+ * cards are added and removed, so ranking the cards found by a search only looks at those cards.
+ */
+class CardSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final String GRAM_PADDING = "  ";
+
+    // the usual BM25 parameters, for the saturation of the term frequency and the normalisation of the card length
+    private static final double TERM_FREQUENCY_SATURATION = 1.2;
+    private static final double LENGTH_NORMALISATION = 0.75;
+
+    private final Map<String, Set<Card>> cardsByQuestionWord = new HashMap<>();
+    private final Map<String, BitSet> slotsByTagName = new HashMap<>();
+    private final Map<String, String> displayedTagNames = new HashMap<>();
+    private final List<Card> cardsBySlot = new ArrayList<>();
+    private final Map<Card, Integer> slotsByCard = new HashMap<>();
+    private final BitSet freeSlots = new BitSet();
+    private final Map<String, Set<String>> wordsByTrigram = new HashMap<>();
+    private final Map<String, Integer> cardCountsByTerm = new HashMap<>();
+    private int cardCount;
+    private long termCount;
+
+    /**
+     * Adds {@code card} to the index.
+     */
+    void add(Card card) {
+        requireNonNull(card);
+        for (String word : getQuestionWords(card)) {
+            addToPostings(cardsByQuestionWord, word, card);
+        }
+        int slot = allocateSlot(card);
+        for (Tag tag : card.getTags()) {
+            String tagName = tag.tagName.toLowerCase();
+            indexWord(tagName);
+            slotsByTagName.computeIfAbsent(tagName, unused -> new BitSet()).set(slot);
+            displayedTagNames.putIfAbsent(tagName, tag.tagName);
+        }
+
+        Map<String, Integer> termCounts = getTermCounts(card);
+        termCounts.keySet().forEach(term -> cardCountsByTerm.merge(term, 1, Integer::sum));
+        cardCount++;
+        termCount += getLength(termCounts);
+    }
+
+    /**
+     * Removes {@code card} from the index.
+     */
+    void remove(Card card) {
+        requireNonNull(card);
+        for (String word : getQuestionWords(card)) {
+            removeFromPostings(cardsByQuestionWord, word, card);
+        }
+        Integer slot = slotsByCard.remove(card);
+        if (slot != null) {
+            for (Tag tag : card.getTags()) {
+                removeFromTag(tag.tagName.toLowerCase(), slot);
+            }
+            cardsBySlot.set(slot, null);
+            freeSlots.set(slot);
+        }
+
+        Map<String, Integer> termCounts = getTermCounts(card);
+        termCounts.keySet().forEach(term -> cardCountsByTerm.computeIfPresent(term, (unused, count) ->
+                count == 1 ? null : count - 1));
+        cardCount--;
+        termCount -= getLength(termCounts);
+    }
+
+    /**
+     * Returns the cards with a tag named {@code tagName}, ignoring case, or with a similar tag if {@code tagName}
+     * starts with {@link QuestionContainsKeywordsPredicate#FUZZY_KEYWORD_PREFIX}.
+     * Throws {@code IllegalArgumentException} if {@code tagName} is blank.
+     */
+    Set<Card> findCardsWithTag(String tagName) {
+        requireNonNull(tagName);
+        boolean isFuzzy = QuestionContainsKeywordsPredicate.isFuzzy(tagName);
+        String preppedTagName = (isFuzzy ? tagName.substring(FUZZY_KEYWORD_PREFIX.length()) : tagName)
+                .toLowerCase().trim();
+        checkArgument(!preppedTagName.isEmpty(), "Word parameter cannot be empty");
+
+        return getCards(isFuzzy
+                ? findSlotsWithSimilarTag(preppedTagName)
+                : slotsByTagName.getOrDefault(preppedTagName, new BitSet()));
+    }
+
+    /**
+     * Returns the number of cards with each tag, by the name of the tag as first added. Tags whose names only
+     * differ in case are counted together.
+     */
+    Map<String, Integer> countCardsByTag() {
+        Map<String, Integer> counts = new HashMap<>();
+        slotsByTagName.forEach((tagName, slots) -> counts.put(displayedTagNames.get(tagName), slots.cardinality()));
+        return counts;
+    }
+
+    /**
+     * Returns a function that gives the Okapi BM25 relevance of an indexed card to the search for
+     * {@code keywords}, treating its question, answer and tags as a single text. The words of a fuzzy keyword
+     * stand for all the indexed words that are similar to them. The statistics of the terms searched for are
+     * looked up once, so the function can score each card found by the search in time linear in its length.
+     */
+    ToDoubleFunction<Card> relevanceTo(List<String> keywords) {
+        requireNonNull(keywords);
+        Set<String> terms = new HashSet<>();
+        for (String keyword : keywords) {
+            boolean isFuzzy = QuestionContainsKeywordsPredicate.isFuzzy(keyword);
+            String preppedKeyword = (isFuzzy ? keyword.substring(FUZZY_KEYWORD_PREFIX.length()) : keyword)
+                    .toLowerCase().trim();
+            for (String word : preppedKeyword.split("\\s+")) {
+                if (isFuzzy) {
+                    terms.addAll(findSimilarWords(word));
+                } else if (!word.isEmpty()) {
+                    terms.add(word);
+                }
+            }
+        }
+
+        Map<String, Double> inverseCardFrequencies = new HashMap<>();
+        for (String term : terms) {
+            int cardsWithTerm = cardCountsByTerm.getOrDefault(term, 0);
+            inverseCardFrequencies.put(term, Math.log(1 + (cardCount - cardsWithTerm + 0.5) / (cardsWithTerm + 0.5)));
+        }
+        double averageLength = cardCount == 0 ? 0 : (double) termCount / cardCount;
+
+        return card -> {
+            Map<String, Integer> termCounts = getTermCounts(card);
+            double lengthRatio = averageLength == 0 ? 0 : getLength(termCounts) / averageLength;
+            double relevance = 0;
+            for (Map.Entry<String, Double> entry : inverseCardFrequencies.entrySet()) {
+                int frequency = termCounts.getOrDefault(entry.getKey(), 0);
+                relevance += entry.getValue() * frequency * (TERM_FREQUENCY_SATURATION + 1)
+                        / (frequency + TERM_FREQUENCY_SATURATION
+                                * (1 - LENGTH_NORMALISATION + LENGTH_NORMALISATION * lengthRatio));
+            }
+            return relevance;
+        };
+    }
+
+    /**
+     * Returns the cards that match {@code keyword} in the same way as
+     * {@link StringUtil#containsKeywordsInQuestionIgnoreCase(String, String)} on their question, or
+     * {@link TagUtil#containsWordInTags(Set, String)} on their tags, or fuzzily if {@code keyword} starts with
+     * {@link QuestionContainsKeywordsPredicate#FUZZY_KEYWORD_PREFIX}.
+     * Throws {@code IllegalArgumentException} if {@code keyword} is blank.
+     */
+    Set<Card> findCards(String keyword) {
+        requireNonNull(keyword);
+        if (QuestionContainsKeywordsPredicate.isFuzzy(keyword)) {
+            return findCardsFuzzily(keyword.substring(FUZZY_KEYWORD_PREFIX.length()));
+        }
+
+        String preppedKeyword = keyword.toLowerCase().trim();
+        checkArgument(!preppedKeyword.isEmpty(), "Word parameter cannot be empty");
+
+        String[] words = preppedKeyword.split("\\s+");
+        Set<Card> matches = new HashSet<>(findCardsWithAllWords(words));
+        if (words.length > 1) {
+            // the words must also appear next to each other, as in the keyword
+            matches.removeIf(card -> !card.getQuestion().toLowerCase().contains(preppedKeyword));
+        } else {
+            matches.addAll(getCards(slotsByTagName.getOrDefault(preppedKeyword, new BitSet())));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the cards that match {@code keyword} in the same way as
+     * {@link StringUtil#containsFuzzyKeywordsInQuestionIgnoreCase(String, String)} on their question, or
+     * {@link TagUtil#containsSimilarWordInTags(Set, String)} on their tags.
+     */
+    private Set<Card> findCardsFuzzily(String keyword) {
+        String preppedKeyword = keyword.toLowerCase().trim();
+        checkArgument(!preppedKeyword.isEmpty(), "Word parameter cannot be empty");
+
+        String[] words = preppedKeyword.split("\\s+");
+        Set<Card> matches = findCardsWithSimilarWord(words[0]);
+        for (int i = 1; i < words.length; i++) {
+            matches.retainAll(findCardsWithSimilarWord(words[i]));
+        }
+        if (words.length == 1) {
+            matches.addAll(getCards(findSlotsWithSimilarTag(preppedKeyword)));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the cards whose questions have a word that is similar to {@code word}.
+     */
+    private Set<Card> findCardsWithSimilarWord(String word) {
+        Set<Card> cards = new HashSet<>();
+        for (String similarWord : findSimilarWords(word)) {
+            cards.addAll(cardsByQuestionWord.getOrDefault(similarWord, Collections.emptySet()));
+        }
+        return cards;
+    }
+
+    /**
+     * Returns the slots of the cards with a tag named similarly to {@code tagName}, as the union of their bitmaps.
+     */
+    private BitSet findSlotsWithSimilarTag(String tagName) {
+        BitSet slots = new BitSet();
+        for (String similarWord : findSimilarWords(tagName)) {
+            slots.or(slotsByTagName.getOrDefault(similarWord, new BitSet()));
+        }
+        return slots;
+    }
+
+    /**
+     * Returns the indexed words that are similar to {@code word}, as in
+     * {@link StringUtil#isSimilarWord(String, String)}.
+     */
+    private Set<String> findSimilarWords(String word) {
+        Set<String> trigrams = getTrigrams(word);
+        int minSharedTrigrams = trigrams.size() - GRAM_LENGTH * StringUtil.getMaxTypos(word);
+
+        Collection<String> candidates;
+        if (minSharedTrigrams <= 0) {
+            // too short for the trigrams to rule out any word
+            candidates = wordsByTrigram.values().stream().flatMap(Set::stream).collect(Collectors.toSet());
+        } else {
+            Map<String, Integer> sharedTrigrams = new HashMap<>();
+            for (String trigram : trigrams) {
+                for (String candidate : wordsByTrigram.getOrDefault(trigram, Collections.emptySet())) {
+                    sharedTrigrams.merge(candidate, 1, Integer::sum);
+                }
+            }
+            sharedTrigrams.values().removeIf(count -> count < minSharedTrigrams);
+            candidates = sharedTrigrams.keySet();
+        }
+
+        Set<String> similarWords = new HashSet<>();
+        for (String candidate : candidates) {
+            if (StringUtil.isSimilarWord(word, candidate)) {
+                similarWords.add(candidate);
+            }
+        }
+        return similarWords;
+    }
+
+    /**
+     * Returns the cards whose questions have all of {@code words}, intersecting their postings from the shortest.
+     */
+    private Set<Card> findCardsWithAllWords(String[] words) {
+        Set<Card> shortest = null;
+        for (String word : words) {
+            Set<Card> cards = cardsByQuestionWord.getOrDefault(word, Collections.emptySet());
+            if (shortest == null || cards.size() < shortest.size()) {
+                shortest = cards;
+            }
+        }
+
+        Set<Card> matches = new HashSet<>(shortest);
+        for (String word : words) {
+            Set<Card> cards = cardsByQuestionWord.getOrDefault(word, Collections.emptySet());
+            if (cards != shortest) {
+                matches.retainAll(cards);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the lower-cased words of the question of {@code card}, split as in
+     * {@link StringUtil#containsKeywordsInQuestionIgnoreCase(String, String)}.
+     */
+    private static Set<String> getQuestionWords(Card card) {
+        Set<String> words = new HashSet<>();
+        Collections.addAll(words, card.getQuestion().toLowerCase().split("\\s+"));
+        return words;
+    }
+
+    /**
+     * Returns the number of times each lower-cased word of the question, answer and tags of {@code card} appears.
+     */
+    private static Map<String, Integer> getTermCounts(Card card) {
+        Map<String, Integer> termCounts = new HashMap<>();
+        String text = card.getQuestion() + " " + card.getAnswer();
+        for (String word : text.toLowerCase().trim().split("\\s+")) {
+            if (!word.isEmpty()) {
+                termCounts.merge(word, 1, Integer::sum);
+            }
+        }
+        for (Tag tag : card.getTags()) {
+            termCounts.merge(tag.tagName.toLowerCase(), 1, Integer::sum);
+        }
+        return termCounts;
+    }
+
+    /**
+     * Returns the total number of terms counted in {@code termCounts}.
+     */
+    private static int getLength(Map<String, Integer> termCounts) {
+        return termCounts.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Adds {@code card} to the postings of {@code key} in {@code index}, indexing the trigrams of {@code key} if it
+     * is a new word.
+     */
+    private void addToPostings(Map<String, Set<Card>> index, String key, Card card) {
+        indexWord(key);
+        index.computeIfAbsent(key, unused -> new HashSet<>()).add(card);
+    }
+
+    /**
+     * Indexes the trigrams of {@code word} if it is a new word.
+     */
+    private void indexWord(String word) {
+        if (!isIndexedWord(word)) {
+            getTrigrams(word).forEach(trigram -> wordsByTrigram.computeIfAbsent(trigram, unused -> new HashSet<>())
+                    .add(word));
+        }
+    }
+
+    /**
+     * Removes {@code card} from the postings of {@code key} in {@code index}, dropping postings that become empty
+     * and the trigrams of words that are no longer indexed.
+     */
+    private void removeFromPostings(Map<String, Set<Card>> index, String key, Card card) {
+        Set<Card> cards = index.get(key);
+        if (cards == null) {
+            return;
+        }
+        cards.remove(card);
+        if (!cards.isEmpty()) {
+            return;
+        }
+
+        index.remove(key);
+        unindexWordIfUnused(key);
+    }
+
+    /**
+     * Removes {@code slot} from the bitmap of {@code tagName}, dropping the bitmap if it becomes empty.
+     */
+    private void removeFromTag(String tagName, int slot) {
+        BitSet slots = slotsByTagName.get(tagName);
+        if (slots == null) {
+            return;
+        }
+        slots.clear(slot);
+        if (slots.isEmpty()) {
+            slotsByTagName.remove(tagName);
+            displayedTagNames.remove(tagName);
+            unindexWordIfUnused(tagName);
+        }
+    }
+
+    /**
+     * Removes the trigrams of {@code word} if it is no longer a word of any indexed card.
+     */
+    private void unindexWordIfUnused(String word) {
+        if (isIndexedWord(word)) {
+            return;
+        }
+        for (String trigram : getTrigrams(word)) {
+            Set<String> words = wordsByTrigram.get(trigram);
+            words.remove(word);
+            if (words.isEmpty()) {
+                wordsByTrigram.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Gives {@code card} the lowest free slot and returns it.
+     */
+    private int allocateSlot(Card card) {
+        int slot = freeSlots.nextSetBit(0);
+        if (slot < 0) {
+            slot = cardsBySlot.size();
+            cardsBySlot.add(card);
+        } else {
+            freeSlots.clear(slot);
+            cardsBySlot.set(slot, card);
+        }
+        slotsByCard.put(card, slot);
+        return slot;
+    }
+
+    /**
+     * Returns the cards in the set {@code slots}.
+     */
+    private Set<Card> getCards(BitSet slots) {
+        Set<Card> cards = new HashSet<>();
+        for (int slot = slots.nextSetBit(0); slot >= 0; slot = slots.nextSetBit(slot + 1)) {
+            cards.add(cardsBySlot.get(slot));
+        }
+        return cards;
+    }
+
+    /**
+     * Returns true if {@code word} is a word of the question or a tag name of any indexed card.
+     */
+    private boolean isIndexedWord(String word) {
+        return cardsByQuestionWord.containsKey(word) || slotsByTagName.containsKey(word);
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word} padded with spaces, which cannot be part of a word.
+     */
+    private static Set<String> getTrigrams(String word) {
+        String paddedWord = GRAM_PADDING + word + GRAM_PADDING;
+        Set<String> trigrams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= paddedWord.length(); i++) {
+            trigrams.add(paddedWord.substring(i, i + GRAM_LENGTH));
+        }
+        return trigrams;
+    }
+}
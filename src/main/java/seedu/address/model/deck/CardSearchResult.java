@@ -0,0 +1,62 @@
+package seedu.address.model.deck;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+/**
+ * A card found by a search across all decks, together with the deck it belongs to and the number of search
+ * keywords it matched.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class CardSearchResult {
+
+    private final Card card;
+    private final Deck deck;
+    private final int matchedKeywords;
+
+    public CardSearchResult(Card card, Deck deck, int matchedKeywords) {
+        requireAllNonNull(card, deck);
+        this.card = card;
+        this.deck = deck;
+        this.matchedKeywords = matchedKeywords;
+    }
+
+    public Card getCard() {
+        return card;
+    }
+
+    public Deck getDeck() {
+        return deck;
+    }
+
+    public int getMatchedKeywords() {
+        return matchedKeywords;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof CardSearchResult)) {
+            return false;
+        }
+
+        CardSearchResult otherResult = (CardSearchResult) other;
+        return card.equals(otherResult.card)
+                && deck.equals(otherResult.deck)
+                && matchedKeywords == otherResult.matchedKeywords;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(card, deck, matchedKeywords);
+    }
+
+    @Override
+    public String toString() {
+        return deck.getName() + ": " + card.getQuestion();
+    }
+}
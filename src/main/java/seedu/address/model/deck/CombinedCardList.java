@@ -0,0 +1,68 @@
+package seedu.address.model.deck;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * An unmodifiable view of the cards of several decks, one deck after another.
+ * <p>
+ * The view reads straight from the card lists of the decks, so making it copies no cards, and it always shows the
+ * cards the decks have now. Finding a card by its position walks through the decks, which takes time proportional
+ * to the number of decks, not the number of cards.
+ */
+public class CombinedCardList extends AbstractList<Card> {
+
+    private final List<Deck> decks;
+
+    public CombinedCardList(List<Deck> decks) {
+        requireNonNull(decks);
+        this.decks = Collections.unmodifiableList(new ArrayList<>(decks));
+    }
+
+    public List<Deck> getDecks() {
+        return decks;
+    }
+
+    @Override
+    public Card get(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
+        int remaining = index;
+        for (Deck deck : decks) {
+            List<Card> cards = deck.getCards().internalList;
+            if (remaining < cards.size()) {
+                return cards.get(remaining);
+            }
+            remaining -= cards.size();
+        }
+        throw new IndexOutOfBoundsException("Index: " + index);
+    }
+
+    @Override
+    public int size() {
+        int size = 0;
+        for (Deck deck : decks) {
+            size += deck.getCards().internalList.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns the deck that {@code card} itself belongs to, or null if it is in none of the decks.
+     * Cards are matched by identity, as decks studied together may have cards with the same question.
+     */
+    public Deck getDeckOf(Card card) {
+        requireNonNull(card);
+        for (Deck deck : decks) {
+            if (deck.getCards().containsInstance(card)) {
+                return deck;
+            }
+        }
+        return null;
+    }
+}
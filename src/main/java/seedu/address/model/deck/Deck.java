@@ -2,17 +2,23 @@ package seedu.address.model.deck;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Supplier;
 
 import seedu.address.logic.ListItem;
 import seedu.address.model.deck.exceptions.CardNotFoundException;
+import seedu.address.model.deck.exceptions.DeckLoadException;
 
 /**
  * Represents a Deck inside TopDeck.
+ * A deck can be created with a loader for its cards, in which case the cards are only loaded when first needed.
  */
 public class Deck implements ListItem {
 
     private final Name name;
-    private final UniqueCardList cards;
+    /** The cards of this deck, or null if they have not been loaded yet. Guarded by {@code this}. */
+    private UniqueCardList cards;
+    /** Loads the cards of this deck, or null once they are loaded. Guarded by {@code this}. */
+    private Supplier<List<Card>> cardLoader;
 
     public Deck(Name name) {
         this.name = name;
@@ -21,37 +27,102 @@ public class Deck implements ListItem {
 
     public Deck(Name name, List<Card> cards) {
         this(name);
-        for (Card card : cards) {
-            this.cards.add(card);
-        }
+        this.cards.setCards(cards);
     }
 
+    /**
+     * Creates a deck whose cards are loaded by {@code cardLoader} the first time they are needed.
+     * Loading the cards throws {@code DeckLoadException} if {@code cardLoader} fails, or if the cards contain
+     * duplicates.
+     */
+    public Deck(Name name, Supplier<List<Card>> cardLoader) {
+        this.name = name;
+        this.cardLoader = Objects.requireNonNull(cardLoader);
+    }
+
+    /**
+     * Creates a copy of {@code other}, which is left unchanged.
+     */
     public Deck(Deck other) {
-        this.name = new Name(other.name.toString());
+        this.name = other.name;
         this.cards = new UniqueCardList();
         this.cards.setCards(other.getCards());
     }
 
+    /**
+     * Returns a copy of {@code source} that takes over the search index of its cards, so that the index is not
+     * rebuilt when {@code source} is replaced by its copy and the copy is edited.
+     * {@code source} keeps its cards, and rebuilds its search index if it is searched again.
+     * Only meant for replacing {@code source} with an edited copy; use {@link #Deck(Deck)} to copy a deck.
+     */
+    public static Deck moveFrom(Deck source) {
+        Deck copy = new Deck(source.name);
+        copy.cards.moveFrom(source.getCards());
+        return copy;
+    }
+
     public Name getName() {
         return name;
     }
 
-    public UniqueCardList getCards() {
+    /**
+     * Returns the cards of this deck, loading them first if they have not been loaded yet.
+     *
+     * @throws DeckLoadException if the cards cannot be loaded. The deck is left unloaded.
+     */
+    public synchronized UniqueCardList getCards() {
+        if (cards == null) {
+            UniqueCardList loadedCards = new UniqueCardList();
+            try {
+                loadedCards.setCards(cardLoader.get());
+            } catch (RuntimeException e) {
+                throw new DeckLoadException(name, e);
+            }
+            cards = loadedCards;
+            cardLoader = null;
+        }
         return cards;
     }
 
+    /**
+     * Returns true if the cards of this deck have been loaded.
+     */
+    public synchronized boolean isLoaded() {
+        return cards != null;
+    }
+
     /**
      * Checks if a card is already in a deck.
      */
     public boolean hasCard(Card toCheck) {
-        return cards.contains(toCheck);
+        return getCards().contains(toCheck);
+    }
+
+    /**
+     * Returns the number of times the cards of this deck have been rated, as in
+     * {@link UniqueCardList#getRatingCount()}, or 0 if the cards have not been loaded yet.
+     * Storages compare it with the count at the last save to tell whether the deck has been rated since.
+     */
+    public synchronized int getRatingCount() {
+        return cards == null ? 0 : cards.getRatingCount();
+    }
+
+    /**
+     * Makes this deck the one whose cards count their ratings, in place of the other versions of it that hold the
+     * same cards, such as the versions kept for undo or a renamed copy. TopDeck makes current every deck it takes
+     * in. Does nothing if the cards have not been loaded yet.
+     */
+    public synchronized void makeCurrent() {
+        if (cards != null) {
+            cards.makeCurrent();
+        }
     }
 
     /**
      * Checks if a deck is empty.
      */
     public boolean isEmpty() {
-        return cards.internalList.isEmpty();
+        return getCards().internalList.isEmpty();
     }
 
 
@@ -59,7 +130,7 @@ public class Deck implements ListItem {
      * Adds a card to the current deck.
      */
     public void addCard(Card newCard) {
-        this.cards.add(newCard);
+        getCards().add(newCard);
     }
 
     /**
@@ -68,7 +139,7 @@ public class Deck implements ListItem {
     public void setCard(Card target, Card editedCard) {
         assert hasCard(target);
 
-        cards.setCard(target, editedCard);
+        getCards().setCard(target, editedCard);
     }
 
     /**
@@ -77,7 +148,7 @@ public class Deck implements ListItem {
     public void removeCard(Card target) throws CardNotFoundException {
         assert hasCard(target);
 
-        this.cards.remove(target);
+        getCards().remove(target);
     }
 
     /**
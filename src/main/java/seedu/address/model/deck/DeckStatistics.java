@@ -0,0 +1,141 @@
+package seedu.address.model.deck;
+
+import java.util.Arrays;
+
+/**
+ * Running statistics of the cards in a list of cards: how many there are, how often they were rated, and how
+ * their average difficulties are spread.
+ * <p>
+ * The statistics are kept up to date by {@link UniqueCardList} as cards are added, removed and rated, so reading
+ * them never goes through the cards. The average difficulties of the cards are added up in hundredths as whole
+ * numbers, so that updating them many times does not accumulate rounding errors.
+ */
+public class DeckStatistics {
+
+    /** The highest rating a card can be given. */
+    public static final int MAX_RATING = 5;
+
+    private int cardCount;
+    private int attemptedCardCount;
+    private long totalAttempts;
+    /** The sum of the average difficulties of the attempted cards, in hundredths. */
+    private long totalDifficulty;
+    /** The number of attempted cards whose average difficulty rounds to each rating, indexed from 1. */
+    private final int[] difficultyCounts = new int[MAX_RATING + 1];
+
+    /**
+     * Returns the statistics of the cards of all of {@code decks} together.
+     */
+    public static DeckStatistics sumOf(Iterable<Deck> decks) {
+        DeckStatistics sum = new DeckStatistics();
+        for (Deck deck : decks) {
+            DeckStatistics statistics = deck.getCards().getStatistics();
+            sum.cardCount += statistics.cardCount;
+            sum.attemptedCardCount += statistics.attemptedCardCount;
+            sum.totalAttempts += statistics.totalAttempts;
+            sum.totalDifficulty += statistics.totalDifficulty;
+            for (int i = 1; i <= MAX_RATING; i++) {
+                sum.difficultyCounts[i] += statistics.difficultyCounts[i];
+            }
+        }
+        return sum;
+    }
+
+    public int getCardCount() {
+        return cardCount;
+    }
+
+    public int getAttemptedCardCount() {
+        return attemptedCardCount;
+    }
+
+    public int getNeverAttemptedCardCount() {
+        return cardCount - attemptedCardCount;
+    }
+
+    public long getTotalAttempts() {
+        return totalAttempts;
+    }
+
+    /**
+     * Returns the mean of the average difficulties of the cards that were attempted, or 0 if none were.
+     */
+    public double getMeanDifficulty() {
+        return attemptedCardCount == 0 ? 0 : totalDifficulty / 100.0 / attemptedCardCount;
+    }
+
+    /**
+     * Returns the number of attempted cards whose average difficulty rounds to {@code rating}.
+     * Throws {@code IllegalArgumentException} if {@code rating} is not from 1 to {@link #MAX_RATING}.
+     */
+    public int getCardCountWithDifficulty(int rating) {
+        if (rating < 1 || rating > MAX_RATING) {
+            throw new IllegalArgumentException("Rating must be from 1 to " + MAX_RATING);
+        }
+        return difficultyCounts[rating];
+    }
+
+    /**
+     * Counts {@code card} in the statistics.
+     */
+    void add(Card card) {
+        cardCount++;
+        update(card.getDifficultyObj(), 1);
+    }
+
+    /**
+     * Stops counting {@code card} in the statistics.
+     */
+    void remove(Card card) {
+        cardCount--;
+        update(card.getDifficultyObj(), -1);
+    }
+
+    /**
+     * Updates the statistics for a counted card whose difficulty changed from {@code oldDifficulty} to
+     * {@code newDifficulty}.
+     */
+    void cardRated(Difficulty oldDifficulty, Difficulty newDifficulty) {
+        update(oldDifficulty, -1);
+        update(newDifficulty, 1);
+    }
+
+    /**
+     * Replaces these statistics with a copy of {@code other}.
+     */
+    void setTo(DeckStatistics other) {
+        cardCount = other.cardCount;
+        attemptedCardCount = other.attemptedCardCount;
+        totalAttempts = other.totalAttempts;
+        totalDifficulty = other.totalDifficulty;
+        System.arraycopy(other.difficultyCounts, 0, difficultyCounts, 0, difficultyCounts.length);
+    }
+
+    /**
+     * Resets the statistics to those of no cards.
+     */
+    void clear() {
+        cardCount = 0;
+        attemptedCardCount = 0;
+        totalAttempts = 0;
+        totalDifficulty = 0;
+        Arrays.fill(difficultyCounts, 0);
+    }
+
+    /**
+     * Adds the ratings of a card with {@code cardDifficulty} to the statistics {@code sign} times.
+     */
+    private void update(Difficulty cardDifficulty, int sign) {
+        int numberOfAttempts = cardDifficulty.getNumberOfAttempts();
+        int totalRating = cardDifficulty.getTotalRating();
+        if (numberOfAttempts == 0) {
+            return;
+        }
+        long difficulty = Math.round(totalRating * 100.0 / numberOfAttempts);
+        int rounded = (int) Math.max(1, Math.min(MAX_RATING, (difficulty + 50) / 100));
+        attemptedCardCount += sign;
+        totalAttempts += sign * numberOfAttempts;
+        totalDifficulty += sign * difficulty;
+        difficultyCounts[rounded] += sign;
+    }
+}
@@ -1,42 +1,107 @@
 package seedu.address.model.deck;
 
 /**
- * Represents a card's difficulty.
+ * Represents a card's difficulty, and when the card is next due for review.
+ * <p>
+ * Reviews are scheduled with the SM-2 algorithm: a card that is recalled well is shown again after an interval
+ * that grows by the card's ease factor with each successful review, and a card that is not recalled starts over.
+ * <p>
+ * A {@code Difficulty} is immutable: rating a card replaces its difficulty, so that the difficulty of a card can be
+ * read while the card is being rated, such as when TopDeck is saved in the background.
  */
 public class Difficulty {
 
+    public static final double DEFAULT_EASE_FACTOR = 2.5;
+    public static final double MIN_EASE_FACTOR = 1.3;
+    public static final String MESSAGE_SCHEDULE_CONSTRAINTS = "Card's review schedule is invalid: repetitions "
+            + "and interval cannot be negative, and the ease factor cannot be below " + MIN_EASE_FACTOR;
+
+    /** The lowest SM-2 quality of response that still counts as recalling the card. */
+    private static final int MIN_PASSING_QUALITY = 3;
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+    /** How long a card that was not recalled waits before it is shown again. */
+    private static final long RELEARN_DELAY_MILLIS = 10L * 60 * 1000;
+
+    private final int numberOfAttempts;
+    private final int totalRating;
+    private final int repetitions;
+    private final int interval;
+    private final double easeFactor;
+    private final long dueTime;
+
     /**
-     * Constructs a {@code Difficulty}.
+     * Constructs a {@code Difficulty} for a card that was never rated, and is due straight away.
      */
-    private int numberOfAttempts;
-    private int totalRating;
-
     public Difficulty() {
-        numberOfAttempts = 0;
-        totalRating = 0;
+        this(0, 0);
     }
 
     public Difficulty(int numberOfAttempts, int totalRating) {
-        this.totalRating = totalRating;
+        this(numberOfAttempts, totalRating, 0, 0, DEFAULT_EASE_FACTOR, 0);
+    }
+
+    /**
+     * Constructs a {@code Difficulty} with a review schedule: the number of successful reviews in a row, the
+     * interval in days before the next review, the ease factor and the time the card is due, in milliseconds
+     * since the epoch.
+     */
+    public Difficulty(int numberOfAttempts, int totalRating, int repetitions, int interval, double easeFactor,
+            long dueTime) {
         this.numberOfAttempts = numberOfAttempts;
+        this.totalRating = totalRating;
+        this.repetitions = repetitions;
+        this.interval = interval;
+        this.easeFactor = easeFactor;
+        this.dueTime = dueTime;
     }
 
     /**
-     * Includes the current rating into
-     * the Difficulty class which computes
-     * average difficulty of card.
+     * Returns true if the given review schedule values are valid.
      */
-    public void addDifficulty(int rating) {
-        totalRating += rating;
-        numberOfAttempts += 1;
+    public static boolean isValidSchedule(int repetitions, int interval, double easeFactor) {
+        return repetitions >= 0 && interval >= 0 && easeFactor >= MIN_EASE_FACTOR;
     }
 
     /**
-     * Resets the  difficulty
+     * Returns the difficulty of the card after it is rated {@code rating}, with the next review scheduled from now.
      */
-    public void resetDifficulty() {
-        totalRating = 0;
-        numberOfAttempts = 0;
+    public Difficulty withRating(int rating) {
+        return withRating(rating, System.currentTimeMillis());
+    }
+
+    /**
+     * Returns the difficulty of the card after {@code rating}, from 1 for easy to 5 for hard, is included into its
+     * average difficulty, with the next review of the card scheduled from {@code reviewTime}.
+     */
+    public Difficulty withRating(int rating, long reviewTime) {
+        int newRepetitions;
+        int newInterval;
+        long newDueTime;
+
+        // SM-2 rates the quality of a response from 0 to 5, with 5 being a perfect response.
+        int quality = 6 - rating;
+        if (quality < MIN_PASSING_QUALITY) {
+            newRepetitions = 0;
+            newInterval = 0;
+            newDueTime = reviewTime + RELEARN_DELAY_MILLIS;
+        } else {
+            if (repetitions == 0) {
+                newInterval = 1;
+            } else if (repetitions == 1) {
+                newInterval = 6;
+            } else {
+                newInterval = (int) Math.min(Math.round(interval * easeFactor), Integer.MAX_VALUE);
+            }
+            newRepetitions = repetitions + 1;
+            newDueTime = reviewTime + newInterval * DAY_MILLIS;
+        }
+
+        int shortfall = 5 - quality;
+        double newEaseFactor = easeFactor + 0.1 - shortfall * (0.08 + shortfall * 0.02);
+        newEaseFactor = Math.max(MIN_EASE_FACTOR, Math.round(newEaseFactor * 100) / 100.0);
+
+        return new Difficulty(numberOfAttempts + 1, totalRating + rating, newRepetitions, newInterval,
+                newEaseFactor, newDueTime);
     }
 
     public double getDifficulty() {
@@ -50,4 +115,20 @@ public class Difficulty {
     public int getNumberOfAttempts() {
         return this.numberOfAttempts;
     }
+
+    public int getRepetitions() {
+        return repetitions;
+    }
+
+    public int getInterval() {
+        return interval;
+    }
+
+    public double getEaseFactor() {
+        return easeFactor;
+    }
+
+    public long getDueTime() {
+        return dueTime;
+    }
 }
@@ -0,0 +1,99 @@
+package seedu.address.model.deck;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.deck.QuestionContainsKeywordsPredicate.FUZZY_KEYWORD_PREFIX;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.TagUtil;
+
+/**
+ * Tests that a single field of a {@code Card} matches a keyword: its question or answer contains the keyword as in
+ * {@link StringUtil#containsKeywordsInQuestionIgnoreCase(String, String)}, or it has a tag named after the keyword.
+ * A keyword that starts with {@link QuestionContainsKeywordsPredicate#FUZZY_KEYWORD_PREFIX} also matches words with
+ * a few typos.
+ */
+public class FieldCardQuery implements CardQuery {
+
+    /**
+     * The fields of a card that can be searched.
+     */
+    public enum Field {
+        QUESTION, ANSWER, TAG
+    }
+
+    private final Field field;
+    private final String keyword;
+
+    public FieldCardQuery(Field field, String keyword) {
+        requireNonNull(field);
+        requireNonNull(keyword);
+        this.field = field;
+        this.keyword = keyword;
+    }
+
+    @Override
+    public boolean test(Card card) {
+        boolean isFuzzy = QuestionContainsKeywordsPredicate.isFuzzy(keyword);
+        String word = isFuzzy ? keyword.substring(FUZZY_KEYWORD_PREFIX.length()) : keyword;
+        switch (field) {
+            case QUESTION:
+                return containsKeyword(card.getQuestion(), word, isFuzzy);
+            case ANSWER:
+                return containsKeyword(card.getAnswer(), word, isFuzzy);
+            case TAG:
+                return isFuzzy
+                        ? TagUtil.containsSimilarWordInTags(card.getTags(), word)
+                        : TagUtil.containsWordInTags(card.getTags(), word);
+            default:
+                throw new AssertionError("Unknown field " + field);
+        }
+    }
+
+    /**
+     * Returns true if {@code text} contains {@code word}, or a similar word if {@code isFuzzy}.
+     */
+    private static boolean containsKeyword(String text, String word, boolean isFuzzy) {
+        return isFuzzy
+                ? StringUtil.containsFuzzyKeywordsInQuestionIgnoreCase(text, word)
+                : StringUtil.containsKeywordsInQuestionIgnoreCase(text, word);
+    }
+
+    /**
+     * Returns the cards that have the keyword in their question or tags, as only these are indexed.
+     */
+    @Override
+    public Optional<Set<Card>> findCandidatesIn(UniqueCardList cards) {
+        switch (field) {
+            case QUESTION:
+                return Optional.of(cards.findCards(keyword));
+            case TAG:
+                return Optional.of(cards.findCardsWithTag(keyword));
+            default:
+                return Optional.empty();
+        }
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return Collections.singletonList(keyword);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof FieldCardQuery // instanceof handles nulls
+                && field == ((FieldCardQuery) other).field
+                && keyword.equals(((FieldCardQuery) other).keyword)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(field, keyword);
+    }
+}
@@ -0,0 +1,52 @@
+package seedu.address.model.deck;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Tests that a {@code Card} does not match the given query.
+ * The cards that do not match cannot be looked up in the search index, so every card is tested.
+ */
+public class NotCardQuery implements CardQuery {
+
+    private final CardQuery query;
+
+    public NotCardQuery(CardQuery query) {
+        requireNonNull(query);
+        this.query = query;
+    }
+
+    @Override
+    public boolean test(Card card) {
+        return !query.test(card);
+    }
+
+    @Override
+    public Optional<Set<Card>> findCandidatesIn(UniqueCardList cards) {
+        return Optional.empty();
+    }
+
+    /**
+     * Returns no keywords, as the matching cards do not contain those of the negated query.
+     */
+    @Override
+    public List<String> getKeywords() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof NotCardQuery // instanceof handles nulls
+                && query.equals(((NotCardQuery) other).query)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return query.hashCode();
+    }
+}
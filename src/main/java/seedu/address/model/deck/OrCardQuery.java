@@ -0,0 +1,62 @@
+package seedu.address.model.deck;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Tests that a {@code Card} matches any of the given queries.
+ */
+public class OrCardQuery implements CardQuery {
+
+    private final List<CardQuery> queries;
+
+    public OrCardQuery(List<CardQuery> queries) {
+        requireNonNull(queries);
+        this.queries = queries;
+    }
+
+    @Override
+    public boolean test(Card card) {
+        return queries.stream().anyMatch(query -> query.test(card));
+    }
+
+    /**
+     * Returns the cards found by any of the queries, if all of them can look up their cards.
+     */
+    @Override
+    public Optional<Set<Card>> findCandidatesIn(UniqueCardList cards) {
+        Set<Card> candidates = new HashSet<>();
+        for (CardQuery query : queries) {
+            Optional<Set<Card>> queryCandidates = query.findCandidatesIn(cards);
+            if (!queryCandidates.isPresent()) {
+                return Optional.empty();
+            }
+            candidates.addAll(queryCandidates.get());
+        }
+        return Optional.of(candidates);
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        List<String> keywords = new ArrayList<>();
+        queries.forEach(query -> keywords.addAll(query.getKeywords()));
+        return keywords;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof OrCardQuery // instanceof handles nulls
+                && queries.equals(((OrCardQuery) other).queries)); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return queries.hashCode();
+    }
+}
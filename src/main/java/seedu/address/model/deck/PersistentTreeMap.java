@@ -0,0 +1,460 @@
+package seedu.address.model.deck;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable sorted map, kept as a weight-balanced binary search tree whose nodes also know the size of their
+ * subtree.
+ * <p>
+ * Changing the map returns a new map that shares all of its nodes with the old one but those on the path to the
+ * changed key, so a change takes time and memory proportional to the logarithm of the size, and the old map can
+ * still be used. The sizes let an entry be found by its position in key order, and the position of a key be found,
+ * in logarithmic time as well.
+ * <p>
+ * The tree is balanced as in Adams' weight-balanced trees, with the parameters (3, 2) that Hirai and Yamamoto
+ * proved correct: neither subtree of a node holds more than about 3 times as many entries as the other.
+ */
+final class PersistentTreeMap<K extends Comparable<? super K>, V> {
+
+    private static final int DELTA = 3;
+    private static final int RATIO = 2;
+
+    private static final PersistentTreeMap<?, ?> EMPTY = new PersistentTreeMap<>(null);
+
+    private final Node<K, V> root;
+
+    private PersistentTreeMap(Node<K, V> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty map.
+     */
+    @SuppressWarnings("unchecked")
+    static <K extends Comparable<? super K>, V> PersistentTreeMap<K, V> empty() {
+        return (PersistentTreeMap<K, V>) EMPTY;
+    }
+
+    /**
+     * Returns the map of each of {@code keys} to the value at the same position in {@code values}.
+     * {@code keys} must be in strictly increasing order. Takes time proportional to the number of keys.
+     */
+    static <K extends Comparable<? super K>, V> PersistentTreeMap<K, V> ofSorted(List<K> keys, List<V> values) {
+        assert keys.size() == values.size();
+        return keys.isEmpty() ? empty() : new PersistentTreeMap<>(buildTree(keys, values, 0, keys.size()));
+    }
+
+    int size() {
+        return sizeOf(root);
+    }
+
+    boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the value of {@code key}, or null if the map does not contain it.
+     */
+    V get(K key) {
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = key.compareTo(node.key);
+            if (comparison == 0) {
+                return node.value;
+            }
+            node = comparison < 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    boolean containsKey(K key) {
+        return get(key) != null;
+    }
+
+    /**
+     * Returns this map with {@code key} mapped to {@code value}, which must not be null.
+     */
+    PersistentTreeMap<K, V> put(K key, V value) {
+        assert value != null;
+        return new PersistentTreeMap<>(putInto(root, key, value));
+    }
+
+    /**
+     * Returns this map without {@code key}, or this map itself if it does not contain {@code key}.
+     */
+    PersistentTreeMap<K, V> remove(K key) {
+        Node<K, V> newRoot = removeFrom(root, key);
+        return newRoot == root ? this : new PersistentTreeMap<>(newRoot);
+    }
+
+    /**
+     * Returns the position of {@code key} in key order, or -1 if the map does not contain it.
+     */
+    int indexOf(K key) {
+        int index = 0;
+        Node<K, V> node = root;
+        while (node != null) {
+            int comparison = key.compareTo(node.key);
+            if (comparison == 0) {
+                return index + sizeOf(node.left);
+            }
+            if (comparison < 0) {
+                node = node.left;
+            } else {
+                index += sizeOf(node.left) + 1;
+                node = node.right;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the key at position {@code index} in key order.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not from 0 to the size of the map, exclusive.
+     */
+    K keyAt(int index) {
+        return nodeAt(index).key;
+    }
+
+    /**
+     * Returns the value of the key at position {@code index} in key order.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not from 0 to the size of the map, exclusive.
+     */
+    V valueAt(int index) {
+        return nodeAt(index).value;
+    }
+
+    /**
+     * Returns the greatest key, or null if the map is empty.
+     */
+    K lastKey() {
+        if (root == null) {
+            return null;
+        }
+        Node<K, V> node = root;
+        while (node.right != null) {
+            node = node.right;
+        }
+        return node.key;
+    }
+
+    /**
+     * Returns an iterator over the values, in key order.
+     */
+    Iterator<V> valueIterator() {
+        return new Iterator<V>() {
+            private final Deque<Node<K, V>> path = new ArrayDeque<>();
+
+            {
+                pushLeftmostPath(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public V next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<K, V> node = path.pop();
+                pushLeftmostPath(node.right);
+                return node.value;
+            }
+
+            private void pushLeftmostPath(Node<K, V> node) {
+                for (Node<K, V> current = node; current != null; current = current.left) {
+                    path.push(current);
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the keys, in order, that {@code older} and this map do not map to the same value: keys in only one of
+     * the maps, and keys whose values are not the same object. Returns null instead if there are more than
+     * {@code maxKeys} of them.
+     * <p>
+     * Subtrees that both maps share are skipped without being visited, so comparing a map with the version it was
+     * made from by a few changes takes time proportional to the number of changes times the logarithm of the size.
+     */
+    List<K> keysChangedSince(PersistentTreeMap<K, V> older, int maxKeys) {
+        Cursor<K, V> newCursor = new Cursor<>(root);
+        Cursor<K, V> oldCursor = new Cursor<>(older.root);
+        List<K> changedKeys = new ArrayList<>();
+        while (!newCursor.isDone() || !oldCursor.isDone()) {
+            if (newCursor.isDone() || oldCursor.isDone()) {
+                Cursor<K, V> remaining = newCursor.isDone() ? oldCursor : newCursor;
+                changedKeys.add(remaining.nextEntry().key);
+            } else if (newCursor.isAtSubtree() && oldCursor.isAtSubtree()) {
+                if (newCursor.peek() == oldCursor.peek()) {
+                    newCursor.skip();
+                    oldCursor.skip();
+                } else if (newCursor.peek().size >= oldCursor.peek().size) {
+                    newCursor.expand();
+                } else {
+                    oldCursor.expand();
+                }
+                continue;
+            } else if (newCursor.isAtSubtree()) {
+                newCursor.expand();
+                continue;
+            } else if (oldCursor.isAtSubtree()) {
+                oldCursor.expand();
+                continue;
+            } else {
+                Node<K, V> newNode = newCursor.peek();
+                Node<K, V> oldNode = oldCursor.peek();
+                int comparison = newNode.key.compareTo(oldNode.key);
+                if (comparison <= 0) {
+                    newCursor.skip();
+                }
+                if (comparison >= 0) {
+                    oldCursor.skip();
+                }
+                if (comparison != 0 || newNode.value != oldNode.value) {
+                    changedKeys.add(comparison <= 0 ? newNode.key : oldNode.key);
+                }
+            }
+            if (changedKeys.size() > maxKeys) {
+                return null;
+            }
+        }
+        return changedKeys;
+    }
+
+    /**
+     * Returns the node at position {@code index} in key order.
+     */
+    private Node<K, V> nodeAt(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size());
+        }
+        int remaining = index;
+        Node<K, V> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (remaining == leftSize) {
+                return node;
+            }
+            if (remaining < leftSize) {
+                node = node.left;
+            } else {
+                remaining -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    /**
+     * Returns the subtree {@code node} with {@code key} mapped to {@code value}.
+     */
+    private Node<K, V> putInto(Node<K, V> node, K key, V value) {
+        if (node == null) {
+            return new Node<>(key, value, null, null);
+        }
+        int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            return balance(node.key, node.value, putInto(node.left, key, value), node.right);
+        } else if (comparison > 0) {
+            return balance(node.key, node.value, node.left, putInto(node.right, key, value));
+        } else {
+            return new Node<>(key, value, node.left, node.right);
+        }
+    }
+
+    /**
+     * Returns the subtree {@code node} without {@code key}, or {@code node} itself if it does not contain it.
+     */
+    private Node<K, V> removeFrom(Node<K, V> node, K key) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = key.compareTo(node.key);
+        if (comparison < 0) {
+            Node<K, V> left = removeFrom(node.left, key);
+            return left == node.left ? node : balance(node.key, node.value, left, node.right);
+        } else if (comparison > 0) {
+            Node<K, V> right = removeFrom(node.right, key);
+            return right == node.right ? node : balance(node.key, node.value, node.left, right);
+        } else {
+            return glue(node.left, node.right);
+        }
+    }
+
+    /**
+     * Returns the tree of the entries of {@code left} followed by those of {@code right}, which are the subtrees
+     * of a removed node.
+     */
+    private static <K, V> Node<K, V> glue(Node<K, V> left, Node<K, V> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.size > right.size) {
+            Node<K, V> max = left;
+            while (max.right != null) {
+                max = max.right;
+            }
+            return balance(max.key, max.value, removeMax(left), right);
+        } else {
+            Node<K, V> min = right;
+            while (min.left != null) {
+                min = min.left;
+            }
+            return balance(min.key, min.value, left, removeMin(right));
+        }
+    }
+
+    private static <K, V> Node<K, V> removeMin(Node<K, V> node) {
+        return node.left == null ? node.right : balance(node.key, node.value, removeMin(node.left), node.right);
+    }
+
+    private static <K, V> Node<K, V> removeMax(Node<K, V> node) {
+        return node.right == null ? node.left : balance(node.key, node.value, node.left, removeMax(node.right));
+    }
+
+    /**
+     * Returns a node of {@code key} and {@code value} with the subtrees {@code left} and {@code right}, rotated to
+     * restore the balance if one of the subtrees just gained or lost an entry.
+     */
+    private static <K, V> Node<K, V> balance(K key, V value, Node<K, V> left, Node<K, V> right) {
+        int leftSize = sizeOf(left);
+        int rightSize = sizeOf(right);
+        if (leftSize + rightSize <= 1) {
+            return new Node<>(key, value, left, right);
+        }
+        if (rightSize > DELTA * leftSize) {
+            return sizeOf(right.left) < RATIO * sizeOf(right.right)
+                    ? rotateLeft(key, value, left, right)
+                    : rotateLeft(key, value, left, rotateRight(right.key, right.value, right.left, right.right));
+        }
+        if (leftSize > DELTA * rightSize) {
+            return sizeOf(left.right) < RATIO * sizeOf(left.left)
+                    ? rotateRight(key, value, left, right)
+                    : rotateRight(key, value, rotateLeft(left.key, left.value, left.left, left.right), right);
+        }
+        return new Node<>(key, value, left, right);
+    }
+
+    private static <K, V> Node<K, V> rotateLeft(K key, V value, Node<K, V> left, Node<K, V> right) {
+        return new Node<>(right.key, right.value, new Node<>(key, value, left, right.left), right.right);
+    }
+
+    private static <K, V> Node<K, V> rotateRight(K key, V value, Node<K, V> left, Node<K, V> right) {
+        return new Node<>(left.key, left.value, left.left, new Node<>(key, value, left.right, right));
+    }
+
+    /**
+     * Returns a perfectly balanced tree of the keys and values from position {@code from} to {@code to}, exclusive.
+     */
+    private static <K extends Comparable<? super K>, V> Node<K, V> buildTree(List<K> keys, List<V> values, int from,
+            int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        assert middle == from || keys.get(middle - 1).compareTo(keys.get(middle)) < 0;
+        return new Node<>(keys.get(middle), values.get(middle), buildTree(keys, values, from, middle),
+                buildTree(keys, values, middle + 1, to));
+    }
+
+    private static int sizeOf(Node<?, ?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    /**
+     * A node of the tree, which is never changed once it is made.
+     */
+    private static final class Node<K, V> {
+        private final K key;
+        private final V value;
+        private final Node<K, V> left;
+        private final Node<K, V> right;
+        private final int size;
+
+        Node(K key, V value, Node<K, V> left, Node<K, V> right) {
+            this.key = key;
+            this.value = value;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+        }
+    }
+
+    /**
+     * A walk through a tree in key order that can skip whole subtrees. Its stack holds the parts of the tree still
+     * to be walked, in order from the top: whole subtrees, and nodes whose own entry alone is left.
+     */
+    private static final class Cursor<K, V> {
+        private final Deque<Node<K, V>> nodes = new ArrayDeque<>();
+        /** Whether each node of {@code nodes} stands for its whole subtree rather than its own entry alone. */
+        private final Deque<Boolean> isSubtree = new ArrayDeque<>();
+
+        Cursor(Node<K, V> root) {
+            if (root != null) {
+                push(root, true);
+            }
+        }
+
+        boolean isDone() {
+            return nodes.isEmpty();
+        }
+
+        Node<K, V> peek() {
+            return nodes.peek();
+        }
+
+        boolean isAtSubtree() {
+            return isSubtree.peek();
+        }
+
+        void skip() {
+            nodes.pop();
+            isSubtree.pop();
+        }
+
+        /**
+         * Replaces the subtree on top by its left subtree, its own entry and its right subtree.
+         */
+        void expand() {
+            Node<K, V> node = nodes.pop();
+            isSubtree.pop();
+            if (node.right != null) {
+                push(node.right, true);
+            }
+            push(node, false);
+            if (node.left != null) {
+                push(node.left, true);
+            }
+        }
+
+        /**
+         * Removes and returns the node of the next entry.
+         */
+        Node<K, V> nextEntry() {
+            while (isAtSubtree()) {
+                expand();
+            }
+            Node<K, V> node = nodes.pop();
+            isSubtree.pop();
+            return node;
+        }
+
+        private void push(Node<K, V> node, boolean isWholeSubtree) {
+            nodes.push(node);
+            isSubtree.push(isWholeSubtree);
+        }
+    }
+}
@@ -1,6 +1,9 @@
 package seedu.address.model.deck;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -8,8 +11,11 @@ import seedu.address.commons.util.TagUtil;
 
 /**
  * Tests that a {@code Card}'s {@code Name} matches any of the keywords given.
+ * A keyword that starts with {@link #FUZZY_KEYWORD_PREFIX} also matches words with a few typos.
  */
-public class QuestionContainsKeywordsPredicate implements Predicate<Card> {
+public class QuestionContainsKeywordsPredicate implements CardQuery {
+    public static final String FUZZY_KEYWORD_PREFIX = "~";
+
     private final List<String> keywords;
 
     public QuestionContainsKeywordsPredicate(List<String> keywords) {
@@ -18,9 +24,49 @@ public class QuestionContainsKeywordsPredicate implements Predicate<Card> {
 
     @Override
     public boolean test(Card card) {
-        return keywords.stream().anyMatch(
-            keyword -> StringUtil.containsKeywordsInQuestionIgnoreCase(card.getQuestion(), keyword)
-                || TagUtil.containsWordInTags(card.getTags(), keyword));
+        return keywords.stream().anyMatch(keyword -> matches(card, keyword));
+    }
+
+    /**
+     * Returns true if {@code card} matches the single {@code keyword}, which may be fuzzy.
+     */
+    private static boolean matches(Card card, String keyword) {
+        if (isFuzzy(keyword)) {
+            String fuzzyKeyword = keyword.substring(FUZZY_KEYWORD_PREFIX.length());
+            return StringUtil.containsFuzzyKeywordsInQuestionIgnoreCase(card.getQuestion(), fuzzyKeyword)
+                    || TagUtil.containsSimilarWordInTags(card.getTags(), fuzzyKeyword);
+        }
+        return StringUtil.containsKeywordsInQuestionIgnoreCase(card.getQuestion(), keyword)
+                || TagUtil.containsWordInTags(card.getTags(), keyword);
+    }
+
+    /**
+     * Returns true if {@code keyword} should also match words with a few typos.
+     */
+    static boolean isFuzzy(String keyword) {
+        return keyword.startsWith(FUZZY_KEYWORD_PREFIX);
+    }
+
+    /**
+     * Returns a predicate that matches the same cards of {@code cards} as this predicate. The matching cards are
+     * looked up once in the search index of {@code cards} instead of testing each card, so the returned
+     * predicate only matches cards that are in {@code cards} now.
+     */
+    @Override
+    public Predicate<Card> forCardsIn(UniqueCardList cards) {
+        return findCandidatesIn(cards).get()::contains;
+    }
+
+    @Override
+    public Optional<Set<Card>> findCandidatesIn(UniqueCardList cards) {
+        Set<Card> matches = new HashSet<>();
+        keywords.forEach(keyword -> matches.addAll(cards.findCards(keyword)));
+        return Optional.of(matches);
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
     }
 
     @Override
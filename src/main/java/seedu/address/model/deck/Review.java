@@ -0,0 +1,101 @@
+package seedu.address.model.deck;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Objects;
+
+/**
+ * Represents one step of studying a card: showing its answer, or rating it.
+ * Guarantees: immutable; details are present and not null.
+ */
+public class Review {
+
+    /** The rating of a review that only showed the answer of the card. */
+    public static final int NO_RATING = 0;
+
+    private final ReviewType type;
+    private final String deckName;
+    private final String question;
+    private final int rating;
+    private final long reviewTime;
+    private final long latency;
+
+    /**
+     * Constructs a {@code Review} of the card with {@code question} in the deck named {@code deckName}, made at
+     * {@code reviewTime} milliseconds since the epoch, {@code latency} milliseconds after the card was shown.
+     */
+    public Review(ReviewType type, String deckName, String question, int rating, long reviewTime, long latency) {
+        requireNonNull(type);
+        requireNonNull(deckName);
+        requireNonNull(question);
+        this.type = type;
+        this.deckName = deckName;
+        this.question = question;
+        this.rating = rating;
+        this.reviewTime = reviewTime;
+        this.latency = latency;
+    }
+
+    public ReviewType getType() {
+        return type;
+    }
+
+    public String getDeckName() {
+        return deckName;
+    }
+
+    public String getQuestion() {
+        return question;
+    }
+
+    public int getRating() {
+        return rating;
+    }
+
+    public long getReviewTime() {
+        return reviewTime;
+    }
+
+    public long getLatency() {
+        return latency;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        if (!(other instanceof Review)) {
+            return false;
+        }
+
+        Review otherReview = (Review) other;
+        return type == otherReview.type
+                && deckName.equals(otherReview.deckName)
+                && question.equals(otherReview.question)
+                && rating == otherReview.rating
+                && reviewTime == otherReview.reviewTime
+                && latency == otherReview.latency;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(type, deckName, question, rating, reviewTime, latency);
+    }
+
+    @Override
+    public String toString() {
+        return type + " " + deckName + ": " + question + " (rating " + rating + ", " + latency + " ms)";
+    }
+
+    /**
+     * The steps of studying a card that are reviewed.
+     */
+    public enum ReviewType {
+        /** The answer of the card was shown, after the question was shown. */
+        ANSWER_SHOWN,
+        /** The card was rated, after its answer was shown. */
+        RATED
+    }
+}
@@ -0,0 +1,106 @@
+package seedu.address.model.deck;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Tests that a study statistic of a {@code Card}, such as its difficulty, compares to a value in a given way.
+ * The statistics are not indexed, so every card is tested.
+ */
+public class StatisticCardQuery implements CardQuery {
+
+    /**
+     * The study statistics of a card that can be compared.
+     */
+    public enum Statistic {
+        DIFFICULTY(Card::getDifficulty),
+        ATTEMPTS(card -> card.getDifficultyObj().getNumberOfAttempts());
+
+        private final ToDoubleFunction<Card> getter;
+
+        Statistic(ToDoubleFunction<Card> getter) {
+            this.getter = getter;
+        }
+    }
+
+    /**
+     * The ways in which a statistic can compare to the value.
+     */
+    public enum Comparison {
+        LESS_THAN("<"), LESS_THAN_OR_EQUAL("<="), EQUAL("="), GREATER_THAN_OR_EQUAL(">="), GREATER_THAN(">");
+
+        public final String symbol;
+
+        Comparison(String symbol) {
+            this.symbol = symbol;
+        }
+
+        /**
+         * Returns true if {@code left} compares to {@code right} in this way.
+         */
+        boolean holds(double left, double right) {
+            int comparison = Double.compare(left, right);
+            switch (this) {
+                case LESS_THAN:
+                    return comparison < 0;
+                case LESS_THAN_OR_EQUAL:
+                    return comparison <= 0;
+                case EQUAL:
+                    return comparison == 0;
+                case GREATER_THAN_OR_EQUAL:
+                    return comparison >= 0;
+                case GREATER_THAN:
+                    return comparison > 0;
+                default:
+                    throw new AssertionError("Unknown comparison " + this);
+            }
+        }
+    }
+
+    private final Statistic statistic;
+    private final Comparison comparison;
+    private final double value;
+
+    public StatisticCardQuery(Statistic statistic, Comparison comparison, double value) {
+        requireNonNull(statistic);
+        requireNonNull(comparison);
+        this.statistic = statistic;
+        this.comparison = comparison;
+        this.value = value;
+    }
+
+    @Override
+    public boolean test(Card card) {
+        return comparison.holds(statistic.getter.applyAsDouble(card), value);
+    }
+
+    @Override
+    public Optional<Set<Card>> findCandidatesIn(UniqueCardList cards) {
+        return Optional.empty();
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return Collections.emptyList();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatisticCardQuery // instanceof handles nulls
+                && statistic == ((StatisticCardQuery) other).statistic
+                && comparison == ((StatisticCardQuery) other).comparison
+                && Double.compare(value, ((StatisticCardQuery) other).value) == 0); // state check
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(statistic, comparison, value);
+    }
+}
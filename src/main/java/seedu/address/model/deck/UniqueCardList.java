@@ -1,16 +1,27 @@
 package seedu.address.model.deck;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.deck.QuestionContainsKeywordsPredicate.FUZZY_KEYWORD_PREFIX;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.ObservableListBase;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.model.deck.exceptions.CardNotFoundException;
 import seedu.address.model.deck.exceptions.DuplicateCardException;
+import seedu.address.model.tag.Tag;
 
 /**
  * A list of cards that enforces uniqueness between its elements and does not allow
@@ -20,21 +31,52 @@ import seedu.address.model.deck.exceptions.DuplicateCardException;
  * of a card uses Card#equal(Object) so as to ensure that the card with exactly the same fields
  * will be removed.
  * <p>
+ * The cards are kept in a {@link PersistentTreeMap} by their rank, a number given to each card that grows along
+ * the list, and their ranks are kept in another by their question, so membership and duplicate checks do not need
+ * to scan the list. Copying the list shares both trees, and changing a copy only copies the nodes on the path to
+ * the changed card, so the versions of a deck kept for undo share nearly all of their nodes. {@code internalList}
+ * is a read-only view of the cards. The cards are also indexed by the words of their questions and their tags for
+ * {@link #findCards(String)}, once they are first searched.
+ * <p>
  * Supports a minimal set of list operations.
  *
  * @see Card#isSameCard(Card)
  */
 public class UniqueCardList implements Iterable<Card> {
 
-    public final ObservableList<Card> internalList = FXCollections.observableArrayList();
+    /*
+     * Rough per-object costs used to estimate the memory allocated by a list. A card is costed as a typical card with
+     * a short question, answer and a tag, and a node as a node of either tree with its key.
+     */
+    private static final long CARD_BYTES = 512;
+    private static final long NODE_BYTES = 56;
+
+    private final CardListView cardListView = new CardListView();
+    public final ObservableList<Card> internalList = cardListView;
     private final ObservableList<Card> internalUnmodifiableList = FXCollections
             .unmodifiableObservableList(internalList);
+    /** The cards by their rank, which orders them in the list. */
+    private PersistentTreeMap<Long, Card> cardsByRank = PersistentTreeMap.empty();
+    /** The ranks of the cards by their question. */
+    private PersistentTreeMap<String, Long> ranksByQuestion = PersistentTreeMap.empty();
+    /** The search index of the cards, or null until the cards are first searched. */
+    private CardSearchIndex searchIndex;
+    /** The statistics of the cards, kept up to date by this list and by its owner when the cards are rated. */
+    private final DeckStatistics statistics = new DeckStatistics();
+    /** The owner of the cards, shared with the copies of this list. */
+    private CardOwner owner = new CardOwner();
+    /** The rating count of the owner when the statistics were last up to date. */
+    private int statisticsRatingCount;
+    /** The takeover count of {@link CardOwner} when the owner last owned all the cards of this list. */
+    private long cardsOwnedAt = CardOwner.getTakeoverCount();
+    /** The estimated size of the cards and nodes allocated by this list, rather than shared with its source. */
+    private long ownBytes;
 
     /**
      * Returns the size of the list of cards
      */
     public int size() {
-        return internalList.size();
+        return cardsByRank.size();
     }
 
     /**
@@ -42,7 +84,24 @@ public class UniqueCardList implements Iterable<Card> {
      */
     public boolean contains(Card toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameCard);
+        return ranksByQuestion.containsKey(toCheck.getQuestion());
+    }
+
+    /**
+     * Returns true if the list contains {@code toCheck} itself, rather than just a card with the same question.
+     */
+    public boolean containsInstance(Card toCheck) {
+        requireNonNull(toCheck);
+        return getCard(toCheck.getQuestion()) == toCheck;
+    }
+
+    /**
+     * Returns the card with {@code question}, or null if there is none.
+     */
+    public Card getCard(String question) {
+        requireNonNull(question);
+        Long rank = ranksByQuestion.get(question);
+        return rank == null ? null : cardsByRank.get(rank);
     }
 
     /**
@@ -54,7 +113,17 @@ public class UniqueCardList implements Iterable<Card> {
         if (contains(toAdd)) {
             throw new DuplicateCardException();
         }
-        internalList.add(toAdd);
+        makeCurrent();
+        Long lastRank = cardsByRank.lastKey();
+        Long rank = lastRank == null ? 0 : lastRank + 1;
+        cardsByRank = cardsByRank.put(rank, toAdd);
+        ranksByQuestion = ranksByQuestion.put(toAdd.getQuestion(), rank);
+        ownBytes += CARD_BYTES + estimatePathBytes();
+        if (searchIndex != null) {
+            searchIndex.add(toAdd);
+        }
+        startCounting(toAdd);
+        cardListView.fireAdded(cardsByRank.size() - 1);
     }
 
 
@@ -66,8 +135,8 @@ public class UniqueCardList implements Iterable<Card> {
     public void setCard(Card target, Card editedCard) {
         requireAllNonNull(target, editedCard);
 
-        int index = internalList.indexOf(target);
-        if (index == -1) {
+        Card existingCard = getCard(target.getQuestion());
+        if (!target.equals(existingCard)) {
             throw new CardNotFoundException();
         }
 
@@ -75,7 +144,18 @@ public class UniqueCardList implements Iterable<Card> {
             throw new DuplicateCardException();
         }
 
-        internalList.set(index, editedCard);
+        makeCurrent();
+        Long rank = ranksByQuestion.get(existingCard.getQuestion());
+        cardsByRank = cardsByRank.put(rank, editedCard);
+        ranksByQuestion = ranksByQuestion.remove(existingCard.getQuestion()).put(editedCard.getQuestion(), rank);
+        ownBytes += CARD_BYTES + estimatePathBytes();
+        if (searchIndex != null) {
+            searchIndex.remove(existingCard);
+            searchIndex.add(editedCard);
+        }
+        stopCounting(existingCard);
+        startCounting(editedCard);
+        cardListView.fireSet(cardsByRank.indexOf(rank), existingCard);
     }
 
     /**
@@ -84,14 +164,46 @@ public class UniqueCardList implements Iterable<Card> {
      */
     public void remove(Card toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        Card existingCard = getCard(toRemove.getQuestion());
+        if (!toRemove.equals(existingCard)) {
             throw new CardNotFoundException();
         }
+
+        makeCurrent();
+        Long rank = ranksByQuestion.get(existingCard.getQuestion());
+        int index = cardsByRank.indexOf(rank);
+        cardsByRank = cardsByRank.remove(rank);
+        ranksByQuestion = ranksByQuestion.remove(existingCard.getQuestion());
+        ownBytes += estimatePathBytes();
+        if (searchIndex != null) {
+            searchIndex.remove(existingCard);
+        }
+        stopCounting(existingCard);
+        cardListView.fireRemoved(index, existingCard);
     }
 
+    /**
+     * Replaces the contents of this list with the cards of {@code replacement}, carrying over its statistics and
+     * sharing its owner. {@code replacement} keeps its cards; this list builds its own search index if it is
+     * searched. The two lists share the trees of their cards, so this takes constant time.
+     */
     public void setCards(UniqueCardList replacement) {
         requireNonNull(replacement);
-        internalList.setAll(replacement.internalList);
+        DeckStatistics replacementStatistics = replacement.getStatistics();
+        if (owner != replacement.owner && owner.getCurrentList() == this) {
+            owner.setCurrentList(null);
+        }
+        List<Card> replacedCards = listOf(cardsByRank);
+        cardsByRank = replacement.cardsByRank;
+        ranksByQuestion = replacement.ranksByQuestion;
+        ownBytes = 0;
+        searchIndex = null;
+        owner = replacement.owner;
+        statistics.setTo(replacementStatistics);
+        statisticsRatingCount = replacement.statisticsRatingCount;
+        cardsOwnedAt = replacement.cardsOwnedAt;
+        makeCurrent();
+        cardListView.fireReplaced(replacedCards);
     }
 
     /**
@@ -100,25 +212,280 @@ public class UniqueCardList implements Iterable<Card> {
      */
     public void setCards(List<Card> cards) {
         requireAllNonNull(cards);
-        if (!cardsAreUnique(cards)) {
-            throw new DuplicateCardException();
+        List<Long> ranks = new ArrayList<>(cards.size());
+        for (long rank = 0; rank < cards.size(); rank++) {
+            ranks.add(rank);
         }
+        PersistentTreeMap<String, Long> replacementRanks = indexRanks(cards, ranks);
+
+        List<Card> replacedCards = listOf(cardsByRank);
+        cardsByRank = PersistentTreeMap.ofSorted(ranks, new ArrayList<>(cards));
+        ranksByQuestion = replacementRanks;
+        ownBytes = cards.size() * (CARD_BYTES + 2 * NODE_BYTES);
+        searchIndex = null;
+        startOver();
+        cards.forEach(this::startCounting);
+        cardListView.fireReplaced(replacedCards);
+    }
 
-        internalList.setAll(cards);
+    /**
+     * Replaces the contents of this list with the cards of {@code source}, as {@link #setCards(UniqueCardList)}
+     * does, but takes over the search index of {@code source} instead of building its own.
+     * {@code source} keeps its cards, and rebuilds its search index if it is searched again.
+     */
+    void moveFrom(UniqueCardList source) {
+        setCards(source);
+        searchIndex = source.searchIndex;
+        source.searchIndex = null;
     }
 
     /**
      * Clears all cards.
      */
     public void clear() {
-        internalList.clear();
+        List<Card> replacedCards = listOf(cardsByRank);
+        cardsByRank = PersistentTreeMap.empty();
+        ranksByQuestion = PersistentTreeMap.empty();
+        ownBytes = 0;
+        searchIndex = null;
+        startOver();
+        cardListView.fireReplaced(replacedCards);
+    }
+
+    /**
+     * Returns the running statistics of the cards in this list, which are kept up to date as the list changes
+     * and as its cards are rated.
+     * Makes this list current, as in {@link #makeCurrent()}.
+     */
+    public DeckStatistics getStatistics() {
+        makeCurrent();
+        return statistics;
+    }
+
+    /**
+     * Returns an estimate of the number of bytes allocated by this list itself rather than shared with the list it
+     * was copied from: the cards it was given, and the nodes it copied to change the trees of the cards.
+     * A list filled with cards counts all of them, while an edited copy only counts its edits.
+     */
+    public long getEstimatedOwnBytes() {
+        return ownBytes;
+    }
+
+    /**
+     * Returns the number of times the cards of this list and of its copies have been rated since the first of
+     * them was created. Together with {@link #getCardsRatedSince(int)}, this lets a caller find the cards rated
+     * since it last looked, without comparing the difficulty of every card.
+     */
+    public int getRatingCount() {
+        return owner.getRatingCount();
+    }
+
+    /**
+     * Returns the cards of this list rated after the first {@code ratingCount} ratings, in list order.
+     * Each card keeps the rating count when it was last rated, so nothing is kept for the ratings themselves, but
+     * this goes through every card. Cards owned by another list are included, as their count cannot be compared.
+     */
+    public List<Card> getCardsRatedSince(int ratingCount) {
+        List<Card> rated = new ArrayList<>();
+        for (Card card : internalList) {
+            if (card.getOwner() != owner || card.getRatingNumber() > ratingCount) {
+                rated.add(card);
+            }
+        }
+        return rated;
+    }
+
+    /**
+     * Returns the cards added, removed and edited since {@code older}, a version of this list that this list was
+     * copied and edited from, or an empty {@code Optional} if {@code older} is not such a version or more than
+     * {@code maxChanges} cards changed. Added cards come last, in the order they were added, and the other
+     * changes come in the order of the cards in {@code older}.
+     * <p>
+     * The versions share all of their cards but the changed ones, so only the changes are visited.
+     * Cards rated in place are not changes; see {@link #getCardsRatedSince(int)}.
+     */
+    public Optional<List<CardChange>> findChangesSince(UniqueCardList older, int maxChanges) {
+        requireNonNull(older);
+        if (older.owner != owner) {
+            return Optional.empty();
+        }
+        List<Long> changedRanks = cardsByRank.keysChangedSince(older.cardsByRank, maxChanges);
+        if (changedRanks == null) {
+            return Optional.empty();
+        }
+        List<CardChange> changes = new ArrayList<>();
+        for (Long rank : changedRanks) {
+            changes.add(new CardChange(older.cardsByRank.get(rank), cardsByRank.get(rank)));
+        }
+        return Optional.of(changes);
+    }
+
+    /**
+     * Makes this list the one whose statistics are updated when its cards are rated, in place of its copies.
+     * Takes back the cards of this list taken over by other lists, and counts the statistics again if the cards
+     * may have been rated while this list was not current or did not own them.
+     */
+    void makeCurrent() {
+        int ratingCount = owner.getRatingCount();
+        boolean isStale = owner.getCurrentList() != this && statisticsRatingCount != ratingCount;
+        if (cardsOwnedAt != CardOwner.getTakeoverCount()) {
+            internalList.forEach(owner::take);
+            cardsOwnedAt = CardOwner.getTakeoverCount();
+            isStale = true;
+        }
+        if (isStale) {
+            statistics.clear();
+            internalList.forEach(statistics::add);
+            statisticsRatingCount = ratingCount;
+        }
+        owner.setCurrentList(this);
+    }
+
+    /**
+     * Returns the cards whose question contains {@code keyword} as in
+     * {@link StringUtil#containsKeywordsInQuestionIgnoreCase(String, String)}, or that have a tag named
+     * {@code keyword}, ignoring case. A keyword that starts with
+     * {@link QuestionContainsKeywordsPredicate#FUZZY_KEYWORD_PREFIX} also matches similar words.
+     * The search index is built on the first call.
+     * Throws {@code IllegalArgumentException} if {@code keyword} is blank.
+     */
+    public Set<Card> findCards(String keyword) {
+        requireNonNull(keyword);
+        return getSearchIndex().findCards(keyword);
+    }
+
+    /**
+     * Returns the cards with a tag named {@code tagName}, ignoring case. A tag name that starts with
+     * {@link QuestionContainsKeywordsPredicate#FUZZY_KEYWORD_PREFIX} also matches similar tags.
+     * Throws {@code IllegalArgumentException} if {@code tagName} is blank.
+     */
+    public Set<Card> findCardsWithTag(String tagName) {
+        requireNonNull(tagName);
+        return getSearchIndex().findCardsWithTag(tagName);
+    }
+
+    /**
+     * Returns true if a card has a tag named {@code tagName}, as in {@link #findCardsWithTag(String)}.
+     * Unless the search index has been built already, the cards are checked in turn until one matches, without
+     * building the index.
+     * Throws {@code IllegalArgumentException} if {@code tagName} is blank.
+     */
+    public boolean hasCardWithTag(String tagName) {
+        requireNonNull(tagName);
+        if (searchIndex != null) {
+            return !searchIndex.findCardsWithTag(tagName).isEmpty();
+        }
+
+        boolean isFuzzy = QuestionContainsKeywordsPredicate.isFuzzy(tagName);
+        String preppedTagName = (isFuzzy ? tagName.substring(FUZZY_KEYWORD_PREFIX.length()) : tagName)
+                .toLowerCase().trim();
+        checkArgument(!preppedTagName.isEmpty(), "Word parameter cannot be empty");
+
+        for (Card card : internalList) {
+            for (Tag tag : card.getTags()) {
+                String cardTagName = tag.tagName.toLowerCase();
+                if (isFuzzy ? StringUtil.isSimilarWord(preppedTagName, cardTagName)
+                        : preppedTagName.equals(cardTagName)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of cards with each tag, by tag name. Tags whose names only differ in case are counted
+     * together.
+     */
+    public Map<String, Integer> countCardsByTag() {
+        return getSearchIndex().countCardsByTag();
+    }
+
+    /**
+     * Returns a function that gives the relevance of a card of this list to the search for {@code keywords}, as
+     * the Okapi BM25 score of its question, answer and tags. More relevant cards have higher scores.
+     */
+    public ToDoubleFunction<Card> relevanceTo(List<String> keywords) {
+        requireNonNull(keywords);
+        return getSearchIndex().relevanceTo(keywords);
+    }
+
+    /**
+     * Updates the statistics for {@code card}, a card of the owner of this list whose difficulty changed from
+     * {@code oldDifficulty} to {@code newDifficulty}, if it is in this list.
+     * Called by the owner while this list is current.
+     */
+    void cardRated(Card card, Difficulty oldDifficulty, Difficulty newDifficulty) {
+        if (containsInstance(card)) {
+            statistics.cardRated(oldDifficulty, newDifficulty);
+        }
+        statisticsRatingCount = owner.getRatingCount();
+    }
+
+    /**
+     * Clears the statistics of this list, which was just emptied of its previous cards, and makes it current.
+     */
+    private void startOver() {
+        statistics.clear();
+        statisticsRatingCount = owner.getRatingCount();
+        cardsOwnedAt = CardOwner.getTakeoverCount();
+        owner.setCurrentList(this);
+    }
+
+    /**
+     * Counts {@code card}, which was just added to this list, in the statistics, and takes it over.
+     * This list must be current.
+     */
+    private void startCounting(Card card) {
+        statistics.add(card);
+        owner.take(card);
+        // the other cards are owned already, as this list was just made current
+        cardsOwnedAt = CardOwner.getTakeoverCount();
+    }
+
+    /**
+     * Stops counting {@code card}, which was just removed from this list, in the statistics.
+     */
+    private void stopCounting(Card card) {
+        statistics.remove(card);
+    }
+
+    /**
+     * Returns the search index of the cards, building it if needed.
+     */
+    private CardSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new CardSearchIndex();
+            internalList.forEach(searchIndex::add);
+        }
+        return searchIndex;
+    }
+
+    /**
+     * Returns true if the search index of the cards has been built.
+     */
+    boolean isSearchIndexBuilt() {
+        return searchIndex != null;
     }
 
     /**
      * Sort all cards in the list in alphabetical order according to the question.
      */
     public void sort() {
-        internalList.sort(Comparator.comparing(o -> o.getQuestion().toString().toLowerCase()));
+        List<Card> sortedCards = new ArrayList<>(internalList);
+        sortedCards.sort(Comparator.comparing(o -> o.getQuestion().toString().toLowerCase()));
+        List<Long> ranks = new ArrayList<>(sortedCards.size());
+        int[] permutation = new int[sortedCards.size()];
+        for (int i = 0; i < sortedCards.size(); i++) {
+            Card card = sortedCards.get(i);
+            permutation[cardsByRank.indexOf(ranksByQuestion.get(card.getQuestion()))] = i;
+            ranks.add((long) i);
+        }
+
+        cardsByRank = PersistentTreeMap.ofSorted(ranks, sortedCards);
+        ranksByQuestion = indexRanks(sortedCards, ranks);
+        ownBytes = sortedCards.size() * 2 * NODE_BYTES;
+        cardListView.firePermuted(permutation);
     }
 
 
@@ -147,16 +514,130 @@ public class UniqueCardList implements Iterable<Card> {
     }
 
     /**
-     * Returns true if {@code cards} contains only unique cards.
+     * Returns the estimated size of the nodes copied to change a card in both trees, those on its path to the root.
      */
-    private boolean cardsAreUnique(List<Card> cards) {
-        for (int i = 0; i < cards.size() - 1; i++) {
-            for (int j = i + 1; j < cards.size(); j++) {
-                if (cards.get(i).isSameCard(cards.get(j))) {
-                    return false;
-                }
+    private long estimatePathBytes() {
+        int depth = Integer.SIZE - Integer.numberOfLeadingZeros(cardsByRank.size() + 1);
+        return 2 * NODE_BYTES * depth;
+    }
+
+    /**
+     * Returns the tree of {@code ranks}, the ranks of {@code cards}, by the questions of the cards.
+     * Throws {@code DuplicateCardException} if {@code cards} contains duplicate cards.
+     */
+    private static PersistentTreeMap<String, Long> indexRanks(List<Card> cards, List<Long> ranks) {
+        List<Integer> order = new ArrayList<>(cards.size());
+        for (int i = 0; i < cards.size(); i++) {
+            order.add(i);
+        }
+        order.sort(Comparator.comparing(i -> cards.get(i).getQuestion()));
+
+        List<String> questions = new ArrayList<>(cards.size());
+        List<Long> questionRanks = new ArrayList<>(cards.size());
+        for (int i : order) {
+            String question = cards.get(i).getQuestion();
+            if (!questions.isEmpty() && questions.get(questions.size() - 1).equals(question)) {
+                throw new DuplicateCardException();
+            }
+            questions.add(question);
+            questionRanks.add(ranks.get(i));
+        }
+        return PersistentTreeMap.ofSorted(questions, questionRanks);
+    }
+
+    /**
+     * Returns the cards of {@code cards} in list order, as an unmodifiable list that reads from the tree.
+     */
+    private static List<Card> listOf(PersistentTreeMap<Long, Card> cards) {
+        return new AbstractList<Card>() {
+            @Override
+            public Card get(int index) {
+                return cards.valueAt(index);
+            }
+
+            @Override
+            public int size() {
+                return cards.size();
+            }
+        };
+    }
+
+    /**
+     * The cards of this list as an {@code ObservableList}, which cannot be changed from the outside.
+     */
+    private class CardListView extends ObservableListBase<Card> {
+
+        @Override
+        public Card get(int index) {
+            return cardsByRank.valueAt(index);
+        }
+
+        @Override
+        public int size() {
+            return cardsByRank.size();
+        }
+
+        @Override
+        public int indexOf(Object o) {
+            if (!(o instanceof Card)) {
+                return -1;
             }
+            Card card = (Card) o;
+            Long rank = ranksByQuestion.get(card.getQuestion());
+            return rank != null && card.equals(cardsByRank.get(rank)) ? cardsByRank.indexOf(rank) : -1;
+        }
+
+        @Override
+        public int lastIndexOf(Object o) {
+            return indexOf(o);
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return indexOf(o) >= 0;
+        }
+
+        @Override
+        public Iterator<Card> iterator() {
+            return cardsByRank.valueIterator();
+        }
+
+        private void fireAdded(int index) {
+            beginChange();
+            nextAdd(index, index + 1);
+            endChange();
+        }
+
+        private void fireSet(int index, Card replacedCard) {
+            beginChange();
+            nextSet(index, replacedCard);
+            endChange();
+        }
+
+        private void fireRemoved(int index, Card removedCard) {
+            beginChange();
+            nextRemove(index, removedCard);
+            endChange();
+        }
+
+        /**
+         * Tells the listeners that {@code replacedCards}, the previous cards of the list, were all replaced.
+         */
+        private void fireReplaced(List<Card> replacedCards) {
+            beginChange();
+            if (!replacedCards.isEmpty()) {
+                nextRemove(0, replacedCards);
+            }
+            if (!isEmpty()) {
+                nextAdd(0, size());
+            }
+            endChange();
+        }
+
+        private void firePermuted(int[] permutation) {
+            beginChange();
+            nextPermutation(0, permutation.length, permutation);
+            endChange();
         }
-        return true;
     }
 }
@@ -4,8 +4,12 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -15,18 +19,30 @@ import seedu.address.model.deck.exceptions.DuplicateDeckException;
 /**
  * A list of decks that enforces uniqueness between its elements and does not allow nulls.
  * <p>
+ * The position of every deck is also indexed by its name, so lookups do not need to scan the list.
+ * The index is only kept in sync by the methods of this class, hence {@code internalList} must not be
+ * modified from the outside.
+ * <p>
  * Supports a minimal set of list operations.
  */
 public class UniqueDeckList implements Iterable<Deck> {
 
     public final ObservableList<Deck> internalList = FXCollections.observableArrayList();
+    private final Map<Name, Integer> nameIndex = new HashMap<>();
+
+    /**
+     * Returns the number of decks in the list.
+     */
+    public int size() {
+        return internalList.size();
+    }
 
     /**
      * Returns true if the list contains an equivalent deck as the given argument.
      */
     public boolean contains(Deck toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameDeck);
+        return nameIndex.containsKey(toCheck.getName());
     }
 
     /**
@@ -39,6 +55,7 @@ public class UniqueDeckList implements Iterable<Deck> {
             throw new DuplicateDeckException();
         }
         internalList.add(toAdd);
+        nameIndex.put(toAdd.getName(), internalList.size() - 1);
     }
 
     /**
@@ -48,7 +65,7 @@ public class UniqueDeckList implements Iterable<Deck> {
     public Deck getDeck(Deck target) {
         requireNonNull(target);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new DeckNotFoundException();
         }
@@ -63,7 +80,7 @@ public class UniqueDeckList implements Iterable<Deck> {
      */
     public void setDeck(Deck target, Deck editedDeck) {
         requireAllNonNull(target, editedDeck);
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new DeckNotFoundException();
         }
@@ -72,6 +89,8 @@ public class UniqueDeckList implements Iterable<Deck> {
             throw new DuplicateDeckException();
         }
         internalList.set(index, editedDeck);
+        nameIndex.remove(target.getName());
+        nameIndex.put(editedDeck.getName(), index);
     }
 
     /**
@@ -80,9 +99,47 @@ public class UniqueDeckList implements Iterable<Deck> {
      */
     public void remove(Deck toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new DeckNotFoundException();
         }
+
+        internalList.remove(index);
+        nameIndex.remove(toRemove.getName());
+        reindexFrom(index);
+    }
+
+    /**
+     * Replaces the {@code count} decks starting at position {@code start} with {@code replacement}.
+     * The decks in {@code replacement} must not have the same identity as each other or as any deck that
+     * is not being replaced.
+     */
+    public void replace(int start, int count, List<Deck> replacement) {
+        requireAllNonNull(replacement);
+        List<Deck> replacedDecks = internalList.subList(start, start + count);
+
+        Set<Name> replacedNames = new HashSet<>();
+        replacedDecks.forEach(deck -> replacedNames.add(deck.getName()));
+        indexDecks(replacement).keySet().forEach(name -> {
+            if (nameIndex.containsKey(name) && !replacedNames.contains(name)) {
+                throw new DuplicateDeckException();
+            }
+        });
+
+        replacedNames.forEach(nameIndex::remove);
+        if (count == replacement.size()) {
+            for (int i = 0; i < count; i++) {
+                internalList.set(start + i, replacement.get(i));
+                nameIndex.put(replacement.get(i).getName(), start + i);
+            }
+        } else if (count == internalList.size()) {
+            internalList.setAll(replacement);
+            reindexFrom(0);
+        } else {
+            replacedDecks.clear();
+            internalList.addAll(start, replacement);
+            reindexFrom(start);
+        }
     }
 
     /**
@@ -90,11 +147,14 @@ public class UniqueDeckList implements Iterable<Deck> {
      */
     public void sort() {
         internalList.sort(Comparator.comparing(o -> o.getName().toString()));
+        reindexFrom(0);
     }
 
     public void setDecks(UniqueDeckList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        nameIndex.clear();
+        nameIndex.putAll(replacement.nameIndex);
     }
 
     /**
@@ -103,10 +163,11 @@ public class UniqueDeckList implements Iterable<Deck> {
      */
     public void setDecks(List<Deck> decks) {
         requireAllNonNull(decks);
-        if (!decksAreUnique(decks)) {
-            throw new DuplicateDeckException();
-        }
+        Map<Name, Integer> replacementIndex = indexDecks(decks);
+
         internalList.setAll(decks);
+        nameIndex.clear();
+        nameIndex.putAll(replacementIndex);
     }
 
     /**
@@ -134,18 +195,34 @@ public class UniqueDeckList implements Iterable<Deck> {
     }
 
     /**
-     * Returns true if {@code decks} contains only unique decks.
-     *
-     * @param decks
+     * Returns the position of the deck with the same name as {@code deck}, or -1 if there is none.
+     */
+    public int indexOf(Deck deck) {
+        requireNonNull(deck);
+        Integer index = nameIndex.get(deck.getName());
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * Updates the indexed positions of all decks from {@code start} to the end of the list.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            nameIndex.put(internalList.get(i).getName(), i);
+        }
+    }
+
+    /**
+     * Returns the positions of {@code decks} indexed by their names.
+     * Throws {@code DuplicateDeckException} if {@code decks} contains duplicate decks.
      */
-    private boolean decksAreUnique(List<Deck> decks) {
-        for (int i = 0; i < decks.size() - 1; i++) {
-            for (int j = i + 1; j < decks.size(); j++) {
-                if (decks.get(i).isSameDeck(decks.get(j))) {
-                    return false;
-                }
+    private static Map<Name, Integer> indexDecks(List<Deck> decks) {
+        Map<Name, Integer> index = new HashMap<>();
+        for (int i = 0; i < decks.size(); i++) {
+            if (index.put(decks.get(i).getName(), i) != null) {
+                throw new DuplicateDeckException();
             }
         }
-        return true;
+        return index;
     }
 }
@@ -0,0 +1,13 @@
+package seedu.address.model.deck.exceptions;
+
+import seedu.address.model.deck.Name;
+
+/**
+ * Signals that the cards of a deck that is loaded lazily could not be loaded, such as when its part of the data
+ * file is corrupted.
+ */
+public class DeckLoadException extends RuntimeException {
+    public DeckLoadException(Name deckName, Throwable cause) {
+        super("The cards of deck " + deckName + " could not be loaded.", cause);
+    }
+}
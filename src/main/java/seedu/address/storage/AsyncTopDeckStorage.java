@@ -0,0 +1,196 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyTopDeck;
+import seedu.address.model.TopDeck;
+
+/**
+ * A {@code TopDeckStorage} that saves TopDeck data on a single background thread, so that the caller does not
+ * wait for the disk.
+ * <p>
+ * Saves are coalesced: while a save is being written, only the latest of the saves requested in the meantime is
+ * kept, and it is written once the current save is done. A save that fails in the background is reported by
+ * throwing its {@code IOException} from the next call to {@link #saveTopDeck(ReadOnlyTopDeck)} or
+ * {@link #flushTopDeck()}, after that call has scheduled its own save. Reading and compacting wait for the pending
+ * save to be written first. Compacting rewrites all the data, so it goes ahead even if an earlier save failed, and
+ * only reports that failure if the compaction fails too.
+ */
+public class AsyncTopDeckStorage implements TopDeckStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(AsyncTopDeckStorage.class);
+
+    private final TopDeckStorage topDeckStorage;
+    private final Executor writer;
+
+    private final Object lock = new Object();
+    /** The latest save that has not been started yet, guarded by {@code lock}. */
+    private ReadOnlyTopDeck pendingTopDeck;
+    /** Whether a save is being written, guarded by {@code lock}. */
+    private boolean isWriting;
+    /** The failure of a save that has not been reported yet, guarded by {@code lock}. */
+    private IOException failure;
+
+    public AsyncTopDeckStorage(TopDeckStorage topDeckStorage) {
+        requireNonNull(topDeckStorage);
+        this.topDeckStorage = topDeckStorage;
+        this.writer = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "TopDeck saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public Path getTopDeckFilePath() {
+        return topDeckStorage.getTopDeckFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyTopDeck> readTopDeck() throws DataConversionException, IOException {
+        flushTopDeck();
+        return topDeckStorage.readTopDeck();
+    }
+
+    @Override
+    public Optional<ReadOnlyTopDeck> readTopDeck(Path filePath) throws DataConversionException, IOException {
+        flushTopDeck();
+        return topDeckStorage.readTopDeck(filePath);
+    }
+
+    /**
+     * Schedules {@code topDeck} to be saved in the background and returns immediately.
+     * {@code topDeck} is copied first, so it can be changed as soon as this method returns.
+     *
+     * @throws IOException if an earlier save failed in the background. {@code topDeck} is still scheduled to be
+     *     saved.
+     */
+    @Override
+    public void saveTopDeck(ReadOnlyTopDeck topDeck) throws IOException {
+        requireNonNull(topDeck);
+        // Decks are replaced rather than changed, and rating a card replaces its immutable difficulty, so copying
+        // the deck list is enough to keep this state.
+        TopDeck copy = new TopDeck(topDeck);
+
+        synchronized (lock) {
+            boolean isScheduled = pendingTopDeck != null;
+            pendingTopDeck = copy;
+            if (!isScheduled) {
+                writer.execute(this::writePendingTopDeck);
+            }
+            throwFailureIfAny();
+        }
+    }
+
+    /**
+     * Saves {@code topDeck} to {@code filePath} once the pending save has been written.
+     */
+    @Override
+    public void saveTopDeck(ReadOnlyTopDeck topDeck, Path filePath) throws IOException {
+        flushTopDeck();
+        topDeckStorage.saveTopDeck(topDeck, filePath);
+    }
+
+    /**
+     * Compacts {@code topDeck} once the pending save has been written. As the compaction rewrites all the data,
+     * a save that failed in the background earlier is only logged if the compaction succeeds.
+     */
+    @Override
+    public void compactTopDeck(ReadOnlyTopDeck topDeck) throws IOException {
+        synchronized (lock) {
+            waitForPendingSave();
+        }
+        topDeckStorage.compactTopDeck(topDeck);
+        synchronized (lock) {
+            if (failure != null) {
+                logger.warning("Earlier failed save superseded by compacting TopDeck "
+                        + StringUtil.getDetails(failure));
+                failure = null;
+            }
+        }
+    }
+
+    /**
+     * Waits until the pending save, if any, has been written.
+     *
+     * @throws IOException if a save failed in the background, or if interrupted while waiting.
+     */
+    @Override
+    public void flushTopDeck() throws IOException {
+        synchronized (lock) {
+            waitForPendingSave();
+            throwFailureIfAny();
+        }
+        topDeckStorage.flushTopDeck();
+    }
+
+    /**
+     * Waits until no save is pending or being written.
+     *
+     * @throws InterruptedIOException if interrupted while waiting.
+     */
+    private void waitForPendingSave() throws InterruptedIOException {
+        assert Thread.holdsLock(lock);
+
+        while (pendingTopDeck != null || isWriting) {
+            try {
+                lock.wait();
+            } catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Interrupted while waiting for TopDeck to be saved");
+            }
+        }
+    }
+
+    /**
+     * Writes the pending save. Runs on the writer thread.
+     */
+    private void writePendingTopDeck() {
+        ReadOnlyTopDeck topDeck;
+        synchronized (lock) {
+            topDeck = pendingTopDeck;
+            pendingTopDeck = null;
+            isWriting = true;
+        }
+
+        IOException saveFailure = null;
+        try {
+            topDeckStorage.saveTopDeck(topDeck);
+        } catch (IOException ioe) {
+            logger.severe("Failed to save TopDeck in the background " + StringUtil.getDetails(ioe));
+            saveFailure = ioe;
+        } finally {
+            synchronized (lock) {
+                if (saveFailure != null) {
+                    failure = saveFailure;
+                }
+                isWriting = false;
+                lock.notifyAll();
+            }
+        }
+    }
+
+    /**
+     * Throws the failure of an earlier save, if there is one that has not been reported yet.
+     */
+    private void throwFailureIfAny() throws IOException {
+        assert Thread.holdsLock(lock);
+
+        if (failure != null) {
+            IOException unreportedFailure = failure;
+            failure = null;
+            throw unreportedFailure;
+        }
+    }
+}
@@ -0,0 +1,240 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.storage.BinaryTopDeckStorage.readString;
+import static seedu.address.storage.BinaryTopDeckStorage.readVarInt;
+import static seedu.address.storage.BinaryTopDeckStorage.readVarLong;
+import static seedu.address.storage.BinaryTopDeckStorage.writeString;
+import static seedu.address.storage.BinaryTopDeckStorage.writeVarInt;
+import static seedu.address.storage.BinaryTopDeckStorage.writeVarLong;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.deck.Review;
+import seedu.address.model.deck.Review.ReviewType;
+
+/**
+ * A class to append reviews to a compact binary log file on the hard disk, kept apart from the data file.
+ * <p>
+ * The log starts with a short header, followed by one record per review, each holding the type of the review, the
+ * rating, the time of the review and its latency as variable-length integers, then the deck name and question of
+ * the card reviewed. Records are only ever appended, so the log is never rewritten. Reviews are held in memory and
+ * appended in batches, so that studying a card does not write to the disk every time. Before its first append, the
+ * storage cuts off a record left incomplete at the end of the log by an interrupted write, so that the records
+ * appended after it can be read back.
+ */
+public class BinaryReviewLogStorage implements ReviewLogStorage {
+
+    public static final String REVIEW_LOG_FILE_SUFFIX = ".reviews";
+    public static final int DEFAULT_BATCH_SIZE = 32;
+    public static final String MESSAGE_NOT_REVIEW_LOG = "File is not a TopDeck review log.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Review log version %d is not supported.";
+    public static final String MESSAGE_INVALID_REVIEW_TYPE = "Review log contains an invalid review type.";
+
+    private static final byte[] MAGIC = "TDRL".getBytes(StandardCharsets.US_ASCII);
+    private static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryReviewLogStorage.class);
+
+    private final Path filePath;
+    private final int batchSize;
+    /** The reviews appended but not written to the log yet. Guarded by the lock of the storage. */
+    private final List<Review> pendingReviews = new ArrayList<>();
+    /** Whether the end of the log has been checked for an incomplete record. Guarded by the lock of the storage. */
+    private boolean isLogEndChecked;
+
+    public BinaryReviewLogStorage(Path filePath) {
+        this(filePath, DEFAULT_BATCH_SIZE);
+    }
+
+    public BinaryReviewLogStorage(Path filePath, int batchSize) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Returns the path of the review log kept for the data file at {@code dataFilePath}.
+     */
+    public static Path getReviewLogFilePath(Path dataFilePath) {
+        requireNonNull(dataFilePath);
+        return dataFilePath.resolveSibling(dataFilePath.getFileName() + REVIEW_LOG_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getReviewLogFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public synchronized void appendReview(Review review) throws IOException {
+        requireNonNull(review);
+        pendingReviews.add(review);
+        if (pendingReviews.size() >= batchSize) {
+            flushReviews();
+        }
+    }
+
+    @Override
+    public synchronized void flushReviews() throws IOException {
+        if (pendingReviews.isEmpty()) {
+            return;
+        }
+
+        if (!isLogEndChecked) {
+            truncateIncompleteReview();
+            isLogEndChecked = true;
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        boolean isNewLog = !FileUtil.isFileExists(filePath) || Files.size(filePath) == 0;
+        if (isNewLog) {
+            out.write(MAGIC);
+            writeVarInt(out, FORMAT_VERSION);
+        }
+        for (Review review : pendingReviews) {
+            writeReview(out, review);
+        }
+
+        logger.fine("Appending " + pendingReviews.size() + " reviews to review log: " + filePath);
+        if (filePath.getParent() != null) {
+            Files.createDirectories(filePath.getParent());
+        }
+        Files.write(filePath, bytes.toByteArray(), StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        pendingReviews.clear();
+    }
+
+    /**
+     * Cuts the log back to its last complete record, so that new records are not appended after a partial one.
+     *
+     * @throws IOException if the log is not a review log, or if it cannot be cut.
+     */
+    private void truncateIncompleteReview() throws IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            return;
+        }
+
+        byte[] log = Files.readAllBytes(filePath);
+        int completeLength;
+        try {
+            completeLength = readReviews(log, new ArrayList<>());
+        } catch (IllegalValueException ive) {
+            boolean isPartOfMagic = log.length < MAGIC.length
+                    && Arrays.equals(log, Arrays.copyOf(MAGIC, log.length));
+            if (!isPartOfMagic) {
+                throw new IOException(ive.getMessage(), ive);
+            }
+            completeLength = 0;
+        }
+        if (completeLength < log.length) {
+            logger.warning("Removing an incomplete review at the end of review log: " + filePath);
+            try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+                channel.truncate(completeLength);
+            }
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     * A review cut short at the end of the log, as left by an interrupted write, is ignored.
+     */
+    @Override
+    public synchronized List<Review> readReviews() throws DataConversionException, IOException {
+        List<Review> reviews = new ArrayList<>();
+        if (FileUtil.isFileExists(filePath)) {
+            try {
+                readReviews(Files.readAllBytes(filePath), reviews);
+            } catch (IllegalValueException ive) {
+                logger.warning("Review log at " + filePath + " is not in the correct format. " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+        reviews.addAll(pendingReviews);
+        return reviews;
+    }
+
+    /**
+     * Reads the reviews in {@code log}, the contents of a review log, into {@code reviews}.
+     *
+     * @return the length of {@code log} up to the end of its last complete record.
+     */
+    private static int readReviews(byte[] log, List<Review> reviews) throws IOException, IllegalValueException {
+        if (log.length == 0) {
+            return 0;
+        }
+
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(log));
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            in.readFully(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                throw new IllegalValueException(MESSAGE_NOT_REVIEW_LOG);
+            }
+            int version = readVarInt(in);
+            if (version != FORMAT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+        } catch (EOFException eofe) {
+            throw new IllegalValueException(MESSAGE_NOT_REVIEW_LOG);
+        }
+
+        int completeLength = log.length - in.available();
+        while (in.available() > 0) {
+            try {
+                reviews.add(readReview(in));
+                completeLength = log.length - in.available();
+            } catch (EOFException eofe) {
+                logger.warning("Review log ends with an incomplete review, which is ignored.");
+                break;
+            }
+        }
+        return completeLength;
+    }
+
+    /**
+     * Writes {@code review} as a record of the review log.
+     */
+    private static void writeReview(DataOutputStream out, Review review) throws IOException {
+        out.writeByte(review.getType().ordinal());
+        writeVarInt(out, review.getRating());
+        writeVarLong(out, review.getReviewTime());
+        writeVarLong(out, review.getLatency());
+        writeString(out, review.getDeckName());
+        writeString(out, review.getQuestion());
+    }
+
+    /**
+     * Reads a review written by {@link #writeReview(DataOutputStream, Review)}.
+     */
+    private static Review readReview(DataInputStream in) throws IOException, IllegalValueException {
+        int typeOrdinal = in.readUnsignedByte();
+        if (typeOrdinal >= ReviewType.values().length) {
+            throw new IllegalValueException(MESSAGE_INVALID_REVIEW_TYPE);
+        }
+        int rating = readVarInt(in);
+        long reviewTime = readVarLong(in);
+        long latency = readVarLong(in);
+        String deckName = readString(in);
+        String question = readString(in);
+        return new Review(ReviewType.values()[typeOrdinal], deckName, question, rating, reviewTime, latency);
+    }
+}
@@ -0,0 +1,796 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.ref.WeakReference;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTopDeck;
+import seedu.address.model.TopDeck;
+import seedu.address.model.deck.Card;
+import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.Difficulty;
+import seedu.address.model.deck.Name;
+import seedu.address.model.deck.UniqueCardList;
+import seedu.address.model.deck.exceptions.DeckLoadException;
+import seedu.address.model.deck.exceptions.DuplicateCardException;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access TopDeck data stored in a compact binary file on the hard disk.
+ * <p>
+ * The file starts with the bytes {@code TDCK}, a format version and a random generation as 8 bytes, chosen anew
+ * each time the file is written so that a journal kept beside it can tell which file it was written for; files
+ * before version 4 have no generation. The header is followed by one block for the cards of each deck. Each
+ * card is its question, answer, total rating, number of attempts, review schedule and the dictionary positions of
+ * its tags. The review schedule is the number of successful reviews in a row, the interval in days, the ease
+ * factor in thousandths and the due time; files of version 2 were written before it was kept. After the blocks
+ * comes the index: a dictionary of every tag name used, then the name and block length of each deck. The file
+ * ends with the position of the index as 8 bytes. Strings are written as their length followed by their UTF-8
+ * bytes, and every other number is written as a variable-length integer, so that small numbers take a single byte.
+ * <p>
+ * Reading the data file only reads its index. The cards of a deck are read from the data file the first time they
+ * are needed, so decks that are never opened cost neither time nor memory. The data file is kept open for this,
+ * and the blocks of decks that are still not loaded are copied over as they are when the data file is rewritten.
+ */
+public class BinaryTopDeckStorage implements TopDeckStorage {
+
+    public static final int FORMAT_VERSION = 4;
+    /** The oldest format version that can still be read, in which cards have no review schedule. */
+    public static final int MIN_FORMAT_VERSION = 2;
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Data file version %d is not supported.";
+    public static final String MESSAGE_NOT_BINARY_FILE = "Data file is not a binary TopDeck file.";
+    public static final String MESSAGE_INVALID_TAG_INDEX = "Data file refers to a tag that does not exist.";
+    public static final String MESSAGE_INVALID_LENGTH = "Data file contains an invalid length.";
+    public static final String MESSAGE_MISSING_FIELD_FORMAT = "Card's %s field is empty!";
+    public static final String MESSAGE_UNREADABLE_DECK_FORMAT = "The cards of deck %s could not be read.";
+
+    private static final byte[] MAGIC = "TDCK".getBytes(StandardCharsets.US_ASCII);
+    private static final int MAX_STRING_BYTES = 1 << 24;
+    /** Counts read from the file are not trusted with allocating more than this up front. */
+    private static final int INITIAL_CAPACITY_LIMIT = 1024;
+    /** The oldest format version whose header holds a generation. */
+    private static final int MIN_GENERATION_FORMAT_VERSION = 4;
+    /** The longest the magic bytes, the format version and the generation can be. */
+    private static final int MAX_HEADER_BYTES = MAGIC.length + 5 + Long.BYTES;
+
+    private static final SecureRandom generationSource = new SecureRandom();
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryTopDeckStorage.class);
+
+    private Path filePath;
+
+    private final Object lock = new Object();
+    /** The data file that decks read lazily load their cards from, or null. Guarded by {@code lock}. */
+    private FileChannel dataFile;
+    /** The tag dictionary of {@code dataFile}. Guarded by {@code lock}. */
+    private List<Tag> dataFileTags = new ArrayList<>();
+    /** The blocks of {@code dataFile} that decks read lazily load their cards from. Guarded by {@code lock}. */
+    private List<DeckBlock> deckBlocks = new ArrayList<>();
+
+    public BinaryTopDeckStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    @Override
+    public Path getTopDeckFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and starts like a binary TopDeck file.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+
+        try (InputStream in = Files.newInputStream(filePath)) {
+            byte[] start = new byte[MAGIC.length];
+            int read = 0;
+            while (read < start.length) {
+                int count = in.read(start, read, start.length - read);
+                if (count < 0) {
+                    return false;
+                }
+                read += count;
+            }
+            return Arrays.equals(start, MAGIC);
+        }
+    }
+
+    /**
+     * Reads the index of the data file. The cards of each deck are read the first time they are needed, and
+     * throw {@code DeckLoadException} then if they cannot be read.
+     *
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTopDeck> readTopDeck() throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        closeDataFile();
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+        Index index;
+        try {
+            index = readIndex(channel);
+        } catch (IOException | IllegalValueException e) {
+            channel.close();
+            throw toDataConversionException(filePath, e);
+        }
+
+        if (index.version != FORMAT_VERSION) {
+            // Blocks of an older version cannot be copied into a file of the current version, so they are all
+            // read now, and the data file is upgraded the next time it is saved.
+            try {
+                return Optional.of(readAllDecks(channel, index));
+            } catch (IOException | IllegalValueException | DuplicateCardException e) {
+                throw toDataConversionException(filePath, e);
+            } finally {
+                channel.close();
+            }
+        }
+
+        TopDeck topDeck = new TopDeck();
+        for (DeckBlock block : index.blocks) {
+            Deck deck = new Deck(block.name, () -> loadCards(block));
+            block.deck = new WeakReference<>(deck);
+            topDeck.addDeck(deck);
+        }
+        synchronized (lock) {
+            dataFile = channel;
+            dataFileTags = index.tags;
+            deckBlocks = index.blocks;
+        }
+        return Optional.of(topDeck);
+    }
+
+    /**
+     * Similar to {@link #readTopDeck()}, but a file other than the data file is read as a whole straight away.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTopDeck> readTopDeck(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            return readTopDeck();
+        }
+        if (!FileUtil.isFileExists(filePath)) {
+            logger.info("Binary file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            return Optional.of(readAllDecks(channel, readIndex(channel)));
+        } catch (IOException | IllegalValueException | DuplicateCardException e) {
+            throw toDataConversionException(filePath, e);
+        }
+    }
+
+    /**
+     * Returns the generation in the header of the binary file at {@code filePath}, without reading the rest of the
+     * file. Returns an empty {@code OptionalLong} if the file does not exist, is not a binary file, or was written
+     * before generations were kept.
+     */
+    @Override
+    public OptionalLong readGeneration(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return OptionalLong.empty();
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            Header header = readHeader(channel);
+            return header.generation == null ? OptionalLong.empty() : OptionalLong.of(header.generation);
+        } catch (IllegalValueException | EOFException e) {
+            return OptionalLong.empty();
+        }
+    }
+
+    /**
+     * Reads the cards of every deck in {@code index} from the file open in {@code channel}.
+     */
+    private static TopDeck readAllDecks(FileChannel channel, Index index) throws IOException, IllegalValueException {
+        TopDeck topDeck = new TopDeck();
+        for (DeckBlock block : index.blocks) {
+            topDeck.addDeck(new Deck(block.name,
+                    readCards(readBytes(channel, block.position, block.length), index.tags, index.version)));
+        }
+        return topDeck;
+    }
+
+    /**
+     * Reads the header and the index of the file open in {@code channel}.
+     *
+     * @throws IllegalValueException if the data is not in the expected format, or if there were any data
+     *     constraints violated.
+     */
+    private static Index readIndex(FileChannel channel) throws IOException, IllegalValueException {
+        Header header = readHeader(channel);
+        int version = header.version;
+        long blocksStart = header.length;
+
+        long size = channel.size();
+        long indexEnd = size - Long.BYTES;
+        long indexStart = ByteBuffer.wrap(readBytes(channel, indexEnd, Long.BYTES)).getLong();
+        if (indexStart < blocksStart || indexStart > indexEnd || indexEnd - indexStart > Integer.MAX_VALUE) {
+            throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+        }
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(
+                readBytes(channel, indexStart, (int) (indexEnd - indexStart))));
+
+        int tagCount = readLength(in);
+        List<Tag> tags = new ArrayList<>(Math.min(tagCount, INITIAL_CAPACITY_LIMIT));
+        for (int i = 0; i < tagCount; i++) {
+            String tagName = readString(in);
+            if (!Tag.isValidTagName(tagName)) {
+                throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
+            }
+            tags.add(new Tag(tagName));
+        }
+
+        int deckCount = readLength(in);
+        List<DeckBlock> blocks = new ArrayList<>(Math.min(deckCount, INITIAL_CAPACITY_LIMIT));
+        Set<Name> names = new HashSet<>();
+        long position = blocksStart;
+        for (int i = 0; i < deckCount; i++) {
+            String name = readString(in);
+            if (!Name.isValidName(name)) {
+                throw new IllegalValueException(Name.MESSAGE_NAME);
+            }
+            if (!names.add(new Name(name))) {
+                throw new IllegalValueException(JsonSerializableTopDeck.MESSAGE_DUPLICATE_DECK);
+            }
+            int length = readLength(in);
+            blocks.add(new DeckBlock(new Name(name), position, length));
+            position += length;
+        }
+        if (position != indexStart || in.available() != 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+        }
+        return new Index(version, tags, blocks);
+    }
+
+    /**
+     * Reads the header of the file open in {@code channel}.
+     *
+     * @throws IllegalValueException if the file is not a binary file of a supported version.
+     */
+    private static Header readHeader(FileChannel channel) throws IOException, IllegalValueException {
+        long size = channel.size();
+        if (size < MAGIC.length + Long.BYTES) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+        }
+
+        byte[] headerBytes = readBytes(channel, 0, (int) Math.min(size, MAX_HEADER_BYTES));
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(headerBytes));
+        byte[] magic = new byte[MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, MAGIC)) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+        }
+        int version = readVarInt(in);
+        if (version < MIN_FORMAT_VERSION || version > FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        Long generation = version >= MIN_GENERATION_FORMAT_VERSION ? in.readLong() : null;
+        return new Header(version, generation, headerBytes.length - in.available());
+    }
+
+    /**
+     * Reads the cards in {@code block}, written in format {@code version}, looking up their tags in {@code tags}.
+     */
+    private static List<Card> readCards(byte[] block, List<Tag> tags, int version)
+            throws IOException, IllegalValueException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(block));
+        int cardCount = readLength(in);
+        List<Card> cards = new ArrayList<>(Math.min(cardCount, INITIAL_CAPACITY_LIMIT));
+        for (int i = 0; i < cardCount; i++) {
+            cards.add(readCard(in, tags, version));
+        }
+        if (in.available() != 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+        }
+        return cards;
+    }
+
+    /**
+     * Reads a card written in format {@code version} from {@code in}, looking up its tags in {@code tags}.
+     */
+    private static Card readCard(DataInputStream in, List<Tag> tags, int version)
+            throws IOException, IllegalValueException {
+        String question = readString(in);
+        String answer = readString(in);
+        int totalRating = readVarInt(in);
+        int numberOfAttempts = readVarInt(in);
+        Difficulty difficulty = new Difficulty(numberOfAttempts, totalRating);
+        if (version >= 3) {
+            int repetitions = readVarInt(in);
+            int interval = readVarInt(in);
+            double easeFactor = readVarInt(in) / 1000.0;
+            long dueTime = readVarLong(in);
+            if (!Difficulty.isValidSchedule(repetitions, interval, easeFactor)) {
+                throw new IllegalValueException(Difficulty.MESSAGE_SCHEDULE_CONSTRAINTS);
+            }
+            difficulty = new Difficulty(numberOfAttempts, totalRating, repetitions, interval, easeFactor, dueTime);
+        }
+        int cardTagCount = readLength(in);
+        Set<Tag> cardTags = new HashSet<>();
+        for (int i = 0; i < cardTagCount; i++) {
+            int tagIndex = readVarInt(in);
+            if (tagIndex < 0 || tagIndex >= tags.size()) {
+                throw new IllegalValueException(MESSAGE_INVALID_TAG_INDEX);
+            }
+            cardTags.add(tags.get(tagIndex));
+        }
+
+        if (question.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD_FORMAT, "question"));
+        }
+        if (answer.isEmpty()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_FIELD_FORMAT, "answer"));
+        }
+        return new Card(question, answer, difficulty, cardTags);
+    }
+
+    /**
+     * Loads the cards of a deck read lazily from the data file. Runs on whichever thread first needs the cards.
+     */
+    private List<Card> loadCards(DeckBlock block) {
+        byte[] bytes;
+        List<Tag> tags;
+        try {
+            synchronized (lock) {
+                if (!block.isInDataFile || dataFile == null) {
+                    throw new IOException("The data file was closed");
+                }
+                bytes = readBytes(dataFile, block.position, block.length);
+                tags = dataFileTags;
+            }
+            logger.fine("Loading the cards of deck " + block.name + " from " + filePath);
+            return readCards(bytes, tags, FORMAT_VERSION);
+        } catch (IOException ioe) {
+            logger.warning("Error reading deck " + block.name + " from binary file " + filePath + ": " + ioe);
+            throw new UncheckedIOException(String.format(MESSAGE_UNREADABLE_DECK_FORMAT, block.name), ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in deck " + block.name + " of " + filePath + ": " + ive.getMessage());
+            throw new IllegalStateException(String.format(MESSAGE_UNREADABLE_DECK_FORMAT, block.name), ive);
+        }
+    }
+
+    @Override
+    public void saveTopDeck(ReadOnlyTopDeck topDeck) throws IOException {
+        saveTopDeck(topDeck, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveTopDeck(ReadOnlyTopDeck)}.
+     * The file is written next to {@code filePath} first, and then moved over it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTopDeck(ReadOnlyTopDeck topDeck, Path filePath) throws IOException {
+        requireNonNull(topDeck);
+        requireNonNull(filePath);
+
+        Map<Deck, DeckBlock> unloadedDecks = getUnloadedDecks();
+        List<Tag> tags;
+        synchronized (lock) {
+            // Copied blocks refer to tags by their positions in the dictionary of the data file, so it is kept.
+            tags = new ArrayList<>(dataFileTags);
+        }
+
+        FileUtil.createIfMissing(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        Map<DeckBlock, Long> copiedBlocks = new IdentityHashMap<>();
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                Files.newOutputStream(tempFilePath)))) {
+            writeTopDeck(topDeck, out, tags, unloadedDecks, copiedBlocks);
+        }
+
+        if (!filePath.equals(this.filePath)) {
+            FileUtil.replaceFile(tempFilePath, filePath);
+            return;
+        }
+
+        List<Deck> decksLeftOut = new ArrayList<>();
+        unloadedDecks.forEach((deck, block) -> {
+            if (!copiedBlocks.containsKey(block)) {
+                decksLeftOut.add(deck);
+            }
+        });
+        loadDecks(decksLeftOut);
+        replaceDataFile(tempFilePath, tags, copiedBlocks);
+    }
+
+    @Override
+    public void compactTopDeck(ReadOnlyTopDeck topDeck) throws IOException {
+        saveTopDeck(topDeck, filePath);
+    }
+
+    @Override
+    public void flushTopDeck() {
+        // saves are written straight away
+    }
+
+    /**
+     * Writes {@code topDeck} to {@code out}. The blocks of {@code unloadedDecks} are copied from the data file,
+     * and their new positions are put in {@code copiedBlocks}. Tags not in {@code tags} yet are added to it.
+     */
+    private void writeTopDeck(ReadOnlyTopDeck topDeck, DataOutputStream out, List<Tag> tags,
+            Map<Deck, DeckBlock> unloadedDecks, Map<DeckBlock, Long> copiedBlocks) throws IOException {
+        Map<String, Integer> tagIndices = new HashMap<>();
+        for (int i = 0; i < tags.size(); i++) {
+            tagIndices.put(tags.get(i).tagName, i);
+        }
+
+        out.write(MAGIC);
+        writeVarInt(out, FORMAT_VERSION);
+        out.writeLong(generationSource.nextLong());
+
+        List<Deck> decks = topDeck.getDeckList();
+        int[] blockLengths = new int[decks.size()];
+        for (int i = 0; i < decks.size(); i++) {
+            int blockStart = out.size();
+            DeckBlock block = unloadedDecks.get(decks.get(i));
+            if (block != null) {
+                out.write(readBlock(block));
+                copiedBlocks.put(block, (long) blockStart);
+            } else {
+                writeCards(out, decks.get(i).getCards(), tags, tagIndices);
+            }
+            blockLengths[i] = out.size() - blockStart;
+        }
+
+        long indexStart = out.size();
+        writeVarInt(out, tags.size());
+        for (Tag tag : tags) {
+            writeString(out, tag.tagName);
+        }
+        writeVarInt(out, decks.size());
+        for (int i = 0; i < decks.size(); i++) {
+            writeString(out, decks.get(i).getName().fullName);
+            writeVarInt(out, blockLengths[i]);
+        }
+        out.writeLong(indexStart);
+    }
+
+    /**
+     * Writes {@code cards} to {@code out}, adding the tags not in {@code tags} yet to it.
+     */
+    private static void writeCards(DataOutputStream out, UniqueCardList cards, List<Tag> tags,
+            Map<String, Integer> tagIndices) throws IOException {
+        writeVarInt(out, cards.size());
+        for (Card card : cards) {
+            writeString(out, card.getQuestion());
+            writeString(out, card.getAnswer());
+            Difficulty difficulty = card.getDifficultyObj();
+            writeVarInt(out, difficulty.getTotalRating());
+            writeVarInt(out, difficulty.getNumberOfAttempts());
+            writeVarInt(out, difficulty.getRepetitions());
+            writeVarInt(out, difficulty.getInterval());
+            writeVarInt(out, (int) Math.round(difficulty.getEaseFactor() * 1000));
+            writeVarLong(out, difficulty.getDueTime());
+            writeVarInt(out, card.getTags().size());
+            for (Tag tag : card.getTags()) {
+                Integer tagIndex = tagIndices.get(tag.tagName);
+                if (tagIndex == null) {
+                    tagIndex = tags.size();
+                    tags.add(tag);
+                    tagIndices.put(tag.tagName, tagIndex);
+                }
+                writeVarInt(out, tagIndex);
+            }
+        }
+    }
+
+    /**
+     * Returns the decks read lazily from the data file that are still in use and not loaded yet.
+     */
+    private Map<Deck, DeckBlock> getUnloadedDecks() {
+        List<DeckBlock> blocks;
+        synchronized (lock) {
+            blocks = new ArrayList<>(deckBlocks);
+        }
+
+        // Decks are only asked whether they are loaded outside the lock, as loading a deck takes the lock.
+        Map<Deck, DeckBlock> unloadedDecks = new IdentityHashMap<>();
+        for (DeckBlock block : blocks) {
+            Deck deck = block.deck.get();
+            if (deck != null && !deck.isLoaded()) {
+                unloadedDecks.put(deck, block);
+            }
+        }
+        return unloadedDecks;
+    }
+
+    /**
+     * Loads the cards of {@code decks}, so that they no longer need the data file.
+     * Decks whose cards cannot be read are left as they are, and fail again when they are opened.
+     */
+    private static void loadDecks(Collection<Deck> decks) {
+        for (Deck deck : decks) {
+            try {
+                deck.getCards();
+            } catch (DeckLoadException dle) {
+                logger.warning("Could not load deck " + deck.getName() + " before closing the data file: " + dle);
+            }
+        }
+    }
+
+    /**
+     * Returns the bytes of {@code block} in the data file.
+     */
+    private byte[] readBlock(DeckBlock block) throws IOException {
+        synchronized (lock) {
+            return readBytes(dataFile, block.position, block.length);
+        }
+    }
+
+    /**
+     * Replaces the data file with the file at {@code tempFilePath}, to which {@code copiedBlocks} were copied
+     * with {@code tags} as the tag dictionary. Decks read lazily from the data file whose blocks were not
+     * copied can no longer be loaded.
+     */
+    private void replaceDataFile(Path tempFilePath, List<Tag> tags, Map<DeckBlock, Long> copiedBlocks)
+            throws IOException {
+        synchronized (lock) {
+            // An open file cannot be replaced on some platforms, so the data file is closed first.
+            boolean wasOpen = dataFile != null;
+            closeOpenDataFile();
+            try {
+                FileUtil.replaceFile(tempFilePath, filePath);
+            } catch (IOException ioe) {
+                if (wasOpen) {
+                    dataFile = FileChannel.open(filePath, StandardOpenOption.READ);
+                }
+                throw ioe;
+            }
+
+            for (DeckBlock block : deckBlocks) {
+                Long position = copiedBlocks.get(block);
+                block.isInDataFile = position != null;
+                if (position != null) {
+                    block.position = position;
+                }
+            }
+            deckBlocks = new ArrayList<>(copiedBlocks.keySet());
+            if (deckBlocks.isEmpty()) {
+                dataFileTags = new ArrayList<>();
+                return;
+            }
+            dataFileTags = tags;
+            dataFile = FileChannel.open(filePath, StandardOpenOption.READ);
+        }
+    }
+
+    /**
+     * Loads the decks still read lazily from the data file, and closes it.
+     */
+    private void closeDataFile() {
+        loadDecks(getUnloadedDecks().keySet());
+        synchronized (lock) {
+            deckBlocks.forEach(block -> block.isInDataFile = false);
+            deckBlocks = new ArrayList<>();
+            dataFileTags = new ArrayList<>();
+            closeOpenDataFile();
+        }
+    }
+
+    /**
+     * Closes {@code dataFile} if it is open.
+     */
+    private void closeOpenDataFile() {
+        assert Thread.holdsLock(lock);
+
+        if (dataFile == null) {
+            return;
+        }
+        try {
+            dataFile.close();
+        } catch (IOException ioe) {
+            logger.warning("Error closing binary file " + filePath + ": " + ioe);
+        }
+        dataFile = null;
+    }
+
+    /**
+     * Returns the {@code length} bytes at {@code position} of the file open in {@code channel}.
+     */
+    private static byte[] readBytes(FileChannel channel, long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new EOFException();
+            }
+        }
+        return buffer.array();
+    }
+
+    /**
+     * Logs why the file at {@code filePath} could not be read, and wraps the cause in a
+     * {@code DataConversionException}.
+     */
+    private static DataConversionException toDataConversionException(Path filePath, Exception cause) {
+        if (cause instanceof IOException) {
+            logger.warning("Error reading from binary file " + filePath + ": " + cause);
+        } else {
+            logger.info("Illegal values found in " + filePath + ": " + cause.getMessage());
+        }
+        return new DataConversionException(cause);
+    }
+
+    /**
+     * Writes {@code value} as a variable-length integer: seven bits per byte, lowest bits first, with the top bit
+     * of each byte set if more bytes follow. Negative values are zigzag-encoded so that they stay short.
+     */
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        int remaining = (value << 1) ^ (value >> 31);
+        while ((remaining & ~0x7F) != 0) {
+            out.writeByte((remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte(remaining);
+    }
+
+    /**
+     * Reads an integer written by {@link #writeVarInt(DataOutputStream, int)}.
+     */
+    static int readVarInt(DataInputStream in) throws IOException, IllegalValueException {
+        int encoded = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            encoded |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (encoded >>> 1) ^ -(encoded & 1);
+            }
+        }
+        throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+    }
+
+    /**
+     * Writes {@code value} as a variable-length integer, like {@link #writeVarInt(DataOutputStream, int)}.
+     */
+    static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        long remaining = (value << 1) ^ (value >> 63);
+        while ((remaining & ~0x7FL) != 0) {
+            out.writeByte((int) (remaining & 0x7F) | 0x80);
+            remaining >>>= 7;
+        }
+        out.writeByte((int) remaining);
+    }
+
+    /**
+     * Reads an integer written by {@link #writeVarLong(DataOutputStream, long)}.
+     */
+    static long readVarLong(DataInputStream in) throws IOException, IllegalValueException {
+        long encoded = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = in.readUnsignedByte();
+            encoded |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return (encoded >>> 1) ^ -(encoded & 1);
+            }
+        }
+        throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+    }
+
+    /**
+     * Reads a count or length, which cannot be negative.
+     */
+    private static int readLength(DataInputStream in) throws IOException, IllegalValueException {
+        int length = readVarInt(in);
+        if (length < 0) {
+            throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+        }
+        return length;
+    }
+
+    /**
+     * Writes {@code value} as its length in bytes followed by its UTF-8 bytes.
+     */
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(out, bytes.length);
+        out.write(bytes);
+    }
+
+    /**
+     * Reads a string written by {@link #writeString(DataOutputStream, String)}.
+     */
+    static String readString(DataInputStream in) throws IOException, IllegalValueException {
+        int length = readLength(in);
+        if (length > MAX_STRING_BYTES) {
+            throw new IllegalValueException(MESSAGE_INVALID_LENGTH);
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * The format version and the generation, if any, in the header of a data file, and the length of the header.
+     */
+    private static class Header {
+        private final int version;
+        private final Long generation;
+        private final int length;
+
+        private Header(int version, Long generation, int length) {
+            this.version = version;
+            this.generation = generation;
+            this.length = length;
+        }
+    }
+
+    /**
+     * The format version, the tag dictionary and the deck blocks listed in the index of a data file.
+     */
+    private static class Index {
+        private final int version;
+        private final List<Tag> tags;
+        private final List<DeckBlock> blocks;
+
+        private Index(int version, List<Tag> tags, List<DeckBlock> blocks) {
+            this.version = version;
+            this.tags = tags;
+            this.blocks = blocks;
+        }
+    }
+
+    /**
+     * The block of a data file that holds the cards of a deck, and the deck read lazily from it, if any.
+     * Fields other than {@code name} and {@code length} are guarded by the lock of the storage.
+     */
+    private static class DeckBlock {
+        private final Name name;
+        private final int length;
+        private long position;
+        private boolean isInDataFile = true;
+        private WeakReference<Deck> deck = new WeakReference<>(null);
+
+        private DeckBlock(Name name, long position, int length) {
+            this.name = name;
+            this.position = position;
+            this.length = length;
+        }
+    }
+}
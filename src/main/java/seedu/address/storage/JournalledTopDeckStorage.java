@@ -0,0 +1,438 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTopDeck;
+import seedu.address.model.TopDeck;
+import seedu.address.model.deck.Card;
+import seedu.address.model.deck.CardChange;
+import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.Name;
+import seedu.address.model.deck.UniqueCardList;
+
+/**
+ * A {@code TopDeckStorage} that appends the changes made since the previous save to a journal file kept next to
+ * the data file, instead of rewriting the whole data file on every save.
+ * <p>
+ * Each line of the journal is a compact {@link JsonAdaptedJournalEntry}. The first line identifies the data file
+ * the journal applies to, so that a journal left behind by an interrupted compaction is ignored. A data file is
+ * identified by the generation in its header where its format keeps one, so that only the header is read, and by
+ * the checksum of its contents otherwise.
+ * The journal is compacted into the data file once it holds more than a given number of entries, and whenever
+ * {@link #compactTopDeck(ReadOnlyTopDeck)} is called.
+ * <p>
+ * Changes are found by comparing the decks being saved with the decks saved previously: {@code TopDeck} replaces
+ * a deck whenever its cards change, so an unchanged deck is the very same object. A deck whose cards were added,
+ * edited or removed shares its unchanged cards with the version it replaced, so only the changed cards are
+ * journalled, unless so many changed that the whole deck is journalled instead. Ratings update a card in place;
+ * they are found by comparing the rating number each card keeps with the rating count of its deck when it was
+ * saved.
+ */
+public class JournalledTopDeckStorage implements TopDeckStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_MAX_JOURNAL_ENTRIES = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalledTopDeckStorage.class);
+    private static final int CHECKSUM_BUFFER_SIZE = 8192;
+    /** The share of the cards of a deck that may change before the whole deck is journalled instead. */
+    private static final double MAX_CHANGED_CARD_SHARE = 0.5;
+
+    private final TopDeckStorage snapshotStorage;
+    private final int maxJournalEntries;
+
+    /** The decks as last saved or read, or null if the next save has to rewrite the data file. */
+    private List<Deck> savedDecks;
+    /** The rating count of each deck in {@code savedDecks} when it was saved. */
+    private final Map<Deck, Integer> savedRatingCounts = new IdentityHashMap<>();
+    /** The first entry of a journal for the data file as last saved or read. */
+    private JsonAdaptedJournalEntry snapshotEntry;
+    private int journalEntryCount;
+
+    public JournalledTopDeckStorage(TopDeckStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_MAX_JOURNAL_ENTRIES);
+    }
+
+    public JournalledTopDeckStorage(TopDeckStorage snapshotStorage, int maxJournalEntries) {
+        requireNonNull(snapshotStorage);
+        this.snapshotStorage = snapshotStorage;
+        this.maxJournalEntries = maxJournalEntries;
+    }
+
+    @Override
+    public Path getTopDeckFilePath() {
+        return snapshotStorage.getTopDeckFilePath();
+    }
+
+    /**
+     * Returns the path of the journal kept for the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyTopDeck> readTopDeck() throws DataConversionException, IOException {
+        return readTopDeck(getTopDeckFilePath());
+    }
+
+    /**
+     * Reads the data file at {@code filePath} and replays its journal, if any, on top of it.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataConversionException if the data file or the journal is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTopDeck> readTopDeck(Path filePath) throws DataConversionException, IOException {
+        requireNonNull(filePath);
+        boolean isOwnFile = filePath.equals(getTopDeckFilePath());
+        if (isOwnFile) {
+            savedDecks = null;
+        }
+
+        Optional<ReadOnlyTopDeck> snapshot = snapshotStorage.readTopDeck(filePath);
+        if (!snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        JsonAdaptedJournalEntry expectedSnapshotEntry = snapshotEntryFor(filePath);
+        List<Deck> decks = new ArrayList<>(snapshot.get().getDeckList());
+        Optional<Integer> replayedEntryCount = replayJournal(getJournalFilePath(filePath), expectedSnapshotEntry,
+                decks);
+
+        TopDeck topDeck = new TopDeck();
+        topDeck.setDecks(decks);
+        if (isOwnFile && replayedEntryCount.isPresent()) {
+            snapshotEntry = expectedSnapshotEntry;
+            journalEntryCount = replayedEntryCount.get();
+            rememberSavedDecks(decks, ratingCountsOf(decks));
+        }
+        return Optional.of(topDeck);
+    }
+
+    /**
+     * Replays onto {@code decks} the journal at {@code journalFilePath}, if it starts with
+     * {@code expectedSnapshotEntry}.
+     * Returns the number of entries in the journal, or an empty {@code Optional} if the journal cannot be
+     * appended to and the data file has to be rewritten on the next save.
+     *
+     * @throws DataConversionException if an entry of the journal is not in the correct format.
+     */
+    private Optional<Integer> replayJournal(Path journalFilePath, JsonAdaptedJournalEntry expectedSnapshotEntry,
+            List<Deck> decks)
+            throws DataConversionException, IOException {
+        if (!FileUtil.isFileExists(journalFilePath)) {
+            return Optional.of(0);
+        }
+
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            JsonAdaptedJournalEntry entry;
+            try {
+                entry = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalEntry.class);
+            } catch (IOException ioe) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Ignoring incomplete last entry of journal " + journalFilePath);
+                    return Optional.empty();
+                }
+                throw new DataConversionException(ioe);
+            }
+
+            if (i == 0) {
+                if (!entry.isSameSnapshot(expectedSnapshotEntry)) {
+                    logger.info("Ignoring journal " + journalFilePath + " as it was written for an older data file");
+                    return Optional.empty();
+                }
+                continue;
+            }
+
+            try {
+                entry.applyTo(decks);
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + journalFilePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+        }
+        return Optional.of(Math.max(lines.size() - 1, 0));
+    }
+
+    @Override
+    public void saveTopDeck(ReadOnlyTopDeck topDeck) throws IOException {
+        requireNonNull(topDeck);
+
+        if (savedDecks == null) {
+            compactTopDeck(topDeck);
+            return;
+        }
+
+        List<JsonAdaptedJournalEntry> entries = findChanges(topDeck.getDeckList());
+        if (entries.isEmpty()) {
+            return;
+        }
+        if (journalEntryCount + entries.size() > maxJournalEntries) {
+            compactTopDeck(topDeck);
+            return;
+        }
+
+        appendToJournal(entries);
+    }
+
+    /**
+     * Saves {@code topDeck} to {@code filePath} as a whole. Saves to the usual data file are journalled as in
+     * {@link #saveTopDeck(ReadOnlyTopDeck)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveTopDeck(ReadOnlyTopDeck topDeck, Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        if (filePath.equals(getTopDeckFilePath())) {
+            saveTopDeck(topDeck);
+            return;
+        }
+        snapshotStorage.saveTopDeck(topDeck, filePath);
+    }
+
+    /**
+     * Rewrites the data file with {@code topDeck} and deletes the journal.
+     * The journal is only deleted once the data file has been written, and is ignored from then on as it was
+     * written for the previous data file.
+     */
+    @Override
+    public void compactTopDeck(ReadOnlyTopDeck topDeck) throws IOException {
+        requireNonNull(topDeck);
+        Path filePath = getTopDeckFilePath();
+        savedDecks = null;
+
+        // counted first, so that cards rated while the data file is written are journalled on the next save
+        Map<Deck, Integer> ratingCounts = ratingCountsOf(topDeck.getDeckList());
+        snapshotStorage.saveTopDeck(topDeck, filePath);
+        Files.deleteIfExists(getJournalFilePath(filePath));
+
+        snapshotEntry = snapshotEntryFor(filePath);
+        journalEntryCount = 0;
+        rememberSavedDecks(topDeck.getDeckList(), ratingCounts);
+        logger.fine("Compacted journal into data file: " + filePath);
+    }
+
+    @Override
+    public void flushTopDeck() {
+        // saves are written straight away
+    }
+
+    /**
+     * Returns the journal entries that turn the saved decks into {@code decks}, and remembers {@code decks} as
+     * the saved decks.
+     */
+    private List<JsonAdaptedJournalEntry> findChanges(List<Deck> decks) {
+        List<JsonAdaptedJournalEntry> entries = new ArrayList<>();
+
+        Set<Name> names = new HashSet<>();
+        decks.forEach(deck -> names.add(deck.getName()));
+        for (Deck savedDeck : new ArrayList<>(savedDecks)) {
+            if (!names.contains(savedDeck.getName())) {
+                entries.add(JsonAdaptedJournalEntry.removeDeck(savedDeck));
+                forgetSavedDeck(savedDeck);
+            }
+        }
+
+        for (int i = 0; i < decks.size(); i++) {
+            Deck deck = decks.get(i);
+            if (i < savedDecks.size() && savedDecks.get(i) == deck) {
+                findRatings(i, deck, entries);
+                continue;
+            }
+            if (i < savedDecks.size() && findCardChanges(i, savedDecks.get(i), deck, entries)) {
+                continue;
+            }
+
+            int ratingCount = deck.getRatingCount();
+            entries.add(JsonAdaptedJournalEntry.putDeck(i, deck));
+            for (Deck savedDeck : savedDecks) {
+                if (savedDeck.isSameDeck(deck)) {
+                    forgetSavedDeck(savedDeck);
+                    break;
+                }
+            }
+            savedDecks.add(i, deck);
+            savedRatingCounts.put(deck, ratingCount);
+        }
+
+        assert savedDecks.equals(decks);
+        return entries;
+    }
+
+    /**
+     * Adds to {@code entries} the cards added, edited and removed to turn {@code savedDeck}, saved at position
+     * {@code deckIndex}, into {@code deck}, followed by the ratings since, and remembers {@code deck} as saved in
+     * its place. Returns false without doing so if the whole deck has to be journalled instead: when {@code deck}
+     * is not an edited version of {@code savedDeck}, when too many cards changed, or when replaying the changes
+     * one at a time would give a card the question of another.
+     */
+    private boolean findCardChanges(int deckIndex, Deck savedDeck, Deck deck, List<JsonAdaptedJournalEntry> entries) {
+        if (!savedDeck.isSameDeck(deck) || !savedDeck.isLoaded() || !deck.isLoaded()) {
+            return false;
+        }
+        UniqueCardList savedCards = savedDeck.getCards();
+        UniqueCardList cards = deck.getCards();
+        int maxChanges = (int) (cards.size() * MAX_CHANGED_CARD_SHARE);
+        Optional<List<CardChange>> foundChanges = cards.findChangesSince(savedCards, maxChanges);
+        if (!foundChanges.isPresent()) {
+            return false;
+        }
+
+        // removals come first, then edits, then additions, so that a card may take the question of a removed card
+        List<JsonAdaptedJournalEntry> removals = new ArrayList<>();
+        List<JsonAdaptedJournalEntry> edits = new ArrayList<>();
+        List<JsonAdaptedJournalEntry> additions = new ArrayList<>();
+        Set<String> removedQuestions = new HashSet<>();
+        for (CardChange change : foundChanges.get()) {
+            if (change.getNewCard() == null) {
+                removals.add(JsonAdaptedJournalEntry.removeCard(deckIndex, change.getOldCard()));
+                removedQuestions.add(change.getOldCard().getQuestion());
+            } else if (change.getOldCard() == null) {
+                additions.add(JsonAdaptedJournalEntry.addCard(deckIndex, change.getNewCard()));
+            } else {
+                edits.add(JsonAdaptedJournalEntry.setCard(deckIndex, change.getOldCard(), change.getNewCard()));
+            }
+        }
+        for (CardChange change : foundChanges.get()) {
+            if (change.getOldCard() != null && change.getNewCard() != null
+                    && !change.getOldCard().isSameCard(change.getNewCard())
+                    && savedCards.contains(change.getNewCard())
+                    && !removedQuestions.contains(change.getNewCard().getQuestion())) {
+                return false;
+            }
+        }
+        entries.addAll(removals);
+        entries.addAll(edits);
+        entries.addAll(additions);
+
+        // the versions share their owner, so ratings since the saved version are counted from its rating count
+        int savedRatingCount = savedRatingCounts.get(savedDeck);
+        savedDecks.set(deckIndex, deck);
+        savedRatingCounts.remove(savedDeck);
+        savedRatingCounts.put(deck, savedRatingCount);
+        findRatings(deckIndex, deck, entries);
+        return true;
+    }
+
+    /**
+     * Adds to {@code entries} the ratings of the cards of {@code deck}, found at position {@code deckIndex},
+     * that were rated since the deck was saved.
+     */
+    private void findRatings(int deckIndex, Deck deck, List<JsonAdaptedJournalEntry> entries) {
+        // A deck loaded after it was saved was saved with a rating count of 0, as its cards are loaded before
+        // they are rated.
+        int savedRatingCount = savedRatingCounts.get(deck);
+        int ratingCount = deck.getRatingCount();
+        if (ratingCount == savedRatingCount) {
+            return;
+        }
+        UniqueCardList cards = deck.getCards();
+        for (Card card : cards.getCardsRatedSince(savedRatingCount)) {
+            int cardIndex = cards.internalList.indexOf(card);
+            if (cardIndex >= 0) {
+                entries.add(JsonAdaptedJournalEntry.rateCard(deckIndex, cardIndex, card));
+            }
+        }
+        savedRatingCounts.put(deck, ratingCount);
+    }
+
+    /**
+     * Appends {@code entries} to the journal, starting a new journal if there is none.
+     */
+    private void appendToJournal(List<JsonAdaptedJournalEntry> entries) throws IOException {
+        StringBuilder lines = new StringBuilder();
+        if (journalEntryCount == 0) {
+            lines.append(JsonUtil.toCompactJsonString(snapshotEntry)).append('\n');
+        }
+        for (JsonAdaptedJournalEntry entry : entries) {
+            lines.append(JsonUtil.toCompactJsonString(entry)).append('\n');
+        }
+
+        Path journalFilePath = getJournalFilePath(getTopDeckFilePath());
+        try {
+            Files.write(journalFilePath, lines.toString().getBytes(StandardCharsets.UTF_8),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        } catch (IOException ioe) {
+            // The journal may now end with part of an entry, so the data file has to be rewritten next time.
+            savedDecks = null;
+            throw ioe;
+        }
+        journalEntryCount += entries.size();
+    }
+
+    /**
+     * Remembers {@code decks} as the saved decks, with the given rating counts.
+     */
+    private void rememberSavedDecks(List<Deck> decks, Map<Deck, Integer> ratingCounts) {
+        savedDecks = new ArrayList<>(decks);
+        savedRatingCounts.clear();
+        savedRatingCounts.putAll(ratingCounts);
+    }
+
+    /**
+     * Removes {@code deck} from the saved decks.
+     */
+    private void forgetSavedDeck(Deck deck) {
+        savedDecks.removeIf(savedDeck -> savedDeck == deck);
+        savedRatingCounts.remove(deck);
+    }
+
+    /**
+     * Returns the rating count of each of {@code decks}.
+     */
+    private static Map<Deck, Integer> ratingCountsOf(List<Deck> decks) {
+        Map<Deck, Integer> ratingCounts = new IdentityHashMap<>();
+        decks.forEach(deck -> ratingCounts.put(deck, deck.getRatingCount()));
+        return ratingCounts;
+    }
+
+    /**
+     * Returns the entry that starts a journal for the data file at {@code filePath}: its generation if its format
+     * keeps one, or else the checksum of its contents, which reads the whole file.
+     */
+    private JsonAdaptedJournalEntry snapshotEntryFor(Path filePath) throws IOException {
+        OptionalLong generation = snapshotStorage.readGeneration(filePath);
+        return generation.isPresent()
+                ? JsonAdaptedJournalEntry.snapshotOfGeneration(generation.getAsLong())
+                : JsonAdaptedJournalEntry.snapshotWithChecksum(checksumOf(filePath));
+    }
+
+    /**
+     * Returns the checksum of the contents of the file at {@code filePath}.
+     */
+    private static long checksumOf(Path filePath) throws IOException {
+        try (CheckedInputStream in = new CheckedInputStream(Files.newInputStream(filePath), new CRC32())) {
+            byte[] buffer = new byte[CHECKSUM_BUFFER_SIZE];
+            while (in.read(buffer) != -1) {
+                // the checksum is updated as the file is read
+            }
+            return in.getChecksum().getValue();
+        }
+    }
+}
@@ -24,21 +24,42 @@ public class JsonAdaptedCard {
     private final String answer;
     private final int totalRating;
     private final int numberOfAttempts;
+    private final Integer repetitions;
+    private final Integer interval;
+    private final Double easeFactor;
+    private final Long dueTime;
 
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
 
+    /**
+     * Constructs a {@code JsonAdaptedCard} with the given card details, for a card that was never reviewed.
+     */
+    public JsonAdaptedCard(String question, String answer, List<JsonAdaptedTag> tagged, int totalRating,
+                           int numberOfAttempts) {
+        this(question, answer, tagged, totalRating, numberOfAttempts, null, null, null, null);
+    }
+
     /**
      * Constructs a {@code JsonAdaptedCard} with the given card details.
+     * The review schedule is missing from cards saved before it was kept, and defaults to being due straight away.
      */
     @JsonCreator
     public JsonAdaptedCard(@JsonProperty("question") String question, @JsonProperty("answer") String answer,
                            @JsonProperty("tagged") List<JsonAdaptedTag> tagged,
                            @JsonProperty("totalRating") int totalRating,
-                           @JsonProperty("numberOfAttempts") int numberOfAttempts) {
+                           @JsonProperty("numberOfAttempts") int numberOfAttempts,
+                           @JsonProperty("repetitions") Integer repetitions,
+                           @JsonProperty("interval") Integer interval,
+                           @JsonProperty("easeFactor") Double easeFactor,
+                           @JsonProperty("dueTime") Long dueTime) {
         this.question = question;
         this.answer = answer;
         this.totalRating = totalRating;
         this.numberOfAttempts = numberOfAttempts;
+        this.repetitions = repetitions;
+        this.interval = interval;
+        this.easeFactor = easeFactor;
+        this.dueTime = dueTime;
         if (tagged != null) {
             this.tags.addAll(tagged);
         }
@@ -53,6 +74,10 @@ public class JsonAdaptedCard {
         Difficulty difficultyObj = source.getDifficultyObj();
         this.totalRating = difficultyObj.getTotalRating();
         this.numberOfAttempts = difficultyObj.getNumberOfAttempts();
+        this.repetitions = difficultyObj.getRepetitions();
+        this.interval = difficultyObj.getInterval();
+        this.easeFactor = difficultyObj.getEaseFactor();
+        this.dueTime = difficultyObj.getDueTime();
         this.tags.addAll(source.getTags().stream().map(JsonAdaptedTag::new).collect(Collectors.toList()));
     }
 
@@ -77,7 +102,16 @@ public class JsonAdaptedCard {
 
         final Set<Tag> modelTags = new HashSet<Tag>(cardTags);
 
-        Difficulty difficulty = new Difficulty(numberOfAttempts, totalRating);
+        int modelRepetitions = repetitions == null ? 0 : repetitions;
+        int modelInterval = interval == null ? 0 : interval;
+        double modelEaseFactor = easeFactor == null ? Difficulty.DEFAULT_EASE_FACTOR : easeFactor;
+        long modelDueTime = dueTime == null ? 0 : dueTime;
+        if (!Difficulty.isValidSchedule(modelRepetitions, modelInterval, modelEaseFactor)) {
+            throw new IllegalValueException(Difficulty.MESSAGE_SCHEDULE_CONSTRAINTS);
+        }
+
+        Difficulty difficulty = new Difficulty(numberOfAttempts, totalRating, modelRepetitions, modelInterval,
+                modelEaseFactor, modelDueTime);
 
         return new Card(question, answer, difficulty, modelTags);
     }
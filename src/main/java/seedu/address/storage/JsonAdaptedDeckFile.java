@@ -0,0 +1,32 @@
+package seedu.address.storage;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * Jackson-friendly entry of the manifest of a sharded data file, naming a deck and the file it is saved in.
+ */
+class JsonAdaptedDeckFile {
+
+    @JsonProperty(required = true)
+    private final String name;
+    @JsonProperty(required = true)
+    private final String file;
+
+    /**
+     * Constructs a {@code JsonAdaptedDeckFile} with the given deck name and file name.
+     */
+    @JsonCreator
+    public JsonAdaptedDeckFile(@JsonProperty("name") String name, @JsonProperty("file") String file) {
+        this.name = name;
+        this.file = file;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getFile() {
+        return file;
+    }
+}
@@ -0,0 +1,326 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Objects;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.deck.Card;
+import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.Difficulty;
+
+/**
+ * Jackson-friendly version of a single change recorded in the TopDeck journal.
+ * Only the fields used by the entry's {@link Type} are written out.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalEntry {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal entry's %s field is missing!";
+    public static final String MESSAGE_UNKNOWN_DECK = "Journal entry refers to a deck that does not exist: %s";
+    public static final String MESSAGE_UNKNOWN_CARD = "Journal entry refers to a card that does not exist: %s";
+    public static final String MESSAGE_DUPLICATE_CARD = "Journal entry adds a card that already exists: %s";
+
+    /**
+     * The kinds of journal entries.
+     */
+    enum Type {
+        /** The first entry of a journal, identifying the data file the journal applies to. */
+        SNAPSHOT,
+        /** Puts a deck at a position, replacing the deck with the same name if there is one. */
+        PUT_DECK,
+        /** Removes the deck with a name. */
+        REMOVE_DECK,
+        /** Sets the difficulty of a card. */
+        RATE_CARD,
+        /** Adds a card to the end of a deck. */
+        ADD_CARD,
+        /** Removes the card with a question from a deck. */
+        REMOVE_CARD,
+        /** Replaces the card with a question by an edited card, keeping its position in the deck. */
+        SET_CARD
+    }
+
+    private final Type type;
+    private final Long generation;
+    private final Long checksum;
+    private final Integer deckIndex;
+    private final Integer cardIndex;
+    private final String deckName;
+    private final JsonAdaptedDeck deck;
+    private final String question;
+    private final JsonAdaptedCard card;
+    private final Integer totalRating;
+    private final Integer numberOfAttempts;
+    private final Integer repetitions;
+    private final Integer interval;
+    private final Double easeFactor;
+    private final Long dueTime;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given entry details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("type") Type type, @JsonProperty("generation") Long generation,
+                                   @JsonProperty("checksum") Long checksum,
+                                   @JsonProperty("deckIndex") Integer deckIndex,
+                                   @JsonProperty("cardIndex") Integer cardIndex,
+                                   @JsonProperty("deckName") String deckName,
+                                   @JsonProperty("deck") JsonAdaptedDeck deck,
+                                   @JsonProperty("question") String question,
+                                   @JsonProperty("card") JsonAdaptedCard card,
+                                   @JsonProperty("totalRating") Integer totalRating,
+                                   @JsonProperty("numberOfAttempts") Integer numberOfAttempts,
+                                   @JsonProperty("repetitions") Integer repetitions,
+                                   @JsonProperty("interval") Integer interval,
+                                   @JsonProperty("easeFactor") Double easeFactor,
+                                   @JsonProperty("dueTime") Long dueTime) {
+        this.type = type;
+        this.generation = generation;
+        this.checksum = checksum;
+        this.deckIndex = deckIndex;
+        this.cardIndex = cardIndex;
+        this.deckName = deckName;
+        this.deck = deck;
+        this.question = question;
+        this.card = card;
+        this.totalRating = totalRating;
+        this.numberOfAttempts = numberOfAttempts;
+        this.repetitions = repetitions;
+        this.interval = interval;
+        this.easeFactor = easeFactor;
+        this.dueTime = dueTime;
+    }
+
+    /**
+     * Returns the entry that starts a journal kept on top of a data file of the given {@code generation}.
+     */
+    static JsonAdaptedJournalEntry snapshotOfGeneration(long generation) {
+        return new JsonAdaptedJournalEntry(Type.SNAPSHOT, generation, null, null, null, null, null, null, null,
+                null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns the entry that starts a journal kept on top of a data file that keeps no generation, whose
+     * contents have the given {@code checksum}.
+     */
+    static JsonAdaptedJournalEntry snapshotWithChecksum(long checksum) {
+        return new JsonAdaptedJournalEntry(Type.SNAPSHOT, null, checksum, null, null, null, null, null, null, null,
+                null, null, null, null, null);
+    }
+
+    /**
+     * Returns the entry that puts {@code deck} at position {@code deckIndex}.
+     */
+    static JsonAdaptedJournalEntry putDeck(int deckIndex, Deck deck) {
+        return new JsonAdaptedJournalEntry(Type.PUT_DECK, null, null, deckIndex, null, null,
+                new JsonAdaptedDeck(deck), null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns the entry that removes {@code deck}.
+     */
+    static JsonAdaptedJournalEntry removeDeck(Deck deck) {
+        return new JsonAdaptedJournalEntry(Type.REMOVE_DECK, null, null, null, null, deck.getName().fullName, null,
+                null, null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns the entry that adds {@code card} to the end of the deck at position {@code deckIndex}.
+     */
+    static JsonAdaptedJournalEntry addCard(int deckIndex, Card card) {
+        return new JsonAdaptedJournalEntry(Type.ADD_CARD, null, null, deckIndex, null, null, null, null,
+                new JsonAdaptedCard(card), null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns the entry that removes {@code card} from the deck at position {@code deckIndex}.
+     */
+    static JsonAdaptedJournalEntry removeCard(int deckIndex, Card card) {
+        return new JsonAdaptedJournalEntry(Type.REMOVE_CARD, null, null, deckIndex, null, null, null,
+                card.getQuestion(), null, null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns the entry that replaces {@code target} by {@code editedCard} in the deck at position
+     * {@code deckIndex}.
+     */
+    static JsonAdaptedJournalEntry setCard(int deckIndex, Card target, Card editedCard) {
+        return new JsonAdaptedJournalEntry(Type.SET_CARD, null, null, deckIndex, null, null, null,
+                target.getQuestion(), new JsonAdaptedCard(editedCard), null, null, null, null, null, null);
+    }
+
+    /**
+     * Returns the entry that sets the difficulty of {@code card}, found at position {@code cardIndex} of the
+     * deck at position {@code deckIndex}.
+     */
+    static JsonAdaptedJournalEntry rateCard(int deckIndex, int cardIndex, Card card) {
+        Difficulty difficulty = card.getDifficultyObj();
+        return new JsonAdaptedJournalEntry(Type.RATE_CARD, null, null, deckIndex, cardIndex, null, null,
+                card.getQuestion(), null, difficulty.getTotalRating(), difficulty.getNumberOfAttempts(),
+                difficulty.getRepetitions(), difficulty.getInterval(), difficulty.getEaseFactor(),
+                difficulty.getDueTime());
+    }
+
+    Type getType() {
+        return type;
+    }
+
+    /**
+     * Returns true if this entry and {@code other} both start a journal, for the same data file.
+     */
+    boolean isSameSnapshot(JsonAdaptedJournalEntry other) {
+        return type == Type.SNAPSHOT && other.type == Type.SNAPSHOT
+                && Objects.equals(generation, other.generation) && Objects.equals(checksum, other.checksum);
+    }
+
+    /**
+     * Makes the change described by this entry to {@code decks}.
+     * The decks in {@code decks} must not be shared with a model, as changes to cards are made inside their deck.
+     *
+     * @throws IllegalValueException if the entry is incomplete or does not fit {@code decks}.
+     */
+    void applyTo(List<Deck> decks) throws IllegalValueException {
+        requireNonNull(decks);
+
+        if (type == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "type"));
+        }
+
+        switch (type) {
+            case PUT_DECK:
+                requireField(deckIndex, "deckIndex");
+                requireField(deck, "deck");
+                Deck putDeck = deck.toModelType();
+                int existingIndex = indexOfDeckNamed(decks, putDeck.getName().fullName);
+                if (existingIndex >= 0) {
+                    decks.remove(existingIndex);
+                }
+                decks.add(Math.min(Math.max(deckIndex, 0), decks.size()), putDeck);
+                break;
+            case REMOVE_DECK:
+                requireField(deckName, "deckName");
+                int removedIndex = indexOfDeckNamed(decks, deckName);
+                if (removedIndex < 0) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_DECK, deckName));
+                }
+                decks.remove(removedIndex);
+                break;
+            case RATE_CARD:
+                requireField(deckIndex, "deckIndex");
+                requireField(cardIndex, "cardIndex");
+                requireField(question, "question");
+                requireField(totalRating, "totalRating");
+                requireField(numberOfAttempts, "numberOfAttempts");
+                Deck ratedDeck = deckAt(decks, deckIndex);
+                List<Card> cards = ratedDeck.getCards().internalList;
+                if (cardIndex < 0 || cardIndex >= cards.size()
+                        || !cards.get(cardIndex).getQuestion().equals(question)) {
+                    throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_CARD, question));
+                }
+                Card ratedCard = cards.get(cardIndex);
+                ratedDeck.setCard(ratedCard, new Card(ratedCard.getQuestion(), ratedCard.getAnswer(), toDifficulty(),
+                        ratedCard.getTags()));
+                break;
+            case ADD_CARD:
+                requireField(deckIndex, "deckIndex");
+                requireField(card, "card");
+                Deck addedToDeck = deckAt(decks, deckIndex);
+                Card addedCard = card.toModelType();
+                if (addedToDeck.hasCard(addedCard)) {
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_CARD, addedCard.getQuestion()));
+                }
+                addedToDeck.addCard(addedCard);
+                break;
+            case REMOVE_CARD:
+                requireField(deckIndex, "deckIndex");
+                requireField(question, "question");
+                Deck removedFromDeck = deckAt(decks, deckIndex);
+                removedFromDeck.removeCard(cardWithQuestion(removedFromDeck, question));
+                break;
+            case SET_CARD:
+                requireField(deckIndex, "deckIndex");
+                requireField(question, "question");
+                requireField(card, "card");
+                Deck editedDeck = deckAt(decks, deckIndex);
+                Card target = cardWithQuestion(editedDeck, question);
+                Card editedCard = card.toModelType();
+                if (!target.isSameCard(editedCard) && editedDeck.hasCard(editedCard)) {
+                    throw new IllegalValueException(String.format(MESSAGE_DUPLICATE_CARD, editedCard.getQuestion()));
+                }
+                editedDeck.setCard(target, editedCard);
+                break;
+            default:
+                throw new IllegalValueException("Journal entry of type " + type + " cannot be applied to decks.");
+        }
+    }
+
+    /**
+     * Returns the difficulty set by a rating entry. The review schedule is missing from entries written before it
+     * was kept, and defaults to being due straight away.
+     *
+     * @throws IllegalValueException if the review schedule is invalid.
+     */
+    private Difficulty toDifficulty() throws IllegalValueException {
+        int ratedRepetitions = repetitions == null ? 0 : repetitions;
+        int ratedInterval = interval == null ? 0 : interval;
+        double ratedEaseFactor = easeFactor == null ? Difficulty.DEFAULT_EASE_FACTOR : easeFactor;
+        long ratedDueTime = dueTime == null ? 0 : dueTime;
+        if (!Difficulty.isValidSchedule(ratedRepetitions, ratedInterval, ratedEaseFactor)) {
+            throw new IllegalValueException(Difficulty.MESSAGE_SCHEDULE_CONSTRAINTS);
+        }
+        return new Difficulty(numberOfAttempts, totalRating, ratedRepetitions, ratedInterval, ratedEaseFactor,
+                ratedDueTime);
+    }
+
+    /**
+     * Throws an {@code IllegalValueException} if {@code value} is missing.
+     */
+    private static void requireField(Object value, String fieldName) throws IllegalValueException {
+        if (value == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, fieldName));
+        }
+    }
+
+    /**
+     * Returns the deck at position {@code deckIndex} of {@code decks}.
+     *
+     * @throws IllegalValueException if there is no such deck.
+     */
+    private static Deck deckAt(List<Deck> decks, int deckIndex) throws IllegalValueException {
+        if (deckIndex < 0 || deckIndex >= decks.size()) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_DECK, deckIndex));
+        }
+        return decks.get(deckIndex);
+    }
+
+    /**
+     * Returns the card of {@code deck} with {@code question}.
+     *
+     * @throws IllegalValueException if there is no such card.
+     */
+    private static Card cardWithQuestion(Deck deck, String question) throws IllegalValueException {
+        Card card = deck.getCards().getCard(question);
+        if (card == null) {
+            throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_CARD, question));
+        }
+        return card;
+    }
+
+    /**
+     * Returns the position of the deck named {@code name} in {@code decks}, or -1 if there is none.
+     */
+    private static int indexOfDeckNamed(List<Deck> decks, String name) {
+        for (int i = 0; i < decks.size(); i++) {
+            if (decks.get(i).getName().fullName.equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
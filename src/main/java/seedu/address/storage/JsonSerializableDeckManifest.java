@@ -0,0 +1,33 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * The manifest of a sharded data file, listing the decks in order and the files they are saved in.
+ */
+class JsonSerializableDeckManifest {
+
+    /** The only field of a manifest, which tells a manifest apart from a whole JSON data file. */
+    static final String DECK_FILES_FIELD = "deckFiles";
+
+    @JsonProperty(DECK_FILES_FIELD)
+    private final List<JsonAdaptedDeckFile> deckFiles = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonSerializableDeckManifest} with the given deck files.
+     */
+    @JsonCreator
+    public JsonSerializableDeckManifest(@JsonProperty(DECK_FILES_FIELD) List<JsonAdaptedDeckFile> deckFiles) {
+        if (deckFiles != null) {
+            this.deckFiles.addAll(deckFiles);
+        }
+    }
+
+    public List<JsonAdaptedDeckFile> getDeckFiles() {
+        return deckFiles;
+    }
+}
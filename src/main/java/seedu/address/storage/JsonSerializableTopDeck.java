@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,6 +8,10 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.ReadOnlyTopDeck;
@@ -59,4 +64,62 @@ public class JsonSerializableTopDeck {
         return topDeck;
     }
 
+    /**
+     * Reads a {@code TopDeck} from {@code parser}, one deck at a time.
+     * Each deck is converted into the model's {@code Deck} on a fork-join pool as soon as it is read, so unlike
+     * data-binding a whole {@code JsonSerializableTopDeck}, only the decks still being converted are held in
+     * their Jackson-friendly form.
+     *
+     * @param source what {@code parser} reads from, for logging.
+     * @throws IOException if the data is not in the expected format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static TopDeck readTopDeck(JsonParser parser, Object source) throws IOException, IllegalValueException {
+        ParallelDeckConverter converter = new ParallelDeckConverter();
+
+        expectToken(parser, parser.nextToken(), JsonToken.START_OBJECT);
+        JsonToken token;
+        while ((token = parser.nextToken()) == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken valueToken = parser.nextToken();
+            if (!fieldName.equals("decks")) {
+                parser.skipChildren();
+                continue;
+            }
+
+            expectToken(parser, valueToken, JsonToken.START_ARRAY);
+            while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+                expectToken(parser, token, JsonToken.START_OBJECT);
+                converter.submit(parser.readValueAs(JsonAdaptedDeck.class)::toModelType);
+            }
+        }
+        expectToken(parser, token, JsonToken.END_OBJECT);
+
+        return converter.toTopDeck(source);
+    }
+
+    /**
+     * Throws a {@code JsonParseException} if {@code actual} is not the {@code expected} token.
+     */
+    private static void expectToken(JsonParser parser, JsonToken actual, JsonToken expected)
+            throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * Writes {@code source} to {@code generator}, one deck at a time, in the same format as a
+     * {@code JsonSerializableTopDeck}.
+     */
+    public static void writeTopDeck(ReadOnlyTopDeck source, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("decks");
+        for (Deck deck : source.getDeckList()) {
+            generator.writeObject(new JsonAdaptedDeck(deck));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
 }
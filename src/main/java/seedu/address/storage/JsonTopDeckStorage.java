@@ -3,10 +3,16 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.exceptions.IllegalValueException;
@@ -16,15 +22,27 @@ import seedu.address.model.ReadOnlyTopDeck;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ * The file is read and written one deck at a time, without holding the whole file in memory.
  */
 public class JsonTopDeckStorage implements TopDeckStorage {
 
     private static final Logger logger = LogsCenter.getLogger(JsonTopDeckStorage.class);
 
     private Path filePath;
+    private final boolean isPrettyPrinted;
 
     public JsonTopDeckStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code JsonTopDeckStorage} for the file at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether the file is indented when saved, or written on a single line.
+     */
+    public JsonTopDeckStorage(Path filePath, boolean isPrettyPrinted) {
         this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
     }
 
     public Path getTopDeckFilePath() {
@@ -45,14 +63,16 @@ public class JsonTopDeckStorage implements TopDeckStorage {
     public Optional<ReadOnlyTopDeck> readTopDeck(Path filePath) throws DataConversionException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableTopDeck> jsonTopDeck = JsonUtil
-                .readJsonFile(filePath, JsonSerializableTopDeck.class);
-        if (!jsonTopDeck.isPresent()) {
+        if (!Files.exists(filePath)) {
+            logger.info("Json file " + filePath + " not found");
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonTopDeck.get().toModelType());
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createJsonParser(in)) {
+            return Optional.of(JsonSerializableTopDeck.readTopDeck(parser, filePath));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataConversionException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataConversionException(ive);
@@ -66,6 +86,8 @@ public class JsonTopDeckStorage implements TopDeckStorage {
 
     /**
      * Similar to {@link #saveTopDeck(ReadOnlyTopDeck)}.
+     * The data is written to a temporary file next to {@code filePath} first, which then replaces the data file,
+     * so a save that fails part way leaves the previous data file untouched.
      *
      * @param filePath location of the data. Cannot be null.
      */
@@ -73,8 +95,23 @@ public class JsonTopDeckStorage implements TopDeckStorage {
         requireNonNull(topDeck);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableTopDeck(topDeck), filePath);
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tempFilePath);
+             JsonGenerator generator = JsonUtil.createJsonGenerator(out, isPrettyPrinted)) {
+            JsonSerializableTopDeck.writeTopDeck(topDeck, generator);
+        }
+        FileUtil.replaceFile(tempFilePath, filePath);
+    }
+
+    @Override
+    public void compactTopDeck(ReadOnlyTopDeck topDeck) throws IOException {
+        saveTopDeck(topDeck, filePath);
+    }
+
+    @Override
+    public void flushTopDeck() {
+        // saves are written straight away
     }
 
 }
@@ -0,0 +1,138 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.TopDeck;
+import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.exceptions.DuplicateDeckException;
+
+/**
+ * Converts the decks read from storage into model decks on a fork-join pool, while the caller goes on reading
+ * the next decks. The converted decks are then put into a {@code TopDeck} in the order they were read, with a
+ * single check for duplicate decks.
+ * <p>
+ * The time spent in each phase is logged: reading, waiting for the last conversions after reading, and merging.
+ */
+class ParallelDeckConverter {
+
+    /**
+     * Converts one deck read from storage into the model's {@code Deck}.
+     */
+    @FunctionalInterface
+    interface DeckConversion {
+        /**
+         * Returns the converted deck.
+         *
+         * @throws IllegalValueException if there were any data constraints violated.
+         */
+        Deck convert() throws IllegalValueException;
+    }
+
+    private static final Logger logger = LogsCenter.getLogger(ParallelDeckConverter.class);
+
+    private final ForkJoinPool pool;
+    private final List<ConversionTask> conversions = new ArrayList<>();
+    private final long startTime = System.nanoTime();
+
+    ParallelDeckConverter() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    ParallelDeckConverter(ForkJoinPool pool) {
+        requireNonNull(pool);
+        this.pool = pool;
+    }
+
+    /**
+     * Starts {@code conversion} on the pool and returns without waiting for it.
+     */
+    void submit(DeckConversion conversion) {
+        requireNonNull(conversion);
+        ConversionTask task = new ConversionTask(conversion);
+        pool.execute(task);
+        conversions.add(task);
+    }
+
+    /**
+     * Waits for every conversion, and returns a {@code TopDeck} with the converted decks in the order they were
+     * submitted. If a conversion failed, the conversions not done yet are cancelled.
+     *
+     * @param source what the decks were read from, for logging.
+     * @throws IllegalValueException if a conversion found data constraints violated, or if two decks are the same.
+     */
+    TopDeck toTopDeck(Object source) throws IllegalValueException {
+        long readTime = System.nanoTime();
+        List<Deck> decks = new ArrayList<>(conversions.size());
+        for (ConversionTask conversion : conversions) {
+            Deck deck;
+            try {
+                deck = conversion.join();
+            } catch (RuntimeException | Error e) {
+                cancelConversions();
+                throw e;
+            }
+            if (conversion.failure != null) {
+                cancelConversions();
+                throw conversion.failure;
+            }
+            decks.add(deck);
+        }
+        long convertTime = System.nanoTime();
+
+        TopDeck topDeck = new TopDeck();
+        try {
+            topDeck.setDecks(decks);
+        } catch (DuplicateDeckException dde) {
+            throw new IllegalValueException(JsonSerializableTopDeck.MESSAGE_DUPLICATE_DECK);
+        }
+        long mergeTime = System.nanoTime();
+
+        logger.info(String.format("Loaded %d decks from %s in %d ms: reading %d ms, converting %d ms more, "
+                        + "merging %d ms (%d threads)", decks.size(), source, toMillis(mergeTime - startTime),
+                toMillis(readTime - startTime), toMillis(convertTime - readTime), toMillis(mergeTime - convertTime),
+                pool.getParallelism()));
+        return topDeck;
+    }
+
+    /**
+     * Cancels the conversions that have not been done yet.
+     */
+    private void cancelConversions() {
+        conversions.forEach(conversion -> conversion.cancel(false));
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * A conversion run on the pool, which keeps the {@code IllegalValueException} it fails with, if any.
+     */
+    private static class ConversionTask extends RecursiveTask<Deck> {
+        private final DeckConversion conversion;
+        private volatile IllegalValueException failure;
+
+        private ConversionTask(DeckConversion conversion) {
+            this.conversion = conversion;
+        }
+
+        @Override
+        protected Deck compute() {
+            try {
+                return conversion.convert();
+            } catch (IllegalValueException ive) {
+                failure = ive;
+                return null;
+            }
+        }
+    }
+}
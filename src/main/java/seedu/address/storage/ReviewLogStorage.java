@@ -0,0 +1,45 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.deck.Review;
+
+/**
+ * Represents a storage for the log of every {@link Review} made while studying.
+ */
+public interface ReviewLogStorage {
+
+    /**
+     * Returns the file path of the review log.
+     */
+    Path getReviewLogFilePath();
+
+    /**
+     * Appends {@code review} to the review log. The review may be held back and written together with later
+     * reviews; call {@link #flushReviews()} to make sure it is written.
+     *
+     * @param review cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void appendReview(Review review) throws IOException;
+
+    /**
+     * Writes every review appended so far to the review log.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushReviews() throws IOException;
+
+    /**
+     * Returns every review in the review log, oldest first, including those not written yet.
+     * Returns an empty list if the review log is not found.
+     *
+     * @throws DataConversionException if the data in the review log is not in the expected format.
+     * @throws IOException             if there was any problem when reading from the review log.
+     */
+    List<Review> readReviews() throws DataConversionException, IOException;
+
+}
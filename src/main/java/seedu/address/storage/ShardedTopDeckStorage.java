@@ -0,0 +1,363 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTopDeck;
+import seedu.address.model.TopDeck;
+import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.exceptions.DuplicateCardException;
+
+/**
+ * A class to access TopDeck data stored as one JSON file per deck on the hard disk.
+ * <p>
+ * The data file is a small manifest that lists the name of each deck, in order, and the file the deck is saved
+ * in. The deck files are kept in a directory next to the data file. A save only writes the decks that changed
+ * since the last save, each to a new file, and then replaces the manifest; the files of the old versions of the
+ * decks are deleted afterwards. Saving thus takes time proportional to the decks that changed, and a save cut
+ * short leaves the previous manifest and the files it lists untouched.
+ */
+public class ShardedTopDeckStorage implements TopDeckStorage {
+
+    public static final String MESSAGE_INVALID_DECK_FILE = "Manifest refers to an invalid deck file: %s";
+    public static final String MESSAGE_MISSING_DECK_FILE = "Manifest refers to a deck file that does not exist: %s";
+    public static final String MESSAGE_UNREADABLE_DECK_FILE = "Deck file %s could not be read.";
+    public static final String MESSAGE_DECK_NAME_MISMATCH = "Deck file %s does not hold deck %s.";
+
+    private static final String DECK_DIRECTORY_SUFFIX = ".decks";
+    private static final String DECK_FILE_PREFIX = "deck";
+    private static final String DECK_FILE_EXTENSION = ".json";
+    private static final String DECK_FILE_REGEX = DECK_FILE_PREFIX + "\\d+\\" + DECK_FILE_EXTENSION;
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedTopDeckStorage.class);
+
+    private Path filePath;
+    private final boolean isPrettyPrinted;
+
+    /** The file each saved deck is saved in, or null if the contents of the data file are not known. */
+    private Map<Deck, String> savedDeckFiles;
+    /** The rating count of each saved deck when it was saved, as ratings change the cards of a deck in place. */
+    private final Map<Deck, Integer> savedRatingCounts = new IdentityHashMap<>();
+    private int nextDeckFileNumber;
+
+    public ShardedTopDeckStorage(Path filePath) {
+        this(filePath, true);
+    }
+
+    /**
+     * Creates a {@code ShardedTopDeckStorage} with its manifest at {@code filePath}.
+     *
+     * @param isPrettyPrinted whether the manifest and deck files are indented when saved.
+     */
+    public ShardedTopDeckStorage(Path filePath, boolean isPrettyPrinted) {
+        this.filePath = filePath;
+        this.isPrettyPrinted = isPrettyPrinted;
+    }
+
+    @Override
+    public Path getTopDeckFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the directory that holds the deck files of the manifest at {@code filePath}.
+     */
+    public static Path getDeckDirectoryPath(Path filePath) {
+        requireNonNull(filePath);
+        return filePath.resolveSibling(filePath.getFileName() + DECK_DIRECTORY_SUFFIX);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and is the manifest of a sharded data file.
+     * Only the start of the file is read.
+     */
+    public static boolean isManifestFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!FileUtil.isFileExists(filePath)) {
+            return false;
+        }
+
+        try (InputStream in = Files.newInputStream(filePath); JsonParser parser = JsonUtil.createJsonParser(in)) {
+            return parser.nextToken() == JsonToken.START_OBJECT
+                    && parser.nextToken() == JsonToken.FIELD_NAME
+                    && JsonSerializableDeckManifest.DECK_FILES_FIELD.equals(parser.getCurrentName());
+        } catch (JsonProcessingException jpe) {
+            return false;
+        }
+    }
+
+    /**
+     * Deletes the deck files of the manifest at {@code filePath} and their directory, if they exist.
+     * The manifest itself is left as it is.
+     */
+    public static void deleteDeckFiles(Path filePath) throws IOException {
+        Path deckDirectoryPath = getDeckDirectoryPath(filePath);
+        if (!Files.isDirectory(deckDirectoryPath)) {
+            return;
+        }
+
+        deleteDeckFilesExcept(deckDirectoryPath, new HashSet<>());
+        Files.deleteIfExists(deckDirectoryPath);
+    }
+
+    @Override
+    public Optional<ReadOnlyTopDeck> readTopDeck() throws DataConversionException {
+        return readTopDeck(filePath);
+    }
+
+    /**
+     * Similar to {@link #readTopDeck()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataConversionException if the manifest or a deck file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyTopDeck> readTopDeck(Path filePath) throws DataConversionException {
+        requireNonNull(filePath);
+
+        Optional<JsonSerializableDeckManifest> manifest = JsonUtil.readJsonFile(
+                filePath, JsonSerializableDeckManifest.class);
+        if (!manifest.isPresent()) {
+            return Optional.empty();
+        }
+
+        // The deck files are read and converted in parallel.
+        Path deckDirectoryPath = getDeckDirectoryPath(filePath);
+        List<JsonAdaptedDeckFile> manifestEntries = manifest.get().getDeckFiles();
+        ParallelDeckConverter converter = new ParallelDeckConverter();
+        manifestEntries.forEach(deckFile -> converter.submit(() -> readDeckFile(deckDirectoryPath, deckFile)));
+        TopDeck topDeck;
+        try {
+            topDeck = converter.toTopDeck(filePath);
+        } catch (IllegalValueException | DuplicateCardException e) {
+            logger.info("Illegal values found in " + filePath + ": " + e.getMessage());
+            throw new DataConversionException(e);
+        }
+
+        if (filePath.equals(this.filePath)) {
+            Map<Deck, String> deckFiles = new IdentityHashMap<>();
+            for (int i = 0; i < manifestEntries.size(); i++) {
+                deckFiles.put(topDeck.getDeckList().get(i), manifestEntries.get(i).getFile());
+            }
+            rememberSavedDecks(deckFiles, ratingCountsOf(topDeck));
+        }
+        return Optional.of(topDeck);
+    }
+
+    /**
+     * Reads the deck listed as {@code deckFile} in a manifest from {@code deckDirectoryPath}.
+     *
+     * @throws IllegalValueException if the deck file is missing or cannot be read, or if there were any data
+     *     constraints violated.
+     */
+    private static Deck readDeckFile(Path deckDirectoryPath, JsonAdaptedDeckFile deckFile)
+            throws IllegalValueException {
+        if (deckFile.getFile() == null || !deckFile.getFile().matches(DECK_FILE_REGEX)) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_DECK_FILE, deckFile.getFile()));
+        }
+
+        Optional<JsonAdaptedDeck> jsonAdaptedDeck;
+        try {
+            jsonAdaptedDeck = JsonUtil.readJsonFile(deckDirectoryPath.resolve(deckFile.getFile()),
+                    JsonAdaptedDeck.class);
+        } catch (DataConversionException dce) {
+            throw new IllegalValueException(String.format(MESSAGE_UNREADABLE_DECK_FILE, deckFile.getFile()), dce);
+        }
+        if (!jsonAdaptedDeck.isPresent()) {
+            throw new IllegalValueException(String.format(MESSAGE_MISSING_DECK_FILE, deckFile.getFile()));
+        }
+        Deck deck = jsonAdaptedDeck.get().toModelType();
+        if (!deck.getName().fullName.equals(deckFile.getName())) {
+            throw new IllegalValueException(
+                    String.format(MESSAGE_DECK_NAME_MISMATCH, deckFile.getFile(), deckFile.getName()));
+        }
+        return deck;
+    }
+
+    /**
+     * Writes the decks of {@code topDeck} that changed since the last save, and replaces the manifest.
+     */
+    @Override
+    public void saveTopDeck(ReadOnlyTopDeck topDeck) throws IOException {
+        requireNonNull(topDeck);
+
+        // counted first, so that cards rated while the decks are written are saved on the next save
+        Map<Deck, Integer> ratingCounts = ratingCountsOf(topDeck);
+        Map<Deck, String> deckFiles = writeDeckFiles(topDeck, filePath, savedDeckFiles, ratingCounts);
+        Map<Deck, String> oldDeckFiles = savedDeckFiles;
+        savedDeckFiles = null;
+        writeManifest(topDeck, filePath, deckFiles);
+        rememberSavedDecks(deckFiles, ratingCounts);
+
+        Set<String> liveFiles = new HashSet<>(deckFiles.values());
+        if (oldDeckFiles == null) {
+            deleteDeckFilesExcept(getDeckDirectoryPath(filePath), liveFiles);
+            return;
+        }
+        for (String oldFile : new HashSet<>(oldDeckFiles.values())) {
+            if (!liveFiles.contains(oldFile)) {
+                Files.deleteIfExists(getDeckDirectoryPath(filePath).resolve(oldFile));
+            }
+        }
+    }
+
+    /**
+     * Similar to {@link #saveTopDeck(ReadOnlyTopDeck)}, but every deck is written unless {@code filePath} is the
+     * usual data file.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public void saveTopDeck(ReadOnlyTopDeck topDeck, Path filePath) throws IOException {
+        requireNonNull(topDeck);
+        requireNonNull(filePath);
+
+        if (filePath.equals(this.filePath)) {
+            saveTopDeck(topDeck);
+            return;
+        }
+        Map<Deck, String> deckFiles = writeDeckFiles(topDeck, filePath, null, null);
+        writeManifest(topDeck, filePath, deckFiles);
+        deleteDeckFilesExcept(getDeckDirectoryPath(filePath), new HashSet<>(deckFiles.values()));
+    }
+
+    /**
+     * Saves {@code topDeck}, and deletes any deck file that the manifest does not list, such as the files of a
+     * save that was cut short.
+     */
+    @Override
+    public void compactTopDeck(ReadOnlyTopDeck topDeck) throws IOException {
+        saveTopDeck(topDeck);
+        deleteDeckFilesExcept(getDeckDirectoryPath(filePath), new HashSet<>(savedDeckFiles.values()));
+    }
+
+    @Override
+    public void flushTopDeck() {
+        // saves are written straight away
+    }
+
+    /**
+     * Writes each deck of {@code topDeck} that is not saved unchanged in {@code savedDeckFiles} to a new file in
+     * the deck directory of {@code filePath}. Returns the file of every deck of {@code topDeck}.
+     *
+     * @param savedDeckFiles the files of the decks saved before, or null to write every deck.
+     * @param ratingCounts the rating count of each deck of {@code topDeck}, or null if {@code savedDeckFiles} is.
+     */
+    private Map<Deck, String> writeDeckFiles(ReadOnlyTopDeck topDeck, Path filePath,
+            Map<Deck, String> savedDeckFiles, Map<Deck, Integer> ratingCounts) throws IOException {
+        Path deckDirectoryPath = getDeckDirectoryPath(filePath);
+        Files.createDirectories(deckDirectoryPath);
+
+        Map<Deck, String> deckFiles = new IdentityHashMap<>();
+        int writtenCount = 0;
+        for (Deck deck : topDeck.getDeckList()) {
+            String savedFile = savedDeckFiles == null ? null : savedDeckFiles.get(deck);
+            if (savedFile != null && savedRatingCounts.get(deck).equals(ratingCounts.get(deck))) {
+                deckFiles.put(deck, savedFile);
+                continue;
+            }
+
+            String deckFile = getNewDeckFileName(deckDirectoryPath);
+            try (OutputStream out = Files.newOutputStream(deckDirectoryPath.resolve(deckFile));
+                 JsonGenerator generator = JsonUtil.createJsonGenerator(out, isPrettyPrinted)) {
+                generator.writeObject(new JsonAdaptedDeck(deck));
+            }
+            deckFiles.put(deck, deckFile);
+            writtenCount++;
+        }
+        logger.fine("Wrote " + writtenCount + " of " + topDeck.getDeckList().size() + " deck files to "
+                + deckDirectoryPath);
+        return deckFiles;
+    }
+
+    /**
+     * Replaces the manifest at {@code filePath} with one listing the decks of {@code topDeck} and their
+     * {@code deckFiles}.
+     */
+    private void writeManifest(ReadOnlyTopDeck topDeck, Path filePath, Map<Deck, String> deckFiles)
+            throws IOException {
+        List<JsonAdaptedDeckFile> entries = new ArrayList<>();
+        for (Deck deck : topDeck.getDeckList()) {
+            entries.add(new JsonAdaptedDeckFile(deck.getName().fullName, deckFiles.get(deck)));
+        }
+
+        FileUtil.createParentDirsOfFile(filePath);
+        Path tempFilePath = filePath.resolveSibling(filePath.getFileName() + ".tmp");
+        try (OutputStream out = Files.newOutputStream(tempFilePath);
+             JsonGenerator generator = JsonUtil.createJsonGenerator(out, isPrettyPrinted)) {
+            generator.writeObject(new JsonSerializableDeckManifest(entries));
+        }
+        FileUtil.replaceFile(tempFilePath, filePath);
+    }
+
+    /**
+     * Returns the name of a deck file that does not exist yet in {@code deckDirectoryPath}.
+     */
+    private String getNewDeckFileName(Path deckDirectoryPath) {
+        String deckFile;
+        do {
+            deckFile = DECK_FILE_PREFIX + nextDeckFileNumber++ + DECK_FILE_EXTENSION;
+        } while (Files.exists(deckDirectoryPath.resolve(deckFile)));
+        return deckFile;
+    }
+
+    /**
+     * Remembers the decks in {@code deckFiles} as the saved decks, with the given rating counts.
+     */
+    private void rememberSavedDecks(Map<Deck, String> deckFiles, Map<Deck, Integer> ratingCounts) {
+        savedDeckFiles = deckFiles;
+        savedRatingCounts.clear();
+        savedRatingCounts.putAll(ratingCounts);
+    }
+
+    /**
+     * Returns the rating count of each deck of {@code topDeck}.
+     */
+    private static Map<Deck, Integer> ratingCountsOf(ReadOnlyTopDeck topDeck) {
+        Map<Deck, Integer> ratingCounts = new IdentityHashMap<>();
+        topDeck.getDeckList().forEach(deck -> ratingCounts.put(deck, deck.getRatingCount()));
+        return ratingCounts;
+    }
+
+    /**
+     * Deletes the deck files in {@code deckDirectoryPath} other than {@code filesToKeep}.
+     */
+    private static void deleteDeckFilesExcept(Path deckDirectoryPath, Set<String> filesToKeep) throws IOException {
+        if (!Files.isDirectory(deckDirectoryPath)) {
+            return;
+        }
+
+        try (DirectoryStream<Path> deckFiles = Files.newDirectoryStream(deckDirectoryPath)) {
+            for (Path deckFile : deckFiles) {
+                String fileName = deckFile.getFileName().toString();
+                if (fileName.matches(DECK_FILE_REGEX) && !filesToKeep.contains(fileName)) {
+                    Files.delete(deckFile);
+                }
+            }
+        }
+    }
+}
@@ -12,7 +12,7 @@ import seedu.address.model.UserPrefs;
 /**
  * API of the Storage component
  */
-public interface Storage extends TopDeckStorage, UserPrefsStorage {
+public interface Storage extends TopDeckStorage, UserPrefsStorage, ReviewLogStorage {
 
     @Override
     Optional<UserPrefs> readUserPrefs() throws DataConversionException, IOException;
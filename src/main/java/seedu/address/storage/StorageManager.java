@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -10,6 +11,7 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyTopDeck;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.deck.Review;
 
 /**
  * Manages storage of TopDeck data in local storage.
@@ -19,12 +21,23 @@ public class StorageManager implements Storage {
     private static final Logger logger = LogsCenter.getLogger(StorageManager.class);
     private TopDeckStorage topDeckStorage;
     private UserPrefsStorage userPrefsStorage;
+    private ReviewLogStorage reviewLogStorage;
 
 
+    /**
+     * Creates a StorageManager that keeps the review log next to the data file of {@code topDeckStorage}.
+     */
     public StorageManager(TopDeckStorage topDeckStorage, UserPrefsStorage userPrefsStorage) {
+        this(topDeckStorage, userPrefsStorage, new BinaryReviewLogStorage(
+                BinaryReviewLogStorage.getReviewLogFilePath(topDeckStorage.getTopDeckFilePath())));
+    }
+
+    public StorageManager(TopDeckStorage topDeckStorage, UserPrefsStorage userPrefsStorage,
+            ReviewLogStorage reviewLogStorage) {
         super();
         this.topDeckStorage = topDeckStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.reviewLogStorage = reviewLogStorage;
     }
 
     // ================ UserPrefs methods ==============================
@@ -74,4 +87,40 @@ public class StorageManager implements Storage {
         topDeckStorage.saveTopDeck(topDeck, filePath);
     }
 
+    @Override
+    public void compactTopDeck(ReadOnlyTopDeck topDeck) throws IOException {
+        logger.fine("Attempting to compact data file: " + topDeckStorage.getTopDeckFilePath());
+        topDeckStorage.compactTopDeck(topDeck);
+    }
+
+    @Override
+    public void flushTopDeck() throws IOException {
+        topDeckStorage.flushTopDeck();
+    }
+
+
+    // ================ ReviewLog methods ==============================
+
+    @Override
+    public Path getReviewLogFilePath() {
+        return reviewLogStorage.getReviewLogFilePath();
+    }
+
+    @Override
+    public void appendReview(Review review) throws IOException {
+        reviewLogStorage.appendReview(review);
+    }
+
+    @Override
+    public void flushReviews() throws IOException {
+        logger.fine("Attempting to write to review log: " + reviewLogStorage.getReviewLogFilePath());
+        reviewLogStorage.flushReviews();
+    }
+
+    @Override
+    public List<Review> readReviews() throws DataConversionException, IOException {
+        logger.fine("Attempting to read review log: " + reviewLogStorage.getReviewLogFilePath());
+        return reviewLogStorage.readReviews();
+    }
+
 }
@@ -0,0 +1,106 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.core.TopDeckFileFormat;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyTopDeck;
+import seedu.address.model.deck.Deck;
+
+/**
+ * Creates storages for the TopDeck data file in each {@link TopDeckFileFormat}, and converts the data file between
+ * the formats. Both formats hold every field of every deck and card, so converting loses nothing.
+ */
+public class TopDeckFileConverter {
+
+    private static final Logger logger = LogsCenter.getLogger(TopDeckFileConverter.class);
+
+    private TopDeckFileConverter() {
+    } // prevents instantiation
+
+    /**
+     * Returns a storage for the data file at {@code filePath} in the given {@code format}.
+     *
+     * @param isPrettyPrinted whether a JSON data file is indented when saved.
+     */
+    public static TopDeckStorage createStorage(Path filePath, TopDeckFileFormat format, boolean isPrettyPrinted) {
+        requireAllNonNull(filePath, format);
+
+        if (format == TopDeckFileFormat.BINARY) {
+            return new BinaryTopDeckStorage(filePath);
+        }
+        if (format == TopDeckFileFormat.SHARDED) {
+            return new ShardedTopDeckStorage(filePath, isPrettyPrinted);
+        }
+        return new JsonTopDeckStorage(filePath, isPrettyPrinted);
+    }
+
+    /**
+     * Rewrites the data file at {@code filePath} in {@code format} if it is currently in the other format.
+     * The journal of the data file, if any, is replayed and folded into the rewritten file.
+     *
+     * @param isPrettyPrinted whether a JSON data file is indented when saved.
+     * @throws DataConversionException if the data file is not in the correct format.
+     */
+    public static void convertIfNeeded(Path filePath, TopDeckFileFormat format, boolean isPrettyPrinted)
+            throws DataConversionException, IOException {
+        requireAllNonNull(filePath, format);
+
+        Optional<TopDeckFileFormat> currentFormat = getFormat(filePath);
+        if (!currentFormat.isPresent() || currentFormat.get() == format) {
+            return;
+        }
+
+        logger.info("Converting data file " + filePath + " from " + currentFormat.get() + " to " + format);
+        convert(new JournalledTopDeckStorage(createStorage(filePath, currentFormat.get(), isPrettyPrinted)),
+                new JournalledTopDeckStorage(createStorage(filePath, format, isPrettyPrinted)));
+        if (currentFormat.get() == TopDeckFileFormat.SHARDED) {
+            ShardedTopDeckStorage.deleteDeckFiles(filePath);
+        }
+    }
+
+    /**
+     * Returns the format of the data file at {@code filePath}, or {@code Optional.empty()} if there is no such
+     * file. Only the start of the file is read.
+     */
+    public static Optional<TopDeckFileFormat> getFormat(Path filePath) throws IOException {
+        requireNonNull(filePath);
+
+        if (!FileUtil.isFileExists(filePath)) {
+            return Optional.empty();
+        }
+        if (BinaryTopDeckStorage.isBinaryFile(filePath)) {
+            return Optional.of(TopDeckFileFormat.BINARY);
+        }
+        if (ShardedTopDeckStorage.isManifestFile(filePath)) {
+            return Optional.of(TopDeckFileFormat.SHARDED);
+        }
+        return Optional.of(TopDeckFileFormat.JSON);
+    }
+
+    /**
+     * Reads the data in {@code source} and saves it as a whole to {@code target}.
+     * Does nothing if {@code source} has no data.
+     *
+     * @throws DataConversionException if the data in {@code source} is not in the correct format.
+     */
+    public static void convert(TopDeckStorage source, TopDeckStorage target)
+            throws DataConversionException, IOException {
+        requireAllNonNull(source, target);
+
+        Optional<ReadOnlyTopDeck> topDeck = source.readTopDeck();
+        if (topDeck.isPresent()) {
+            // The source may load decks lazily from the file that the target is about to overwrite.
+            topDeck.get().getDeckList().forEach(Deck::getCards);
+            target.compactTopDeck(topDeck.get());
+        }
+    }
+}
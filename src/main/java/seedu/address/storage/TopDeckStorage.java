@@ -3,6 +3,7 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyTopDeck;
@@ -31,6 +32,17 @@ public interface TopDeckStorage {
      */
     Optional<ReadOnlyTopDeck> readTopDeck(Path filePath) throws DataConversionException, IOException;
 
+    /**
+     * Returns the generation of the data file at {@code filePath}: a number chosen anew each time the file is
+     * written as a whole, read without reading the data itself. Returns an empty {@code OptionalLong} if the file
+     * does not exist or its format does not keep a generation.
+     *
+     * @throws IOException if there was any problem when reading from the file.
+     */
+    default OptionalLong readGeneration(Path filePath) throws IOException {
+        return OptionalLong.empty();
+    }
+
     /**
      * Saves the given {@link ReadOnlyTopDeck} to the storage.
      *
@@ -44,4 +56,20 @@ public interface TopDeckStorage {
      */
     void saveTopDeck(ReadOnlyTopDeck topDeck, Path filePath) throws IOException;
 
+    /**
+     * Saves the given {@link ReadOnlyTopDeck} to the storage as a whole, leaving nothing to be replayed
+     * when it is next read. Called when the application stops.
+     *
+     * @param topDeck cannot be null.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void compactTopDeck(ReadOnlyTopDeck topDeck) throws IOException;
+
+    /**
+     * Waits until every save requested so far has been written to the storage.
+     *
+     * @throws IOException if there was any problem writing to the file.
+     */
+    void flushTopDeck() throws IOException;
+
 }
@@ -5,6 +5,7 @@ import javafx.scene.control.Label;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.DeckStatistics;
 
 /**
  * An UI component that displays information of a {@code Deck}.
@@ -12,6 +13,7 @@ import seedu.address.model.deck.Deck;
 public class DeckDisplay extends UiPart<Region> {
 
     private static final String FXML = "DeckListCard.fxml";
+    private static final String STATISTICS_FORMAT = "%1$d cards, %2$d never attempted, mean difficulty %3$.2f";
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -30,12 +32,20 @@ public class DeckDisplay extends UiPart<Region> {
     private Label name;
     @FXML
     private Label id;
+    @FXML
+    private Label statistics;
 
     public DeckDisplay(Deck deck, int displayedIndex) {
         super(FXML);
         this.deck = deck;
         id.setText(displayedIndex + ". ");
         name.setText(deck.getName().fullName);
+        // Showing the statistics of a deck is not worth loading its cards.
+        if (deck.isLoaded()) {
+            DeckStatistics deckStatistics = deck.getCards().getStatistics();
+            statistics.setText(String.format(STATISTICS_FORMAT, deckStatistics.getCardCount(),
+                    deckStatistics.getNeverAttemptedCardCount(), deckStatistics.getMeanDifficulty()));
+        }
     }
 
     @Override
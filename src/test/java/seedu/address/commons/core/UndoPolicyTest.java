@@ -0,0 +1,47 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class UndoPolicyTest {
+
+    @Test
+    public void constructor_nonPositiveMaxStates_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new UndoPolicy(0, 1));
+    }
+
+    @Test
+    public void constructor_negativeMaxRetainedBytes_throwsIllegalArgumentException() {
+        Assert.assertThrows(IllegalArgumentException.class, () -> new UndoPolicy(1, -1));
+    }
+
+    @Test
+    public void toString_customObject_stringReturned() {
+        assertEquals("Max states : 5\nMax retained bytes : 1024", new UndoPolicy(5, 1024).toString());
+    }
+
+    @Test
+    public void equals() {
+        UndoPolicy undoPolicy = new UndoPolicy(5, 1024);
+
+        // same values -> returns true
+        assertTrue(undoPolicy.equals(new UndoPolicy(5, 1024)));
+
+        // same object -> returns true
+        assertTrue(undoPolicy.equals(undoPolicy));
+
+        // null -> returns false
+        assertFalse(undoPolicy.equals(null));
+
+        // different max states -> returns false
+        assertFalse(undoPolicy.equals(new UndoPolicy(6, 1024)));
+
+        // different max retained bytes -> returns false
+        assertFalse(undoPolicy.equals(new UndoPolicy(5, 2048)));
+    }
+}
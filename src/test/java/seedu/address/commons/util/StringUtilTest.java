@@ -2,11 +2,13 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.FileNotFoundException;
 import java.util.Optional;
+import java.util.Random;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -141,6 +143,77 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsKeywordsInQuestionIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for containsFuzzyKeywordsInQuestionIgnoreCase --------------------------------------
+
+    @Test
+    public void containsFuzzyKeywordsInQuestionIgnoreCase_validInputs_correctResult() {
+        // exact and similar words, different upper/lower case letters
+        assertTrue(StringUtil.containsFuzzyKeywordsInQuestionIgnoreCase("Which layer is HTTP at?", "LAYER"));
+        assertTrue(StringUtil.containsFuzzyKeywordsInQuestionIgnoreCase("Which layer is HTTP at?", "lyer"));
+        assertTrue(StringUtil.containsFuzzyKeywordsInQuestionIgnoreCase("Which layer is HTTP at?", "player"));
+
+        // words of the keyword in any order
+        assertTrue(StringUtil.containsFuzzyKeywordsInQuestionIgnoreCase("Which layer is HTTP at?", "htp layr"));
+
+        // too many typos for the length of the word
+        assertFalse(StringUtil.containsFuzzyKeywordsInQuestionIgnoreCase("Which layer is HTTP at?", "lair"));
+        assertFalse(StringUtil.containsFuzzyKeywordsInQuestionIgnoreCase("Which layer is HTTP at?", "it"));
+
+        // one word of the keyword not similar to any word
+        assertFalse(StringUtil.containsFuzzyKeywordsInQuestionIgnoreCase("Which layer is HTTP at?", "lyer protocol"));
+    }
+
+    //---------------- Tests for getEditDistance --------------------------------------
+
+    @Test
+    public void getEditDistance_validInputs_correctResult() {
+        assertEquals(0, StringUtil.getEditDistance("", ""));
+        assertEquals(3, StringUtil.getEditDistance("", "abc"));
+        assertEquals(3, StringUtil.getEditDistance("kitten", "sitting"));
+        assertEquals(2, StringUtil.getEditDistance("flaw", "lawn"));
+        assertEquals(1, StringUtil.getEditDistance("Abc", "abc")); // case sensitive
+    }
+
+    @Test
+    public void getEditDistance_randomInputs_sameAsDynamicProgramming() {
+        Random random = new Random(2103);
+        for (int i = 0; i < 500; i++) {
+            String first = getRandomString(random, random.nextInt(80));
+            String second = getRandomString(random, random.nextInt(80));
+            assertEquals(getEditDistanceByDynamicProgramming(first, second), StringUtil.getEditDistance(first, second));
+        }
+    }
+
+    /**
+     * Returns a string of {@code length} characters drawn from a small alphabet, so that it has many matches.
+     */
+    private static String getRandomString(Random random, int length) {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            builder.append("abcd".charAt(random.nextInt(4)));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Returns the Levenshtein distance between {@code first} and {@code second} from the full distance matrix.
+     */
+    private static int getEditDistanceByDynamicProgramming(String first, String second) {
+        int[][] distances = new int[first.length() + 1][second.length() + 1];
+        for (int i = 0; i <= first.length(); i++) {
+            for (int j = 0; j <= second.length(); j++) {
+                if (i == 0 || j == 0) {
+                    distances[i][j] = i + j;
+                } else {
+                    int substitution = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                    distances[i][j] = Math.min(distances[i - 1][j - 1] + substitution,
+                            Math.min(distances[i - 1][j], distances[i][j - 1]) + 1);
+                }
+            }
+        }
+        return distances[first.length()][second.length()];
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -10,6 +10,10 @@ import static seedu.address.testutil.TypicalCards.SUBTRACTION;
 import static seedu.address.testutil.TypicalDecks.DECK_A;
 import static seedu.address.testutil.TypicalDecks.DECK_WITH_CARDS;
 
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
@@ -41,7 +45,7 @@ public class DeckShufflerTest {
 
     @Test
     public void constructor() {
-        assertEquals(deck, deckShuffler.getDeck());
+        assertEquals(Collections.singletonList(deck), deckShuffler.getDecks());
     }
 
     @Test
@@ -59,6 +63,36 @@ public class DeckShufflerTest {
         }
     }
 
+    @Test
+    public void generateCard_eachRound_drawsEveryCardOnce() {
+        Deck largeDeck = new DeckBuilder(DECK_A).build();
+        for (int i = 0; i < 50; i++) {
+            largeDeck.addCard(new CardBuilder().withQuestion("Question " + i + "?").build());
+        }
+        DeckShuffler largeDeckShuffler = new DeckShuffler(largeDeck);
+
+        for (int round = 0; round < 2; round++) {
+            Set<Card> drawnCards = new HashSet<>();
+            for (int i = 0; i < 50; i++) {
+                drawnCards.add(largeDeckShuffler.generateCard());
+            }
+            assertEquals(50, drawnCards.size());
+        }
+
+        // a copy carries on with the same round, without affecting the original
+        largeDeckShuffler.generateCard();
+        DeckShuffler copy = new DeckShuffler(largeDeckShuffler);
+        Set<Card> drawnCards = new HashSet<>();
+        for (int i = 0; i < 49; i++) {
+            drawnCards.add(copy.generateCard());
+        }
+        assertEquals(49, drawnCards.size());
+        for (int i = 0; i < 49; i++) {
+            drawnCards.add(largeDeckShuffler.generateCard());
+        }
+        assertEquals(49, drawnCards.size());
+    }
+
     @Test
     public void equals() {
         DeckShuffler firstDeckShuffler = new DeckShuffler(deck);
@@ -1,12 +1,15 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DECK_A;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_DECK_NAME_A_ARGS;
+import static seedu.address.testutil.TypicalDecks.DECK_WITH_CARDS;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import org.junit.Before;
@@ -19,13 +22,17 @@ import seedu.address.logic.commands.AddDeckCommand;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.OpenDeckCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyTopDeck;
+import seedu.address.model.TopDeck;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.exceptions.DeckLoadException;
+import seedu.address.storage.BinaryTopDeckStorage;
 import seedu.address.storage.JsonTopDeckStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.StorageManager;
@@ -94,6 +101,29 @@ public class LogicManagerTest {
         assertHistoryCorrect(addCommand);
     }
 
+    @Test
+    public void execute_openCorruptedDeck_throwsCommandException() throws Exception {
+        Path binaryFilePath = temporaryFolder.getRoot().toPath().resolve("Corrupted.bin");
+        TopDeck topDeck = new TopDeck();
+        topDeck.addDeck(DECK_WITH_CARDS);
+        new BinaryTopDeckStorage(binaryFilePath).saveTopDeck(topDeck);
+        // the card count of the first deck, right after the magic bytes, the format version and the generation
+        byte[] data = Files.readAllBytes(binaryFilePath);
+        data[13] = 0x7f;
+        Files.write(binaryFilePath, data);
+
+        BinaryTopDeckStorage binaryStorage = new BinaryTopDeckStorage(binaryFilePath);
+        model = new ModelManager(binaryStorage.readTopDeck().get(), new UserPrefs());
+        logic = new LogicManager(model, new StorageManager(binaryStorage,
+                new JsonUserPrefsStorage(temporaryFolder.newFile().toPath())));
+
+        String openCommand = OpenDeckCommand.COMMAND_WORD + " 1";
+        String expectedMessage = new DeckLoadException(DECK_WITH_CARDS.getName(), DUMMY_IO_EXCEPTION).getMessage();
+        assertCommandException(openCommand, expectedMessage);
+        assertTrue(model.isAtDecksView());
+        assertHistoryCorrect(openCommand);
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,108 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalDecks.DECK_A;
+
+import java.util.HashSet;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.deck.Card;
+import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.Difficulty;
+import seedu.address.testutil.DeckBuilder;
+
+public class SpacedRepetitionSchedulerTest {
+
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
+    private Deck deck = new DeckBuilder(DECK_A).build();
+    private Card dueLater;
+    private Card dueFirst;
+    private Card dueNext;
+    private SpacedRepetitionScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        dueLater = createCard("Due later?", 5 * DAY_MILLIS);
+        dueFirst = createCard("Due first?", DAY_MILLIS);
+        dueNext = createCard("Due next?", DAY_MILLIS + DAY_MILLIS / 2);
+        deck.addCard(dueLater);
+        deck.addCard(dueFirst);
+        deck.addCard(dueNext);
+        scheduler = new SpacedRepetitionScheduler(deck);
+    }
+
+    @Test
+    public void generateCard_cardsDueAtDifferentTimes_returnsCardDueFirst() {
+        assertSame(dueFirst, scheduler.generateCard());
+
+        // the same card is shown until it is rated
+        assertSame(dueFirst, scheduler.generateCard());
+    }
+
+    @Test
+    public void cardRated_recalledCard_returnsCardDueNext() {
+        rate(dueFirst, 1, DAY_MILLIS);
+        assertSame(dueNext, scheduler.generateCard());
+
+        rate(dueNext, 1, DAY_MILLIS + DAY_MILLIS / 2);
+        assertSame(dueFirst, scheduler.generateCard());
+    }
+
+    @Test
+    public void cardRated_forgottenCard_returnsCardAgain() {
+        rate(dueLater, 5, 0);
+        assertSame(dueLater, scheduler.generateCard());
+    }
+
+    @Test
+    public void cardRated_cardNotInDeck_ignored() {
+        Card otherCard = createCard("Other card?", 0);
+        scheduler.cardRated(otherCard);
+        assertSame(dueFirst, scheduler.generateCard());
+    }
+
+    @Test
+    public void generateCard_cardsDueAtSameTime_returnsCardsInDeckOrder() {
+        Deck newDeck = new DeckBuilder(DECK_A).build();
+        Card first = createCard("First?", 0);
+        Card second = createCard("Second?", 0);
+        newDeck.addCard(first);
+        newDeck.addCard(second);
+        SpacedRepetitionScheduler newScheduler = new SpacedRepetitionScheduler(newDeck);
+
+        assertSame(first, newScheduler.generateCard());
+        first.addDifficulty(1, 0);
+        newScheduler.cardRated(first);
+        assertSame(second, newScheduler.generateCard());
+    }
+
+    @Test
+    public void copy_ratedAfterCopy_copyUnaffected() {
+        SpacedRepetitionScheduler copy = scheduler.copy();
+        assertEquals(scheduler, copy);
+
+        rate(dueFirst, 1, DAY_MILLIS);
+        assertNotEquals(scheduler, copy);
+    }
+
+    /**
+     * Rates {@code card} with {@code rating} at {@code reviewTime}, and tells the scheduler about it.
+     */
+    private void rate(Card card, int rating, long reviewTime) {
+        card.addDifficulty(rating, reviewTime);
+        scheduler.cardRated(card);
+    }
+
+    /**
+     * Returns a card with {@code question} that is due at {@code dueTime}.
+     */
+    private static Card createCard(String question, long dueTime) {
+        return new Card(question, "Answer", new Difficulty(0, 0, 0, 0, Difficulty.DEFAULT_EASE_FACTOR, dueTime),
+                new HashSet<>());
+    }
+}
@@ -13,6 +13,7 @@ import seedu.address.logic.commands.StudyDeckCommand;
 import seedu.address.model.DecksView;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
+import seedu.address.model.StudyView.StudyMode;
 import seedu.address.model.UserPrefs;
 
 public class StudyDeckCommandParserTest {
@@ -50,6 +51,18 @@ public class StudyDeckCommandParserTest {
                                                                 targetIndex);
         assertParseSuccess(parser, userInput, expectedCommand);
     }
-}
 
+    @Test
+    public void parse_studyModeKeyword_success() {
+        StudyDeckCommand expectedCommand = new StudyDeckCommand((DecksView) model.getViewState(),
+                INDEX_FIRST_DECK, StudyMode.SPACED);
+        assertParseSuccess(parser, INDEX_FIRST_DECK.getOneBased() + " spaced", expectedCommand);
+
+        expectedCommand = new StudyDeckCommand((DecksView) model.getViewState(), INDEX_FIRST_DECK,
+                StudyMode.WEIGHTED);
+        assertParseSuccess(parser, INDEX_FIRST_DECK.getOneBased() + " WEIGHTED", expectedCommand);
 
+        // unknown study mode
+        assertParseFailure(parser, INDEX_FIRST_DECK.getOneBased() + " sorted", MESSAGE_INVALID_FORMAT);
+    }
+}
@@ -0,0 +1,98 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalDecks.DECK_A;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Random;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.deck.Card;
+import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.Difficulty;
+import seedu.address.testutil.DeckBuilder;
+
+public class WeightedCardSamplerTest {
+
+    private static final int DRAWS = 6000;
+
+    private Deck deck = new DeckBuilder(DECK_A).build();
+    private Card easyCard;
+    private Card hardCard;
+    private Card unratedCard;
+    private WeightedCardSampler sampler;
+
+    @Before
+    public void setUp() {
+        easyCard = createCard("Easy?", 1, 1);
+        hardCard = createCard("Hard?", 1, 5);
+        unratedCard = createCard("Unrated?", 0, 0);
+        deck.addCard(easyCard);
+        deck.addCard(hardCard);
+        deck.addCard(unratedCard);
+        sampler = new WeightedCardSampler(Collections.singletonList(deck), new Random(42));
+    }
+
+    @Test
+    public void constructor_cardsOfDeck_weighedByDifficulty() {
+        assertEquals(100, sampler.prefixWeight(1));
+        assertEquals(600, sampler.prefixWeight(2));
+        assertEquals(600 + WeightedCardSampler.UNRATED_WEIGHT, sampler.prefixWeight(3));
+    }
+
+    @Test
+    public void generateCard_cardsOfDifferentDifficulty_harderCardsDrawnMoreOften() {
+        int easyDraws = 0;
+        int hardDraws = 0;
+        for (int i = 0; i < DRAWS; i++) {
+            Card card = sampler.generateCard();
+            if (card == easyCard) {
+                easyDraws++;
+            } else if (card == hardCard) {
+                hardDraws++;
+            }
+        }
+
+        // the hard card weighs 5 of 9, and the easy card 1 of 9
+        assertTrue(Math.abs(hardDraws - DRAWS * 5 / 9) < DRAWS / 20);
+        assertTrue(Math.abs(easyDraws - DRAWS / 9) < DRAWS / 20);
+    }
+
+    @Test
+    public void cardRated_cardRatedHarder_weightUpdated() {
+        easyCard.addDifficulty(5);
+        sampler.cardRated(easyCard);
+        assertEquals(300, sampler.prefixWeight(1));
+        assertEquals(800 + WeightedCardSampler.UNRATED_WEIGHT, sampler.prefixWeight(3));
+    }
+
+    @Test
+    public void cardRated_cardNotInDeck_ignored() {
+        sampler.cardRated(createCard("Other?", 1, 5));
+        assertEquals(600 + WeightedCardSampler.UNRATED_WEIGHT, sampler.prefixWeight(3));
+    }
+
+    @Test
+    public void copy_ratedAfterCopy_copyUnaffected() {
+        WeightedCardSampler copy = sampler.copy();
+        assertEquals(sampler, copy);
+
+        hardCard.addDifficulty(1);
+        sampler.cardRated(hardCard);
+        assertNotEquals(sampler, copy);
+        assertEquals(600 + WeightedCardSampler.UNRATED_WEIGHT, copy.prefixWeight(3));
+    }
+
+    /**
+     * Returns a card with {@code question} that was rated {@code numberOfAttempts} times, for a total of
+     * {@code totalRating}.
+     */
+    private static Card createCard(String question, int numberOfAttempts, int totalRating) {
+        return new Card(question, "Answer", new Difficulty(numberOfAttempts, totalRating), new HashSet<>());
+    }
+}
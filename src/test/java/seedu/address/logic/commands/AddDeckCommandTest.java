@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalDecks.getTypicalTopDeck;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -24,11 +25,14 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyTopDeck;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.StudyView;
 import seedu.address.model.TopDeck;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.ViewState;
 import seedu.address.model.deck.Card;
+import seedu.address.model.deck.CardSearchResult;
 import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.DeckStatistics;
 import seedu.address.testutil.DeckBuilder;
 
 
@@ -142,6 +146,16 @@ public class AddDeckCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<CardSearchResult> findCards(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DeckStatistics getStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasCard(Card card, Deck deck) {
             throw new AssertionError("This method should not be called.");
@@ -239,6 +253,16 @@ public class AddDeckCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void studyDeck(Deck deck, StudyView.StudyMode studyMode) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void studyDecks(List<Deck> decks, StudyView.StudyMode studyMode) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean isAtDecksView() {
             throw new AssertionError("This method should not be called.");
@@ -0,0 +1,136 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalDecks.DECK_D;
+import static seedu.address.testutil.TypicalDecks.getTypicalTopDeck;
+import static seedu.address.testutil.TypicalIndexes.INDEX_EMPTY_DECK;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_DECK;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_DECK;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_DECK;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.commons.core.Messages;
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.DecksView;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.StudyView;
+import seedu.address.model.StudyView.StudyMode;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.deck.Deck;
+
+public class CramCommandTest {
+
+    private Model model = new ModelManager(getTypicalTopDeck(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalTopDeck(), new UserPrefs());
+    private CommandHistory commandHistory = new CommandHistory();
+    private DecksView decksView;
+
+    @Before
+    public void setUp() {
+        model.addDeck(DECK_D);
+        expectedModel.addDeck(DECK_D);
+        decksView = (DecksView) model.getViewState();
+    }
+
+    @Test
+    public void execute_validIndexes_studiesDecksTogether() {
+        List<Deck> decks = Arrays.asList(getDeckAt(INDEX_FIRST_DECK), getDeckAt(INDEX_THIRD_DECK));
+        CramCommand command = new CramCommand(decksView, Arrays.asList(INDEX_FIRST_DECK, INDEX_THIRD_DECK),
+                StudyMode.SHUFFLED);
+        String expectedMessage = String.format(CramCommand.MESSAGE_CRAM_SUCCESS, 2,
+                decks.get(0).getName() + ", " + decks.get(1).getName());
+        expectedModel.studyDecks(decks, StudyMode.SHUFFLED);
+        assertCommandSuccess(command, model, commandHistory, new UpdatePanelCommandResult(expectedMessage),
+                expectedModel);
+        assertTrue(((StudyView) model.getViewState()).getActiveDecks().equals(decks));
+    }
+
+    @Test
+    public void execute_emptyAndRepeatedDecks_studiesEachNonEmptyDeckOnce() {
+        Deck firstDeck = getDeckAt(INDEX_FIRST_DECK);
+        CramCommand command = new CramCommand(decksView,
+                Arrays.asList(INDEX_FIRST_DECK, INDEX_EMPTY_DECK, INDEX_FIRST_DECK), StudyMode.SPACED);
+        String expectedMessage = String.format(CramCommand.MESSAGE_CRAM_SUCCESS, 1, firstDeck.getName());
+        expectedModel.studyDecks(Collections.singletonList(firstDeck), StudyMode.SPACED);
+        assertCommandSuccess(command, model, commandHistory, new UpdatePanelCommandResult(expectedMessage),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_onlyEmptyDecks_failure() {
+        CramCommand command = new CramCommand(decksView, Collections.singletonList(INDEX_EMPTY_DECK),
+                StudyMode.SHUFFLED);
+        assertCommandFailure(command, model, commandHistory, Messages.MESSAGE_EMPTY_DECK);
+    }
+
+    @Test
+    public void execute_invalidIndex_failure() {
+        Index outOfBoundsIndex = Index.fromOneBased(decksView.getFilteredList().size() + 1);
+        CramCommand command = new CramCommand(decksView, Arrays.asList(INDEX_FIRST_DECK, outOfBoundsIndex),
+                StudyMode.SHUFFLED);
+        assertCommandFailure(command, model, commandHistory, Messages.MESSAGE_INVALID_DISPLAYED_INDEX);
+    }
+
+    @Test
+    public void execute_tag_studiesDecksWithTaggedCards() {
+        List<Deck> decks = Arrays.asList(getDeckAt(INDEX_FIRST_DECK), getDeckAt(INDEX_THIRD_DECK));
+        CramCommand command = new CramCommand("math", StudyMode.WEIGHTED);
+        String expectedMessage = String.format(CramCommand.MESSAGE_CRAM_SUCCESS, 2,
+                decks.get(0).getName() + ", " + decks.get(1).getName());
+        expectedModel.studyDecks(decks, StudyMode.WEIGHTED);
+        assertCommandSuccess(command, model, commandHistory, new UpdatePanelCommandResult(expectedMessage),
+                expectedModel);
+    }
+
+    @Test
+    public void execute_tagOfNoCard_failure() {
+        CramCommand command = new CramCommand("Astronomy", StudyMode.SHUFFLED);
+        assertCommandFailure(command, model, commandHistory,
+                String.format(CramCommand.MESSAGE_NO_DECKS_TAGGED, "Astronomy"));
+    }
+
+    @Test
+    public void equals() {
+        CramCommand cramFirstCommand = new CramCommand(decksView, Arrays.asList(INDEX_FIRST_DECK, INDEX_SECOND_DECK),
+                StudyMode.SHUFFLED);
+
+        // same object -> returns true
+        assertTrue(cramFirstCommand.equals(cramFirstCommand));
+
+        // same values -> returns true
+        assertTrue(cramFirstCommand.equals(new CramCommand(decksView,
+                Arrays.asList(INDEX_FIRST_DECK, INDEX_SECOND_DECK), StudyMode.SHUFFLED)));
+
+        // different types -> returns false
+        assertFalse(cramFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(cramFirstCommand.equals(null));
+
+        // different indexes -> returns false
+        assertFalse(cramFirstCommand.equals(new CramCommand(decksView, Collections.singletonList(INDEX_FIRST_DECK),
+                StudyMode.SHUFFLED)));
+
+        // different study mode -> returns false
+        assertFalse(cramFirstCommand.equals(new CramCommand(decksView,
+                Arrays.asList(INDEX_FIRST_DECK, INDEX_SECOND_DECK), StudyMode.SPACED)));
+
+        // tag instead of indexes -> returns false
+        assertFalse(cramFirstCommand.equals(new CramCommand("Math", StudyMode.SHUFFLED)));
+    }
+
+    private Deck getDeckAt(Index index) {
+        return decksView.getFilteredList().get(index.getZeroBased());
+    }
+}
@@ -89,6 +89,17 @@ public class FindCardCommandTest {
         assertEquals(Arrays.asList(LAYER, OK_STATUS), cardsView.getFilteredList());
     }
 
+    @Test
+    public void execute_multipleKeywords_cardsSortedByRelevance() {
+        String expectedMessage = String.format(MESSAGE_CARDS_LISTED_OVERVIEW, 2);
+        QuestionContainsKeywordsPredicate predicate = preparePredicate("status cs2105");
+        FindCardCommand command = new FindCardCommand(cardsView, predicate);
+        expectedCardsView.updateFilteredList(predicate,
+                predicate.byRelevanceIn(expectedCardsView.getActiveDeck().getCards()));
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(OK_STATUS, LAYER), cardsView.getFilteredList());
+    }
+
     @Test
     public void execute_sentence_foundSpecificCard() {
         String expectedMessage = String.format(MESSAGE_CARDS_LISTED_OVERVIEW, 1);
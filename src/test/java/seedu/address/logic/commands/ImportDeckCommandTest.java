@@ -8,6 +8,7 @@ import static seedu.address.testutil.TypicalDecks.DECK_WITH_CARDS;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -21,9 +22,12 @@ import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyTopDeck;
 import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.StudyView;
 import seedu.address.model.ViewState;
 import seedu.address.model.deck.Card;
+import seedu.address.model.deck.CardSearchResult;
 import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.DeckStatistics;
 import seedu.address.model.deck.exceptions.DeckImportException;
 import seedu.address.storage.portmanager.PortManager;
 import seedu.address.storage.portmanager.Porter;
@@ -118,6 +122,16 @@ public class ImportDeckCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public List<CardSearchResult> findCards(List<String> keywords) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public DeckStatistics getStatistics() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean hasCard(Card card, Deck deck) {
             throw new AssertionError("This method should not be called.");
@@ -215,6 +229,16 @@ public class ImportDeckCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void studyDeck(Deck deck, StudyView.StudyMode studyMode) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void studyDecks(List<Deck> decks, StudyView.StudyMode studyMode) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public boolean isAtDecksView() {
             throw new AssertionError("This method should not be called.");
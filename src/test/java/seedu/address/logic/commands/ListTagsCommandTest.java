@@ -0,0 +1,61 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalCards.getTypicalDeck;
+import static seedu.address.testutil.TypicalCards.getTypicalTopDeck;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.CardsView;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ListTagsCommand}.
+ */
+public class ListTagsCommandTest {
+    private Model model = new ModelManager(getTypicalTopDeck(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalTopDeck(), new UserPrefs());
+    private CardsView cardsView;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void initialise() {
+        model.changeDeck(getTypicalDeck());
+        expectedModel.changeDeck(getTypicalDeck());
+        assertTrue(model.isAtCardsView());
+        cardsView = (CardsView) model.getViewState();
+    }
+
+    @Test
+    public void equals() {
+        ListTagsCommand listTagsCommand = new ListTagsCommand(cardsView);
+
+        // same object -> returns true
+        assertTrue(listTagsCommand.equals(listTagsCommand));
+
+        // same values -> returns true
+        assertTrue(listTagsCommand.equals(new ListTagsCommand(cardsView)));
+
+        // different types -> returns false
+        assertFalse(listTagsCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(listTagsCommand.equals(null));
+    }
+
+    @Test
+    public void execute_typicalDeck_tagsListedByCount() {
+        String expectedMessage = String.format(ListTagsCommand.MESSAGE_TAGS_LISTED_OVERVIEW, 4)
+                + "\n" + String.format(ListTagsCommand.MESSAGE_TAG_COUNT, "CS2105", 2)
+                + "\n" + String.format(ListTagsCommand.MESSAGE_TAG_COUNT, "Math", 2)
+                + "\n" + String.format(ListTagsCommand.MESSAGE_TAG_COUNT, "CS", 1)
+                + "\n" + String.format(ListTagsCommand.MESSAGE_TAG_COUNT, "Simple", 1);
+        assertCommandSuccess(new ListTagsCommand(cardsView), model, commandHistory, expectedMessage, expectedModel);
+    }
+}
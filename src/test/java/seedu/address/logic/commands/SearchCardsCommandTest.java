@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalDecks.DECK_WITH_CARDS;
+import static seedu.address.testutil.TypicalDecks.getTypicalTopDeck;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.DecksView;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code SearchCardsCommand}.
+ */
+public class SearchCardsCommandTest {
+    private Model model = new ModelManager(getTypicalTopDeck(), new UserPrefs());
+    private Model expectedModel = new ModelManager(getTypicalTopDeck(), new UserPrefs());
+    private DecksView decksView;
+    private DecksView expectedDecksView;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void initialise() {
+        assertTrue(model.isAtDecksView());
+        decksView = (DecksView) model.getViewState();
+        expectedDecksView = (DecksView) expectedModel.getViewState();
+    }
+
+    @Test
+    public void equals() {
+        SearchCardsCommand searchFirstCommand = new SearchCardsCommand(decksView, Collections.singletonList("first"));
+        SearchCardsCommand searchSecondCommand =
+                new SearchCardsCommand(decksView, Collections.singletonList("second"));
+
+        // same object -> returns true
+        assertTrue(searchFirstCommand.equals(searchFirstCommand));
+
+        // same values -> returns true
+        assertTrue(searchFirstCommand.equals(new SearchCardsCommand(decksView, Collections.singletonList("first"))));
+
+        // different types -> returns false
+        assertFalse(searchFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(searchFirstCommand.equals(null));
+
+        // different keywords -> returns false
+        assertFalse(searchFirstCommand.equals(searchSecondCommand));
+    }
+
+    @Test
+    public void execute_keywordsMatchCards_listsCardsAndTheirDecks() {
+        String expectedMessage = String.format(SearchCardsCommand.MESSAGE_CARDS_FOUND_OVERVIEW, 2, 1)
+                + "\n1. Typical Deck: What is the status code for OK in HTTP?"
+                + "\n2. Typical Deck: Which layer is HTTP at?";
+        SearchCardsCommand command = new SearchCardsCommand(decksView, Arrays.asList("layer", "status"));
+        expectedDecksView.updateFilteredList(deck -> deck.equals(DECK_WITH_CARDS));
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Collections.singletonList(DECK_WITH_CARDS), decksView.getFilteredList());
+    }
+
+    @Test
+    public void execute_noMatchingCards_listsNoDecks() {
+        String expectedMessage = String.format(SearchCardsCommand.MESSAGE_CARDS_FOUND_OVERVIEW, 0, 0);
+        SearchCardsCommand command = new SearchCardsCommand(decksView, Collections.singletonList("nothing"));
+        expectedDecksView.updateFilteredList(deck -> false);
+        assertCommandSuccess(command, model, commandHistory, expectedMessage, expectedModel);
+        assertEquals(Collections.emptyList(), decksView.getFilteredList());
+    }
+}
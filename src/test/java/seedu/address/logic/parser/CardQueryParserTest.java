@@ -0,0 +1,135 @@
+package seedu.address.logic.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.logic.commands.FindCardCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.deck.AndCardQuery;
+import seedu.address.model.deck.CardQuery;
+import seedu.address.model.deck.FieldCardQuery;
+import seedu.address.model.deck.FieldCardQuery.Field;
+import seedu.address.model.deck.NotCardQuery;
+import seedu.address.model.deck.OrCardQuery;
+import seedu.address.model.deck.QuestionContainsKeywordsPredicate;
+import seedu.address.model.deck.StatisticCardQuery;
+import seedu.address.model.deck.StatisticCardQuery.Comparison;
+import seedu.address.model.deck.StatisticCardQuery.Statistic;
+
+public class CardQueryParserTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private final CardQueryParser parser = new CardQueryParser(FindCardCommand.MESSAGE_USAGE);
+
+    @Test
+    public void isQuery() {
+        // plain keywords -> returns false
+        assertFalse(CardQueryParser.isQuery("alice \"bob and charlie\" ~dave"));
+
+        // parentheses inside a word, operators not between terms or in quotes -> returns false
+        assertFalse(CardQueryParser.isQuery("f(x)"));
+        assertFalse(CardQueryParser.isQuery("AND"));
+        assertFalse(CardQueryParser.isQuery("alice OR"));
+        assertFalse(CardQueryParser.isQuery("NOT"));
+        assertFalse(CardQueryParser.isQuery("\"rock AND roll\""));
+
+        // unknown field or empty field -> returns false
+        assertFalse(CardQueryParser.isQuery("x:y"));
+        assertFalse(CardQueryParser.isQuery("tag:"));
+
+        // operators, parentheses, fields or statistics -> returns true
+        assertTrue(CardQueryParser.isQuery("alice OR bob"));
+        assertTrue(CardQueryParser.isQuery("(alice)"));
+        assertTrue(CardQueryParser.isQuery("TAG:math"));
+        assertTrue(CardQueryParser.isQuery("attempts>=3"));
+    }
+
+    @Test
+    public void parse_terms_returnsQueries() throws Exception {
+        assertEquals(keyword("alice"), parser.parse("alice"));
+        assertEquals(keyword("~bob charlie"), parser.parse("~\"bob charlie\""));
+        assertEquals(new FieldCardQuery(Field.QUESTION, "what is"), parser.parse("q:\"what is\""));
+        assertEquals(new FieldCardQuery(Field.ANSWER, "~tcp"), parser.parse("a:~tcp"));
+        assertEquals(new FieldCardQuery(Field.TAG, "math"), parser.parse("tag:math"));
+        assertEquals(new StatisticCardQuery(Statistic.DIFFICULTY, Comparison.GREATER_THAN, 2.5),
+                parser.parse("difficulty>2.5"));
+        assertEquals(new StatisticCardQuery(Statistic.ATTEMPTS, Comparison.LESS_THAN_OR_EQUAL, 3),
+                parser.parse("Attempts<=3"));
+    }
+
+    @Test
+    public void parse_operators_notBeforeAndBeforeOr() throws Exception {
+        CardQuery expectedQuery = new OrCardQuery(Arrays.asList(
+                keyword("alice"),
+                new AndCardQuery(Arrays.asList(keyword("bob"), new NotCardQuery(keyword("charlie")))),
+                keyword("dave")));
+        assertEquals(expectedQuery, parser.parse("alice OR bob AND NOT charlie dave"));
+    }
+
+    @Test
+    public void parse_parentheses_grouped() throws Exception {
+        CardQuery expectedQuery = new AndCardQuery(Arrays.asList(
+                new OrCardQuery(Arrays.asList(keyword("alice"), keyword("bob"))),
+                new NotCardQuery(new OrCardQuery(Arrays.asList(keyword("charlie"), keyword("dave"))))));
+        assertEquals(expectedQuery, parser.parse("(alice bob) AND NOT (charlie OR dave)"));
+    }
+
+    @Test
+    public void parse_unbalancedParentheses_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        thrown.expectMessage(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCardCommand.MESSAGE_USAGE));
+        parser.parse("(alice OR bob");
+    }
+
+    @Test
+    public void parse_parenthesesInsideWord_keyword() throws Exception {
+        assertEquals(keyword("f(x)"), parser.parse("f(x)"));
+        assertEquals(new OrCardQuery(Arrays.asList(keyword("f(x)"), keyword("g(y)"))),
+                parser.parse("(f(x) OR g(y))"));
+    }
+
+    @Test
+    public void parse_operatorsNotBetweenTerms_keywords() throws Exception {
+        assertEquals(keyword("AND"), parser.parse("AND"));
+        assertEquals(new OrCardQuery(Arrays.asList(keyword("alice"), keyword("AND"))), parser.parse("alice AND"));
+        assertEquals(new OrCardQuery(Arrays.asList(keyword("OR"), keyword("alice"))), parser.parse("OR alice"));
+        assertEquals(new OrCardQuery(Arrays.asList(keyword("alice"), keyword("NOT"))), parser.parse("(alice NOT)"));
+        assertEquals(keyword("rock AND roll"), parser.parse("\"rock AND roll\""));
+    }
+
+    @Test
+    public void parse_unmatchedCloseParenthesis_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        parser.parse("alice OR bob)");
+    }
+
+    @Test
+    public void parse_invalidStatisticValue_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        parser.parse("difficulty>hard");
+    }
+
+    @Test
+    public void parse_emptyField_throwsParseException() throws Exception {
+        thrown.expect(ParseException.class);
+        parser.parse("tag: math");
+    }
+
+    /**
+     * Returns a query for the single {@code keyword}.
+     */
+    private static CardQuery keyword(String keyword) {
+        return new QuestionContainsKeywordsPredicate(Collections.singletonList(keyword));
+    }
+}
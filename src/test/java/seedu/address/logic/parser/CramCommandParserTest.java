@@ -0,0 +1,79 @@
+package seedu.address.logic.parser;
+
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalDecks.getTypicalTopDeck;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_DECK;
+import static seedu.address.testutil.TypicalIndexes.INDEX_THIRD_DECK;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.commands.CramCommand;
+import seedu.address.model.DecksView;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.StudyView.StudyMode;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.tag.Tag;
+
+public class CramCommandParserTest {
+
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, CramCommand.MESSAGE_USAGE);
+
+    private Model model = new ModelManager(getTypicalTopDeck(), new UserPrefs());
+    private DecksView decksView;
+    private CramCommandParser parser;
+
+    @Before
+    public void initialize() {
+        assertTrue(model.isAtDecksView());
+        decksView = (DecksView) model.getViewState();
+        parser = new CramCommandParser(decksView);
+    }
+
+    @Test
+    public void parse_missingParts_failure() {
+        assertParseFailure(parser, "     ", MESSAGE_INVALID_FORMAT);
+
+        // only a study mode
+        assertParseFailure(parser, "spaced", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidArgs_failure() {
+        // invalid index
+        assertParseFailure(parser, "1 0", MESSAGE_INVALID_FORMAT);
+
+        // unknown study mode
+        assertParseFailure(parser, "1 3 sorted", MESSAGE_INVALID_FORMAT);
+
+        // tag with indexes
+        assertParseFailure(parser, "t/Math 1", MESSAGE_INVALID_FORMAT);
+
+        // invalid tag
+        assertParseFailure(parser, "t/#math", Tag.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_indexes_success() {
+        CramCommand expectedCommand = new CramCommand(decksView, Arrays.asList(INDEX_FIRST_DECK, INDEX_THIRD_DECK),
+                StudyMode.SHUFFLED);
+        assertParseSuccess(parser, " 1  3 ", expectedCommand);
+
+        expectedCommand = new CramCommand(decksView, Arrays.asList(INDEX_FIRST_DECK, INDEX_THIRD_DECK),
+                StudyMode.SPACED);
+        assertParseSuccess(parser, "1 3 spaced", expectedCommand);
+    }
+
+    @Test
+    public void parse_tag_success() {
+        assertParseSuccess(parser, "t/Math", new CramCommand("Math", StudyMode.SHUFFLED));
+        assertParseSuccess(parser, "t/Math weighted", new CramCommand("Math", StudyMode.WEIGHTED));
+    }
+}
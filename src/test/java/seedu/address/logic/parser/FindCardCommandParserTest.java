@@ -17,7 +17,10 @@ import seedu.address.model.CardsView;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.deck.AndCardQuery;
+import seedu.address.model.deck.FieldCardQuery;
 import seedu.address.model.deck.QuestionContainsKeywordsPredicate;
+import seedu.address.model.deck.StatisticCardQuery;
 
 public class FindCardCommandParserTest {
 
@@ -49,6 +52,42 @@ public class FindCardCommandParserTest {
             String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCardCommand.MESSAGE_USAGE));
     }
 
+    @Test
+    public void parse_fuzzyPrefixWithoutKeyword_throwsParseException() {
+        assertParseFailure(parser, "Alice ~",
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCardCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fuzzyArgs_returnsFindCommand() {
+        FindCardCommand expectedFindCommand = new FindCardCommand((CardsView) model.getViewState(),
+                new QuestionContainsKeywordsPredicate(Arrays.asList("~Bob Charlie", "Alice", "~Dave")));
+
+        assertParseSuccess(parser, "Alice ~\"Bob Charlie\" ~Dave", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_query_returnsFindCommand() {
+        FindCardCommand expectedFindCommand = new FindCardCommand((CardsView) model.getViewState(),
+                new AndCardQuery(Arrays.asList(new FieldCardQuery(FieldCardQuery.Field.TAG, "Alice"),
+                        new StatisticCardQuery(StatisticCardQuery.Statistic.DIFFICULTY,
+                                StatisticCardQuery.Comparison.GREATER_THAN, 2.5))));
+
+        assertParseSuccess(parser, "tag:Alice AND difficulty>2.5", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_operatorsOrParenthesesNotStandalone_returnsKeywordFindCommand() {
+        assertParseSuccess(parser, "f(x)", new FindCardCommand((CardsView) model.getViewState(),
+                new QuestionContainsKeywordsPredicate(Arrays.asList("f(x)"))));
+        assertParseSuccess(parser, "AND", new FindCardCommand((CardsView) model.getViewState(),
+                new QuestionContainsKeywordsPredicate(Arrays.asList("AND"))));
+        assertParseSuccess(parser, "\"rock AND roll\"", new FindCardCommand((CardsView) model.getViewState(),
+                new QuestionContainsKeywordsPredicate(Arrays.asList("rock AND roll"))));
+        assertParseSuccess(parser, "x:y", new FindCardCommand((CardsView) model.getViewState(),
+                new QuestionContainsKeywordsPredicate(Arrays.asList("x:y"))));
+    }
+
     @Test
     public void parse_validArgs_returnsFindCommand() {
         // no leading and trailing whitespaces
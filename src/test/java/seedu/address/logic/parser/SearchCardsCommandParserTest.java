@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalDecks.getTypicalTopDeck;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.commands.SearchCardsCommand;
+import seedu.address.model.DecksView;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class SearchCardsCommandParserTest {
+
+    private Model model = new ModelManager(getTypicalTopDeck(), new UserPrefs());
+    private SearchCardsCommandParser parser;
+
+    @Before
+    public void initialize() {
+        assertTrue(model.isAtDecksView());
+        parser = new SearchCardsCommandParser((DecksView) model.getViewState());
+    }
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String
+                .format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCardsCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsSearchCardsCommand() {
+        SearchCardsCommand expectedSearchCommand = new SearchCardsCommand((DecksView) model.getViewState(),
+                Arrays.asList("status code", "HTTP"));
+        assertParseSuccess(parser, "HTTP \"status code\"", expectedSearchCommand);
+
+        // multiple whitespaces between keywords
+        assertParseSuccess(parser, " \n HTTP \n \t \"status code\"  \t", expectedSearchCommand);
+    }
+
+}
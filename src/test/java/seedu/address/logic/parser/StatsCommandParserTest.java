@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalDecks.getTypicalTopDeck;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_DECK;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.commands.StatsCommand;
+import seedu.address.model.DecksView;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class StatsCommandParserTest {
+
+    private Model model = new ModelManager(getTypicalTopDeck(), new UserPrefs());
+    private DecksView decksView;
+    private StatsCommandParser parser;
+
+    @Before
+    public void initialize() {
+        assertTrue(model.isAtDecksView());
+        decksView = (DecksView) model.getViewState();
+        parser = new StatsCommandParser(decksView);
+    }
+
+    @Test
+    public void parse_noArgs_returnsCollectionStatsCommand() {
+        assertParseSuccess(parser, "   ", new StatsCommand());
+    }
+
+    @Test
+    public void parse_validIndex_returnsDeckStatsCommand() {
+        assertParseSuccess(parser, "1", new StatsCommand(decksView, INDEX_FIRST_DECK));
+    }
+
+    @Test
+    public void parse_invalidArgs_throwsParseException() {
+        assertParseFailure(parser, "a",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, StatsCommand.MESSAGE_USAGE));
+    }
+}
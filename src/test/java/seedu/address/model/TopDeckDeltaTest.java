@@ -0,0 +1,128 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalDecks.DECK_A;
+import static seedu.address.testutil.TypicalDecks.DECK_B;
+import static seedu.address.testutil.TypicalDecks.DECK_C;
+import static seedu.address.testutil.TypicalDecks.DECK_D;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.deck.Deck;
+import seedu.address.testutil.DeckBuilder;
+
+public class TopDeckDeltaTest {
+
+    @Test
+    public void apply_deckAdded_appliesAndReverts() {
+        assertDeltaRoundTrip(Arrays.asList(DECK_A, DECK_B),
+                new TopDeckChange(2, Collections.emptyList(), Collections.singletonList(DECK_C)));
+    }
+
+    @Test
+    public void apply_deckRemoved_appliesAndReverts() {
+        assertDeltaRoundTrip(Arrays.asList(DECK_A, DECK_B, DECK_C),
+                new TopDeckChange(1, Collections.singletonList(DECK_B), Collections.emptyList()));
+    }
+
+    @Test
+    public void apply_deckReplaced_appliesAndReverts() {
+        Deck editedDeckB = new DeckBuilder(DECK_B).build();
+        assertDeltaRoundTrip(Arrays.asList(DECK_A, DECK_B, DECK_C),
+                new TopDeckChange(1, Collections.singletonList(DECK_B), Collections.singletonList(editedDeckB)));
+    }
+
+    @Test
+    public void apply_allDecksReplaced_appliesAndReverts() {
+        assertDeltaRoundTrip(Arrays.asList(DECK_C, DECK_B),
+                new TopDeckChange(0, Arrays.asList(DECK_C, DECK_B), Arrays.asList(DECK_A, DECK_B, DECK_D)));
+    }
+
+    @Test
+    public void apply_severalChanges_appliesAndRevertsInOrder() {
+        Deck editedDeckA = new DeckBuilder(DECK_A).build();
+        assertDeltaRoundTrip(Arrays.asList(DECK_A, DECK_B),
+                new TopDeckChange(2, Collections.emptyList(), Collections.singletonList(DECK_C)),
+                new TopDeckChange(0, Collections.singletonList(DECK_A), Collections.emptyList()),
+                new TopDeckChange(1, Collections.singletonList(DECK_C), Collections.singletonList(editedDeckA)));
+    }
+
+    @Test
+    public void getEstimatedBytes_onlyCountsChangedDecks() {
+        TopDeckDelta delta = new TopDeckDelta(Collections.singletonList(
+                new TopDeckChange(1, Collections.singletonList(DECK_A), Collections.singletonList(DECK_B))));
+
+        assertEquals(TopDeckChange.estimateBytes(Arrays.asList(DECK_A, DECK_B)), delta.getEstimatedBytes());
+        assertTrue(TopDeckChange.estimateBytes(Collections.singletonList(DECK_D))
+                > TopDeckChange.estimateBytes(Collections.singletonList(DECK_A)));
+    }
+
+    @Test
+    public void getEstimatedBytes_deckInSeveralChanges_countedOnce() {
+        Deck editedDeckA = new DeckBuilder(DECK_A).build();
+        TopDeckDelta delta = new TopDeckDelta(Arrays.asList(
+                new TopDeckChange(0, Collections.singletonList(DECK_A), Collections.singletonList(editedDeckA)),
+                new TopDeckChange(0, Collections.singletonList(editedDeckA), Collections.singletonList(DECK_D))));
+
+        assertEquals(TopDeckChange.estimateBytes(Arrays.asList(DECK_A, editedDeckA, DECK_D)),
+                delta.getEstimatedBytes());
+        assertEquals(3, delta.getDeckBytes().size());
+    }
+
+    @Test
+    public void equals() {
+        TopDeckChange addDeckB = new TopDeckChange(1, Collections.emptyList(), Collections.singletonList(DECK_B));
+        TopDeckDelta delta = new TopDeckDelta(Collections.singletonList(addDeckB));
+
+        // same values -> returns true
+        assertTrue(delta.equals(new TopDeckDelta(Collections.singletonList(
+                new TopDeckChange(1, Collections.emptyList(), Collections.singletonList(DECK_B))))));
+
+        // same object -> returns true
+        assertTrue(delta.equals(delta));
+
+        // null -> returns false
+        assertFalse(delta.equals(null));
+
+        // different change -> returns false
+        assertFalse(delta.equals(new TopDeckDelta(Collections.singletonList(addDeckB.inverse()))));
+    }
+
+    /**
+     * Asserts that a delta made of {@code changes} turns a {@code TopDeck} holding {@code decks}
+     * into the state reached by making the changes one by one, and that reverting it restores {@code decks}.
+     */
+    private void assertDeltaRoundTrip(List<Deck> decks, TopDeckChange... changes) {
+        TopDeck expectedTopDeck = new TopDeck();
+        expectedTopDeck.setDecks(decks);
+        for (TopDeckChange change : changes) {
+            expectedTopDeck.replay(change);
+        }
+        List<Deck> expectedDecks = expectedTopDeck.getDeckList();
+
+        TopDeck topDeck = new TopDeck();
+        topDeck.setDecks(decks);
+        TopDeckDelta delta = new TopDeckDelta(Arrays.asList(changes));
+
+        delta.apply(topDeck);
+        assertIdentical(expectedDecks, topDeck.getDeckList());
+        delta.revert(topDeck);
+        assertIdentical(decks, topDeck.getDeckList());
+    }
+
+    /**
+     * Asserts that {@code actual} holds the very same decks as {@code expected}, in the same order.
+     */
+    private void assertIdentical(List<Deck> expected, List<Deck> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertTrue(expected.get(i) == actual.get(i));
+        }
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.model;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static seedu.address.testutil.TypicalCards.ADDITION;
+import static seedu.address.testutil.TypicalCards.LAYER;
+import static seedu.address.testutil.TypicalCards.OK_STATUS;
+import static seedu.address.testutil.TypicalCards.TRANSPORT;
 import static seedu.address.testutil.TypicalCards.UNIQUE;
 import static seedu.address.testutil.TypicalDecks.DECK_A;
 import static seedu.address.testutil.TypicalDecks.DECK_F;
@@ -24,6 +27,7 @@ import javafx.beans.property.SimpleIntegerProperty;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.model.deck.Card;
+import seedu.address.model.deck.CardSearchResult;
 import seedu.address.model.deck.Deck;
 import seedu.address.model.deck.exceptions.CardNotFoundException;
 import seedu.address.model.deck.exceptions.DeckNotFoundException;
@@ -117,6 +121,34 @@ public class TopDeckTest {
         assertEquals(0, counter.get());
     }
 
+    @Test
+    public void findCards_matchesInSeveralDecks_ranksByMatchedKeywords() {
+        Deck networks = new DeckBuilder().withName("Networks").withCards(Collections.singletonList(TRANSPORT))
+                .build();
+        topDeck.addDeck(DECK_WITH_CARDS);
+        topDeck.addDeck(networks);
+
+        List<CardSearchResult> expectedResults = Arrays.asList(
+                new CardSearchResult(LAYER, DECK_WITH_CARDS, 2),
+                new CardSearchResult(OK_STATUS, DECK_WITH_CARDS, 1),
+                new CardSearchResult(TRANSPORT, networks, 1));
+        assertEquals(expectedResults, topDeck.findCards(Arrays.asList("cs2105", "LAYER")));
+    }
+
+    @Test
+    public void findCards_afterCardsChanged_findsCurrentCards() {
+        topDeck.addDeck(DECK_WITH_CARDS);
+        topDeck.findCards(Collections.singletonList("cs2105"));
+
+        Deck deck = topDeck.deleteCard(LAYER, DECK_WITH_CARDS);
+        deck = topDeck.addCard(TRANSPORT, deck);
+
+        List<CardSearchResult> expectedResults = Arrays.asList(
+                new CardSearchResult(OK_STATUS, deck, 1),
+                new CardSearchResult(TRANSPORT, deck, 1));
+        assertEquals(expectedResults, topDeck.findCards(Collections.singletonList("cs2105")));
+    }
+
     @Test
     public void addCard_null_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -18,4 +18,10 @@ public class UserPrefsTest {
         Assert.assertThrows(NullPointerException.class, () -> userPrefs.setTopDeckFilePath(null));
     }
 
+    @Test
+    public void setUndoPolicy_nullUndoPolicy_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        Assert.assertThrows(NullPointerException.class, () -> userPrefs.setUndoPolicy(null));
+    }
+
 }
@@ -2,8 +2,11 @@ package seedu.address.model;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.testutil.TypicalCards.ADDITION;
+import static seedu.address.testutil.TypicalCards.SUBTRACTION;
 import static seedu.address.testutil.TypicalDecks.DECK_A;
 import static seedu.address.testutil.TypicalDecks.DECK_B;
 import static seedu.address.testutil.TypicalDecks.DECK_C;
@@ -16,6 +19,8 @@ import java.util.List;
 
 import org.junit.Test;
 
+import seedu.address.commons.core.UndoPolicy;
+import seedu.address.model.deck.Deck;
 import seedu.address.testutil.TopDeckBuilder;
 
 public class VersionedTopDeckTest {
@@ -210,6 +215,75 @@ public class VersionedTopDeckTest {
         assertThrows(VersionedTopDeck.NoRedoableStateException.class, versionedTopDeck::redo);
     }
 
+    @Test
+    public void commit_exceedsMaxStates_oldestStatesRemoved() {
+        VersionedTopDeck versionedTopDeck = new VersionedTopDeck(emptyTopDeck, new UndoPolicy(2, Long.MAX_VALUE));
+        versionedTopDeck.resetData(topDeckWithDeckA);
+        versionedTopDeck.commit();
+        versionedTopDeck.resetData(topDeckWithDeckB);
+        versionedTopDeck.commit();
+
+        assertEquals(2, versionedTopDeck.getNumberOfStates());
+        assertTopDeckListStatus(versionedTopDeck, Collections.singletonList(topDeckWithDeckA), topDeckWithDeckB,
+                                Collections.emptyList());
+    }
+
+    @Test
+    public void commit_exceedsMaxRetainedBytes_oldestStatesRemoved() {
+        VersionedTopDeck versionedTopDeck = new VersionedTopDeck(emptyTopDeck, new UndoPolicy(100, 0));
+        versionedTopDeck.resetData(topDeckWithDeckD);
+        versionedTopDeck.commit();
+
+        assertEquals(1, versionedTopDeck.getNumberOfStates());
+        assertEquals(0, versionedTopDeck.getRetainedBytes());
+        assertFalse(versionedTopDeck.canUndo());
+        assertEquals(new TopDeck(versionedTopDeck), topDeckWithDeckD);
+    }
+
+    @Test
+    public void commit_pointerNotAtEndOfStateList_retainedBytesOfUndoneStatesReleased() {
+        VersionedTopDeck versionedTopDeck = prepareTopDeckList(emptyTopDeck);
+        long initialRetainedBytes = versionedTopDeck.getRetainedBytes();
+        versionedTopDeck.resetData(topDeckWithDeckD);
+        versionedTopDeck.commit();
+        assertNotEquals(initialRetainedBytes, versionedTopDeck.getRetainedBytes());
+
+        versionedTopDeck.undo();
+        versionedTopDeck.commit();
+        assertEquals(initialRetainedBytes, versionedTopDeck.getRetainedBytes());
+    }
+
+    @Test
+    public void commit_deckEditedByConsecutiveCommits_sharedDeckCountedOnce() {
+        VersionedTopDeck versionedTopDeck = prepareTopDeckList(new TopDeckBuilder().withDeck(DECK_A).build());
+        Deck originalDeck = versionedTopDeck.getDeckList().get(0);
+        Deck onceEditedDeck = versionedTopDeck.addCard(ADDITION, originalDeck);
+        versionedTopDeck.commit();
+        Deck twiceEditedDeck = versionedTopDeck.addCard(SUBTRACTION, onceEditedDeck);
+        versionedTopDeck.commit();
+
+        assertEquals(TopDeckChange.estimateBytes(Arrays.asList(originalDeck, onceEditedDeck, twiceEditedDeck)),
+                versionedTopDeck.getRetainedBytes());
+
+        // dropping the undone state releases only the deck no other state holds on to
+        versionedTopDeck.undo();
+        versionedTopDeck.commit();
+        assertEquals(TopDeckChange.estimateBytes(Arrays.asList(originalDeck, onceEditedDeck)),
+                versionedTopDeck.getRetainedBytes());
+    }
+
+    @Test
+    public void undo_afterEditingSingleDeck_otherDecksShared() {
+        VersionedTopDeck versionedTopDeck = prepareTopDeckList(new TopDeckBuilder().withDeck(DECK_A)
+                                                                                   .withDeck(DECK_D).build());
+        versionedTopDeck.deleteDeck(DECK_A);
+        versionedTopDeck.commit();
+        versionedTopDeck.undo();
+
+        assertEquals(Arrays.asList(DECK_A, DECK_D), versionedTopDeck.getDeckList());
+        assertTrue(versionedTopDeck.getDeckList().get(1) == DECK_D);
+    }
+
     @Test
     public void equals() {
         VersionedTopDeck versionedTopDeck = prepareTopDeckList(topDeckWithDeckA, topDeckWithDeckB);
@@ -0,0 +1,98 @@
+package seedu.address.model.deck;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalCards.ADDITION;
+import static seedu.address.testutil.TypicalCards.SUBTRACTION;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.model.deck.FieldCardQuery.Field;
+import seedu.address.model.deck.StatisticCardQuery.Comparison;
+import seedu.address.model.deck.StatisticCardQuery.Statistic;
+import seedu.address.testutil.CardBuilder;
+
+public class CardQueryTest {
+
+    private static final Card TCP = new CardBuilder().withQuestion("What is TCP?").withAnswer("Transport protocol")
+            .withTags("CS2105").withDifficulty(3, 9).build();
+
+    private static final CardQuery TAG_MATH = new FieldCardQuery(Field.TAG, "math");
+    private static final CardQuery ANSWER_PROTOCOL = new FieldCardQuery(Field.ANSWER, "protocol");
+
+    private final UniqueCardList cards = new UniqueCardList();
+
+    @Before
+    public void setUp() {
+        cards.setCards(Arrays.asList(ADDITION, SUBTRACTION, TCP));
+    }
+
+    @Test
+    public void forCardsIn_fieldQueries_onlySearchesField() {
+        assertEquals(new HashSet<>(Arrays.asList(ADDITION, SUBTRACTION)), findCards(TAG_MATH));
+        assertEquals(Collections.singleton(TCP), findCards(ANSWER_PROTOCOL));
+
+        // the question has the word, but not the tags
+        assertEquals(Collections.emptySet(), findCards(new FieldCardQuery(Field.TAG, "what")));
+        assertEquals(Collections.singleton(TCP), findCards(new FieldCardQuery(Field.QUESTION, "~tcp")));
+    }
+
+    @Test
+    public void forCardsIn_statisticQueries_comparesStatistic() {
+        assertEquals(Collections.singleton(TCP),
+                findCards(new StatisticCardQuery(Statistic.DIFFICULTY, Comparison.GREATER_THAN, 2.5)));
+        assertEquals(new HashSet<>(Arrays.asList(ADDITION, SUBTRACTION)),
+                findCards(new StatisticCardQuery(Statistic.ATTEMPTS, Comparison.LESS_THAN, 3)));
+        assertEquals(Collections.singleton(TCP),
+                findCards(new StatisticCardQuery(Statistic.ATTEMPTS, Comparison.EQUAL, 3)));
+    }
+
+    @Test
+    public void forCardsIn_booleanQueries_combinesQueries() {
+        CardQuery whatQuestion = new FieldCardQuery(Field.QUESTION, "what");
+        CardQuery hard = new StatisticCardQuery(Statistic.DIFFICULTY, Comparison.GREATER_THAN_OR_EQUAL, 3);
+
+        assertEquals(Collections.singleton(TCP), findCards(new AndCardQuery(Arrays.asList(whatQuestion, hard))));
+        assertEquals(Collections.singleton(SUBTRACTION),
+                findCards(new AndCardQuery(Arrays.asList(whatQuestion, new NotCardQuery(hard)))));
+        assertEquals(new HashSet<>(Arrays.asList(ADDITION, SUBTRACTION, TCP)),
+                findCards(new OrCardQuery(Arrays.asList(TAG_MATH, ANSWER_PROTOCOL))));
+        assertEquals(Collections.singleton(TCP), findCards(new NotCardQuery(TAG_MATH)));
+    }
+
+    @Test
+    public void findCandidatesIn_indexedAndScannedQueries_looksUpIndexedQueries() {
+        // the tag is looked up, and only its cards have to be tested for the answer
+        assertEquals(new HashSet<>(Arrays.asList(ADDITION, SUBTRACTION)),
+                new AndCardQuery(Arrays.asList(TAG_MATH, ANSWER_PROTOCOL)).findCandidatesIn(cards).get());
+
+        // any card may have the answer
+        assertFalse(new OrCardQuery(Arrays.asList(TAG_MATH, ANSWER_PROTOCOL)).findCandidatesIn(cards).isPresent());
+        assertFalse(new NotCardQuery(TAG_MATH).findCandidatesIn(cards).isPresent());
+    }
+
+    @Test
+    public void getKeywords_booleanQueries_negatedKeywordsLeftOut() {
+        List<String> expectedKeywords = Arrays.asList("math", "protocol");
+        CardQuery query = new OrCardQuery(Arrays.asList(TAG_MATH,
+                new AndCardQuery(Arrays.asList(ANSWER_PROTOCOL, new NotCardQuery(new FieldCardQuery(Field.TAG,
+                        "cs2105"))))));
+        assertEquals(expectedKeywords, query.getKeywords());
+    }
+
+    /**
+     * Returns the cards of {@code cards} matched by {@code query}.
+     */
+    private Set<Card> findCards(CardQuery query) {
+        return cards.asUnmodifiableObservableList().stream().filter(query.forCardsIn(cards))
+                .collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.deck;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalCards.ADDITION;
+import static seedu.address.testutil.TypicalCards.DIVISION;
+import static seedu.address.testutil.TypicalCards.LAYER;
+import static seedu.address.testutil.TypicalCards.SUBTRACTION;
+import static seedu.address.testutil.TypicalDecks.DECK_A;
+import static seedu.address.testutil.TypicalDecks.DECK_B;
+import static seedu.address.testutil.TypicalDecks.DECK_C;
+
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.testutil.CardBuilder;
+import seedu.address.testutil.DeckBuilder;
+
+public class CombinedCardListTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    private Deck firstDeck = new DeckBuilder(DECK_A).build();
+    private Deck emptyDeck = new DeckBuilder(DECK_B).build();
+    private Deck lastDeck = new DeckBuilder(DECK_C).build();
+    private CombinedCardList combinedCards;
+
+    @Before
+    public void setUp() {
+        firstDeck.addCard(ADDITION);
+        firstDeck.addCard(DIVISION);
+        lastDeck.addCard(LAYER);
+        combinedCards = new CombinedCardList(Arrays.asList(firstDeck, emptyDeck, lastDeck));
+    }
+
+    @Test
+    public void get_cardsOfSeveralDecks_oneDeckAfterAnother() {
+        assertEquals(Arrays.asList(ADDITION, DIVISION, LAYER), combinedCards);
+    }
+
+    @Test
+    public void get_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        combinedCards.get(3);
+    }
+
+    @Test
+    public void size_cardAddedToDeck_viewUpdated() {
+        emptyDeck.addCard(SUBTRACTION);
+        assertEquals(4, combinedCards.size());
+        assertSame(SUBTRACTION, combinedCards.get(2));
+    }
+
+    @Test
+    public void getDeckOf_cardOfDeck_returnsDeck() {
+        assertSame(lastDeck, combinedCards.getDeckOf(LAYER));
+        assertNull(combinedCards.getDeckOf(SUBTRACTION));
+    }
+
+    @Test
+    public void getDeckOf_sameQuestionInSeveralDecks_returnsDeckOfCard() {
+        Card sameQuestion = new CardBuilder(DIVISION).withAnswer("Another answer").build();
+        emptyDeck.addCard(sameQuestion);
+        assertSame(firstDeck, combinedCards.getDeckOf(DIVISION));
+        assertSame(emptyDeck, combinedCards.getDeckOf(sameQuestion));
+    }
+
+    @Test
+    public void add_anyCard_throwsUnsupportedOperationException() {
+        thrown.expect(UnsupportedOperationException.class);
+        combinedCards.add(SUBTRACTION);
+    }
+}
@@ -0,0 +1,160 @@
+package seedu.address.model.deck;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.HashSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.TopDeck;
+import seedu.address.model.VersionedTopDeck;
+
+public class DeckStatisticsTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void getStatistics_cardsAddedAndRemoved_countsUpdated() {
+        UniqueCardList cards = new UniqueCardList();
+        Card easyCard = createCard("Easy?", 2, 2);
+        Card hardCard = createCard("Hard?", 1, 5);
+        cards.add(easyCard);
+        cards.add(hardCard);
+        cards.add(createCard("Unrated?", 0, 0));
+
+        DeckStatistics statistics = cards.getStatistics();
+        assertStatistics(statistics, 3, 1, 3, 3.0);
+        assertEquals(1, statistics.getCardCountWithDifficulty(1));
+        assertEquals(1, statistics.getCardCountWithDifficulty(5));
+
+        cards.remove(hardCard);
+        assertStatistics(statistics, 2, 1, 2, 1.0);
+        assertEquals(0, statistics.getCardCountWithDifficulty(5));
+
+        cards.setCard(easyCard, createCard("Easy?", 3, 9));
+        assertStatistics(statistics, 2, 1, 3, 3.0);
+        assertEquals(1, statistics.getCardCountWithDifficulty(3));
+
+        cards.clear();
+        assertStatistics(statistics, 0, 0, 0, 0);
+    }
+
+    @Test
+    public void getStatistics_cardRated_countsUpdatedInEveryList() {
+        Card card = createCard("Question?", 0, 0);
+        UniqueCardList cards = new UniqueCardList();
+        cards.add(card);
+        UniqueCardList copy = new UniqueCardList();
+        copy.setCards(cards);
+
+        card.addDifficulty(4);
+        card.addDifficulty(2);
+        assertStatistics(cards.getStatistics(), 1, 0, 2, 3.0);
+        assertStatistics(copy.getStatistics(), 1, 0, 2, 3.0);
+        assertEquals(1, copy.getStatistics().getCardCountWithDifficulty(3));
+
+        card.resetDifficulty();
+        assertStatistics(cards.getStatistics(), 1, 1, 0, 0);
+    }
+
+    @Test
+    public void getStatistics_cardRatedAfterRemoval_countsUnchanged() {
+        Card card = createCard("Question?", 0, 0);
+        UniqueCardList cards = new UniqueCardList();
+        cards.add(card);
+        cards.remove(card);
+
+        card.addDifficulty(5);
+        assertStatistics(cards.getStatistics(), 0, 0, 0, 0);
+    }
+
+    @Test
+    public void getStatistics_editedCardRatedThenUndone_countsMatchRestoredCard() {
+        Card card = createCard("Question?", 1, 2);
+        VersionedTopDeck topDeck = new VersionedTopDeck(new TopDeck());
+        topDeck.addDeck(new Deck(new Name("Deck"), Arrays.asList(card)));
+        topDeck.commit();
+
+        // edits the card the way EditCardCommand does, keeping its difficulty
+        Card editedCard = new Card("Question?", "Edited answer", card.getDifficultyObj(), new HashSet<>());
+        topDeck.setCard(card, editedCard, topDeck.getDeckList().get(0));
+        topDeck.commit();
+        editedCard.addDifficulty(5);
+
+        topDeck.undo();
+        UniqueCardList cards = topDeck.getDeckList().get(0).getCards();
+        assertStatistics(cards.getStatistics(), 1, 0, 1, 2.0);
+
+        card.addDifficulty(1);
+        assertStatistics(cards.getStatistics(), 1, 0, 2, 1.5);
+        cards.remove(card);
+        assertStatistics(cards.getStatistics(), 0, 0, 0, 0);
+
+        topDeck.redo();
+        assertStatistics(topDeck.getDeckList().get(0).getCards().getStatistics(), 1, 0, 2, 3.5);
+    }
+
+    @Test
+    public void getStatistics_renamedDeckUndone_ratingsCountedByRestoredDeck() {
+        Card card = createCard("Question?", 0, 0);
+        VersionedTopDeck topDeck = new VersionedTopDeck(new TopDeck());
+        Deck deck = new Deck(new Name("Deck"), Arrays.asList(card));
+        topDeck.addDeck(deck);
+        topDeck.commit();
+
+        // renames the deck the way EditDeckCommand does, with the same cards
+        Deck renamedDeck = new Deck(new Name("Renamed"), deck.getCards().internalList);
+        topDeck.updateDeck(deck, renamedDeck);
+        topDeck.commit();
+        card.addDifficulty(2);
+        assertEquals(1, renamedDeck.getRatingCount());
+
+        topDeck.undo();
+        card.addDifficulty(4);
+        assertEquals(1, deck.getRatingCount());
+        assertStatistics(deck.getCards().getStatistics(), 1, 0, 2, 3.0);
+    }
+
+    @Test
+    public void sumOf_decks_countsAddedUp() {
+        Deck first = new Deck(new Name("First"), Arrays.asList(createCard("One?", 1, 1), createCard("Two?", 0, 0)));
+        Deck second = new Deck(new Name("Second"), Arrays.asList(createCard("Three?", 2, 10)));
+
+        DeckStatistics statistics = DeckStatistics.sumOf(Arrays.asList(first, second));
+        assertStatistics(statistics, 3, 1, 3, 3.0);
+        assertEquals(1, statistics.getCardCountWithDifficulty(1));
+        assertEquals(1, statistics.getCardCountWithDifficulty(5));
+    }
+
+    @Test
+    public void getCardCountWithDifficulty_invalidRating_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new DeckStatistics().getCardCountWithDifficulty(0);
+    }
+
+    /**
+     * Asserts that {@code statistics} count {@code cardCount} cards, of which {@code neverAttempted} were never
+     * attempted, with {@code totalAttempts} attempts and a mean difficulty of {@code meanDifficulty}.
+     */
+    private static void assertStatistics(DeckStatistics statistics, int cardCount, int neverAttempted,
+            long totalAttempts, double meanDifficulty) {
+        assertEquals(cardCount, statistics.getCardCount());
+        assertEquals(neverAttempted, statistics.getNeverAttemptedCardCount());
+        assertEquals(totalAttempts, statistics.getTotalAttempts());
+        assertEquals(meanDifficulty, statistics.getMeanDifficulty(), DELTA);
+    }
+
+    /**
+     * Returns a card with {@code question} that was rated {@code numberOfAttempts} times, for a total of
+     * {@code totalRating}.
+     */
+    private static Card createCard(String question, int numberOfAttempts, int totalRating) {
+        return new Card(question, "Answer", new Difficulty(numberOfAttempts, totalRating), new HashSet<>());
+    }
+}
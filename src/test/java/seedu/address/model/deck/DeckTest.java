@@ -1,11 +1,15 @@
 package seedu.address.model.deck;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CARD_LIST;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_DECK_A;
 import static seedu.address.testutil.TypicalDecks.DECK_A;
 import static seedu.address.testutil.TypicalDecks.DECK_B;
+import static seedu.address.testutil.TypicalDecks.DECK_WITH_CARDS;
+
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Test;
 
@@ -13,6 +17,22 @@ import seedu.address.testutil.DeckBuilder;
 
 public class DeckTest {
 
+    @Test
+    public void getCards_cardLoader_loadedOnceWhenFirstNeeded() {
+        AtomicInteger loadCount = new AtomicInteger();
+        Deck deck = new Deck(DECK_WITH_CARDS.getName(), () -> {
+            loadCount.incrementAndGet();
+            return DECK_WITH_CARDS.getCards().internalList;
+        });
+        assertFalse(deck.isLoaded());
+        assertEquals(0, loadCount.get());
+
+        assertEquals(DECK_WITH_CARDS.getCards(), deck.getCards());
+        assertTrue(deck.isLoaded());
+        assertTrue(deck.hasCard(DECK_WITH_CARDS.getCards().internalList.get(0)));
+        assertEquals(1, loadCount.get());
+    }
+
     @Test
     public void isSameDeck() {
         // same object -> returns true
@@ -1,11 +1,16 @@
 package seedu.address.model.deck;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Collections;
 
 import org.junit.Test;
 
 public class DifficultyTest {
 
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+
     @Test
     public void constructor() {
         Difficulty difficulty = new Difficulty();
@@ -22,11 +27,66 @@ public class DifficultyTest {
     }
 
     @Test
-    public void addDifficulty_integerRating_success() {
+    public void withRating_integerRating_success() {
         Difficulty difficulty = new Difficulty(19, 40);
-        difficulty.addDifficulty(5);
+        difficulty = difficulty.withRating(5);
         assertEquals(difficulty.getTotalRating(), 45);
         assertEquals(difficulty.getNumberOfAttempts(), 20);
         assertEquals(difficulty.getDifficulty(), 2.25);
     }
+
+    @Test
+    public void withRating_recalledCard_intervalGrows() {
+        Difficulty difficulty = new Difficulty();
+        assertEquals(difficulty.getDueTime(), 0);
+
+        difficulty = difficulty.withRating(2, 0);
+        assertEquals(difficulty.getInterval(), 1);
+        assertEquals(difficulty.getDueTime(), DAY_MILLIS);
+
+        difficulty = difficulty.withRating(2, DAY_MILLIS);
+        assertEquals(difficulty.getInterval(), 6);
+
+        difficulty = difficulty.withRating(1, 7 * DAY_MILLIS);
+        assertEquals(difficulty.getRepetitions(), 3);
+        assertEquals(difficulty.getEaseFactor(), 2.6);
+        assertEquals(difficulty.getInterval(), 15);
+        assertEquals(difficulty.getDueTime(), 22 * DAY_MILLIS);
+    }
+
+    @Test
+    public void withRating_forgottenCard_startsOver() {
+        Difficulty difficulty = new Difficulty(3, 6, 3, 16, 2.5, 0);
+        difficulty = difficulty.withRating(5, DAY_MILLIS);
+        assertEquals(difficulty.getRepetitions(), 0);
+        assertEquals(difficulty.getInterval(), 0);
+        assertEquals(difficulty.getEaseFactor(), 1.96);
+        assertTrue(difficulty.getDueTime() > DAY_MILLIS && difficulty.getDueTime() < 2 * DAY_MILLIS);
+
+        // the ease factor never falls below the minimum
+        difficulty = difficulty.withRating(5, DAY_MILLIS);
+        difficulty = difficulty.withRating(5, DAY_MILLIS);
+        assertEquals(difficulty.getEaseFactor(), Difficulty.MIN_EASE_FACTOR);
+    }
+
+    @Test
+    public void withRating_ratedDifficulty_unchanged() {
+        Difficulty difficulty = new Difficulty(3, 6, 3, 16, 2.0, 5 * DAY_MILLIS);
+        difficulty.withRating(5, DAY_MILLIS);
+        assertEquals(difficulty.getTotalRating(), 6);
+        assertEquals(difficulty.getNumberOfAttempts(), 3);
+        assertEquals(difficulty.getInterval(), 16);
+        assertEquals(difficulty.getDueTime(), 5 * DAY_MILLIS);
+    }
+
+    @Test
+    public void resetDifficulty_reviewedCard_dueStraightAway() {
+        Card card = new Card("Question", "Answer", new Difficulty(3, 6, 3, 16, 2.0, 5 * DAY_MILLIS),
+                Collections.emptySet());
+        card.resetDifficulty();
+        Difficulty difficulty = card.getDifficultyObj();
+        assertEquals(difficulty.getNumberOfAttempts(), 0);
+        assertEquals(difficulty.getEaseFactor(), Difficulty.DEFAULT_EASE_FACTOR);
+        assertEquals(difficulty.getDueTime(), 0);
+    }
 }
@@ -0,0 +1,158 @@
+package seedu.address.model.deck;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class PersistentTreeMapTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void putAndRemove_randomKeys_sameAsTreeMap() {
+        Random random = new Random(1);
+        PersistentTreeMap<Integer, String> map = PersistentTreeMap.empty();
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        for (int i = 0; i < 2000; i++) {
+            int key = random.nextInt(500);
+            if (random.nextInt(3) == 0) {
+                map = map.remove(key);
+                expected.remove(key);
+            } else {
+                map = map.put(key, "value " + i);
+                expected.put(key, "value " + i);
+            }
+        }
+        assertSameEntries(expected, map);
+    }
+
+    @Test
+    public void put_existingMap_oldMapUnchanged() {
+        PersistentTreeMap<Integer, String> map = PersistentTreeMap.ofSorted(Arrays.asList(1, 2, 3),
+                Arrays.asList("one", "two", "three"));
+        PersistentTreeMap<Integer, String> changedMap = map.put(2, "deux").put(4, "four").remove(1);
+
+        assertEquals(3, map.size());
+        assertEquals("two", map.get(2));
+        assertNull(map.get(4));
+        assertEquals("one", map.valueAt(0));
+        assertEquals(Arrays.asList(2, 3, 4), keysOf(changedMap));
+        assertEquals("deux", changedMap.get(2));
+    }
+
+    @Test
+    public void remove_absentKey_sameMap() {
+        PersistentTreeMap<Integer, String> map = PersistentTreeMap.<Integer, String>empty().put(1, "one");
+        assertSame(map, map.remove(2));
+    }
+
+    @Test
+    public void ofSorted_keys_sameAsTreeMap() {
+        List<Integer> keys = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        TreeMap<Integer, String> expected = new TreeMap<>();
+        for (int i = 0; i < 100; i++) {
+            keys.add(i * 2);
+            values.add("value " + i);
+            expected.put(i * 2, "value " + i);
+        }
+        assertSameEntries(expected, PersistentTreeMap.ofSorted(keys, values));
+    }
+
+    @Test
+    public void keysChangedSince_randomChanges_sameAsComparingEntries() {
+        Random random = new Random(2);
+        List<Integer> keys = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            keys.add(i * 2);
+            values.add("value " + i);
+        }
+        PersistentTreeMap<Integer, String> older = PersistentTreeMap.ofSorted(keys, values);
+        PersistentTreeMap<Integer, String> newer = older;
+        TreeMap<Integer, String> olderEntries = new TreeMap<>();
+        for (int i = 0; i < keys.size(); i++) {
+            olderEntries.put(keys.get(i), values.get(i));
+        }
+        TreeMap<Integer, String> newerEntries = new TreeMap<>(olderEntries);
+        for (int i = 0; i < 40; i++) {
+            int key = random.nextInt(1000);
+            if (random.nextBoolean()) {
+                newer = newer.remove(key);
+                newerEntries.remove(key);
+            } else {
+                newer = newer.put(key, "changed " + i);
+                newerEntries.put(key, "changed " + i);
+            }
+        }
+
+        List<Integer> expected = new ArrayList<>();
+        TreeMap<Integer, String> allEntries = new TreeMap<>(olderEntries);
+        allEntries.putAll(newerEntries);
+        for (Integer key : allEntries.keySet()) {
+            if (olderEntries.get(key) != newerEntries.get(key)) {
+                expected.add(key);
+            }
+        }
+        assertEquals(expected, newer.keysChangedSince(older, 1000));
+        assertEquals(new ArrayList<>(), older.keysChangedSince(older, 0));
+    }
+
+    @Test
+    public void keysChangedSince_moreChangesThanMax_returnsNull() {
+        PersistentTreeMap<Integer, String> older = PersistentTreeMap.ofSorted(Arrays.asList(1, 2, 3),
+                Arrays.asList("one", "two", "three"));
+        PersistentTreeMap<Integer, String> newer = older.put(2, "deux").remove(3);
+        assertEquals(Arrays.asList(2, 3), newer.keysChangedSince(older, 2));
+        assertNull(newer.keysChangedSince(older, 1));
+    }
+
+    @Test
+    public void valueAt_indexOutOfBounds_throwsIndexOutOfBoundsException() {
+        thrown.expect(IndexOutOfBoundsException.class);
+        PersistentTreeMap.<Integer, String>empty().put(1, "one").valueAt(1);
+    }
+
+    /**
+     * Asserts that {@code map} has the same entries in the same order as {@code expected}, and finds each by its
+     * key and by its position.
+     */
+    private static void assertSameEntries(TreeMap<Integer, String> expected, PersistentTreeMap<Integer, String> map) {
+        assertEquals(expected.size(), map.size());
+        assertEquals(expected.isEmpty() ? null : expected.lastKey(), map.lastKey());
+        Iterator<String> values = map.valueIterator();
+        int index = 0;
+        for (Map.Entry<Integer, String> entry : expected.entrySet()) {
+            assertEquals(entry.getValue(), values.next());
+            assertEquals(entry.getValue(), map.get(entry.getKey()));
+            assertEquals(index, map.indexOf(entry.getKey()));
+            assertEquals(entry.getKey(), map.keyAt(index));
+            index++;
+        }
+        assertEquals(-1, map.indexOf(-1));
+    }
+
+    /**
+     * Returns the keys of {@code map} in order, found by their position.
+     */
+    private static List<Integer> keysOf(PersistentTreeMap<Integer, String> map) {
+        List<Integer> keys = new ArrayList<>();
+        for (int i = 0; i < map.size(); i++) {
+            keys.add(map.keyAt(i));
+        }
+        return keys;
+    }
+}
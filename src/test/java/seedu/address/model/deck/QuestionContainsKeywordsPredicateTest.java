@@ -1,11 +1,13 @@
 package seedu.address.model.deck;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Predicate;
 
 import org.junit.Test;
 
@@ -76,4 +78,24 @@ public class QuestionContainsKeywordsPredicateTest {
         predicate = new QuestionContainsKeywordsPredicate(Arrays.asList("12345"));
         assertFalse(predicate.test(new CardBuilder().withQuestion("Alice").withAnswer("12345").build()));
     }
+
+    @Test
+    public void forCardsIn_cardsInList_matchesSameCardsAsTest() {
+        UniqueCardList cards = new UniqueCardList();
+        cards.add(new CardBuilder().withQuestion("Alice Bob").withTags("friends").build());
+        cards.add(new CardBuilder().withQuestion("Alice Carol").withTags("colleagues").build());
+        cards.add(new CardBuilder().withQuestion("Bob Carol").withAnswer("Alice").build());
+
+        List<List<String>> keywordLists = Arrays.asList(Collections.singletonList("alice"),
+                Arrays.asList("Bob", "colleagues"), Collections.singletonList("alice bob"),
+                Collections.singletonList("bob alice"), Collections.singletonList("FRIENDS"),
+                Collections.emptyList());
+        for (List<String> keywords : keywordLists) {
+            QuestionContainsKeywordsPredicate predicate = new QuestionContainsKeywordsPredicate(keywords);
+            Predicate<Card> indexedPredicate = predicate.forCardsIn(cards);
+            for (Card card : cards) {
+                assertEquals(predicate.test(card), indexedPredicate.test(card));
+            }
+        }
+    }
 }
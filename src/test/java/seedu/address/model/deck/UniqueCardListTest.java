@@ -6,17 +6,24 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ANSWER_HELLO;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ANSWER_MOD;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_MOD;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCards.ADDITION;
 import static seedu.address.testutil.TypicalCards.SUBTRACTION;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import javafx.collections.ListChangeListener;
 import seedu.address.model.deck.exceptions.CardNotFoundException;
 import seedu.address.model.deck.exceptions.DuplicateCardException;
 import seedu.address.testutil.CardBuilder;
@@ -113,6 +120,22 @@ public class UniqueCardListTest {
         assertEquals(expectedUniquePersonList, uniqueCardList);
     }
 
+    @Test
+    public void setCard_editedCardHasDifferentIdentity_updatesMembership() {
+        uniqueCardList.add(ADDITION);
+        uniqueCardList.setCard(ADDITION, SUBTRACTION);
+        assertFalse(uniqueCardList.contains(ADDITION));
+        assertTrue(uniqueCardList.contains(SUBTRACTION));
+    }
+
+    @Test
+    public void setCard_targetWithSameIdentityButDifferentFields_throwsCardNotFoundException() {
+        uniqueCardList.add(ADDITION);
+        Card editedAddition = new CardBuilder(ADDITION).withAnswer(VALID_ANSWER_HELLO).build();
+        thrown.expect(CardNotFoundException.class);
+        uniqueCardList.setCard(editedAddition, SUBTRACTION);
+    }
+
     @Test
     public void setCard_editedCardHasNonUniqueIdentity_throwsDuplicateCardException() {
         uniqueCardList.add(ADDITION);
@@ -141,6 +164,13 @@ public class UniqueCardListTest {
         assertEquals(expectedUniqueCardList, uniqueCardList);
     }
 
+    @Test
+    public void remove_existingCard_updatesMembership() {
+        uniqueCardList.add(ADDITION);
+        uniqueCardList.remove(ADDITION);
+        assertFalse(uniqueCardList.contains(ADDITION));
+    }
+
     @Test
     public void setCards_nullUniqueCardList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -179,6 +209,247 @@ public class UniqueCardListTest {
         uniqueCardList.setCards(listWithDuplicateCards);
     }
 
+    @Test
+    public void setCards_listWithDuplicateCards_keepsOwnList() {
+        uniqueCardList.add(ADDITION);
+        List<Card> listWithDuplicateCards = Arrays.asList(SUBTRACTION, SUBTRACTION);
+        assertThrows(DuplicateCardException.class, () -> uniqueCardList.setCards(listWithDuplicateCards));
+
+        UniqueCardList expectedUniqueCardList = new UniqueCardList();
+        expectedUniqueCardList.add(ADDITION);
+        assertEquals(expectedUniqueCardList, uniqueCardList);
+        assertFalse(uniqueCardList.contains(SUBTRACTION));
+    }
+
+    @Test
+    public void setCards_uniqueCardListThenBothEdited_eachListKeepsItsOwnCards() {
+        Card multiplication = new CardBuilder().withQuestion("What is 2 * 3?").build();
+        uniqueCardList.add(ADDITION);
+        uniqueCardList.add(SUBTRACTION);
+        UniqueCardList copy = new UniqueCardList();
+        copy.setCards(uniqueCardList);
+
+        Card editedSubtraction = new CardBuilder(SUBTRACTION).withAnswer(VALID_ANSWER_HELLO).build();
+        copy.setCard(SUBTRACTION, editedSubtraction);
+        copy.remove(ADDITION);
+        uniqueCardList.add(multiplication);
+
+        assertEquals(Arrays.asList(ADDITION, SUBTRACTION, multiplication), uniqueCardList.internalList);
+        assertEquals(Collections.singletonList(editedSubtraction), copy.internalList);
+        assertTrue(uniqueCardList.containsInstance(SUBTRACTION));
+        assertFalse(copy.contains(ADDITION));
+    }
+
+    @Test
+    public void internalList_cardsChanged_listenersToldOfEachChange() {
+        uniqueCardList.add(ADDITION);
+        List<String> changes = new ArrayList<>();
+        uniqueCardList.internalList.addListener((ListChangeListener<Card>) change -> {
+            while (change.next()) {
+                changes.add(change.getFrom() + " " + change.getRemoved() + " " + change.getAddedSubList());
+            }
+        });
+
+        Card editedAddition = new CardBuilder(ADDITION).withAnswer(VALID_ANSWER_HELLO).build();
+        uniqueCardList.add(SUBTRACTION);
+        uniqueCardList.setCard(ADDITION, editedAddition);
+        uniqueCardList.remove(editedAddition);
+
+        assertEquals(Arrays.asList("1 [] " + Collections.singletonList(SUBTRACTION),
+                "0 " + Collections.singletonList(ADDITION) + " " + Collections.singletonList(editedAddition),
+                "0 " + Collections.singletonList(editedAddition) + " []"), changes);
+        assertEquals(0, uniqueCardList.internalList.indexOf(SUBTRACTION));
+        assertEquals(-1, uniqueCardList.internalList.indexOf(editedAddition));
+    }
+
+    @Test
+    public void getEstimatedOwnBytes_copyEdited_onlyEditsCounted() {
+        List<Card> cards = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            cards.add(new CardBuilder().withQuestion("Question " + i + "?").build());
+        }
+        uniqueCardList.setCards(cards);
+        UniqueCardList copy = new UniqueCardList();
+        copy.setCards(uniqueCardList);
+        assertEquals(0, copy.getEstimatedOwnBytes());
+
+        copy.add(ADDITION);
+        assertTrue(copy.getEstimatedOwnBytes() > 0);
+        assertTrue(copy.getEstimatedOwnBytes() * 10 < uniqueCardList.getEstimatedOwnBytes());
+    }
+
+    @Test
+    public void getCardsRatedSince_cardsRated_cardsRatedAfterCountReturned() {
+        Card first = new CardBuilder().withQuestion("First?").build();
+        Card second = new CardBuilder().withQuestion("Second?").build();
+        uniqueCardList.add(first);
+        uniqueCardList.add(second);
+
+        second.addDifficulty(3);
+        int ratingCount = uniqueCardList.getRatingCount();
+        first.addDifficulty(2);
+        uniqueCardList.remove(first);
+        Card third = new CardBuilder().withQuestion("Third?").build();
+        uniqueCardList.add(third);
+        third.addDifficulty(4);
+
+        assertEquals(3, uniqueCardList.getRatingCount());
+        assertEquals(Collections.singletonList(third), uniqueCardList.getCardsRatedSince(ratingCount));
+        assertEquals(Arrays.asList(second, third), uniqueCardList.getCardsRatedSince(0));
+    }
+
+    @Test
+    public void clear_removesAllMembership() {
+        uniqueCardList.add(ADDITION);
+        uniqueCardList.clear();
+        assertFalse(uniqueCardList.contains(ADDITION));
+        assertEquals(0, uniqueCardList.size());
+    }
+
+    @Test
+    public void findCards_questionWordsAndTags_matchingCardsFound() {
+        uniqueCardList.add(ADDITION);
+        uniqueCardList.add(SUBTRACTION);
+
+        assertEquals(Collections.singleton(ADDITION), uniqueCardList.findCards("SOLVE"));
+        assertEquals(new HashSet<>(Arrays.asList(ADDITION, SUBTRACTION)), uniqueCardList.findCards("math"));
+        assertEquals(Collections.singleton(SUBTRACTION), uniqueCardList.findCards("is 10"));
+
+        // words not next to each other in the question -> not found
+        assertTrue(uniqueCardList.findCards("10 is").isEmpty());
+    }
+
+    @Test
+    public void findCards_listChangedAfterSearch_indexKeptInSync() {
+        uniqueCardList.add(ADDITION);
+        uniqueCardList.findCards("solve");
+
+        uniqueCardList.add(SUBTRACTION);
+        assertEquals(Collections.singleton(SUBTRACTION), uniqueCardList.findCards("what"));
+
+        Card editedAddition = new CardBuilder(ADDITION).withQuestion("Add 1 + 1.").build();
+        uniqueCardList.setCard(ADDITION, editedAddition);
+        assertTrue(uniqueCardList.findCards("solve").isEmpty());
+        assertEquals(Collections.singleton(editedAddition), uniqueCardList.findCards("add"));
+
+        uniqueCardList.remove(SUBTRACTION);
+        assertEquals(Collections.singleton(editedAddition), uniqueCardList.findCards("math"));
+
+        UniqueCardList copy = new UniqueCardList();
+        copy.setCards(uniqueCardList);
+        copy.remove(editedAddition);
+        assertTrue(copy.findCards("add").isEmpty());
+        assertEquals(Collections.singleton(editedAddition), uniqueCardList.findCards("add"));
+    }
+
+    @Test
+    public void findCards_fuzzyKeyword_similarWordsFound() {
+        uniqueCardList.add(ADDITION);
+        uniqueCardList.add(SUBTRACTION);
+
+        assertEquals(Collections.singleton(ADDITION), uniqueCardList.findCards("~solv"));
+        assertEquals(new HashSet<>(Arrays.asList(ADDITION, SUBTRACTION)), uniqueCardList.findCards("~maths"));
+        assertEquals(Collections.singleton(SUBTRACTION), uniqueCardList.findCards("~wht is"));
+        assertTrue(uniqueCardList.findCards("~sol").isEmpty());
+
+        uniqueCardList.remove(SUBTRACTION);
+        assertTrue(uniqueCardList.findCards("~wht").isEmpty());
+    }
+
+    @Test
+    public void relevanceTo_keywords_rareAndFrequentTermsRankHigher() {
+        Card repeated = new CardBuilder().withQuestion("What is the math of math?").withAnswer("Math")
+                .withTags("Math").build();
+        uniqueCardList.add(ADDITION);
+        uniqueCardList.add(SUBTRACTION);
+        uniqueCardList.add(repeated);
+
+        // the term appears more often in the card
+        ToDoubleFunction<Card> relevance = uniqueCardList.relevanceTo(Collections.singletonList("math"));
+        assertTrue(relevance.applyAsDouble(repeated) > relevance.applyAsDouble(ADDITION));
+
+        // the rarer of the terms is in the card
+        relevance = uniqueCardList.relevanceTo(Arrays.asList("solve", "what"));
+        assertTrue(relevance.applyAsDouble(ADDITION) > relevance.applyAsDouble(SUBTRACTION));
+
+        // no term in the card
+        assertEquals(0, uniqueCardList.relevanceTo(Collections.singletonList("http")).applyAsDouble(ADDITION), 0);
+
+        // the statistics follow the cards in the list, and the term becomes rarer
+        double relevanceBeforeRemoval = relevance.applyAsDouble(SUBTRACTION);
+        uniqueCardList.remove(repeated);
+        relevance = uniqueCardList.relevanceTo(Arrays.asList("solve", "what"));
+        assertTrue(relevance.applyAsDouble(SUBTRACTION) > relevanceBeforeRemoval);
+    }
+
+    @Test
+    public void findCardsWithTag_cardsChanged_tagsKeptInSync() {
+        uniqueCardList.add(ADDITION);
+        uniqueCardList.add(SUBTRACTION);
+        assertEquals(new HashSet<>(Arrays.asList(ADDITION, SUBTRACTION)), uniqueCardList.findCardsWithTag("MATH"));
+        assertEquals(Collections.singletonMap("Math", 2), uniqueCardList.countCardsByTag());
+
+        // the card added in place of the removed one takes its slot
+        uniqueCardList.remove(ADDITION);
+        Card algebra = new CardBuilder(ADDITION).withTags("Algebra", "math").build();
+        uniqueCardList.add(algebra);
+        assertEquals(new HashSet<>(Arrays.asList(SUBTRACTION, algebra)), uniqueCardList.findCardsWithTag("math"));
+        assertEquals(Collections.singleton(algebra), uniqueCardList.findCardsWithTag("~algebr"));
+
+        uniqueCardList.remove(SUBTRACTION);
+        Map<String, Integer> expectedCounts = new HashMap<>();
+        expectedCounts.put("Math", 1);
+        expectedCounts.put("Algebra", 1);
+        assertEquals(expectedCounts, uniqueCardList.countCardsByTag());
+        assertTrue(uniqueCardList.findCardsWithTag("what").isEmpty());
+    }
+
+    @Test
+    public void setCards_uniqueCardListSearched_searchIndexOfReplacementKept() {
+        uniqueCardList.add(ADDITION);
+        uniqueCardList.findCardsWithTag("math");
+        UniqueCardList copy = new UniqueCardList();
+        copy.setCards(uniqueCardList);
+
+        assertTrue(uniqueCardList.isSearchIndexBuilt());
+        assertFalse(copy.isSearchIndexBuilt());
+        assertEquals(Collections.singleton(ADDITION), copy.findCardsWithTag("math"));
+    }
+
+    @Test
+    public void findCardsWithTag_searchIndexTakenOverByMoveFrom_bothListsSearchTheirOwnCards() {
+        uniqueCardList.add(ADDITION);
+        uniqueCardList.findCardsWithTag("math");
+        UniqueCardList replacedList = new UniqueCardList();
+        replacedList.moveFrom(uniqueCardList);
+        assertTrue(replacedList.isSearchIndexBuilt());
+        assertFalse(uniqueCardList.isSearchIndexBuilt());
+
+        replacedList.add(SUBTRACTION);
+        assertEquals(new HashSet<>(Arrays.asList(ADDITION, SUBTRACTION)), replacedList.findCardsWithTag("math"));
+        assertEquals(Collections.singleton(ADDITION), uniqueCardList.findCardsWithTag("math"));
+    }
+
+    @Test
+    public void hasCardWithTag_withAndWithoutSearchIndex_sameResult() {
+        uniqueCardList.add(ADDITION);
+        uniqueCardList.add(new CardBuilder(SUBTRACTION).withTags("Algebra").build());
+        for (int i = 0; i < 2; i++) {
+            assertTrue(uniqueCardList.hasCardWithTag("MATH"));
+            assertTrue(uniqueCardList.hasCardWithTag("~algebr"));
+            assertFalse(uniqueCardList.hasCardWithTag("algebr"));
+            assertFalse(uniqueCardList.hasCardWithTag("what"));
+            // builds the search index for the second pass
+            uniqueCardList.findCardsWithTag("math");
+        }
+    }
+
+    @Test
+    public void hasCardWithTag_blankTagName_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        uniqueCardList.hasCardWithTag(" ");
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
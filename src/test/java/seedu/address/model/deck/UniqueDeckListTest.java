@@ -6,6 +6,7 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_CARD_LIST;
 import static seedu.address.testutil.TypicalDecks.DECK_A;
 import static seedu.address.testutil.TypicalDecks.DECK_B;
+import static seedu.address.testutil.TypicalDecks.DECK_C;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -83,6 +84,20 @@ public class UniqueDeckListTest {
         assertTrue(retrievedDeck.isSameDeck(DECK_A));
     }
 
+    @Test
+    public void getDeck_afterRemoveAndSort_returnsDeckWithSameName() {
+        uniqueDeckList.add(DECK_C);
+        uniqueDeckList.add(DECK_A);
+        uniqueDeckList.add(DECK_B);
+        uniqueDeckList.remove(DECK_C);
+        uniqueDeckList.add(DECK_C);
+        uniqueDeckList.sort();
+        assertEquals(Arrays.asList(DECK_A, DECK_B, DECK_C), uniqueDeckList.internalList);
+        assertTrue(uniqueDeckList.getDeck(DECK_A).isSameDeck(DECK_A));
+        assertTrue(uniqueDeckList.getDeck(DECK_B).isSameDeck(DECK_B));
+        assertTrue(uniqueDeckList.getDeck(DECK_C).isSameDeck(DECK_C));
+    }
+
     @Test
     public void setDeck_nullTargetDeck_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -137,6 +152,14 @@ public class UniqueDeckListTest {
         uniqueDeckList.setDeck(DECK_A, DECK_B);
     }
 
+    @Test
+    public void setDeck_editedDeckHasDifferentIdentity_updatesMembership() {
+        uniqueDeckList.add(DECK_A);
+        uniqueDeckList.setDeck(DECK_A, DECK_B);
+        assertFalse(uniqueDeckList.contains(DECK_A));
+        assertTrue(uniqueDeckList.contains(DECK_B));
+    }
+
     @Test
     public void remove_nullDeck_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -157,6 +180,16 @@ public class UniqueDeckListTest {
         assertEquals(expectedUniqueDeckList, uniqueDeckList);
     }
 
+    @Test
+    public void remove_existingDeck_updatesPositionsOfLaterDecks() {
+        uniqueDeckList.add(DECK_A);
+        uniqueDeckList.add(DECK_B);
+        uniqueDeckList.add(DECK_C);
+        uniqueDeckList.remove(DECK_A);
+        uniqueDeckList.setDeck(DECK_C, DECK_A);
+        assertEquals(Arrays.asList(DECK_B, DECK_A), uniqueDeckList.internalList);
+    }
+
     @Test
     public void setDecks_nullUniqueDeckList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -195,6 +228,27 @@ public class UniqueDeckListTest {
         uniqueDeckList.setDecks(listWithDuplicateDecks);
     }
 
+    @Test
+    public void replace_differentNumberOfDecks_replacesRangeAndKeepsIndexInSync() {
+        uniqueDeckList.add(DECK_A);
+        uniqueDeckList.add(DECK_B);
+        uniqueDeckList.replace(0, 1, Collections.emptyList());
+        uniqueDeckList.replace(1, 0, Arrays.asList(DECK_C, DECK_A));
+        UniqueDeckList expectedUniqueDeckList = new UniqueDeckList();
+        expectedUniqueDeckList.setDecks(Arrays.asList(DECK_B, DECK_C, DECK_A));
+        assertEquals(expectedUniqueDeckList, uniqueDeckList);
+        assertEquals(2, uniqueDeckList.indexOf(DECK_A));
+        assertEquals(1, uniqueDeckList.indexOf(DECK_C));
+    }
+
+    @Test
+    public void replace_replacementDuplicatesUnreplacedDeck_throwsDuplicateDeckException() {
+        uniqueDeckList.add(DECK_A);
+        uniqueDeckList.add(DECK_B);
+        thrown.expect(DuplicateDeckException.class);
+        uniqueDeckList.replace(1, 1, Collections.singletonList(DECK_A));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
@@ -0,0 +1,231 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalDecks.DECK_A;
+import static seedu.address.testutil.TypicalDecks.DECK_B;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.model.ReadOnlyTopDeck;
+import seedu.address.model.TopDeck;
+import seedu.address.model.deck.Card;
+import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.Difficulty;
+import seedu.address.testutil.CardBuilder;
+import seedu.address.testutil.DeckBuilder;
+
+public class AsyncTopDeckStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void saveTopDeck_savesWhileWriting_coalescedIntoOneSave() throws Exception {
+        TopDeckStorageStub stub = new TopDeckStorageStub();
+        AsyncTopDeckStorage storage = new AsyncTopDeckStorage(stub);
+        TopDeck topDeck = new TopDeck();
+
+        storage.saveTopDeck(topDeck);
+        stub.firstSaveStarted.await();
+        topDeck.addDeck(DECK_A);
+        storage.saveTopDeck(topDeck);
+        topDeck.addDeck(DECK_B);
+        storage.saveTopDeck(topDeck);
+        stub.firstSaveReleased.countDown();
+        storage.flushTopDeck();
+
+        assertEquals(2, stub.savedTopDecks.size());
+        assertEquals(topDeck, stub.savedTopDecks.get(1));
+    }
+
+    @Test
+    public void saveTopDeck_topDeckChangedAfterSave_savesCopy() throws Exception {
+        TopDeckStorageStub stub = new TopDeckStorageStub();
+        stub.firstSaveReleased.countDown();
+        AsyncTopDeckStorage storage = new AsyncTopDeckStorage(stub);
+        TopDeck topDeck = new TopDeck();
+
+        storage.saveTopDeck(topDeck);
+        topDeck.addDeck(DECK_A);
+        storage.flushTopDeck();
+
+        assertTrue(stub.savedTopDecks.get(0).getDeckList().isEmpty());
+    }
+
+    @Test
+    public void saveTopDeck_cardRatedWhileSaving_savedDifficultyUnchanged() throws Exception {
+        TopDeckStorageStub stub = new TopDeckStorageStub();
+        AsyncTopDeckStorage storage = new AsyncTopDeckStorage(stub);
+        Card card = new CardBuilder().build();
+        TopDeck topDeck = new TopDeck();
+        topDeck.addDeck(new DeckBuilder().withCards(Collections.singletonList(card)).build());
+
+        storage.saveTopDeck(topDeck);
+        stub.firstSaveStarted.await();
+        Difficulty savedDifficulty = stub.difficultiesAtFirstSave.get(0);
+        int savedAttempts = savedDifficulty.getNumberOfAttempts();
+        int savedTotalRating = savedDifficulty.getTotalRating();
+        card.addDifficulty(3);
+        card.addDifficulty(4);
+        stub.firstSaveReleased.countDown();
+        storage.flushTopDeck();
+
+        assertEquals(savedAttempts, savedDifficulty.getNumberOfAttempts());
+        assertEquals(savedTotalRating, savedDifficulty.getTotalRating());
+        assertEquals(savedAttempts + 2, card.getDifficultyObj().getNumberOfAttempts());
+        assertEquals(savedTotalRating + 7, card.getDifficultyObj().getTotalRating());
+    }
+
+    @Test
+    public void flushTopDeck_saveFailedInBackground_throwsIoException() throws Exception {
+        TopDeckStorageStub stub = new TopDeckStorageStub();
+        stub.firstSaveReleased.countDown();
+        stub.isFailing = true;
+        AsyncTopDeckStorage storage = new AsyncTopDeckStorage(stub);
+        storage.saveTopDeck(new TopDeck());
+
+        thrown.expect(IOException.class);
+        storage.flushTopDeck();
+    }
+
+    @Test
+    public void saveTopDeck_earlierSaveFailed_stillSaved() throws Exception {
+        TopDeckStorageStub stub = new TopDeckStorageStub();
+        stub.firstSaveReleased.countDown();
+        stub.failuresLeft = 1;
+        AsyncTopDeckStorage storage = new AsyncTopDeckStorage(stub);
+        storage.saveTopDeck(new TopDeck());
+        stub.firstSaveStarted.await();
+
+        TopDeck topDeck = new TopDeck();
+        topDeck.addDeck(DECK_A);
+        // the earlier failure is reported by whichever of these calls comes after it
+        try {
+            storage.saveTopDeck(topDeck);
+        } catch (IOException ioe) {
+            // expected if the first save has already failed
+        }
+        try {
+            storage.flushTopDeck();
+        } catch (IOException ioe) {
+            // expected if the failure was not reported by saveTopDeck
+        }
+
+        assertEquals(Collections.singletonList(topDeck), stub.savedTopDecks);
+    }
+
+    @Test
+    public void compactTopDeck_saveFailedInBackground_compactsWithoutThrowing() throws Exception {
+        TopDeckStorageStub stub = new TopDeckStorageStub();
+        stub.firstSaveReleased.countDown();
+        stub.failuresLeft = 1;
+        AsyncTopDeckStorage storage = new AsyncTopDeckStorage(stub);
+        TopDeck topDeck = new TopDeck();
+        storage.saveTopDeck(topDeck);
+        topDeck.addDeck(DECK_A);
+
+        storage.compactTopDeck(topDeck);
+        assertEquals(Collections.singletonList(topDeck), stub.compactedTopDecks);
+
+        // the failure is superseded by the compaction
+        storage.flushTopDeck();
+    }
+
+    @Test
+    public void compactTopDeck_compactFailsAfterFailedSave_throwsIoException() throws Exception {
+        TopDeckStorageStub stub = new TopDeckStorageStub();
+        stub.firstSaveReleased.countDown();
+        stub.failuresLeft = 2;
+        AsyncTopDeckStorage storage = new AsyncTopDeckStorage(stub);
+        storage.saveTopDeck(new TopDeck());
+
+        thrown.expect(IOException.class);
+        storage.compactTopDeck(new TopDeck());
+    }
+
+    /**
+     * A {@code TopDeckStorage} stub that records the decks saved, and holds up the first save until released.
+     */
+    private static class TopDeckStorageStub implements TopDeckStorage {
+        private final List<ReadOnlyTopDeck> savedTopDecks = new ArrayList<>();
+        private final List<ReadOnlyTopDeck> compactedTopDecks = new ArrayList<>();
+        private final List<Difficulty> difficultiesAtFirstSave = new ArrayList<>();
+        private final CountDownLatch firstSaveStarted = new CountDownLatch(1);
+        private final CountDownLatch firstSaveReleased = new CountDownLatch(1);
+        private volatile boolean isFailing;
+        /** The number of saves and compactions that fail before the others succeed, unless {@code isFailing}. */
+        private volatile int failuresLeft;
+
+        @Override
+        public Path getTopDeckFilePath() {
+            return Paths.get("dummy.json");
+        }
+
+        @Override
+        public Optional<ReadOnlyTopDeck> readTopDeck() {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public Optional<ReadOnlyTopDeck> readTopDeck(Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void saveTopDeck(ReadOnlyTopDeck topDeck) throws IOException {
+            if (firstSaveStarted.getCount() > 0) {
+                for (Deck deck : topDeck.getDeckList()) {
+                    deck.getCards().forEach(card -> difficultiesAtFirstSave.add(card.getDifficultyObj()));
+                }
+            }
+            firstSaveStarted.countDown();
+            try {
+                firstSaveReleased.await();
+            } catch (InterruptedException ie) {
+                throw new AssertionError("The save should not be interrupted.", ie);
+            }
+            failIfFailing();
+            savedTopDecks.add(topDeck);
+        }
+
+        @Override
+        public void saveTopDeck(ReadOnlyTopDeck topDeck, Path filePath) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public void compactTopDeck(ReadOnlyTopDeck topDeck) throws IOException {
+            failIfFailing();
+            compactedTopDecks.add(topDeck);
+        }
+
+        @Override
+        public void flushTopDeck() {
+        }
+
+        /**
+         * Throws an {@code IOException} if this call is meant to fail.
+         */
+        private void failIfFailing() throws IOException {
+            if (isFailing) {
+                throw new IOException("dummy exception");
+            }
+            if (failuresLeft > 0) {
+                failuresLeft--;
+                throw new IOException("dummy exception");
+            }
+        }
+    }
+}
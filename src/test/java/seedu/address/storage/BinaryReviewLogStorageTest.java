@@ -0,0 +1,145 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.deck.Review;
+import seedu.address.model.deck.Review.ReviewType;
+
+public class BinaryReviewLogStorageTest {
+
+    private static final Review ANSWER_SHOWN = new Review(ReviewType.ANSWER_SHOWN, "CS2103", "What is OOP?",
+            Review.NO_RATING, 1_539_000_000_000L, 4200);
+    private static final Review RATED = new Review(ReviewType.RATED, "CS2103", "What is OOP?", 2,
+            1_539_000_004_500L, 1300);
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void getReviewLogFilePath_dataFile_nextToDataFile() {
+        Path dataFilePath = testFolder.getRoot().toPath().resolve("topdeck.json");
+        assertEquals(testFolder.getRoot().toPath().resolve("topdeck.json.reviews"),
+                BinaryReviewLogStorage.getReviewLogFilePath(dataFilePath));
+    }
+
+    @Test
+    public void readReviews_missingFile_emptyList() throws Exception {
+        BinaryReviewLogStorage storage = new BinaryReviewLogStorage(getTempFilePath("missing.reviews"));
+        assertEquals(Collections.emptyList(), storage.readReviews());
+    }
+
+    @Test
+    public void appendReview_fewerThanBatch_writtenWhenFlushed() throws Exception {
+        Path filePath = getTempFilePath("log.reviews");
+        BinaryReviewLogStorage storage = new BinaryReviewLogStorage(filePath, 3);
+
+        storage.appendReview(ANSWER_SHOWN);
+        storage.appendReview(RATED);
+        assertFalse(Files.exists(filePath));
+        assertEquals(Arrays.asList(ANSWER_SHOWN, RATED), storage.readReviews());
+
+        storage.flushReviews();
+        assertEquals(Arrays.asList(ANSWER_SHOWN, RATED), new BinaryReviewLogStorage(filePath).readReviews());
+    }
+
+    @Test
+    public void appendReview_fullBatch_writtenStraightAway() throws Exception {
+        Path filePath = getTempFilePath("log.reviews");
+        BinaryReviewLogStorage storage = new BinaryReviewLogStorage(filePath, 2);
+
+        storage.appendReview(ANSWER_SHOWN);
+        storage.appendReview(RATED);
+        assertTrue(Files.exists(filePath));
+        assertEquals(Arrays.asList(ANSWER_SHOWN, RATED), new BinaryReviewLogStorage(filePath).readReviews());
+    }
+
+    @Test
+    public void flushReviews_existingLog_reviewsAppended() throws Exception {
+        Path filePath = getTempFilePath("log.reviews");
+        BinaryReviewLogStorage storage = new BinaryReviewLogStorage(filePath);
+        storage.appendReview(ANSWER_SHOWN);
+        storage.flushReviews();
+        long firstSize = Files.size(filePath);
+
+        BinaryReviewLogStorage nextSession = new BinaryReviewLogStorage(filePath);
+        nextSession.appendReview(RATED);
+        nextSession.flushReviews();
+
+        assertTrue(Files.size(filePath) - firstSize < firstSize);
+        assertEquals(Arrays.asList(ANSWER_SHOWN, RATED), new BinaryReviewLogStorage(filePath).readReviews());
+    }
+
+    @Test
+    public void readReviews_incompleteLastReview_ignored() throws Exception {
+        Path filePath = getTempFilePath("log.reviews");
+        BinaryReviewLogStorage storage = new BinaryReviewLogStorage(filePath);
+        storage.appendReview(ANSWER_SHOWN);
+        storage.appendReview(RATED);
+        storage.flushReviews();
+
+        byte[] log = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(log, log.length - 3));
+        assertEquals(Collections.singletonList(ANSWER_SHOWN), new BinaryReviewLogStorage(filePath).readReviews());
+    }
+
+    @Test
+    public void flushReviews_incompleteLastReview_appendedAfterLastCompleteReview() throws Exception {
+        Path filePath = getTempFilePath("log.reviews");
+        BinaryReviewLogStorage storage = new BinaryReviewLogStorage(filePath);
+        storage.appendReview(ANSWER_SHOWN);
+        storage.appendReview(RATED);
+        storage.flushReviews();
+        byte[] log = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(log, log.length - 3));
+
+        BinaryReviewLogStorage nextSession = new BinaryReviewLogStorage(filePath);
+        nextSession.appendReview(RATED);
+        nextSession.flushReviews();
+        nextSession.appendReview(ANSWER_SHOWN);
+        nextSession.flushReviews();
+
+        assertEquals(Arrays.asList(ANSWER_SHOWN, RATED, ANSWER_SHOWN),
+                new BinaryReviewLogStorage(filePath).readReviews());
+    }
+
+    @Test
+    public void flushReviews_incompleteHeader_newLogWritten() throws Exception {
+        Path filePath = getTempFilePath("log.reviews");
+        Files.write(filePath, "TD".getBytes());
+
+        BinaryReviewLogStorage storage = new BinaryReviewLogStorage(filePath);
+        storage.appendReview(RATED);
+        storage.flushReviews();
+
+        assertEquals(Collections.singletonList(RATED), new BinaryReviewLogStorage(filePath).readReviews());
+    }
+
+    @Test
+    public void readReviews_notReviewLog_throwsDataConversionException() throws Exception {
+        Path filePath = getTempFilePath("log.reviews");
+        Files.write(filePath, "{ \"decks\": [] }".getBytes());
+
+        thrown.expect(DataConversionException.class);
+        new BinaryReviewLogStorage(filePath).readReviews();
+    }
+
+    private Path getTempFilePath(String fileName) {
+        return testFolder.getRoot().toPath().resolve(fileName);
+    }
+}
@@ -0,0 +1,199 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalDecks.DECK_E;
+import static seedu.address.testutil.TypicalDecks.DECK_WITH_CARDS;
+import static seedu.address.testutil.TypicalDecks.THERE;
+import static seedu.address.testutil.TypicalDecks.getTypicalTopDeck;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTopDeck;
+import seedu.address.model.TopDeck;
+import seedu.address.model.deck.Card;
+import seedu.address.model.deck.Deck;
+import seedu.address.testutil.CardBuilder;
+
+public class BinaryTopDeckStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readAndSaveTopDeck_allInOrder_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.bin");
+        TopDeck original = getTypicalTopDeck();
+        BinaryTopDeckStorage binaryTopDeckStorage = new BinaryTopDeckStorage(filePath);
+
+        binaryTopDeckStorage.saveTopDeck(original);
+        assertTrue(BinaryTopDeckStorage.isBinaryFile(filePath));
+        ReadOnlyTopDeck readBack = binaryTopDeckStorage.readTopDeck().get();
+        assertSameData(original, readBack);
+    }
+
+    @Test
+    public void saveTopDeck_typicalTopDeck_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.getRoot().toPath().resolve("TempTopDeck.bin");
+        Path jsonFilePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        new BinaryTopDeckStorage(binaryFilePath).saveTopDeck(getTypicalTopDeck());
+        new JsonTopDeckStorage(jsonFilePath, false).saveTopDeck(getTypicalTopDeck());
+
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readTopDeck_dataFile_decksLoadedWhenFirstNeeded() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.bin");
+        TopDeck original = getTopDeckWithCards();
+        BinaryTopDeckStorage binaryTopDeckStorage = new BinaryTopDeckStorage(filePath);
+        binaryTopDeckStorage.saveTopDeck(original);
+
+        ReadOnlyTopDeck readBack = binaryTopDeckStorage.readTopDeck().get();
+        List<Deck> decks = readBack.getDeckList();
+        decks.forEach(deck -> assertFalse(deck.isLoaded()));
+
+        assertEquals(original.getDeckList().get(0).getCards(), decks.get(0).getCards());
+        assertTrue(decks.get(0).isLoaded());
+        assertFalse(decks.get(1).isLoaded());
+        assertSameData(original, readBack);
+    }
+
+    @Test
+    public void readTopDeck_otherFile_decksLoadedStraightAway() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.bin");
+        Path otherFilePath = testFolder.getRoot().toPath().resolve("OtherTopDeck.bin");
+        BinaryTopDeckStorage binaryTopDeckStorage = new BinaryTopDeckStorage(filePath);
+        binaryTopDeckStorage.saveTopDeck(getTopDeckWithCards(), otherFilePath);
+
+        ReadOnlyTopDeck readBack = binaryTopDeckStorage.readTopDeck(otherFilePath).get();
+        readBack.getDeckList().forEach(deck -> assertTrue(deck.isLoaded()));
+        assertSameData(getTopDeckWithCards(), readBack);
+    }
+
+    @Test
+    public void saveTopDeck_decksNotLoaded_copiedWithoutLoading() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.bin");
+        TopDeck original = getTopDeckWithCards();
+        BinaryTopDeckStorage binaryTopDeckStorage = new BinaryTopDeckStorage(filePath);
+        binaryTopDeckStorage.saveTopDeck(original);
+        ReadOnlyTopDeck readBack = binaryTopDeckStorage.readTopDeck().get();
+
+        Card newCard = new CardBuilder().withQuestion("Is this deck loaded?").withTags("lazy").build();
+        Deck changedDeck = readBack.getDeckList().get(0);
+        changedDeck.addCard(newCard);
+        binaryTopDeckStorage.saveTopDeck(readBack);
+        assertFalse(readBack.getDeckList().get(1).isLoaded());
+        assertFalse(readBack.getDeckList().get(2).isLoaded());
+
+        // decks not loaded yet are read from the rewritten data file
+        assertSameData(original.getDeckList().get(1), readBack.getDeckList().get(1));
+
+        ReadOnlyTopDeck readAgain = new BinaryTopDeckStorage(filePath).readTopDeck().get();
+        assertTrue(readAgain.getDeckList().get(0).hasCard(newCard));
+        assertSameData(changedDeck, readAgain.getDeckList().get(0));
+        assertSameData(original.getDeckList().get(1), readAgain.getDeckList().get(1));
+        assertSameData(original.getDeckList().get(2), readAgain.getDeckList().get(2));
+    }
+
+    @Test
+    public void readGeneration_fileRewritten_newGeneration() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.bin");
+        BinaryTopDeckStorage binaryTopDeckStorage = new BinaryTopDeckStorage(filePath);
+        assertFalse(binaryTopDeckStorage.readGeneration(filePath).isPresent());
+
+        binaryTopDeckStorage.saveTopDeck(getTypicalTopDeck());
+        OptionalLong generation = binaryTopDeckStorage.readGeneration(filePath);
+        assertTrue(generation.isPresent());
+        assertEquals(generation, binaryTopDeckStorage.readGeneration(filePath));
+
+        binaryTopDeckStorage.saveTopDeck(getTypicalTopDeck());
+        assertNotEquals(generation, binaryTopDeckStorage.readGeneration(filePath));
+    }
+
+    @Test
+    public void readGeneration_jsonFile_emptyResult() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        new JsonTopDeckStorage(filePath).saveTopDeck(getTypicalTopDeck());
+        assertFalse(new BinaryTopDeckStorage(filePath).readGeneration(filePath).isPresent());
+    }
+
+    @Test
+    public void readTopDeck_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("NonExistentFile.bin");
+        assertFalse(new BinaryTopDeckStorage(filePath).readTopDeck().isPresent());
+        assertFalse(BinaryTopDeckStorage.isBinaryFile(filePath));
+    }
+
+    @Test
+    public void readTopDeck_jsonFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        new JsonTopDeckStorage(filePath).saveTopDeck(getTypicalTopDeck());
+        assertFalse(BinaryTopDeckStorage.isBinaryFile(filePath));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryTopDeckStorage(filePath).readTopDeck();
+    }
+
+    @Test
+    public void readTopDeck_truncatedFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.bin");
+        new BinaryTopDeckStorage(filePath).saveTopDeck(getTypicalTopDeck());
+        byte[] data = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(data, data.length - 1));
+
+        thrown.expect(DataConversionException.class);
+        new BinaryTopDeckStorage(filePath).readTopDeck();
+    }
+
+    /**
+     * Returns a TopDeck with several decks that have cards.
+     */
+    private static TopDeck getTopDeckWithCards() {
+        TopDeck topDeck = new TopDeck();
+        topDeck.addDeck(DECK_WITH_CARDS);
+        topDeck.addDeck(DECK_E);
+        topDeck.addDeck(THERE);
+        return topDeck;
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same decks as {@code expected}, with the same cards and difficulties.
+     */
+    static void assertSameData(ReadOnlyTopDeck expected, ReadOnlyTopDeck actual) {
+        assertEquals(expected.getDeckList(), actual.getDeckList());
+        for (int i = 0; i < expected.getDeckList().size(); i++) {
+            assertSameData(expected.getDeckList().get(i), actual.getDeckList().get(i));
+        }
+    }
+
+    /**
+     * Asserts that {@code actual} has the same cards and difficulties as {@code expected}.
+     */
+    private static void assertSameData(Deck expected, Deck actual) {
+        List<Card> expectedCards = expected.getCards().internalList;
+        List<Card> actualCards = actual.getCards().internalList;
+        assertEquals(expectedCards, actualCards);
+        for (int j = 0; j < expectedCards.size(); j++) {
+            assertEquals(expectedCards.get(j).getDifficultyObj().getNumberOfAttempts(),
+                    actualCards.get(j).getDifficultyObj().getNumberOfAttempts());
+            assertEquals(expectedCards.get(j).getDifficultyObj().getTotalRating(),
+                    actualCards.get(j).getDifficultyObj().getTotalRating());
+        }
+    }
+}
@@ -0,0 +1,254 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalCards.getTypicalCards;
+import static seedu.address.testutil.TypicalDecks.DECK_A;
+import static seedu.address.testutil.TypicalDecks.DECK_B;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.ReadOnlyTopDeck;
+import seedu.address.model.TopDeck;
+import seedu.address.model.deck.Card;
+import seedu.address.model.deck.Deck;
+import seedu.address.testutil.CardBuilder;
+import seedu.address.testutil.DeckBuilder;
+
+public class JournalledTopDeckStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private Path journalFilePath;
+    private TopDeck topDeck;
+
+    @Before
+    public void setUp() throws Exception {
+        filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        journalFilePath = JournalledTopDeckStorage.getJournalFilePath(filePath);
+
+        // the cards are copied as ratings change them in place
+        List<Card> cards = getTypicalCards().stream().map(card -> new CardBuilder(card).build())
+                .collect(Collectors.toList());
+        topDeck = new TopDeck();
+        topDeck.addDeck(new DeckBuilder().withName("Typical Deck").withCards(cards).build());
+        topDeck.addDeck(DECK_A);
+    }
+
+    @Test
+    public void saveTopDeck_changesAfterFirstSave_appendedToJournal() throws Exception {
+        JournalledTopDeckStorage storage = new JournalledTopDeckStorage(new JsonTopDeckStorage(filePath));
+        storage.saveTopDeck(topDeck);
+        assertFalse(Files.exists(journalFilePath));
+        byte[] dataFile = Files.readAllBytes(filePath);
+
+        Deck typicalDeck = topDeck.getDeckList().get(0);
+        typicalDeck.getCards().internalList.get(1).addDifficulty(3);
+        storage.saveTopDeck(topDeck);
+        topDeck.addDeck(DECK_B);
+        topDeck.deleteDeck(DECK_A);
+        storage.saveTopDeck(topDeck);
+        Card deletedCard = topDeck.getDeckList().get(0).getCards().internalList.get(0);
+        topDeck.deleteCard(deletedCard, topDeck.getDeckList().get(0));
+        storage.saveTopDeck(topDeck);
+
+        assertTrue(Files.exists(journalFilePath));
+        assertArrayEquals(dataFile, Files.readAllBytes(filePath));
+        assertSameData(topDeck, new JournalledTopDeckStorage(new JsonTopDeckStorage(filePath)).readTopDeck().get());
+    }
+
+    @Test
+    public void saveTopDeck_cardsOfLazyDeckRated_onlyRatedCardsJournalled() throws Exception {
+        Path binaryFilePath = testFolder.getRoot().toPath().resolve("TempTopDeck.bin");
+        Path binaryJournalFilePath = JournalledTopDeckStorage.getJournalFilePath(binaryFilePath);
+        new BinaryTopDeckStorage(binaryFilePath).saveTopDeck(topDeck);
+        JournalledTopDeckStorage storage = new JournalledTopDeckStorage(new BinaryTopDeckStorage(binaryFilePath));
+        ReadOnlyTopDeck readTopDeck = storage.readTopDeck().get();
+        assertFalse(readTopDeck.getDeckList().get(0).isLoaded());
+
+        Card ratedCard = readTopDeck.getDeckList().get(0).getCards().internalList.get(1);
+        ratedCard.addDifficulty(3);
+        ratedCard.addDifficulty(4);
+        storage.saveTopDeck(readTopDeck);
+        storage.saveTopDeck(readTopDeck);
+
+        // the snapshot line and one entry for the rated card
+        assertEquals(2, Files.readAllLines(binaryJournalFilePath, StandardCharsets.UTF_8).size());
+        assertSameData(readTopDeck,
+                new JournalledTopDeckStorage(new BinaryTopDeckStorage(binaryFilePath)).readTopDeck().get());
+    }
+
+    @Test
+    public void saveTopDeck_cardsEdited_onlyChangedCardsJournalled() throws Exception {
+        JournalledTopDeckStorage storage = new JournalledTopDeckStorage(new JsonTopDeckStorage(filePath));
+        storage.saveTopDeck(topDeck);
+
+        Deck typicalDeck = topDeck.getDeckList().get(0);
+        Card editedCard = typicalDeck.getCards().internalList.get(1);
+        typicalDeck = topDeck.setCard(editedCard, new CardBuilder(editedCard).withAnswer("Edited").build(),
+                typicalDeck);
+        typicalDeck = topDeck.deleteCard(typicalDeck.getCards().internalList.get(0), typicalDeck);
+        typicalDeck = topDeck.addCard(new CardBuilder().withQuestion("Added question").build(), typicalDeck);
+        typicalDeck.getCards().internalList.get(2).addDifficulty(3);
+        storage.saveTopDeck(topDeck);
+
+        // the snapshot line, one entry for each changed card and one for the rating
+        List<String> lines = Files.readAllLines(journalFilePath, StandardCharsets.UTF_8);
+        assertEquals(5, lines.size());
+        assertFalse(lines.stream().anyMatch(line -> line.contains("PUT_DECK")));
+        assertSameData(topDeck, new JournalledTopDeckStorage(new JsonTopDeckStorage(filePath)).readTopDeck().get());
+    }
+
+    @Test
+    public void saveTopDeck_cardGivenQuestionOfDeletedCard_replayedInOrder() throws Exception {
+        JournalledTopDeckStorage storage = new JournalledTopDeckStorage(new JsonTopDeckStorage(filePath));
+        storage.saveTopDeck(topDeck);
+
+        Deck typicalDeck = topDeck.getDeckList().get(0);
+        Card deletedCard = typicalDeck.getCards().internalList.get(3);
+        Card editedCard = typicalDeck.getCards().internalList.get(1);
+        typicalDeck = topDeck.deleteCard(deletedCard, typicalDeck);
+        topDeck.setCard(editedCard, new CardBuilder(editedCard).withQuestion(deletedCard.getQuestion()).build(),
+                typicalDeck);
+        storage.saveTopDeck(topDeck);
+
+        assertFalse(Files.readAllLines(journalFilePath, StandardCharsets.UTF_8).stream()
+                .anyMatch(line -> line.contains("PUT_DECK")));
+        assertSameData(topDeck, new JournalledTopDeckStorage(new JsonTopDeckStorage(filePath)).readTopDeck().get());
+    }
+
+    @Test
+    public void saveTopDeck_journalFull_compactsIntoDataFile() throws Exception {
+        JournalledTopDeckStorage storage = new JournalledTopDeckStorage(new JsonTopDeckStorage(filePath), 1);
+        storage.saveTopDeck(topDeck);
+
+        topDeck.addDeck(DECK_B);
+        storage.saveTopDeck(topDeck);
+        assertTrue(Files.exists(journalFilePath));
+
+        topDeck.deleteDeck(DECK_A);
+        storage.saveTopDeck(topDeck);
+        assertFalse(Files.exists(journalFilePath));
+        assertSameData(topDeck, new JsonTopDeckStorage(filePath).readTopDeck().get());
+    }
+
+    @Test
+    public void compactTopDeck_withJournal_deletesJournal() throws Exception {
+        JournalledTopDeckStorage storage = new JournalledTopDeckStorage(new JsonTopDeckStorage(filePath));
+        storage.saveTopDeck(topDeck);
+        topDeck.addDeck(DECK_B);
+        storage.saveTopDeck(topDeck);
+
+        storage.compactTopDeck(topDeck);
+        assertFalse(Files.exists(journalFilePath));
+        assertSameData(topDeck, new JsonTopDeckStorage(filePath).readTopDeck().get());
+    }
+
+    @Test
+    public void readTopDeck_journalForOlderDataFile_journalIgnored() throws Exception {
+        JournalledTopDeckStorage storage = new JournalledTopDeckStorage(new JsonTopDeckStorage(filePath));
+        storage.saveTopDeck(topDeck);
+        topDeck.addDeck(DECK_B);
+        storage.saveTopDeck(topDeck);
+
+        // data file rewritten without deleting the journal, as when interrupted during compaction
+        TopDeck compactedTopDeck = new TopDeck();
+        compactedTopDeck.addDeck(DECK_A);
+        new JsonTopDeckStorage(filePath).saveTopDeck(compactedTopDeck);
+
+        JournalledTopDeckStorage newStorage = new JournalledTopDeckStorage(new JsonTopDeckStorage(filePath));
+        assertSameData(compactedTopDeck, newStorage.readTopDeck().get());
+
+        // the stale journal is dropped on the next save
+        newStorage.saveTopDeck(compactedTopDeck);
+        assertFalse(Files.exists(journalFilePath));
+    }
+
+    @Test
+    public void readTopDeck_binaryJournalForOlderDataFile_journalIgnored() throws Exception {
+        Path binaryFilePath = testFolder.getRoot().toPath().resolve("TempTopDeck.bin");
+        Path binaryJournalFilePath = JournalledTopDeckStorage.getJournalFilePath(binaryFilePath);
+        JournalledTopDeckStorage storage = new JournalledTopDeckStorage(new BinaryTopDeckStorage(binaryFilePath));
+        storage.saveTopDeck(topDeck);
+        topDeck.addDeck(DECK_B);
+        storage.saveTopDeck(topDeck);
+        String snapshotLine = Files.readAllLines(binaryJournalFilePath, StandardCharsets.UTF_8).get(0);
+        assertTrue(snapshotLine.contains("generation"));
+        assertFalse(snapshotLine.contains("checksum"));
+
+        // data file rewritten without deleting the journal, as when interrupted during compaction
+        TopDeck compactedTopDeck = new TopDeck();
+        compactedTopDeck.addDeck(DECK_A);
+        new BinaryTopDeckStorage(binaryFilePath).saveTopDeck(compactedTopDeck);
+
+        assertSameData(compactedTopDeck,
+                new JournalledTopDeckStorage(new BinaryTopDeckStorage(binaryFilePath)).readTopDeck().get());
+    }
+
+    @Test
+    public void readTopDeck_incompleteLastEntry_entryIgnored() throws Exception {
+        JournalledTopDeckStorage storage = new JournalledTopDeckStorage(new JsonTopDeckStorage(filePath));
+        storage.saveTopDeck(topDeck);
+        topDeck.addDeck(DECK_B);
+        storage.saveTopDeck(topDeck);
+        Files.write(journalFilePath, "{\"type\":\"REMOVE_DE".getBytes(StandardCharsets.UTF_8),
+                StandardOpenOption.APPEND);
+
+        assertSameData(topDeck, new JournalledTopDeckStorage(new JsonTopDeckStorage(filePath)).readTopDeck().get());
+    }
+
+    @Test
+    public void readTopDeck_invalidEntry_throwsDataConversionException() throws Exception {
+        JournalledTopDeckStorage storage = new JournalledTopDeckStorage(new JsonTopDeckStorage(filePath));
+        storage.saveTopDeck(topDeck);
+        topDeck.addDeck(DECK_B);
+        storage.saveTopDeck(topDeck);
+        Files.write(journalFilePath, "{\"type\":\"REMOVE_DECK\",\"deckName\":\"Missing\"}\n{}\n"
+                .getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        thrown.expect(DataConversionException.class);
+        new JournalledTopDeckStorage(new JsonTopDeckStorage(filePath)).readTopDeck();
+    }
+
+    @Test
+    public void readTopDeck_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalledTopDeckStorage(new JsonTopDeckStorage(filePath)).readTopDeck().isPresent());
+    }
+
+    /**
+     * Asserts that {@code actual} holds the same decks as {@code expected}, with the same cards and difficulties.
+     */
+    private void assertSameData(ReadOnlyTopDeck expected, ReadOnlyTopDeck actual) {
+        assertEquals(expected.getDeckList(), actual.getDeckList());
+        for (int i = 0; i < expected.getDeckList().size(); i++) {
+            List<Card> expectedCards = expected.getDeckList().get(i).getCards().internalList;
+            List<Card> actualCards = actual.getDeckList().get(i).getCards().internalList;
+            assertEquals(expectedCards, actualCards);
+            for (int j = 0; j < expectedCards.size(); j++) {
+                assertEquals(expectedCards.get(j).getDifficultyObj().getNumberOfAttempts(),
+                        actualCards.get(j).getDifficultyObj().getNumberOfAttempts());
+                assertEquals(expectedCards.get(j).getDifficultyObj().getTotalRating(),
+                        actualCards.get(j).getDifficultyObj().getTotalRating());
+            }
+        }
+    }
+}
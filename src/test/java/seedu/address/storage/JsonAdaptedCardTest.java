@@ -11,6 +11,7 @@ import java.util.stream.Collectors;
 import org.junit.Test;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.deck.Difficulty;
 import seedu.address.testutil.Assert;
 
 public class JsonAdaptedCardTest {
@@ -56,4 +57,29 @@ public class JsonAdaptedCardTest {
         Assert.assertThrows(IllegalValueException.class, card::toModelType);
     }
 
+    @Test
+    public void toModelType_reviewSchedule_keepsSchedule() throws Exception {
+        JsonAdaptedCard card = new JsonAdaptedCard(VALID_QUESTION, VALID_ANSWER, VALID_TAGS, VALID_RATING,
+                VALID_ATTEMPTS, 4, 15, 2.36, 1234567890L);
+        Difficulty difficulty = new JsonAdaptedCard(card.toModelType()).toModelType().getDifficultyObj();
+        assertEquals(4, difficulty.getRepetitions());
+        assertEquals(15, difficulty.getInterval());
+        assertEquals(2.36, difficulty.getEaseFactor(), 0);
+        assertEquals(1234567890L, difficulty.getDueTime());
+    }
+
+    @Test
+    public void toModelType_missingReviewSchedule_dueStraightAway() throws Exception {
+        Difficulty difficulty = new JsonAdaptedCard(VALID_QUESTION, VALID_ANSWER, VALID_TAGS, VALID_RATING,
+                VALID_ATTEMPTS).toModelType().getDifficultyObj();
+        assertEquals(Difficulty.DEFAULT_EASE_FACTOR, difficulty.getEaseFactor(), 0);
+        assertEquals(0, difficulty.getDueTime());
+    }
+
+    @Test
+    public void toModelType_invalidEaseFactor_throwsIllegalValueException() {
+        JsonAdaptedCard card = new JsonAdaptedCard(VALID_QUESTION, VALID_ANSWER, VALID_TAGS, VALID_RATING,
+                VALID_ATTEMPTS, 0, 0, 0.5, 0L);
+        Assert.assertThrows(IllegalValueException.class, Difficulty.MESSAGE_SCHEDULE_CONSTRAINTS, card::toModelType);
+    }
 }
@@ -1,15 +1,20 @@
 package seedu.address.storage;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalCards.ADDITION;
 import static seedu.address.testutil.TypicalCards.MULTIPLICATION;
 import static seedu.address.testutil.TypicalCards.UNIQUE;
 import static seedu.address.testutil.TypicalCards.getTypicalTopDeck;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Arrays;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -20,6 +25,8 @@ import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.model.ReadOnlyTopDeck;
 import seedu.address.model.TopDeck;
 import seedu.address.model.deck.Deck;
+import seedu.address.model.deck.Name;
+import seedu.address.model.deck.exceptions.DeckLoadException;
 
 public class JsonTopDeckStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonTopDeckStorageTest");
@@ -98,6 +105,46 @@ public class JsonTopDeckStorageTest {
 
     }
 
+    @Test
+    public void readAndSaveTopDeck_notPrettyPrinted_writtenOnOneLine() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        TopDeck original = getTypicalTopDeck();
+        JsonTopDeckStorage jsonTopDeckStorage = new JsonTopDeckStorage(filePath, false);
+
+        jsonTopDeckStorage.saveTopDeck(original);
+        assertEquals(1, Files.readAllLines(filePath).size());
+        ReadOnlyTopDeck readBack = jsonTopDeckStorage.readTopDeck().get();
+        assertEquals(original, new TopDeck(readBack));
+        assertEquals(original.getDeckList().get(0).getCards(), readBack.getDeckList().get(0).getCards());
+    }
+
+    @Test
+    public void saveTopDeck_failsWhileWriting_dataFileUnchanged() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        JsonTopDeckStorage jsonTopDeckStorage = new JsonTopDeckStorage(filePath);
+        jsonTopDeckStorage.saveTopDeck(getTypicalTopDeck());
+        byte[] data = Files.readAllBytes(filePath);
+
+        TopDeck brokenTopDeck = getTypicalTopDeck();
+        brokenTopDeck.addDeck(new Deck(new Name("Broken Deck"), () -> {
+            throw new UncheckedIOException(new IOException("dummy exception"));
+        }));
+        assertThrows(DeckLoadException.class, () -> jsonTopDeckStorage.saveTopDeck(brokenTopDeck));
+
+        assertArrayEquals(data, Files.readAllBytes(filePath));
+    }
+
+    @Test
+    public void readTopDeck_truncatedFile_throwDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        new JsonTopDeckStorage(filePath).saveTopDeck(getTypicalTopDeck());
+        byte[] data = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(data, data.length / 2));
+
+        thrown.expect(DataConversionException.class);
+        new JsonTopDeckStorage(filePath).readTopDeck();
+    }
+
     @Test
     public void saveTopDeck_nullTopDeck_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
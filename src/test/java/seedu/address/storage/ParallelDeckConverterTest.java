@@ -0,0 +1,58 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalDecks.DECK_A;
+import static seedu.address.testutil.TypicalDecks.DECK_B;
+import static seedu.address.testutil.TypicalDecks.DECK_C;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.TopDeck;
+
+public class ParallelDeckConverterTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Test
+    public void toTopDeck_decksConverted_inSubmittedOrder() throws Exception {
+        ParallelDeckConverter converter = new ParallelDeckConverter(new ForkJoinPool(4));
+        converter.submit(() -> DECK_C);
+        converter.submit(() -> DECK_A);
+        converter.submit(() -> DECK_B);
+
+        TopDeck topDeck = converter.toTopDeck("test");
+
+        assertEquals(Arrays.asList(DECK_C, DECK_A, DECK_B), topDeck.getDeckList());
+    }
+
+    @Test
+    public void toTopDeck_duplicateDecks_throwsIllegalValueException() throws Exception {
+        ParallelDeckConverter converter = new ParallelDeckConverter();
+        converter.submit(() -> DECK_A);
+        converter.submit(() -> DECK_A);
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(JsonSerializableTopDeck.MESSAGE_DUPLICATE_DECK);
+        converter.toTopDeck("test");
+    }
+
+    @Test
+    public void toTopDeck_conversionFailed_throwsIllegalValueException() throws Exception {
+        ParallelDeckConverter converter = new ParallelDeckConverter();
+        converter.submit(() -> DECK_A);
+        converter.submit(() -> {
+            throw new IllegalValueException("dummy message");
+        });
+
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage("dummy message");
+        converter.toTopDeck("test");
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.storage.BinaryTopDeckStorageTest.assertSameData;
+import static seedu.address.testutil.TypicalDecks.DECK_A;
+import static seedu.address.testutil.TypicalDecks.DECK_E;
+import static seedu.address.testutil.TypicalDecks.DECK_WITH_CARDS;
+import static seedu.address.testutil.TypicalDecks.THERE;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyTopDeck;
+import seedu.address.model.TopDeck;
+import seedu.address.model.deck.Card;
+import seedu.address.model.deck.Deck;
+import seedu.address.testutil.CardBuilder;
+
+public class ShardedTopDeckStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void readAndSaveTopDeck_allInOrder_success() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        TopDeck original = getTopDeckWithCards();
+        ShardedTopDeckStorage shardedTopDeckStorage = new ShardedTopDeckStorage(filePath);
+
+        shardedTopDeckStorage.saveTopDeck(original);
+        assertTrue(ShardedTopDeckStorage.isManifestFile(filePath));
+        assertSameData(original, shardedTopDeckStorage.readTopDeck().get());
+
+        // read with another storage
+        assertSameData(original, new ShardedTopDeckStorage(filePath).readTopDeck().get());
+    }
+
+    @Test
+    public void saveTopDeck_oneDeckChanged_onlyThatDeckRewritten() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        ShardedTopDeckStorage shardedTopDeckStorage = new ShardedTopDeckStorage(filePath);
+        shardedTopDeckStorage.saveTopDeck(getTopDeckWithCards());
+        TopDeck topDeck = new TopDeck(shardedTopDeckStorage.readTopDeck().get());
+        List<JsonAdaptedDeckFile> deckFiles = readDeckFiles(filePath);
+
+        topDeck.addCard(new CardBuilder().withQuestion("Which deck changed?").build(), topDeck.getDeckList().get(1));
+        shardedTopDeckStorage.saveTopDeck(topDeck);
+
+        List<JsonAdaptedDeckFile> newDeckFiles = readDeckFiles(filePath);
+        assertEquals(deckFiles.get(0).getFile(), newDeckFiles.get(0).getFile());
+        assertNotEquals(deckFiles.get(1).getFile(), newDeckFiles.get(1).getFile());
+        assertEquals(deckFiles.get(2).getFile(), newDeckFiles.get(2).getFile());
+        Path deckDirectoryPath = ShardedTopDeckStorage.getDeckDirectoryPath(filePath);
+        assertFalse(Files.exists(deckDirectoryPath.resolve(deckFiles.get(1).getFile())));
+        assertSameData(topDeck, new ShardedTopDeckStorage(filePath).readTopDeck().get());
+    }
+
+    @Test
+    public void saveTopDeck_cardRated_deckRewritten() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        ShardedTopDeckStorage shardedTopDeckStorage = new ShardedTopDeckStorage(filePath);
+        shardedTopDeckStorage.saveTopDeck(getTopDeckWithCards());
+        ReadOnlyTopDeck topDeck = shardedTopDeckStorage.readTopDeck().get();
+        List<JsonAdaptedDeckFile> deckFiles = readDeckFiles(filePath);
+
+        Card ratedCard = topDeck.getDeckList().get(0).getCards().internalList.get(0);
+        ratedCard.addDifficulty(3);
+        shardedTopDeckStorage.saveTopDeck(topDeck);
+
+        List<JsonAdaptedDeckFile> newDeckFiles = readDeckFiles(filePath);
+        assertNotEquals(deckFiles.get(0).getFile(), newDeckFiles.get(0).getFile());
+        assertEquals(deckFiles.get(1).getFile(), newDeckFiles.get(1).getFile());
+        assertSameData(topDeck, new ShardedTopDeckStorage(filePath).readTopDeck().get());
+    }
+
+    @Test
+    public void saveTopDeck_deckDeleted_deckFileDeleted() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        ShardedTopDeckStorage shardedTopDeckStorage = new ShardedTopDeckStorage(filePath);
+        TopDeck topDeck = getTopDeckWithCards();
+        topDeck.addDeck(DECK_A);
+        shardedTopDeckStorage.saveTopDeck(topDeck);
+
+        topDeck.deleteDeck(DECK_A);
+        shardedTopDeckStorage.compactTopDeck(topDeck);
+
+        try (Stream<Path> files = Files.list(ShardedTopDeckStorage.getDeckDirectoryPath(filePath))) {
+            assertEquals(3, files.count());
+        }
+        assertSameData(topDeck, new ShardedTopDeckStorage(filePath).readTopDeck().get());
+    }
+
+    @Test
+    public void readTopDeck_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("NonExistentFile.json");
+        assertFalse(new ShardedTopDeckStorage(filePath).readTopDeck().isPresent());
+        assertFalse(ShardedTopDeckStorage.isManifestFile(filePath));
+    }
+
+    @Test
+    public void readTopDeck_missingDeckFile_throwsDataConversionException() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        new ShardedTopDeckStorage(filePath).saveTopDeck(getTopDeckWithCards());
+        Files.delete(ShardedTopDeckStorage.getDeckDirectoryPath(filePath)
+                .resolve(readDeckFiles(filePath).get(0).getFile()));
+
+        thrown.expect(DataConversionException.class);
+        new ShardedTopDeckStorage(filePath).readTopDeck();
+    }
+
+    @Test
+    public void isManifestFile_jsonDataFile_returnsFalse() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        new JsonTopDeckStorage(filePath).saveTopDeck(getTopDeckWithCards());
+        assertFalse(ShardedTopDeckStorage.isManifestFile(filePath));
+    }
+
+    /**
+     * Returns the deck files listed in the manifest at {@code filePath}.
+     */
+    private static List<JsonAdaptedDeckFile> readDeckFiles(Path filePath) throws Exception {
+        return JsonUtil.readJsonFile(filePath, JsonSerializableDeckManifest.class).get().getDeckFiles();
+    }
+
+    /**
+     * Returns a TopDeck with several decks that have cards.
+     */
+    private static TopDeck getTopDeckWithCards() {
+        TopDeck topDeck = new TopDeck();
+        topDeck.addDeck(new Deck(DECK_WITH_CARDS));
+        topDeck.addDeck(new Deck(DECK_E));
+        topDeck.addDeck(new Deck(THERE));
+        return topDeck;
+    }
+}
@@ -0,0 +1,97 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.storage.BinaryTopDeckStorageTest.assertSameData;
+import static seedu.address.testutil.TypicalDecks.DECK_A;
+import static seedu.address.testutil.TypicalDecks.getTypicalTopDeck;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.core.TopDeckFileFormat;
+import seedu.address.model.TopDeck;
+
+public class TopDeckFileConverterTest {
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    @Test
+    public void convertIfNeeded_jsonFileWithJournal_convertedToBinary() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        TopDeck topDeck = getTypicalTopDeck();
+        JournalledTopDeckStorage jsonStorage = new JournalledTopDeckStorage(new JsonTopDeckStorage(filePath));
+        jsonStorage.saveTopDeck(topDeck);
+        topDeck.deleteDeck(DECK_A);
+        jsonStorage.saveTopDeck(topDeck);
+        assertTrue(Files.exists(JournalledTopDeckStorage.getJournalFilePath(filePath)));
+
+        TopDeckFileConverter.convertIfNeeded(filePath, TopDeckFileFormat.BINARY, true);
+
+        assertTrue(BinaryTopDeckStorage.isBinaryFile(filePath));
+        assertFalse(Files.exists(JournalledTopDeckStorage.getJournalFilePath(filePath)));
+        assertSameData(topDeck, new BinaryTopDeckStorage(filePath).readTopDeck().get());
+    }
+
+    @Test
+    public void convertIfNeeded_binaryFile_convertedToJson() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        new BinaryTopDeckStorage(filePath).saveTopDeck(getTypicalTopDeck());
+
+        TopDeckFileConverter.convertIfNeeded(filePath, TopDeckFileFormat.JSON, true);
+
+        assertFalse(BinaryTopDeckStorage.isBinaryFile(filePath));
+        assertSameData(getTypicalTopDeck(), new JsonTopDeckStorage(filePath).readTopDeck().get());
+    }
+
+    @Test
+    public void convertIfNeeded_shardedFile_convertedToJsonAndDeckFilesDeleted() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        TopDeckFileConverter.convertIfNeeded(filePath, TopDeckFileFormat.SHARDED, true);
+        new ShardedTopDeckStorage(filePath).saveTopDeck(getTypicalTopDeck());
+        assertEquals(Optional.of(TopDeckFileFormat.SHARDED), TopDeckFileConverter.getFormat(filePath));
+
+        TopDeckFileConverter.convertIfNeeded(filePath, TopDeckFileFormat.JSON, true);
+
+        assertEquals(Optional.of(TopDeckFileFormat.JSON), TopDeckFileConverter.getFormat(filePath));
+        assertFalse(Files.exists(ShardedTopDeckStorage.getDeckDirectoryPath(filePath)));
+        assertSameData(getTypicalTopDeck(), new JsonTopDeckStorage(filePath).readTopDeck().get());
+    }
+
+    @Test
+    public void convertIfNeeded_jsonFile_convertedToSharded() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        new JsonTopDeckStorage(filePath).saveTopDeck(getTypicalTopDeck());
+
+        TopDeckFileConverter.convertIfNeeded(filePath, TopDeckFileFormat.SHARDED, true);
+
+        assertTrue(ShardedTopDeckStorage.isManifestFile(filePath));
+        assertSameData(getTypicalTopDeck(), new ShardedTopDeckStorage(filePath).readTopDeck().get());
+    }
+
+    @Test
+    public void convertIfNeeded_sameFormat_fileUnchanged() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("TempTopDeck.json");
+        new JsonTopDeckStorage(filePath).saveTopDeck(getTypicalTopDeck());
+        byte[] data = Files.readAllBytes(filePath);
+
+        TopDeckFileConverter.convertIfNeeded(filePath, TopDeckFileFormat.JSON, false);
+
+        assertArrayEquals(data, Files.readAllBytes(filePath));
+    }
+
+    @Test
+    public void convertIfNeeded_missingFile_noFileCreated() throws Exception {
+        Path filePath = testFolder.getRoot().toPath().resolve("NonExistentFile.json");
+        TopDeckFileConverter.convertIfNeeded(filePath, TopDeckFileFormat.BINARY, true);
+        assertFalse(Files.exists(filePath));
+    }
+}